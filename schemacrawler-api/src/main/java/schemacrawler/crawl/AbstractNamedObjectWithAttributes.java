@@ -52,7 +52,9 @@ abstract class AbstractNamedObjectWithAttributes
   private static final long serialVersionUID = -1486322887991472729L;
 
   private String remarks;
-  private final Map<String, Object> attributeMap;
+  // Objects without attributes share an immutable map, until the first
+  // attribute is set
+  private Map<String, Object> attributeMap;
 
   /**
    * Effective Java - Item 17 - Minimize Mutability - Package-private
@@ -64,7 +66,7 @@ abstract class AbstractNamedObjectWithAttributes
   AbstractNamedObjectWithAttributes(final String name)
   {
     super(name);
-    attributeMap = new HashMap<>();
+    attributeMap = Collections.emptyMap();
   }
 
   /**
@@ -171,16 +173,16 @@ abstract class AbstractNamedObjectWithAttributes
       }
       else
       {
-        attributeMap.put(name, value);
+        writableAttributeMap().put(name, value);
       }
     }
   }
 
   protected final void addAttributes(final Map<String, Object> values)
   {
-    if (values != null)
+    if (values != null && !values.isEmpty())
     {
-      attributeMap.putAll(values);
+      writableAttributeMap().putAll(values);
     }
   }
 
@@ -196,4 +198,14 @@ abstract class AbstractNamedObjectWithAttributes
     }
   }
 
+  private Map<String, Object> writableAttributeMap()
+  {
+    // Maps that are empty after removals can be reused
+    if (attributeMap == Collections.<String, Object> emptyMap())
+    {
+      attributeMap = new HashMap<>();
+    }
+    return attributeMap;
+  }
+
 }
@@ -35,7 +35,11 @@ import static sf.util.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -44,6 +48,7 @@ import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.JavaSqlType;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
+import schemacrawler.schema.View;
 import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.utility.TypeMap;
@@ -122,6 +127,11 @@ abstract class AbstractRetriever
     return catalog.getAllSchemas();
   }
 
+  final MutableCrawlMetrics getCrawlMetrics()
+  {
+    return retrieverConnection.getCrawlMetrics();
+  }
+
   final Connection getDatabaseConnection()
   {
     return retrieverConnection.getConnection();
@@ -137,6 +147,29 @@ abstract class AbstractRetriever
     return retrieverConnection;
   }
 
+  /**
+   * Groups tables by schema, leaving out views, so that metadata for
+   * all the tables in a schema can be retrieved together.
+   *
+   * @param allTables
+   *        Tables to group
+   * @return Tables, by schema
+   */
+  final Map<Schema, List<MutableTable>> getTablesBySchema(final NamedObjectList<MutableTable> allTables)
+  {
+    final Map<Schema, List<MutableTable>> tablesBySchema = new LinkedHashMap<>();
+    for (final MutableTable table: allTables)
+    {
+      if (table instanceof View)
+      {
+        continue;
+      }
+      tablesBySchema.computeIfAbsent(table.getSchema(), key -> new ArrayList<>())
+        .add(table);
+    }
+    return tablesBySchema;
+  }
+
   final InclusionRule getSchemaInclusionRule()
   {
     return options.getSchemaInclusionRule();
@@ -212,8 +245,8 @@ abstract class AbstractRetriever
     // Create new data type, if needed
     if (columnDataType == null)
     {
-      columnDataType = new MutableColumnDataType(schema,
-                                                 databaseSpecificTypeName);
+      final String typeName = catalog.internName(databaseSpecificTypeName);
+      columnDataType = new MutableColumnDataType(schema, typeName);
       final JavaSqlType javaSqlType = retrieverConnection.getJavaSqlTypes()
         .valueOf(javaSqlTypeInt);
       columnDataType.setJavaSqlType(javaSqlType);
@@ -262,7 +295,7 @@ abstract class AbstractRetriever
   {
     if (retrieverConnection.isSupportsCatalogs())
     {
-      return name;
+      return catalog.internName(name);
     }
     else
     {
@@ -274,7 +307,7 @@ abstract class AbstractRetriever
   {
     if (retrieverConnection.isSupportsSchemas())
     {
-      return name;
+      return catalog.internName(name);
     }
     else
     {
@@ -324,7 +324,7 @@ final class DatabaseInfoRetriever
 
   void retrieveCrawlInfo(final String title)
   {
-    catalog.setCrawlInfo(title);
+    catalog.setCrawlInfo(title, getCrawlMetrics());
   }
 
   /**
@@ -413,12 +413,14 @@ final class DatabaseInfoRetriever
       statement = connection.createStatement();
       results = new MetadataResultSet(typeInfoSql,
                                       statement,
-                                      getSchemaInclusionRule());
+                                      getSchemaInclusionRule(),
+                                      getCrawlMetrics());
     }
     else
     {
       statement = null;
-      results = new MetadataResultSet(getMetaData().getTypeInfo());
+      results = new MetadataResultSet(getMetaData().getTypeInfo(),
+                                      getCrawlMetrics());
     }
 
     try
@@ -512,7 +514,8 @@ final class DatabaseInfoRetriever
     final String schemaName = schema.getName();
 
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getUDTs(catalogName, schemaName, "%", null));)
+      .getUDTs(catalogName, schemaName, "%", null),
+                                                                 getCrawlMetrics());)
     {
       while (results.next())
       {
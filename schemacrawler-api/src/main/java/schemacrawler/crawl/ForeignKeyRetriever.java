@@ -34,10 +34,17 @@ import static sf.util.Utility.isBlank;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 
 import schemacrawler.schema.Column;
@@ -47,7 +54,6 @@ import schemacrawler.schema.ForeignKeyUpdateRule;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
 import schemacrawler.schema.Table;
-import schemacrawler.schema.View;
 import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -109,7 +115,8 @@ final class ForeignKeyRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(extForeignKeysSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
       while (results.next())
       {
@@ -125,6 +132,7 @@ final class ForeignKeyRetriever
         if (optionalFk.isPresent())
         {
           final MutableForeignKey fkConstraint = optionalFk.get();
+          getCrawlMetrics().addDefinition(definition);
           fkConstraint.appendDefinition(definition);
           fkConstraint.addAttributes(results.getAttributes());
         }
@@ -162,7 +170,7 @@ final class ForeignKeyRetriever
       case metadata_all:
         LOGGER.log(Level.INFO,
                    "Retrieving foreign keys, using fast meta-data retrieval");
-        retrieveForeignKeysFromMetadataForAllTables();
+        retrieveForeignKeysFromMetadataForAllTables(allTables);
         break;
 
       case metadata:
@@ -176,12 +184,28 @@ final class ForeignKeyRetriever
 
   }
 
-  private void createForeignKeys(final MetadataResultSet results,
-                                 final NamedObjectList<MutableForeignKey> foreignKeys)
+  /**
+   * Creates foreign keys from the results, skipping foreign keys from
+   * tables that have been, or will be, retrieved as imported keys of
+   * that table.
+   *
+   * @return Number of rows read
+   */
+  private int createForeignKeys(final MetadataResultSet results,
+                                final NamedObjectList<MutableForeignKey> foreignKeys,
+                                final Predicate<List<String>> isImportedKeysTable)
     throws SQLException
   {
+    // Rows are usually ordered by the foreign key table, and the primary
+    // key table of each foreign key, so each keeps its own cursor
+    final TableLookupCursor pkTables = new TableLookupCursor(catalog
+      .getAllTables());
+    final TableLookupCursor fkTables = new TableLookupCursor(catalog
+      .getAllTables());
+    int rowCount = 0;
     while (results.next())
     {
+      rowCount++;
       final String foreignKeyName = results.getString("FK_NAME");
       LOGGER
         .log(Level.FINE,
@@ -201,6 +225,12 @@ final class ForeignKeyRetriever
       final String fkTableName = results.getString("FKTABLE_NAME");
       final String fkColumnName = results.getString("FKCOLUMN_NAME");
 
+      if (isImportedKeysTable.test(Arrays
+        .asList(fkTableCatalogName, fkTableSchemaName, fkTableName)))
+      {
+        continue;
+      }
+
       final int keySequence = results.getInt("KEY_SEQ", 0);
       final ForeignKeyUpdateRule updateRule = results
         .getEnumFromId("UPDATE_RULE", ForeignKeyUpdateRule.unknown);
@@ -209,11 +239,13 @@ final class ForeignKeyRetriever
       final ForeignKeyDeferrability deferrability = results
         .getEnumFromId("DEFERRABILITY", ForeignKeyDeferrability.unknown);
 
-      final Column pkColumn = lookupOrCreateColumn(pkTableCatalogName,
+      final Column pkColumn = lookupOrCreateColumn(pkTables,
+                                                   pkTableCatalogName,
                                                    pkTableSchemaName,
                                                    pkTableName,
                                                    pkColumnName);
-      final Column fkColumn = lookupOrCreateColumn(fkTableCatalogName,
+      final Column fkColumn = lookupOrCreateColumn(fkTables,
+                                                   fkTableCatalogName,
                                                    fkTableSchemaName,
                                                    fkTableName,
                                                    fkColumnName);
@@ -262,7 +294,8 @@ final class ForeignKeyRetriever
       if (fkColumn instanceof MutableColumn)
       {
         ((MutableColumn) fkColumn).setReferencedColumn(pkColumn);
-        ((MutableTable) fkColumn.getParent()).addForeignKey(foreignKey);
+        ((MutableTable) fkColumn.getParent())
+          .addImportedForeignKey(foreignKey, pkColumn.getParent());
       }
       else if (isFkColumnPartial)
       {
@@ -272,13 +305,37 @@ final class ForeignKeyRetriever
 
       if (pkColumn instanceof MutableColumn)
       {
-        ((MutableTable) pkColumn.getParent()).addForeignKey(foreignKey);
+        ((MutableTable) pkColumn.getParent())
+          .addExportedForeignKey(foreignKey, fkColumn.getParent());
       }
       else if (isPkColumnPartial)
       {
         ((TablePartial) pkColumn.getParent()).addForeignKey(foreignKey);
       }
     }
+    return rowCount;
+  }
+
+  /**
+   * Reads imported or exported foreign keys for all tables in a schema.
+   */
+  private ResultSet getForeignKeysForSchema(final Schema schema,
+                                            final boolean isImportedKeys)
+    throws SQLException
+  {
+    final DatabaseMetaData metaData = getMetaData();
+    if (isImportedKeys)
+    {
+      return metaData.getImportedKeys(schema.getCatalogName(),
+                                      schema.getName(),
+                                      null);
+    }
+    else
+    {
+      return metaData.getExportedKeys(schema.getCatalogName(),
+                                      schema.getName(),
+                                      null);
+    }
   }
 
   /**
@@ -286,15 +343,16 @@ final class ForeignKeyRetriever
    * found, they are created, and added to the schema. This is prevent
    * foreign key relationships from having a null pointer.
    */
-  private Column lookupOrCreateColumn(final String catalogName,
+  private Column lookupOrCreateColumn(final TableLookupCursor tables,
+                                      final String catalogName,
                                       final String schemaName,
                                       final String tableName,
                                       final String columnName)
   {
     Column column = null;
 
-    final Optional<MutableTable> tableOptional = catalog
-      .lookupTable(Arrays.asList(catalogName, schemaName, tableName));
+    final Optional<MutableTable> tableOptional = tables
+      .lookup(catalogName, schemaName, tableName);
     if (tableOptional.isPresent())
     {
       final Table table = tableOptional.get();
@@ -322,6 +380,64 @@ final class ForeignKeyRetriever
     return column;
   }
 
+  private void retrieveExportedKeys(final MutableTable table,
+                                    final NamedObjectList<MutableForeignKey> foreignKeys,
+                                    final Predicate<List<String>> isImportedKeysTable)
+    throws SchemaCrawlerSQLException
+  {
+    // We need to get exported keys as well, since if only a single
+    // table is selected, we have not retrieved it's keys that are
+    // imported by other tables.
+    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      .getExportedKeys(table.getSchema().getCatalogName(),
+                       table.getSchema().getName(),
+                       table.getName()),
+                                                                 getCrawlMetrics());)
+    {
+      createForeignKeys(results, foreignKeys, isImportedKeysTable);
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerSQLException("Could not retrieve foreign keys for table "
+                                          + table,
+                                          e);
+    }
+  }
+
+  /**
+   * Retrieves imported or exported keys for all the tables in a schema,
+   * with a null table name.
+   *
+   * @return Whether the results can be trusted, or whether keys need to
+   *         be retrieved table by table
+   */
+  private boolean retrieveForeignKeysForSchema(final Schema schema,
+                                               final boolean isImportedKeys,
+                                               final NamedObjectList<MutableForeignKey> foreignKeys,
+                                               final Predicate<List<String>> isImportedKeysTable,
+                                               final SchemaMetadataProbe probe)
+  {
+    if (!probe.isSupported())
+    {
+      return false;
+    }
+
+    try (final MetadataResultSet results = new MetadataResultSet(getForeignKeysForSchema(schema,
+                                                                                         isImportedKeys),
+                                                                 getCrawlMetrics());)
+    {
+      final int rowCount = createForeignKeys(results,
+                                             foreignKeys,
+                                             isImportedKeysTable);
+      return probe.accept(rowCount);
+    }
+    catch (final SQLException e)
+    {
+      probe.setNotSupported(e);
+      return false;
+    }
+  }
+
   private void retrieveForeignKeysFromDataDictionary()
     throws SchemaCrawlerSQLException
   {
@@ -342,10 +458,11 @@ final class ForeignKeyRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(fkSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
       results.setDescription("retrieveForeignKeysUsingSql");
-      createForeignKeys(results, foreignKeys);
+      createForeignKeys(results, foreignKeys, fkTable -> false);
     }
     catch (final SQLException e)
     {
@@ -358,70 +475,107 @@ final class ForeignKeyRetriever
   private void retrieveForeignKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
     throws SchemaCrawlerSQLException
   {
+    final Map<Schema, List<MutableTable>> tablesBySchema = getTablesBySchema(allTables);
+
+    // Foreign keys from any of these tables are retrieved as imported
+    // keys, and are skipped when they show up as exported keys
+    final Set<List<String>> importedKeysTables = new HashSet<>();
+    for (final List<MutableTable> tables: tablesBySchema.values())
+    {
+      for (final MutableTable table: tables)
+      {
+        importedKeysTables.add(table.toUniqueLookupKey());
+      }
+    }
+
     final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
-    for (final MutableTable table: allTables)
+    for (final List<MutableTable> tables: tablesBySchema.values())
     {
-      if (table instanceof View)
+      for (final MutableTable table: tables)
       {
-        continue;
+        retrieveImportedKeys(table, foreignKeys);
+        retrieveExportedKeys(table, foreignKeys, importedKeysTables::contains);
       }
+    }
+  }
 
-      final DatabaseMetaData metaData = getMetaData();
+  /**
+   * Retrieves foreign keys for all the tables in each schema with a
+   * single call, if the driver supports it, and otherwise table by
+   * table. Foreign keys from tables in the crawled schemas are
+   * retrieved as imported keys, so exported keys are only needed for
+   * foreign keys from tables in other schemas.
+   */
+  private void retrieveForeignKeysFromMetadataForAllTables(final NamedObjectList<MutableTable> allTables)
+    throws SchemaCrawlerSQLException
+  {
+    final Map<Schema, List<MutableTable>> tablesBySchema = getTablesBySchema(allTables);
+    final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
 
-      // Get imported foreign keys
-      try (final MetadataResultSet results = new MetadataResultSet(metaData
-        .getImportedKeys(table.getSchema().getCatalogName(),
-                         table.getSchema().getName(),
-                         table.getName()));)
+    final SchemaMetadataProbe importedKeysProbe = new SchemaMetadataProbe("imported keys");
+    final Set<List<String>> importedKeysSchemas = new HashSet<>();
+    final Set<List<String>> importedKeysTables = new HashSet<>();
+    for (final Entry<Schema, List<MutableTable>> schemaTables: tablesBySchema
+      .entrySet())
+    {
+      final Schema schema = schemaTables.getKey();
+      if (retrieveForeignKeysForSchema(schema,
+                                       true,
+                                       foreignKeys,
+                                       fkTable -> false,
+                                       importedKeysProbe))
       {
-        createForeignKeys(results, foreignKeys);
+        importedKeysSchemas
+          .add(Arrays.asList(schema.getCatalogName(), schema.getName()));
       }
-      catch (final SQLException e)
+      else
       {
-        throw new SchemaCrawlerSQLException("Could not retrieve foreign keys for table "
-                                            + table,
-                                            e);
+        for (final MutableTable table: schemaTables.getValue())
+        {
+          retrieveImportedKeys(table, foreignKeys);
+          importedKeysTables.add(table.toUniqueLookupKey());
+        }
       }
+    }
 
-      // We need to get exported keys as well, since if only a single
-      // table is selected, we have not retrieved it's keys that are
-      // imported by other tables.
-      try (final MetadataResultSet results = new MetadataResultSet(metaData
-        .getExportedKeys(table.getSchema().getCatalogName(),
-                         table.getSchema().getName(),
-                         table.getName()));)
-      {
-        createForeignKeys(results, foreignKeys);
-      }
-      catch (final SQLException e)
+    final Predicate<List<String>> isImportedKeysTable = fkTable -> importedKeysTables
+      .contains(fkTable) || importedKeysSchemas.contains(fkTable.subList(0, 2));
+    final SchemaMetadataProbe exportedKeysProbe = new SchemaMetadataProbe("exported keys");
+    for (final Entry<Schema, List<MutableTable>> schemaTables: tablesBySchema
+      .entrySet())
+    {
+      final Schema schema = schemaTables.getKey();
+      if (!retrieveForeignKeysForSchema(schema,
+                                        false,
+                                        foreignKeys,
+                                        isImportedKeysTable,
+                                        exportedKeysProbe))
       {
-        throw new SchemaCrawlerSQLException("Could not retrieve foreign keys for table "
-                                            + table,
-                                            e);
+        for (final MutableTable table: schemaTables.getValue())
+        {
+          retrieveExportedKeys(table, foreignKeys, isImportedKeysTable);
+        }
       }
     }
   }
 
-  private void retrieveForeignKeysFromMetadataForAllTables()
-    throws SQLException
+  private void retrieveImportedKeys(final MutableTable table,
+                                    final NamedObjectList<MutableForeignKey> foreignKeys)
+    throws SchemaCrawlerSQLException
   {
-    final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
-    final DatabaseMetaData metaData = getMetaData();
-
-    // Get imported foreign keys
-    try (final MetadataResultSet results = new MetadataResultSet(metaData
-      .getImportedKeys(null, null, "%"));)
+    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      .getImportedKeys(table.getSchema().getCatalogName(),
+                       table.getSchema().getName(),
+                       table.getName()),
+                                                                 getCrawlMetrics());)
     {
-      createForeignKeys(results, foreignKeys);
+      createForeignKeys(results, foreignKeys, fkTable -> false);
     }
-
-    // We need to get exported keys as well, since if only a single
-    // table is selected, we have not retrieved it's keys that are
-    // imported by other tables.
-    try (final MetadataResultSet results = new MetadataResultSet(metaData
-      .getExportedKeys(null, null, "%"));)
+    catch (final SQLException e)
     {
-      createForeignKeys(results, foreignKeys);
+      throw new SchemaCrawlerSQLException("Could not retrieve foreign keys for table "
+                                          + table,
+                                          e);
     }
   }
 
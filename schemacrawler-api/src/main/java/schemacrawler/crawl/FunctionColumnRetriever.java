@@ -225,7 +225,8 @@ final class FunctionColumnRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(functionColumnsSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
       results.setDescription("retrieveFunctionColumnsFromDataDictionary");
       while (results.next())
@@ -252,7 +253,8 @@ final class FunctionColumnRetriever
         .getFunctionColumns(function.getSchema().getCatalogName(),
                             function.getSchema().getName(),
                             function.getName(),
-                            null));)
+                            null),
+                                                                   getCrawlMetrics());)
       {
         while (results.next())
         {
@@ -279,7 +281,8 @@ final class FunctionColumnRetriever
     throws SQLException
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getFunctionColumns(null, null, "%", "%"));)
+      .getFunctionColumns(null, null, "%", "%"),
+                                                                 getCrawlMetrics());)
     {
       while (results.next())
       {
@@ -40,6 +40,7 @@ import schemacrawler.OperatingSystemInfo;
 import schemacrawler.ProductVersion;
 import schemacrawler.SchemaCrawlerInfo;
 import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.CrawlMetrics;
 import schemacrawler.schema.DatabaseInfo;
 import schemacrawler.schema.JdbcDriverInfo;
 
@@ -61,10 +62,13 @@ final class ImmutableCrawlInfo
   private final ProductVersion jvmInfo;
   private final String title;
   private final LocalDateTime crawlTimestamp;
+  // Metrics describe a live crawl, and are not serialized
+  private final transient CrawlMetrics crawlMetrics;
 
   ImmutableCrawlInfo(final JdbcDriverInfo jdbcDriverInfo,
                      final DatabaseInfo databaseInfo,
-                     final String title)
+                     final String title,
+                     final CrawlMetrics crawlMetrics)
   {
     schemaCrawlerInfo = new SchemaCrawlerInfo();
     osInfo = new OperatingSystemInfo();
@@ -78,6 +82,14 @@ final class ImmutableCrawlInfo
 
     this.title = title;
     crawlTimestamp = LocalDateTime.now();
+
+    this.crawlMetrics = crawlMetrics;
+  }
+
+  @Override
+  public CrawlMetrics getCrawlMetrics()
+  {
+    return crawlMetrics;
   }
 
   @Override
@@ -35,13 +35,15 @@ import static sf.util.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Arrays;
+import java.util.List;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.logging.Level;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.IndexColumnSortSequence;
 import schemacrawler.schema.IndexType;
+import schemacrawler.schema.Schema;
 import schemacrawler.schema.View;
 import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.InformationSchemaViews;
@@ -147,6 +149,43 @@ final class IndexRetriever
     }
   }
 
+  /**
+   * Creates indexes for all the tables in a schema, retrieved with a null
+   * table name.
+   *
+   * @return Number of rows read
+   */
+  private int createIndexesForSchema(final NamedObjectList<MutableTable> allTables,
+                                     final Schema schema,
+                                     final boolean unique)
+    throws SQLException
+  {
+    int rowCount = 0;
+    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      .getIndexInfo(schema.getCatalogName(),
+                    schema.getName(),
+                    null,
+                    unique,
+                    true/* approximate */),
+                                                                 getCrawlMetrics());)
+    {
+      final TableLookupCursor tables = new TableLookupCursor(allTables);
+      while (results.next())
+      {
+        rowCount++;
+        final Optional<MutableTable> optionalTable = lookupTable(tables,
+                                                                 results);
+        if (!optionalTable.isPresent())
+        {
+          continue;
+        }
+        final MutableTable table = optionalTable.get();
+        createIndexForTable(table, results);
+      }
+    }
+    return rowCount;
+  }
+
   private void createIndexForTable(final MutableTable table,
                                    final MetadataResultSet results)
   {
@@ -273,7 +312,7 @@ final class IndexRetriever
     }
   }
 
-  private Optional<MutableTable> lookupTable(final NamedObjectList<MutableTable> allTables,
+  private Optional<MutableTable> lookupTable(final TableLookupCursor tables,
                                              final MetadataResultSet results)
   {
     final String catalogName = normalizeCatalogName(results
@@ -282,11 +321,44 @@ final class IndexRetriever
       .getString("TABLE_SCHEM"));
     final String tableName = results.getString("TABLE_NAME");
 
-    final Optional<MutableTable> optionalTable = allTables
-      .lookup(Arrays.asList(catalogName, schemaName, tableName));
+    final Optional<MutableTable> optionalTable = tables
+      .lookup(catalogName, schemaName, tableName);
     return optionalTable;
   }
 
+  /**
+   * Retrieves indexes for all the tables in a schema, with a null table
+   * name.
+   *
+   * @return Whether the results can be trusted, or whether indexes need
+   *         to be retrieved table by table
+   */
+  private boolean retrieveIndexesForSchema(final NamedObjectList<MutableTable> allTables,
+                                           final Schema schema,
+                                           final SchemaMetadataProbe probe)
+  {
+    if (!probe.isSupported())
+    {
+      return false;
+    }
+
+    try
+    {
+      final int rowCount = createIndexesForSchema(allTables, schema, false);
+      if (!probe.accept(rowCount))
+      {
+        return false;
+      }
+      createIndexesForSchema(allTables, schema, true);
+      return true;
+    }
+    catch (final SQLException e)
+    {
+      probe.setNotSupported(e);
+      return false;
+    }
+  }
+
   private void retrieveIndexesFromDataDictionary(final NamedObjectList<MutableTable> allTables)
     throws SchemaCrawlerSQLException
   {
@@ -305,12 +377,14 @@ final class IndexRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(indexesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
       results.setDescription("retrieveIndexesFromDataDictionary");
+      final TableLookupCursor tables = new TableLookupCursor(allTables);
       while (results.next())
       {
-        final Optional<MutableTable> optionalTable = lookupTable(allTables,
+        final Optional<MutableTable> optionalTable = lookupTable(tables,
                                                                  results);
         if (!optionalTable.isPresent())
         {
@@ -338,7 +412,8 @@ final class IndexRetriever
                     table.getSchema().getName(),
                     table.getName(),
                     unique,
-                    true/* approximate */));)
+                    true/* approximate */),
+                                                                 getCrawlMetrics());)
     {
       createIndexes(table, results);
     }
@@ -367,35 +442,62 @@ final class IndexRetriever
   private void retrieveIndexesFromMetadataForAllTables(final NamedObjectList<MutableTable> allTables)
     throws SQLException
   {
-    retrieveIndexesFromMetadataForAllTables(allTables, false);
-    retrieveIndexesFromMetadataForAllTables(allTables, true);
+    final SchemaMetadataProbe probe = new SchemaMetadataProbe("indexes");
+    for (final Entry<Schema, List<MutableTable>> schemaTables: getTablesBySchema(allTables)
+      .entrySet())
+    {
+      if (!retrieveIndexesForSchema(allTables, schemaTables.getKey(), probe))
+      {
+        for (final MutableTable table: schemaTables.getValue())
+        {
+          retrieveIndexesFromMetadata(table, false);
+          retrieveIndexesFromMetadata(table, true);
+        }
+      }
+    }
   }
 
-  private void retrieveIndexesFromMetadataForAllTables(final NamedObjectList<MutableTable> allTables,
-                                                       final boolean unique)
-    throws SQLException
+  /**
+   * Retrieves primary keys for all the tables in a schema, with a null
+   * table name.
+   *
+   * @return Whether the results can be trusted, or whether primary keys
+   *         need to be retrieved table by table
+   */
+  private boolean retrievePrimaryKeysForSchema(final NamedObjectList<MutableTable> allTables,
+                                               final Schema schema,
+                                               final SchemaMetadataProbe probe)
   {
+    if (!probe.isSupported())
+    {
+      return false;
+    }
+
+    int rowCount = 0;
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getIndexInfo(null, null, "%", unique, true/* approximate */));)
+      .getPrimaryKeys(schema.getCatalogName(), schema.getName(), null),
+                                                                 getCrawlMetrics());)
     {
+      final TableLookupCursor tables = new TableLookupCursor(allTables);
       while (results.next())
       {
-        final Optional<MutableTable> optionalTable = lookupTable(allTables,
+        rowCount++;
+        final Optional<MutableTable> optionalTable = lookupTable(tables,
                                                                  results);
         if (!optionalTable.isPresent())
         {
           continue;
         }
         final MutableTable table = optionalTable.get();
-        createIndexForTable(table, results);
+        createPrimaryKeyForTable(table, results);
       }
     }
     catch (final SQLException e)
     {
-      throw new SchemaCrawlerSQLException("Could not retrieve indexes for tables",
-                                          e);
+      probe.setNotSupported(e);
+      return false;
     }
-
+    return probe.accept(rowCount);
   }
 
   private void retrievePrimaryKeysFromDataDictionary(final NamedObjectList<MutableTable> allTables)
@@ -417,12 +519,14 @@ final class IndexRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(pkSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
       results.setDescription("retrievePrimaryKeysFromDataDictionary");
+      final TableLookupCursor tables = new TableLookupCursor(allTables);
       while (results.next())
       {
-        final Optional<MutableTable> optionalTable = lookupTable(allTables,
+        final Optional<MutableTable> optionalTable = lookupTable(tables,
                                                                  results);
         if (!optionalTable.isPresent())
         {
@@ -440,6 +544,28 @@ final class IndexRetriever
     }
   }
 
+  private void retrievePrimaryKeysFromMetadata(final MutableTable table)
+    throws SchemaCrawlerSQLException
+  {
+    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      .getPrimaryKeys(table.getSchema().getCatalogName(),
+                      table.getSchema().getName(),
+                      table.getName()),
+                                                                 getCrawlMetrics());)
+    {
+      while (results.next())
+      {
+        createPrimaryKeyForTable(table, results);
+      }
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerSQLException("Could not retrieve primary keys for table "
+                                          + table,
+                                          e);
+    }
+  }
+
   private void retrievePrimaryKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
     throws SQLException
   {
@@ -449,48 +575,27 @@ final class IndexRetriever
       {
         continue;
       }
-      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-        .getPrimaryKeys(table.getSchema().getCatalogName(),
-                        table.getSchema().getName(),
-                        table.getName()));)
-      {
-        while (results.next())
-        {
-          createPrimaryKeyForTable(table, results);
-        }
-      }
-      catch (final SQLException e)
-      {
-        throw new SchemaCrawlerSQLException("Could not retrieve primary keys for table "
-                                            + table,
-                                            e);
-      }
+      retrievePrimaryKeysFromMetadata(table);
     }
   }
 
   private void retrievePrimaryKeysFromMetadataForAllTables(final NamedObjectList<MutableTable> allTables)
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getPrimaryKeys(null, null, "%"));)
+    final SchemaMetadataProbe probe = new SchemaMetadataProbe("primary keys");
+    for (final Entry<Schema, List<MutableTable>> schemaTables: getTablesBySchema(allTables)
+      .entrySet())
     {
-      while (results.next())
+      if (!retrievePrimaryKeysForSchema(allTables,
+                                        schemaTables.getKey(),
+                                        probe))
       {
-        final Optional<MutableTable> optionalTable = lookupTable(allTables,
-                                                                 results);
-        if (!optionalTable.isPresent())
+        for (final MutableTable table: schemaTables.getValue())
         {
-          continue;
+          retrievePrimaryKeysFromMetadata(table);
         }
-        final MutableTable table = optionalTable.get();
-        createPrimaryKeyForTable(table, results);
       }
     }
-    catch (final SQLException e)
-    {
-      throw new SchemaCrawlerSQLException("Could not retrieve primary keys for tables",
-                                          e);
-    }
   }
 
 }
@@ -53,6 +53,7 @@ import java.util.Set;
 import java.util.logging.Level;
 
 import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.utility.Query;
 import sf.util.IdentifiedEnum;
 import sf.util.SchemaCrawlerLogger;
@@ -80,24 +81,34 @@ final class MetadataResultSet
   private final List<String> resultSetColumns;
   private Set<String> readColumns;
 
+  private final MutableCrawlMetrics crawlMetrics;
+  private InformationSchemaKey informationSchemaKey;
+
   private int rowCount;
 
   MetadataResultSet(final Query query,
                     final Statement statement,
-                    final InclusionRule schemaInclusionRule)
+                    final InclusionRule schemaInclusionRule,
+                    final MutableCrawlMetrics crawlMetrics)
     throws SQLException
   {
-    this(executeAgainstSchema(query, statement, schemaInclusionRule));
+    this(executeAgainstSchema(query, statement, schemaInclusionRule),
+         crawlMetrics);
     if (query.hasName())
     {
       description = query.getName();
+      informationSchemaKey = lookupInformationSchemaKey(query.getName());
     }
   }
 
-  MetadataResultSet(final ResultSet resultSet)
+  MetadataResultSet(final ResultSet resultSet,
+                    final MutableCrawlMetrics crawlMetrics)
     throws SQLException
   {
     results = requireNonNull(resultSet, "Cannot use null results");
+    this.crawlMetrics = requireNonNull(crawlMetrics,
+                                       "No crawl metrics provided");
+    crawlMetrics.addMetadataQuery();
     try
     {
       results.setFetchSize(FETCHSIZE);
@@ -145,6 +156,8 @@ final class MetadataResultSet
   {
     results.close();
 
+    crawlMetrics.addMetadataRows(informationSchemaKey, rowCount);
+
     if (LOGGER.isLoggable(Level.INFO) && !isBlank(description))
     {
       LOGGER.log(Level.INFO,
@@ -476,6 +489,19 @@ final class MetadataResultSet
     return value;
   }
 
+  /**
+   * Checks whether the results have a column, whether or not it has
+   * been read.
+   *
+   * @param columnName
+   *        Column name
+   * @return Whether the column is in the results
+   */
+  boolean hasColumn(final String columnName)
+  {
+    return resultSetColumns.contains(columnName);
+  }
+
   /**
    * Moves the cursor down one row from its current position. A
    * <code>ResultSet</code> cursor is initially positioned before the
@@ -507,6 +533,18 @@ final class MetadataResultSet
     this.description = description;
   }
 
+  private InformationSchemaKey lookupInformationSchemaKey(final String queryName)
+  {
+    for (final InformationSchemaKey key: InformationSchemaKey.values())
+    {
+      if (key.name().equals(queryName))
+      {
+        return key;
+      }
+    }
+    return null;
+  }
+
   private boolean useColumn(final String columnName)
   {
     final boolean useColumn = columnName != null
@@ -43,6 +43,7 @@ import schemacrawler.SchemaCrawlerInfo;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.CrawlMetrics;
 import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.Reducer;
@@ -99,6 +100,9 @@ final class MutableCatalog
   private final NamedObjectList<MutableSynonym> synonyms = new NamedObjectList<>();
 
   private final NamedObjectList<MutableSequence> sequences = new NamedObjectList<>();
+  // Names are only pooled while the catalog is being crawled, and the
+  // pool is released when the crawl finishes
+  private transient StringPool names = new StringPool();
 
   MutableCatalog(final String name)
   {
@@ -478,6 +482,34 @@ final class MutableCatalog
     return tables;
   }
 
+  /**
+   * Returns a shared instance of a name, so that schema, table, column
+   * and data type names that repeat across the catalog are held in
+   * memory only once. Once the crawl has finished, names are returned
+   * as is.
+   *
+   * @param name
+   *        Name, may be null
+   * @return Pooled name
+   */
+  String internName(final String name)
+  {
+    if (names == null)
+    {
+      return name;
+    }
+    return names.intern(name);
+  }
+
+  /**
+   * Releases the name pool at the end of the crawl, since the names
+   * are already shared by the catalog objects.
+   */
+  void releaseNamePool()
+  {
+    names = null;
+  }
+
   MutableColumnDataType lookupColumnDataTypeByType(final int type)
   {
     final SchemaReference systemSchema = new SchemaReference();
@@ -501,9 +533,12 @@ final class MutableCatalog
     return routines.lookup(routineLookupKey);
   }
 
-  void setCrawlInfo(final String title)
+  void setCrawlInfo(final String title, final CrawlMetrics crawlMetrics)
   {
-    crawlInfo = new ImmutableCrawlInfo(jdbcDriverInfo, databaseInfo, title);
+    crawlInfo = new ImmutableCrawlInfo(jdbcDriverInfo,
+                                       databaseInfo,
+                                       title,
+                                       crawlMetrics);
   }
 
 }
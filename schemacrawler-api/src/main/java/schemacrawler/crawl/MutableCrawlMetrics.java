@@ -0,0 +1,220 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CrawlMetrics;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import sf.util.StopWatch;
+
+/**
+ * Measurements taken while crawling the database. Counts are added to
+ * by the retrievers as the crawl proceeds.
+ */
+final class MutableCrawlMetrics
+  implements CrawlMetrics
+{
+
+  private static final long serialVersionUID = -3521806164312429410L;
+
+  private final Map<String, Duration> stageDurations;
+  private final Map<InformationSchemaKey, Long> informationSchemaRowCounts;
+  private final Map<String, Integer> objectCounts;
+  private Duration totalDuration;
+  private long metadataQueryCount;
+  private long metadataRowCount;
+  private long definitionsLength;
+
+  MutableCrawlMetrics()
+  {
+    stageDurations = new LinkedHashMap<>();
+    informationSchemaRowCounts = new EnumMap<>(InformationSchemaKey.class);
+    objectCounts = new LinkedHashMap<>();
+    totalDuration = Duration.ZERO;
+  }
+
+  @Override
+  public long getDefinitionsLength()
+  {
+    return definitionsLength;
+  }
+
+  @Override
+  public Map<InformationSchemaKey, Long> getInformationSchemaRowCounts()
+  {
+    return Collections.unmodifiableMap(informationSchemaRowCounts);
+  }
+
+  @Override
+  public long getMetadataQueryCount()
+  {
+    return metadataQueryCount;
+  }
+
+  @Override
+  public long getMetadataRowCount()
+  {
+    return metadataRowCount;
+  }
+
+  @Override
+  public Map<String, Integer> getObjectCounts()
+  {
+    return Collections.unmodifiableMap(objectCounts);
+  }
+
+  @Override
+  public Map<String, Duration> getStageDurations()
+  {
+    return Collections.unmodifiableMap(stageDurations);
+  }
+
+  @Override
+  public Duration getTotalDuration()
+  {
+    return totalDuration;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString()
+  {
+    return String
+      .format("Crawled in %d ms, with %d metadata queries returning %d rows, and %d characters of definitions%n%s",
+              totalDuration.toMillis(),
+              metadataQueryCount,
+              metadataRowCount,
+              definitionsLength,
+              objectCounts);
+  }
+
+  void addDefinition(final String definition)
+  {
+    if (definition != null)
+    {
+      definitionsLength = definitionsLength + definition.length();
+    }
+  }
+
+  void addMetadataQuery()
+  {
+    metadataQueryCount = metadataQueryCount + 1;
+  }
+
+  void addMetadataRows(final InformationSchemaKey informationSchemaKey,
+                       final int rowCount)
+  {
+    metadataRowCount = metadataRowCount + rowCount;
+    if (informationSchemaKey != null)
+    {
+      informationSchemaRowCounts
+        .merge(informationSchemaKey, Long.valueOf(rowCount), Long::sum);
+    }
+  }
+
+  /**
+   * Adds the time taken for each task timed by a stop watch, as stages
+   * named for the stop watch and the task.
+   *
+   * @param stopWatch
+   *        Stop watch for a part of the crawl
+   */
+  void addStageDurations(final StopWatch stopWatch)
+  {
+    requireNonNull(stopWatch, "No stop watch provided");
+    for (final Map.Entry<String, Duration> taskDuration: stopWatch
+      .getTaskDurations().entrySet())
+    {
+      stageDurations.merge(stopWatch.getId() + "." + taskDuration.getKey(),
+                           taskDuration.getValue(),
+                           Duration::plus);
+    }
+  }
+
+  /**
+   * Counts the objects in the catalog, once the crawl is complete.
+   *
+   * @param catalog
+   *        Crawled catalog
+   */
+  void countObjects(final Catalog catalog)
+  {
+    requireNonNull(catalog, "No catalog provided");
+
+    int columns = 0;
+    int indexes = 0;
+    int foreignKeys = 0;
+    int triggers = 0;
+    for (final Table table: catalog.getTables())
+    {
+      columns = columns + table.getColumns().size();
+      indexes = indexes + table.getIndexes().size();
+      foreignKeys = foreignKeys + table.getImportedForeignKeys().size();
+      triggers = triggers + table.getTriggers().size();
+    }
+
+    int routineColumns = 0;
+    for (final Routine routine: catalog.getRoutines())
+    {
+      routineColumns = routineColumns + routine.getColumns().size();
+    }
+
+    objectCounts.clear();
+    objectCounts.put("schemas", catalog.getSchemas().size());
+    objectCounts.put("columnDataTypes", catalog.getColumnDataTypes().size());
+    objectCounts.put("tables", catalog.getTables().size());
+    objectCounts.put("columns", columns);
+    objectCounts.put("indexes", indexes);
+    objectCounts.put("foreignKeys", foreignKeys);
+    objectCounts.put("triggers", triggers);
+    objectCounts.put("routines", catalog.getRoutines().size());
+    objectCounts.put("routineColumns", routineColumns);
+    objectCounts.put("sequences", catalog.getSequences().size());
+    objectCounts.put("synonyms", catalog.getSynonyms().size());
+  }
+
+  void setTotalDuration(final Duration totalDuration)
+  {
+    this.totalDuration = requireNonNull(totalDuration,
+                                        "No total duration provided");
+  }
+
+}
@@ -33,7 +33,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -62,14 +61,6 @@ class MutableTable
   implements Table
 {
 
-  private enum TableAssociationType
-  {
-
-   all,
-   exported,
-   imported;
-  }
-
   private static final long serialVersionUID = 3257290248802284852L;
 
   private TableType tableType = TableType.UNKNOWN; // Default value
@@ -83,6 +74,16 @@ class MutableTable
   private final NamedObjectList<MutablePrivilege<Table>> privileges = new NamedObjectList<>();
   private int sortIndex;
   private final StringBuilder definition;
+  // Foreign key indexes are maintained as foreign keys are added, and
+  // are rebuilt on first use after deserialization; they are only used
+  // while holding the table's lock, since tables may be rendered
+  // concurrently
+  private transient NamedObjectList<MutableForeignKey> exportedForeignKeys;
+  private transient NamedObjectList<MutableForeignKey> importedForeignKeys;
+  private transient Set<Table> parentTables;
+  private transient Set<Table> childTables;
+  private transient List<Table> sortedParentTables;
+  private transient List<Table> sortedChildTables;
 
   MutableTable(final Schema schema, final String name)
   {
@@ -137,9 +138,10 @@ class MutableTable
    * {@inheritDoc}
    */
   @Override
-  public Collection<ForeignKey> getExportedForeignKeys()
+  public synchronized Collection<ForeignKey> getExportedForeignKeys()
   {
-    return getForeignKeys(TableAssociationType.exported);
+    indexForeignKeys();
+    return new ArrayList<>(exportedForeignKeys.values());
   }
 
   /**
@@ -148,7 +150,7 @@ class MutableTable
   @Override
   public Collection<ForeignKey> getForeignKeys()
   {
-    return getForeignKeys(TableAssociationType.all);
+    return new ArrayList<>(foreignKeys.values());
   }
 
   /**
@@ -161,9 +163,10 @@ class MutableTable
   }
 
   @Override
-  public Collection<ForeignKey> getImportedForeignKeys()
+  public synchronized Collection<ForeignKey> getImportedForeignKeys()
   {
-    return getForeignKeys(TableAssociationType.imported);
+    indexForeignKeys();
+    return new ArrayList<>(importedForeignKeys.values());
   }
 
   /**
@@ -197,46 +200,31 @@ class MutableTable
    * {@inheritDoc}
    */
   @Override
-  public Collection<Table> getRelatedTables(final TableRelationshipType tableRelationshipType)
+  public synchronized Collection<Table> getRelatedTables(final TableRelationshipType tableRelationshipType)
   {
-    final Set<Table> relatedTables = new HashSet<>();
-    if (tableRelationshipType != null
-        && tableRelationshipType != TableRelationshipType.none)
+    if (tableRelationshipType == null)
     {
-      final List<MutableForeignKey> foreignKeysList = new ArrayList<>(foreignKeys
-        .values());
-      for (final ForeignKey foreignKey: foreignKeysList)
-      {
-        for (final ForeignKeyColumnReference columnReference: foreignKey)
+      return new ArrayList<>();
+    }
+
+    indexForeignKeys();
+    switch (tableRelationshipType)
+    {
+      case parent:
+        if (sortedParentTables == null)
         {
-          final Table parentTable = columnReference.getPrimaryKeyColumn()
-            .getParent();
-          final Table childTable = columnReference.getForeignKeyColumn()
-            .getParent();
-          switch (tableRelationshipType)
-          {
-            case parent:
-              if (equals(childTable))
-              {
-                relatedTables.add(parentTable);
-              }
-              break;
-            case child:
-              if (equals(parentTable))
-              {
-                relatedTables.add(childTable);
-              }
-              break;
-            default:
-              break;
-          }
+          sortedParentTables = sortTables(parentTables);
         }
-      }
+        return new ArrayList<>(sortedParentTables);
+      case child:
+        if (sortedChildTables == null)
+        {
+          sortedChildTables = sortTables(childTables);
+        }
+        return new ArrayList<>(sortedChildTables);
+      default:
+        return new ArrayList<>();
     }
-
-    final List<Table> relatedTablesList = new ArrayList<>(relatedTables);
-    Collections.sort(relatedTablesList, NamedObjectSort.alphabetical);
-    return relatedTablesList;
   }
 
   /**
@@ -356,9 +344,31 @@ class MutableTable
     columns.add(column);
   }
 
-  final void addForeignKey(final MutableForeignKey foreignKey)
+  /**
+   * Adds a foreign key that references this table, from the given
+   * child table.
+   */
+  final synchronized void addExportedForeignKey(final MutableForeignKey foreignKey,
+                                                final Table childTable)
+  {
+    indexForeignKeys();
+    foreignKeys.add(foreignKey);
+    exportedForeignKeys.add(foreignKey);
+    if (childTable != null && childTables.add(childTable))
+    {
+      sortedChildTables = null;
+    }
+  }
+
+  /**
+   * Adds a foreign key, indexing it by the column references it already
+   * has.
+   */
+  final synchronized void addForeignKey(final MutableForeignKey foreignKey)
   {
+    indexForeignKeys();
     foreignKeys.add(foreignKey);
+    indexForeignKey(foreignKey);
   }
 
   final void addHiddenColumn(final MutableColumn column)
@@ -366,6 +376,22 @@ class MutableTable
     hiddenColumns.add(column);
   }
 
+  /**
+   * Adds a foreign key from this table, that references the given
+   * parent table.
+   */
+  final synchronized void addImportedForeignKey(final MutableForeignKey foreignKey,
+                                                final Table parentTable)
+  {
+    indexForeignKeys();
+    foreignKeys.add(foreignKey);
+    importedForeignKeys.add(foreignKey);
+    if (parentTable != null && parentTables.add(parentTable))
+    {
+      sortedParentTables = null;
+    }
+  }
+
   final void addIndex(final MutableIndex index)
   {
     indexes.add(index);
@@ -433,50 +459,62 @@ class MutableTable
     }
   }
 
-  private Collection<ForeignKey> getForeignKeys(final TableAssociationType tableAssociationType)
+  private void indexForeignKey(final ForeignKey foreignKey)
   {
-    final List<ForeignKey> foreignKeysList = new ArrayList<>(foreignKeys
-      .values());
-    if (tableAssociationType != null
-        && tableAssociationType != TableAssociationType.all)
+    for (final ForeignKeyColumnReference columnReference: foreignKey)
     {
-      for (final Iterator<ForeignKey> iterator = foreignKeysList
-        .iterator(); iterator.hasNext();)
+      final Table parentTable = columnReference.getPrimaryKeyColumn()
+        .getParent();
+      final Table childTable = columnReference.getForeignKeyColumn()
+        .getParent();
+      if (equals(parentTable))
       {
-        final ForeignKey mutableForeignKey = iterator.next();
-        boolean isExportedKey = false;
-        boolean isImportedKey = false;
-        for (final ForeignKeyColumnReference columnReference: mutableForeignKey)
-        {
-          if (columnReference.getPrimaryKeyColumn().getParent().equals(this))
-          {
-            isExportedKey = true;
-          }
-          if (columnReference.getForeignKeyColumn().getParent().equals(this))
-          {
-            isImportedKey = true;
-          }
-        }
-        switch (tableAssociationType)
-        {
-          case exported:
-            if (!isExportedKey)
-            {
-              iterator.remove();
-            }
-            break;
-          case imported:
-            if (!isImportedKey)
-            {
-              iterator.remove();
-            }
-            break;
-          default:
-            break;
-        }
+        exportedForeignKeys.add((MutableForeignKey) foreignKey);
+        childTables.add(childTable);
+        sortedChildTables = null;
+      }
+      if (equals(childTable))
+      {
+        importedForeignKeys.add((MutableForeignKey) foreignKey);
+        parentTables.add(parentTable);
+        sortedParentTables = null;
       }
     }
-    return foreignKeysList;
+  }
+
+  /**
+   * Builds foreign key indexes on first use, or rebuilds them after
+   * the table has been deserialized. Callers need to hold the table's
+   * lock.
+   */
+  private void indexForeignKeys()
+  {
+    if (exportedForeignKeys != null)
+    {
+      return;
+    }
+    initializeForeignKeyIndexes();
+    for (final MutableForeignKey foreignKey: foreignKeys)
+    {
+      indexForeignKey(foreignKey);
+    }
+  }
+
+  private void initializeForeignKeyIndexes()
+  {
+    exportedForeignKeys = new NamedObjectList<>();
+    importedForeignKeys = new NamedObjectList<>();
+    parentTables = new HashSet<>();
+    childTables = new HashSet<>();
+    sortedParentTables = null;
+    sortedChildTables = null;
+  }
+
+  private List<Table> sortTables(final Set<Table> tables)
+  {
+    final List<Table> tablesList = new ArrayList<>(tables);
+    Collections.sort(tablesList, NamedObjectSort.alphabetical);
+    return tablesList;
   }
 
 }
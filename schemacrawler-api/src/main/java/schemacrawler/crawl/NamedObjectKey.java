@@ -0,0 +1,84 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact, immutable lookup key for a named object list. Holds the
+ * parts of the key in an exactly sized array, and caches the hash
+ * code, instead of keeping the mutable list returned by
+ * {@link schemacrawler.schema.NamedObject#toUniqueLookupKey()}.
+ */
+final class NamedObjectKey
+  implements Serializable
+{
+
+  private static final long serialVersionUID = -6358461466409812731L;
+
+  private final String[] key;
+  private final int hashCode;
+
+  NamedObjectKey(final List<String> key)
+  {
+    this.key = key.toArray(new String[key.size()]);
+    hashCode = Arrays.hashCode(this.key);
+  }
+
+  @Override
+  public boolean equals(final Object obj)
+  {
+    if (this == obj)
+    {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass())
+    {
+      return false;
+    }
+    final NamedObjectKey other = (NamedObjectKey) obj;
+    return hashCode == other.hashCode && Arrays.equals(key, other.key);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return hashCode;
+  }
+
+  @Override
+  public String toString()
+  {
+    return Arrays.toString(key);
+  }
+
+}
@@ -60,32 +60,53 @@ final class NamedObjectList<N extends NamedObject>
 
   private static final long serialVersionUID = 3257847666804142128L;
 
-  private static List<String> makeLookupKey(final NamedObject namedObject)
+  private static NamedObjectKey makeLookupKey(final List<String> lookupKey)
   {
-    final List<String> key;
+    final NamedObjectKey key;
+    if (lookupKey == null)
+    {
+      key = null;
+    }
+    else
+    {
+      key = new NamedObjectKey(lookupKey);
+    }
+    return key;
+  }
+
+  private static NamedObjectKey makeLookupKey(final NamedObject namedObject)
+  {
+    final NamedObjectKey key;
     if (namedObject == null)
     {
       key = null;
     }
     else
     {
-      key = namedObject.toUniqueLookupKey();
+      key = new NamedObjectKey(namedObject.toUniqueLookupKey());
     }
     return key;
   }
 
-  private static List<String> makeLookupKey(final NamedObject namedObject,
-                                            final String name)
+  private static NamedObjectKey makeLookupKey(final NamedObject namedObject,
+                                              final String name)
   {
-    final List<String> key = makeLookupKey(namedObject);
-    if (key != null)
+    final NamedObjectKey key;
+    if (namedObject == null)
+    {
+      key = null;
+    }
+    else
     {
-      key.add(name);
+      final List<String> lookupKey = namedObject.toUniqueLookupKey();
+      lookupKey.add(name);
+      key = new NamedObjectKey(lookupKey);
     }
     return key;
   }
 
-  private final Map<List<String>, N> objects = new HashMap<>();
+  // Empty lists share an immutable map, until the first object is added
+  private Map<NamedObjectKey, N> objects = Collections.emptyMap();
 
   @Override
   public void filter(final Predicate<? super N> predicate)
@@ -95,11 +116,11 @@ final class NamedObjectList<N extends NamedObject>
       return;
     }
 
-    final Set<Entry<List<String>, N>> entrySet = objects.entrySet();
-    for (final Iterator<Entry<List<String>, N>> iterator = entrySet
+    final Set<Entry<NamedObjectKey, N>> entrySet = objects.entrySet();
+    for (final Iterator<Entry<NamedObjectKey, N>> iterator = entrySet
       .iterator(); iterator.hasNext();)
     {
-      final Entry<List<String>, N> entry = iterator.next();
+      final Entry<NamedObjectKey, N> entry = iterator.next();
       if (!predicate.test(entry.getValue()))
       {
         iterator.remove();
@@ -170,7 +191,11 @@ final class NamedObjectList<N extends NamedObject>
   boolean add(final N namedObject)
   {
     requireNonNull(namedObject, "Cannot add a null object to the list");
-    final List<String> key = makeLookupKey(namedObject);
+    final NamedObjectKey key = makeLookupKey(namedObject);
+    if (objects == Collections.<NamedObjectKey, N> emptyMap())
+    {
+      objects = new HashMap<>();
+    }
     objects.put(key, namedObject);
     return true;
   }
@@ -194,12 +219,12 @@ final class NamedObjectList<N extends NamedObject>
    */
   Optional<N> lookup(final List<String> lookupKey)
   {
-    return internalGet(lookupKey);
+    return internalGet(makeLookupKey(lookupKey));
   }
 
   Optional<N> lookup(final NamedObject namedObject, final String name)
   {
-    final List<String> key = makeLookupKey(namedObject, name);
+    final NamedObjectKey key = makeLookupKey(namedObject, name);
     return internalGet(key);
   }
 
@@ -230,7 +255,7 @@ final class NamedObjectList<N extends NamedObject>
     return all;
   }
 
-  private Optional<N> internalGet(final List<String> key)
+  private Optional<N> internalGet(final NamedObjectKey key)
   {
     return Optional.ofNullable(objects.get(key));
   }
@@ -225,7 +225,8 @@ final class ProcedureColumnRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(procedureColumnsSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
       results.setDescription("retrieveProcedureColumnsFromDataDictionary");
       while (results.next())
@@ -252,7 +253,8 @@ final class ProcedureColumnRetriever
         .getProcedureColumns(procedure.getSchema().getCatalogName(),
                              procedure.getSchema().getName(),
                              procedure.getName(),
-                             null));)
+                             null),
+                                                                   getCrawlMetrics());)
       {
         while (results.next())
         {
@@ -273,7 +275,8 @@ final class ProcedureColumnRetriever
     throws SQLException
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getProcedureColumns(null, null, "%", "%"));)
+      .getProcedureColumns(null, null, "%", "%"),
+                                                                 getCrawlMetrics());)
     {
       while (results.next())
       {
@@ -61,6 +61,7 @@ final class RetrieverConnection
   private final SchemaRetrievalOptions schemaRetrievalOptions;
   private final TableTypes tableTypes;
   private final JavaSqlTypes javaSqlTypes;
+  private final MutableCrawlMetrics crawlMetrics;
 
   RetrieverConnection(final Connection connection,
                       final SchemaRetrievalOptions schemaRetrievalOptions)
@@ -79,6 +80,7 @@ final class RetrieverConnection
                new StringFormat("Supported table types are <%s>", tableTypes));
 
     javaSqlTypes = new JavaSqlTypes();
+    crawlMetrics = new MutableCrawlMetrics();
   }
 
   Connection getConnection()
@@ -86,6 +88,11 @@ final class RetrieverConnection
     return connection;
   }
 
+  MutableCrawlMetrics getCrawlMetrics()
+  {
+    return crawlMetrics;
+  }
+
   MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
   {
     return schemaRetrievalOptions.getForeignKeyRetrievalStrategy();
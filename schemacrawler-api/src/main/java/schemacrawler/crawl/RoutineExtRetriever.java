@@ -93,7 +93,8 @@ final class RoutineExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(routineDefinitionsSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
       while (results.next())
       {
@@ -119,6 +120,7 @@ final class RoutineExtRetriever
           final String definition = results.getString("ROUTINE_DEFINITION");
 
           routine.setRoutineBodyType(routineBodyType);
+          getCrawlMetrics().addDefinition(definition);
           routine.appendDefinition(definition);
 
           routine.addAttributes(results.getAttributes());
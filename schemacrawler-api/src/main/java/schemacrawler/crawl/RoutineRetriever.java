@@ -269,7 +269,8 @@ final class RoutineRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(functionsSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
       results.setDescription("retrieveFunctionsFromDataDictionary");
       int numFunctions = 0;
@@ -296,7 +297,8 @@ final class RoutineRetriever
       final String schemaName = schema.getName();
 
       try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-        .getFunctions(catalogName, schemaName, "%"));)
+        .getFunctions(catalogName, schemaName, "%"),
+                                                                   getCrawlMetrics());)
       {
         results.setDescription("retrieveFunctionsFromMetadata");
         int numFunctions = 0;
@@ -326,7 +328,8 @@ final class RoutineRetriever
     throws SQLException
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getFunctions(null, null, "%"));)
+      .getFunctions(null, null, "%"),
+                                                                 getCrawlMetrics());)
     {
       results.setDescription("retrieveFunctionsFromMetadataForAllFunctions");
       int numFunctions = 0;
@@ -366,7 +369,8 @@ final class RoutineRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(proceduresSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
       results.setDescription("retrieveProceduresFromDataDictionary");
       int numProcedures = 0;
@@ -394,7 +398,8 @@ final class RoutineRetriever
       final String schemaName = schema.getName();
 
       try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-        .getProcedures(catalogName, schemaName, "%"));)
+        .getProcedures(catalogName, schemaName, "%"),
+                                                                   getCrawlMetrics());)
       {
         results.setDescription("retrieveProceduresFromMetadata");
         int numProcedures = 0;
@@ -414,7 +419,8 @@ final class RoutineRetriever
     throws SQLException
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getProcedures(null, null, "%"));)
+      .getProcedures(null, null, "%"),
+                                                                 getCrawlMetrics());)
     {
       results.setDescription("retrieveProceduresFromMetadataForAllProcedures");
       int numProcedures = 0;
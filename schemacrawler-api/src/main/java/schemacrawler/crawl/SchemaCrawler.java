@@ -38,6 +38,8 @@ import static schemacrawler.filter.ReducerFactory.getTableReducer;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.logging.Level;
 
@@ -119,6 +121,7 @@ public final class SchemaCrawler
         return null;
       });
 
+      retrieverConnection.getCrawlMetrics().addStageDurations(stopWatch);
       LOGGER.log(Level.INFO, stopWatch.stringify());
     }
     catch (final SchemaCrawlerSQLException e)
@@ -206,6 +209,7 @@ public final class SchemaCrawler
         return null;
       });
 
+      retrieverConnection.getCrawlMetrics().addStageDurations(stopWatch);
       LOGGER.log(Level.INFO, stopWatch.stringify());
     }
     catch (final SchemaCrawlerSQLException e)
@@ -285,6 +289,7 @@ public final class SchemaCrawler
                  new StringFormat("Retrieved %d routines", allRoutines.size()));
       if (allRoutines.isEmpty())
       {
+        retrieverConnection.getCrawlMetrics().addStageDurations(stopWatch);
         return;
       }
 
@@ -324,6 +329,7 @@ public final class SchemaCrawler
         return null;
       });
 
+      retrieverConnection.getCrawlMetrics().addStageDurations(stopWatch);
       LOGGER.log(Level.INFO, stopWatch.stringify());
     }
     catch (final SchemaCrawlerSQLException e)
@@ -366,6 +372,7 @@ public final class SchemaCrawler
         return null;
       });
 
+      retrieverConnection.getCrawlMetrics().addStageDurations(stopWatch);
       LOGGER.log(Level.INFO, stopWatch.stringify());
 
       final NamedObjectList<SchemaReference> schemas = retriever
@@ -429,6 +436,7 @@ public final class SchemaCrawler
         return null;
       });
 
+      retrieverConnection.getCrawlMetrics().addStageDurations(stopWatch);
       LOGGER.log(Level.INFO, stopWatch.stringify());
     }
     catch (final SchemaCrawlerSQLException e)
@@ -482,6 +490,7 @@ public final class SchemaCrawler
         return null;
       });
 
+      retrieverConnection.getCrawlMetrics().addStageDurations(stopWatch);
       LOGGER.log(Level.INFO, stopWatch.stringify());
     }
     catch (final SchemaCrawlerSQLException e)
@@ -555,6 +564,7 @@ public final class SchemaCrawler
                  new StringFormat("Retrieved %d tables", allTables.size()));
       if (allTables.isEmpty())
       {
+        retrieverConnection.getCrawlMetrics().addStageDurations(stopWatch);
         return;
       }
 
@@ -699,6 +709,7 @@ public final class SchemaCrawler
         return null;
       });
 
+      retrieverConnection.getCrawlMetrics().addStageDurations(stopWatch);
       LOGGER.log(Level.INFO, stopWatch.stringify());
     }
     catch (final SchemaCrawlerSQLException e)
@@ -754,6 +765,8 @@ public final class SchemaCrawler
     final MutableCatalog catalog = new MutableCatalog("catalog");
     try
     {
+      final Instant start = Instant.now();
+
       final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
                                                                               schemaRetrievalOptions);
 
@@ -767,12 +780,23 @@ public final class SchemaCrawler
       crawlSynonyms(catalog, retrieverConnection, schemaCrawlerOptions);
       crawlSequences(catalog, retrieverConnection, schemaCrawlerOptions);
 
+      final MutableCrawlMetrics crawlMetrics = retrieverConnection
+        .getCrawlMetrics();
+      crawlMetrics.countObjects(catalog);
+      crawlMetrics
+        .setTotalDuration(Duration.between(start, Instant.now()));
+      LOGGER.log(Level.INFO, new StringFormat("%s", crawlMetrics));
+
       return catalog;
     }
     catch (final SQLException e)
     {
       throw new SchemaCrawlerException("Database access exception", e);
     }
+    finally
+    {
+      catalog.releaseNamePool();
+    }
   }
 
 }
@@ -0,0 +1,101 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import java.sql.SQLException;
+import java.util.logging.Level;
+
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Tracks whether the JDBC driver can retrieve metadata for all the
+ * tables in a schema with a single call, with a null table name. Some
+ * drivers throw an exception for a null table name, and others treat it
+ * as a literal name and return no rows. So results with no rows are
+ * only trusted once an earlier call has returned rows.
+ *
+ * @author Sualeh Fatehi
+ */
+final class SchemaMetadataProbe
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(SchemaMetadataProbe.class.getName());
+
+  private final String description;
+  private boolean isSupported;
+  private boolean isConfirmed;
+
+  SchemaMetadataProbe(final String description)
+  {
+    this.description = description;
+    isSupported = true;
+  }
+
+  /**
+   * Records the number of rows returned for a schema, and returns
+   * whether the results can be trusted. If they cannot, metadata needs
+   * to be retrieved table by table for the schema.
+   *
+   * @param rowCount
+   *        Number of rows returned for the schema
+   * @return Whether schema results can be trusted
+   */
+  boolean accept(final int rowCount)
+  {
+    if (rowCount > 0)
+    {
+      isConfirmed = true;
+    }
+    return isConfirmed;
+  }
+
+  boolean isSupported()
+  {
+    return isSupported;
+  }
+
+  void setNotSupported(final SQLException e)
+  {
+    LOGGER.log(Level.INFO,
+               new StringFormat("Could not retrieve %s for all tables in a schema, so retrieving them table by table",
+                                description));
+    LOGGER.log(Level.FINE, e.getMessage(), e);
+    isSupported = false;
+  }
+
+  @Override
+  public String toString()
+  {
+    return description;
+  }
+
+}
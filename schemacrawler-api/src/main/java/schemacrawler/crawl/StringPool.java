@@ -0,0 +1,81 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pool of names, so that repeated schema, table, column and data type
+ * names share a single string instance across a catalog. Large
+ * catalogs have a small vocabulary of column names, such as ID or
+ * NAME, repeated across many tables.
+ */
+final class StringPool
+{
+
+  private final Map<String, String> pool = new HashMap<>();
+
+  /**
+   * Returns the pooled instance that is equal to the given string,
+   * adding the string to the pool if it is not already present.
+   *
+   * @param value
+   *        String to pool, may be null
+   * @return Pooled string, or null
+   */
+  String intern(final String value)
+  {
+    if (value == null)
+    {
+      return null;
+    }
+    final String pooled = pool.putIfAbsent(value, value);
+    if (pooled == null)
+    {
+      return value;
+    }
+    else
+    {
+      return pooled;
+    }
+  }
+
+  /**
+   * Number of distinct strings in the pool.
+   *
+   * @return Number of pooled strings
+   */
+  int size()
+  {
+    return pool.size();
+  }
+
+}
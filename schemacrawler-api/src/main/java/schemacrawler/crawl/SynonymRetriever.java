@@ -110,7 +110,8 @@ final class SynonymRetriever
     try (final Statement statement = connection.createStatement();
         MetadataResultSet results = new MetadataResultSet(synonymsDefinitionSql,
                                                           statement,
-                                                          getSchemaInclusionRule());)
+                                                          getSchemaInclusionRule(),
+                                                          getCrawlMetrics());)
     {
       while (results.next())
       {
@@ -90,8 +90,6 @@ final class TableColumnRetriever
       return;
     }
 
-    final Set<List<String>> hiddenColumns = retrieveHiddenTableColumns();
-
     final MetadataRetrievalStrategy tableColumnRetrievalStrategy = getRetrieverConnection()
       .getTableColumnRetrievalStrategy();
     switch (tableColumnRetrievalStrategy)
@@ -100,9 +98,7 @@ final class TableColumnRetriever
         LOGGER
           .log(Level.INFO,
                "Retrieving table columns, using fast data dictionary retrieval");
-        retrieveTableColumnsFromDataDictionary(allTables,
-                                               columnFilter,
-                                               hiddenColumns);
+        retrieveTableColumnsFromDataDictionary(allTables, columnFilter);
         break;
 
       case metadata_all:
@@ -110,14 +106,14 @@ final class TableColumnRetriever
                    "Retrieving table columns, using fast meta-data retrieval");
         retrieveTableColumnsFromMetadataForAllTables(allTables,
                                                      columnFilter,
-                                                     hiddenColumns);
+                                                     retrieveHiddenTableColumns());
         break;
 
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving table columns");
         retrieveTableColumnsFromMetadata(allTables,
                                          columnFilter,
-                                         hiddenColumns);
+                                         retrieveHiddenTableColumns());
         break;
 
       default:
@@ -127,7 +123,7 @@ final class TableColumnRetriever
   }
 
   private void createTableColumn(final MetadataResultSet results,
-                                 final NamedObjectList<MutableTable> allTables,
+                                 final TableLookupCursor tables,
                                  final InclusionRuleFilter<Column> columnFilter,
                                  final Set<List<String>> hiddenColumns)
   {
@@ -151,8 +147,8 @@ final class TableColumnRetriever
                                 tableName,
                                 columnName));
 
-    final Optional<MutableTable> optionalTable = allTables
-      .lookup(Arrays.asList(columnCatalogName, schemaName, tableName));
+    final Optional<MutableTable> optionalTable = tables
+      .lookup(columnCatalogName, schemaName, tableName);
     if (!optionalTable.isPresent())
     {
       return;
@@ -175,9 +171,23 @@ final class TableColumnRetriever
       final boolean isGenerated = results.getBoolean("IS_GENERATEDCOLUMN");
       final String remarks = results.getString("REMARKS");
 
-      final List<String> lookupKey = Arrays
-        .asList(columnCatalogName, schemaName, tableName, columnName);
-      final boolean isHidden = hiddenColumns.contains(lookupKey);
+      // Data dictionary queries can flag hidden columns in the same
+      // pass, instead of providing a separate query for hidden columns
+      final boolean isHidden;
+      if (results.getBoolean("IS_HIDDEN"))
+      {
+        isHidden = true;
+      }
+      else if (hiddenColumns.isEmpty())
+      {
+        isHidden = false;
+      }
+      else
+      {
+        final List<String> lookupKey = Arrays
+          .asList(columnCatalogName, schemaName, tableName, columnName);
+        isHidden = hiddenColumns.contains(lookupKey);
+      }
 
       String columnDataTypeName = null;
       if (!isBlank(typeName))
@@ -240,7 +250,7 @@ final class TableColumnRetriever
     }
     else
     {
-      column = new MutableColumn(table, columnName);
+      column = new MutableColumn(table, catalog.internName(columnName));
     }
     return column;
   }
@@ -265,7 +275,8 @@ final class TableColumnRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(hiddenColumnsSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
       results.setDescription("retrieveHiddenColumns");
       while (results.next())
@@ -296,8 +307,7 @@ final class TableColumnRetriever
   }
 
   private void retrieveTableColumnsFromDataDictionary(final NamedObjectList<MutableTable> allTables,
-                                                      final InclusionRuleFilter<Column> columnFilter,
-                                                      final Set<List<String>> hiddenColumns)
+                                                      final InclusionRuleFilter<Column> columnFilter)
     throws SQLException
   {
     final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
@@ -313,12 +323,25 @@ final class TableColumnRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(tableColumnsSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
       results.setDescription("retrieveTableColumnsFromDataDictionary");
+      // Hidden columns are flagged in the same pass if the query
+      // returns IS_HIDDEN, otherwise they are read separately
+      final Set<List<String>> hiddenColumns;
+      if (results.hasColumn("IS_HIDDEN"))
+      {
+        hiddenColumns = new HashSet<>();
+      }
+      else
+      {
+        hiddenColumns = retrieveHiddenTableColumns();
+      }
+      final TableLookupCursor tables = new TableLookupCursor(allTables);
       while (results.next())
       {
-        createTableColumn(results, allTables, columnFilter, hiddenColumns);
+        createTableColumn(results, tables, columnFilter, hiddenColumns);
       }
     }
   }
@@ -328,6 +351,7 @@ final class TableColumnRetriever
                                                 final Set<List<String>> hiddenColumns)
     throws SchemaCrawlerSQLException
   {
+    final TableLookupCursor tables = new TableLookupCursor(allTables);
     for (final MutableTable table: allTables)
     {
       LOGGER.log(Level.FINE, "Retrieving table columns for " + table);
@@ -335,11 +359,12 @@ final class TableColumnRetriever
         .getColumns(table.getSchema().getCatalogName(),
                     table.getSchema().getName(),
                     table.getName(),
-                    null));)
+                    null),
+                                                                   getCrawlMetrics());)
       {
         while (results.next())
         {
-          createTableColumn(results, allTables, columnFilter, hiddenColumns);
+          createTableColumn(results, tables, columnFilter, hiddenColumns);
         }
       }
       catch (final SQLException e)
@@ -358,11 +383,13 @@ final class TableColumnRetriever
     throws SQLException
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getColumns(null, null, "%", "%"));)
+      .getColumns(null, null, "%", "%"),
+                                                                 getCrawlMetrics());)
     {
+      final TableLookupCursor tables = new TableLookupCursor(allTables);
       while (results.next())
       {
-        createTableColumn(results, allTables, columnFilter, hiddenColumns);
+        createTableColumn(results, tables, columnFilter, hiddenColumns);
       }
     }
   }
@@ -99,7 +99,8 @@ final class TableConstraintRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(extTableConstraintInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
       while (results.next())
       {
@@ -122,6 +123,7 @@ final class TableConstraintRetriever
                                       constraintName));
           continue;
         }
+        getCrawlMetrics().addDefinition(definition);
         tableConstraint.appendDefinition(definition);
 
         tableConstraint.addAttributes(results.getAttributes());
@@ -178,7 +180,8 @@ final class TableConstraintRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(tableConstraintsInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
 
       while (results.next())
@@ -259,7 +262,8 @@ final class TableConstraintRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(tableConstraintsColumnsInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
       while (results.next())
       {
@@ -102,9 +102,12 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(columnAttributesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
 
+      final TableLookupCursor tables = new TableLookupCursor(catalog
+        .getAllTables());
       while (results.next())
       {
         final String catalogName = normalizeCatalogName(results
@@ -116,9 +119,8 @@ final class TableExtRetriever
         LOGGER.log(Level.FINER,
                    "Retrieving additional column attributes: " + columnName);
 
-        final Optional<MutableTable> tableOptional = lookupTable(catalogName,
-                                                                 schemaName,
-                                                                 tableName);
+        final Optional<MutableTable> tableOptional = tables
+          .lookup(catalogName, schemaName, tableName);
         if (!tableOptional.isPresent())
         {
           LOGGER.log(Level.FINE,
@@ -186,7 +188,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(tableAttributesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
 
       while (results.next())
@@ -256,7 +259,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(extIndexColumnsInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
 
       while (results.next())
@@ -325,6 +329,7 @@ final class TableExtRetriever
         {
           indexColumn.setGenerated(isGenerated);
         }
+        getCrawlMetrics().addDefinition(definition);
         indexColumn.appendDefinition(definition);
         indexColumn.addAttributes(results.getAttributes());
       }
@@ -367,7 +372,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(extIndexesInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
 
       while (results.next())
@@ -414,6 +420,7 @@ final class TableExtRetriever
         final String definition = results.getString("INDEX_DEFINITION");
         final String remarks = results.getString("REMARKS");
 
+        getCrawlMetrics().addDefinition(definition);
         index.appendDefinition(definition);
         index.setRemarks(remarks);
 
@@ -459,7 +466,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(extPrimaryKeysSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
       while (results.next())
       {
@@ -482,6 +490,7 @@ final class TableExtRetriever
         if (optionalPk.isPresent())
         {
           final MutablePrimaryKey pkConstraint = optionalPk.get();
+          getCrawlMetrics().addDefinition(definition);
           pkConstraint.appendDefinition(definition);
           pkConstraint.addAttributes(results.getAttributes());
         }
@@ -505,7 +514,8 @@ final class TableExtRetriever
     throws SQLException
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getColumnPrivileges(null, null, "%", "%"));)
+      .getColumnPrivileges(null, null, "%", "%"),
+                                                                 getCrawlMetrics());)
     {
       createPrivileges(results, true);
     }
@@ -548,7 +558,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(tableDefinitionsInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
 
       while (results.next())
@@ -579,6 +590,7 @@ final class TableExtRetriever
                                     tableName));
         final String definition = results.getString("TABLE_DEFINITION");
 
+        getCrawlMetrics().addDefinition(definition);
         table.appendDefinition(definition);
 
         table.addAttributes(results.getAttributes());
@@ -595,7 +607,8 @@ final class TableExtRetriever
     throws SQLException
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getTablePrivileges(null, null, "%"));)
+      .getTablePrivileges(null, null, "%"),
+                                                                 getCrawlMetrics());)
     {
       createPrivileges(results, false);
     }
@@ -635,7 +648,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(triggerInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
 
       while (results.next())
@@ -686,6 +700,7 @@ final class TableExtRetriever
         trigger.setEventManipulationType(eventManipulationType);
         trigger.setActionOrder(actionOrder);
         trigger.appendActionCondition(actionCondition);
+        getCrawlMetrics().addDefinition(actionStatement);
         trigger.appendActionStatement(actionStatement);
         trigger.setActionOrientation(actionOrientation);
         trigger.setConditionTiming(conditionTiming);
@@ -733,7 +748,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(viewInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
 
       while (results.next())
@@ -766,6 +782,7 @@ final class TableExtRetriever
           .getEnum("CHECK_OPTION", CheckOptionType.unknown);
         final boolean updatable = results.getBoolean("IS_UPDATABLE");
 
+        getCrawlMetrics().addDefinition(definition);
         view.appendDefinition(definition);
         view.setCheckOption(checkOption);
         view.setUpdatable(updatable);
@@ -0,0 +1,89 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Resolves tables for a stream of metadata rows. Data dictionary
+ * queries return rows ordered by table, so consecutive rows for the
+ * same table are resolved by comparing names with the previous row,
+ * instead of building and hashing a lookup key for every row. Rows in
+ * any other order are still resolved correctly, with a lookup each time
+ * the table changes.
+ */
+final class TableLookupCursor
+{
+
+  private final NamedObjectList<MutableTable> tables;
+  private String catalogName;
+  private String schemaName;
+  private String tableName;
+  private Optional<MutableTable> table;
+
+  TableLookupCursor(final NamedObjectList<MutableTable> tables)
+  {
+    this.tables = requireNonNull(tables, "No tables provided");
+  }
+
+  /**
+   * Looks up a table, reusing the table from the previous lookup if the
+   * names are the same.
+   *
+   * @param catalogName
+   *        Catalog name
+   * @param schemaName
+   *        Schema name
+   * @param tableName
+   *        Table name
+   * @return Table, if it was found
+   */
+  Optional<MutableTable> lookup(final String catalogName,
+                                final String schemaName,
+                                final String tableName)
+  {
+    if (table == null || !Objects.equals(this.tableName, tableName)
+        || !Objects.equals(this.schemaName, schemaName)
+        || !Objects.equals(this.catalogName, catalogName))
+    {
+      table = tables
+        .lookup(Arrays.asList(catalogName, schemaName, tableName));
+      this.catalogName = catalogName;
+      this.schemaName = schemaName;
+      this.tableName = tableName;
+    }
+    return table;
+  }
+
+}
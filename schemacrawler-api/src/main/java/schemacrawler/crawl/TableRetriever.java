@@ -130,13 +130,15 @@ final class TableRetriever
   private void createTable(final MetadataResultSet results,
                            final NamedObjectList<SchemaReference> schemas,
                            final InclusionRuleFilter<Table> tableFilter,
-                           final TableTypes supportedTableTypes)
+                           final TableTypes supportedTableTypes,
+                           final Collection<String> tableTypes)
   {
     final String catalogName = normalizeCatalogName(results
       .getString("TABLE_CAT"));
     final String schemaName = normalizeSchemaName(results
       .getString("TABLE_SCHEM"));
-    final String tableName = results.getString("TABLE_NAME");
+    final String tableName = catalog
+      .internName(results.getString("TABLE_NAME"));
     LOGGER.log(Level.FINE,
                new StringFormat("Retrieving table <%s.%s.%s>",
                                 catalogName,
@@ -145,6 +147,16 @@ final class TableRetriever
     final String tableTypeString = results.getString("TABLE_TYPE");
     final String remarks = results.getString("REMARKS");
 
+    if (!isRequestedTableType(tableTypeString, tableTypes))
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Not retrieving table type <%s> for <%s.%s>",
+                                  tableTypeString,
+                                  schemaName,
+                                  tableName));
+      return;
+    }
+
     final Optional<SchemaReference> optionalSchema = schemas
       .lookup(Arrays.asList(catalogName, schemaName));
     if (!optionalSchema.isPresent())
@@ -183,6 +195,34 @@ final class TableRetriever
     }
   }
 
+  /**
+   * Checks whether a table type was requested, ignoring case, since
+   * data dictionary queries return all table types.
+   *
+   * @param tableTypeString
+   *        Table type from the results
+   * @param tableTypes
+   *        Requested table types, or null for all table types
+   * @return Whether tables of this type should be retrieved
+   */
+  private boolean isRequestedTableType(final String tableTypeString,
+                                       final Collection<String> tableTypes)
+  {
+    if (tableTypes == null)
+    {
+      return true;
+    }
+    for (final String tableType: tableTypes)
+    {
+      if (tableType != null
+          && tableType.trim().equalsIgnoreCase(tableTypeString))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private void retrieveTablesFromDataDictionary(final NamedObjectList<SchemaReference> schemas,
                                                 final String tableNamePattern,
                                                 final Collection<String> tableTypes,
@@ -203,14 +243,19 @@ final class TableRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(tablesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getCrawlMetrics());)
     {
       results.setDescription("retrieveTablesFromDataDictionary");
       int numTables = 0;
       while (results.next())
       {
         numTables = numTables + 1;
-        createTable(results, schemas, tableFilter, supportedTableTypes);
+        createTable(results,
+                    schemas,
+                    tableFilter,
+                    supportedTableTypes,
+                    tableTypes);
       }
       LOGGER.log(Level.INFO,
                  new StringFormat("Processed %d tables", numTables));
@@ -244,14 +289,16 @@ final class TableRetriever
         .getTables(catalogName,
                    schemaName,
                    tableNamePattern,
-                   filteredTableTypes));)
+                   filteredTableTypes),
+                                                                   getCrawlMetrics());)
       {
         results.setDescription("retrieveTablesFromMetadata");
         int numTables = 0;
         while (results.next())
         {
           numTables = numTables + 1;
-          createTable(results, schemas, tableFilter, supportedTableTypes);
+          // Table types are filtered by the driver
+          createTable(results, schemas, tableFilter, supportedTableTypes, null);
         }
         LOGGER.log(Level.INFO,
                    new StringFormat("Processed %d tables", numTables));
@@ -275,14 +322,16 @@ final class TableRetriever
                                   .asList(filteredTableTypes)));
 
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getTables(null, null, tableNamePattern, filteredTableTypes));)
+      .getTables(null, null, tableNamePattern, filteredTableTypes),
+                                                                 getCrawlMetrics());)
     {
       results.setDescription("retrieveTablesFromMetadataForAllTables");
       int numTables = 0;
       while (results.next())
       {
         numTables = numTables + 1;
-        createTable(results, schemas, tableFilter, supportedTableTypes);
+        // Table types are filtered by the driver
+        createTable(results, schemas, tableFilter, supportedTableTypes, null);
       }
       LOGGER.log(Level.INFO,
                  new StringFormat("Processed %d tables", numTables));
@@ -30,9 +30,13 @@ package schemacrawler.filter;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import schemacrawler.schema.ForeignKey;
@@ -70,62 +74,152 @@ final class TablesReducer
     removeForeignKeys(allTables);
   }
 
+  /**
+   * Builds an adjacency array for the relationship graph, in which the
+   * tables at each index are related to the tables at the indexes in
+   * the corresponding array. Related tables that are not in the list
+   * of tables are appended to it, so that they can be traversed too.
+   * Partial tables are not traversed.
+   */
+  private int[][] buildAdjacency(final TableRelationshipType tableRelationshipType,
+                                 final List<Table> tables,
+                                 final Map<Table, Integer> tableIndexes)
+  {
+    final List<int[]> adjacency = new ArrayList<>(tables.size());
+    for (int i = 0; i < tables.size(); i++)
+    {
+      final Table table = tables.get(i);
+      if (isTablePartial(table))
+      {
+        adjacency.add(new int[0]);
+        continue;
+      }
+      final Collection<Table> relatedTables = table
+        .getRelatedTables(tableRelationshipType);
+      final int[] relatedTableIndexes = new int[relatedTables.size()];
+      int count = 0;
+      for (final Table relatedTable: relatedTables)
+      {
+        if (isTablePartial(relatedTable))
+        {
+          continue;
+        }
+        Integer relatedTableIndex = tableIndexes.get(relatedTable);
+        if (relatedTableIndex == null)
+        {
+          relatedTableIndex = tables.size();
+          tables.add(relatedTable);
+          tableIndexes.put(relatedTable, relatedTableIndex);
+        }
+        relatedTableIndexes[count++] = relatedTableIndex;
+      }
+      adjacency.add(Arrays.copyOf(relatedTableIndexes, count));
+    }
+    return adjacency.toArray(new int[adjacency.size()][]);
+  }
+
   private void doReduce(final ReducibleCollection<? extends Table> allTables)
   {
-    // Filter tables, keeping the ones we need
-    final Set<Table> reducedTables = new HashSet<>();
+    // Number tables, so that the relationship graph can be traversed
+    // using arrays and bit sets
+    final List<Table> tables = new ArrayList<>();
+    final Map<Table, Integer> tableIndexes = new HashMap<>();
     for (final Table table: allTables)
     {
-      if (tableFilter.test(table))
+      if (!tableIndexes.containsKey(table))
+      {
+        tableIndexes.put(table, tables.size());
+        tables.add(table);
+      }
+    }
+
+    // Filter tables, keeping the ones we need
+    final BitSet reducedTables = new BitSet(tables.size());
+    for (int i = 0; i < tables.size(); i++)
+    {
+      if (tableFilter.test(tables.get(i)))
       {
-        reducedTables.add(table);
+        reducedTables.set(i);
       }
     }
 
     // Add in referenced tables
+    final BitSet keepTables = new BitSet(tables.size());
+    keepTables.or(reducedTables);
     final int childTableFilterDepth = options.getChildTableFilterDepth();
-    final Collection<Table> childTables = includeRelatedTables(TableRelationshipType.child,
-                                                               childTableFilterDepth,
-                                                               reducedTables);
+    keepTables.or(includeRelatedTables(TableRelationshipType.child,
+                                       childTableFilterDepth,
+                                       tables,
+                                       tableIndexes,
+                                       reducedTables));
     final int parentTableFilterDepth = options.getParentTableFilterDepth();
-    final Collection<Table> parentTables = includeRelatedTables(TableRelationshipType.parent,
-                                                                parentTableFilterDepth,
-                                                                reducedTables);
+    keepTables.or(includeRelatedTables(TableRelationshipType.parent,
+                                       parentTableFilterDepth,
+                                       tables,
+                                       tableIndexes,
+                                       reducedTables));
 
-    final Set<Table> keepTables = new HashSet<>();
-    keepTables.addAll(reducedTables);
-    keepTables.addAll(childTables);
-    keepTables.addAll(parentTables);
+    final Predicate<Table> isKeepTable = table -> {
+      final Integer tableIndex = tableIndexes.get(table);
+      return tableIndex != null && keepTables.get(tableIndex);
+    };
 
     // Mark tables as being filtered out
     for (final Table table: allTables)
     {
-      if (isTablePartial(table) || !keepTables.contains(table))
+      if (isTablePartial(table) || !isKeepTable.test(table))
       {
         markTableFilteredOut(table);
       }
     }
 
-    allTables.filter(table -> keepTables.contains(table));
+    allTables.filter(isKeepTable);
   }
 
-  private Collection<Table> includeRelatedTables(final TableRelationshipType tableRelationshipType,
-                                                 final int depth,
-                                                 final Set<Table> greppedTables)
+  /**
+   * Finds all tables within the given depth of the grepped tables, with
+   * a single breadth-first traversal starting from all of the grepped
+   * tables at once. Each table is visited at most once, so the time
+   * taken is proportional to the number of tables and relationships,
+   * and not to the depth.
+   */
+  private BitSet includeRelatedTables(final TableRelationshipType tableRelationshipType,
+                                      final int depth,
+                                      final List<Table> tables,
+                                      final Map<Table, Integer> tableIndexes,
+                                      final BitSet greppedTables)
   {
-    final Set<Table> includedTables = new HashSet<>();
-    includedTables.addAll(greppedTables);
+    final BitSet includedTables = new BitSet(tables.size());
+    includedTables.or(greppedTables);
+    if (depth <= 0 || greppedTables.isEmpty())
+    {
+      return includedTables;
+    }
+
+    final int[][] adjacency = buildAdjacency(tableRelationshipType,
+                                             tables,
+                                             tableIndexes);
+
+    final int[] queue = new int[adjacency.length];
+    int head = 0;
+    int tail = 0;
+    for (int i = greppedTables.nextSetBit(0); i >= 0; i = greppedTables
+      .nextSetBit(i + 1))
+    {
+      queue[tail++] = i;
+    }
 
-    for (int i = 0; i < depth; i++)
+    for (int level = 0; level < depth && head < tail; level++)
     {
-      for (final Table table: new HashSet<>(includedTables))
+      final int levelEnd = tail;
+      while (head < levelEnd)
       {
-        for (final Table relatedTable: table
-          .getRelatedTables(tableRelationshipType))
+        for (final int relatedTableIndex: adjacency[queue[head++]])
         {
-          if (!isTablePartial(relatedTable))
+          if (!includedTables.get(relatedTableIndex))
           {
-            includedTables.add(relatedTable);
+            includedTables.set(relatedTableIndex);
+            queue[tail++] = relatedTableIndex;
           }
         }
       }
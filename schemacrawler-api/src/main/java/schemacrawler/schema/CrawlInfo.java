@@ -35,6 +35,19 @@ public interface CrawlInfo
   extends Serializable
 {
 
+  /**
+   * Gets measurements taken while crawling the database. Metrics are
+   * not serialized, so this is null for a catalog that was loaded from
+   * an offline snapshot, or from the catalog cache. This is also null
+   * for implementations that do not collect metrics.
+   *
+   * @return Crawl metrics, or null if not available
+   */
+  default CrawlMetrics getCrawlMetrics()
+  {
+    return null;
+  }
+
   /**
    * Gets the timestamp of when the database was crawled.
    *
@@ -0,0 +1,99 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.schema;
+
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Map;
+
+import schemacrawler.schemacrawler.InformationSchemaKey;
+
+/**
+ * Measurements taken while crawling the database, so that crawls can be
+ * compared from run to run.
+ */
+public interface CrawlMetrics
+  extends Serializable
+{
+
+  /**
+   * Gets the total length, in characters, of definitions read for
+   * views, routines, triggers, indexes and constraints.
+   *
+   * @return Total length of definitions
+   */
+  long getDefinitionsLength();
+
+  /**
+   * Gets the number of rows read from each information schema view.
+   *
+   * @return Number of rows, by information schema view
+   */
+  Map<InformationSchemaKey, Long> getInformationSchemaRowCounts();
+
+  /**
+   * Gets the number of database metadata calls and information schema
+   * queries that were made.
+   *
+   * @return Number of metadata queries
+   */
+  long getMetadataQueryCount();
+
+  /**
+   * Gets the number of rows read from all database metadata calls and
+   * information schema queries.
+   *
+   * @return Number of metadata rows
+   */
+  long getMetadataRowCount();
+
+  /**
+   * Gets the number of objects of each type in the catalog, after
+   * filtering.
+   *
+   * @return Number of objects, by type
+   */
+  Map<String, Integer> getObjectCounts();
+
+  /**
+   * Gets the time taken for each stage of the crawl, in the order that
+   * the stages were run.
+   *
+   * @return Time taken, by stage
+   */
+  Map<String, Duration> getStageDurations();
+
+  /**
+   * Gets the total time taken for the crawl.
+   *
+   * @return Total time taken
+   */
+  Duration getTotalDuration();
+
+}
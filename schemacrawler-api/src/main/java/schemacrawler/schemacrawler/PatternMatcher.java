@@ -0,0 +1,359 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.schemacrawler;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Matches text against a regular expression, with the same result as
+ * {@link java.util.regex.Matcher#matches()}. Regular expressions that
+ * are alternations of literal names are matched with a hash set, and
+ * alternations of literal names and name prefixes (ending in ".*") are
+ * matched with a trie. Since "." does not match line terminators, text
+ * with line terminators is matched against name prefixes with the
+ * regular expression engine. All other regular expressions are matched
+ * with the regular expression engine. The number of times the matcher
+ * was tested, and the number of matches, are counted.
+ *
+ * @author Sualeh Fatehi
+ */
+final class PatternMatcher
+  implements Predicate<String>, Serializable
+{
+
+  private static final class TrieNode
+    implements Serializable
+  {
+
+    private static final long serialVersionUID = -2786546574133454925L;
+
+    private final Map<Character, TrieNode> children = new HashMap<>();
+    private boolean isLiteralEnd;
+    private boolean isPrefixEnd;
+
+  }
+
+  private static final long serialVersionUID = 5282717349287445610L;
+
+  private static final String METACHARACTERS = "^$.|?*+()[]{}";
+
+  /**
+   * Checks for line terminators, as recognized by the regular
+   * expression engine without the DOTALL or UNIX_LINES flags.
+   */
+  private static boolean hasLineTerminator(final String text)
+  {
+    final int length = text.length();
+    for (int i = 0; i < length; i++)
+    {
+      switch (text.charAt(i))
+      {
+        case '\n':
+        case '\r':
+        case '\u0085':
+        case '\u2028':
+        case '\u2029':
+          return true;
+        default:
+          break;
+      }
+    }
+    return false;
+  }
+
+  private static List<String[]> parse(final Pattern pattern)
+  {
+    if (pattern.flags() != 0)
+    {
+      return null;
+    }
+    final List<String> alternatives = splitAlternatives(pattern.pattern());
+    if (alternatives == null)
+    {
+      return null;
+    }
+    final List<String[]> parsedAlternatives = new ArrayList<>(alternatives
+      .size());
+    for (final String alternative: alternatives)
+    {
+      final String[] parsedAlternative = parseAlternative(alternative);
+      if (parsedAlternative == null)
+      {
+        return null;
+      }
+      parsedAlternatives.add(parsedAlternative);
+    }
+    return parsedAlternatives;
+  }
+
+  /**
+   * Parses an alternative of a regular expression into a literal
+   * string, or a literal prefix followed by ".*". Returns null if the
+   * alternative uses any other regular expression constructs.
+   */
+  private static String[] parseAlternative(final String alternative)
+  {
+    final StringBuilder literal = new StringBuilder(alternative.length());
+    final int length = alternative.length();
+    for (int i = 0; i < length; i++)
+    {
+      final char ch = alternative.charAt(i);
+      if (ch == '\\')
+      {
+        if (i + 1 == length)
+        {
+          return null;
+        }
+        final char escaped = alternative.charAt(++i);
+        if (Character.isLetterOrDigit(escaped))
+        {
+          // Character classes, back-references, and quotes
+          return null;
+        }
+        literal.append(escaped);
+      }
+      else if (ch == '.' && i + 2 == length && alternative.charAt(i + 1) == '*')
+      {
+        return new String[] { literal.toString(), ".*" };
+      }
+      else if (METACHARACTERS.indexOf(ch) >= 0)
+      {
+        return null;
+      }
+      else
+      {
+        literal.append(ch);
+      }
+    }
+    return new String[] { literal.toString(), "" };
+  }
+
+  /**
+   * Splits a regular expression into its top-level alternatives, after
+   * removing a single enclosing group. Returns null if the regular
+   * expression has embedded flags.
+   */
+  private static List<String> splitAlternatives(final String regex)
+  {
+    String expression = regex;
+    if (expression.startsWith("(?:") && expression.endsWith(")"))
+    {
+      expression = expression.substring(3, expression.length() - 1);
+    }
+    else if (expression.startsWith("(?"))
+    {
+      return null;
+    }
+    else if (expression.startsWith("(") && expression.endsWith(")"))
+    {
+      expression = expression.substring(1, expression.length() - 1);
+    }
+
+    final List<String> alternatives = new ArrayList<>();
+    int start = 0;
+    for (int i = 0; i < expression.length(); i++)
+    {
+      final char ch = expression.charAt(i);
+      if (ch == '\\')
+      {
+        i++;
+      }
+      else if (ch == '|')
+      {
+        alternatives.add(expression.substring(start, i));
+        start = i + 1;
+      }
+    }
+    alternatives.add(expression.substring(start));
+    return alternatives;
+  }
+
+  private final Pattern pattern;
+  private final Set<String> literals;
+  private final TrieNode trie;
+  private final LongAdder testCount;
+  private final LongAdder matchCount;
+
+  PatternMatcher(final Pattern pattern)
+  {
+    this.pattern = requireNonNull(pattern, "No pattern provided");
+    testCount = new LongAdder();
+    matchCount = new LongAdder();
+
+    final List<String[]> parsedAlternatives = parse(pattern);
+    if (parsedAlternatives == null)
+    {
+      literals = null;
+      trie = null;
+      return;
+    }
+
+    boolean hasPrefixes = false;
+    for (final String[] parsedAlternative: parsedAlternatives)
+    {
+      hasPrefixes = hasPrefixes || !parsedAlternative[1].isEmpty();
+    }
+
+    if (hasPrefixes)
+    {
+      literals = null;
+      trie = new TrieNode();
+      for (final String[] parsedAlternative: parsedAlternatives)
+      {
+        TrieNode node = trie;
+        for (final char ch: parsedAlternative[0].toCharArray())
+        {
+          node = node.children.computeIfAbsent(ch, key -> new TrieNode());
+        }
+        if (parsedAlternative[1].isEmpty())
+        {
+          node.isLiteralEnd = true;
+        }
+        else
+        {
+          node.isPrefixEnd = true;
+        }
+      }
+    }
+    else
+    {
+      literals = new HashSet<>();
+      for (final String[] parsedAlternative: parsedAlternatives)
+      {
+        literals.add(parsedAlternative[0]);
+      }
+      trie = null;
+    }
+  }
+
+  /**
+   * Number of times text matched the pattern.
+   *
+   * @return Match count
+   */
+  public long getMatchCount()
+  {
+    return matchCount.sum();
+  }
+
+  public Pattern getPattern()
+  {
+    return pattern;
+  }
+
+  /**
+   * Number of times text was tested against the pattern.
+   *
+   * @return Test count
+   */
+  public long getTestCount()
+  {
+    return testCount.sum();
+  }
+
+  /**
+   * Whether the pattern is matched without the regular expression
+   * engine.
+   *
+   * @return Whether the pattern is precompiled into a hash set or trie
+   */
+  public boolean isPrecompiled()
+  {
+    return literals != null || trie != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean test(final String text)
+  {
+    final boolean matches;
+    if (literals != null)
+    {
+      matches = literals.contains(text);
+    }
+    else if (trie != null && !hasLineTerminator(text))
+    {
+      matches = matchesTrie(text);
+    }
+    else
+    {
+      matches = pattern.matcher(text).matches();
+    }
+
+    testCount.increment();
+    if (matches)
+    {
+      matchCount.increment();
+    }
+    return matches;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString()
+  {
+    return pattern.pattern();
+  }
+
+  private boolean matchesTrie(final String text)
+  {
+    TrieNode node = trie;
+    final int length = text.length();
+    for (int i = 0; i < length; i++)
+    {
+      if (node.isPrefixEnd)
+      {
+        return true;
+      }
+      node = node.children.get(text.charAt(i));
+      if (node == null)
+      {
+        return false;
+      }
+    }
+    return node.isLiteralEnd || node.isPrefixEnd;
+  }
+
+}
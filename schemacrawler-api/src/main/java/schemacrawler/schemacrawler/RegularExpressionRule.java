@@ -39,7 +39,10 @@ import sf.util.StringFormat;
 
 /**
  * Specifies inclusion and exclusion patterns that can be applied to the
- * names, definitions, and other attributes of named objects.
+ * names, definitions, and other attributes of named objects. Patterns
+ * that are lists of names, or of name prefixes, are precompiled, so that
+ * long lists can be matched without backtracking through the
+ * alternation.
  *
  * @author Sualeh Fatehi
  */
@@ -54,6 +57,8 @@ public final class RegularExpressionRule
 
   private final Pattern patternInclude;
   private final Pattern patternExclude;
+  private final PatternMatcher includeMatcher;
+  private final PatternMatcher excludeMatcher;
 
   /**
    * Set include and exclude patterns.
@@ -86,6 +91,9 @@ public final class RegularExpressionRule
     {
       this.patternExclude = patternExclude;
     }
+
+    includeMatcher = new PatternMatcher(this.patternInclude);
+    excludeMatcher = new PatternMatcher(this.patternExclude);
   }
 
   /**
@@ -144,12 +152,43 @@ public final class RegularExpressionRule
     return true;
   }
 
+  /**
+   * Number of times that text matched the exclusion pattern.
+   *
+   * @return Exclusion pattern match count
+   */
+  public long getExclusionMatchCount()
+  {
+    return excludeMatcher.getMatchCount();
+  }
+
+  /**
+   * Number of times that text matched the inclusion pattern.
+   *
+   * @return Inclusion pattern match count
+   */
+  public long getInclusionMatchCount()
+  {
+    return includeMatcher.getMatchCount();
+  }
+
   @Override
   public Pattern getInclusionPattern()
   {
     return patternInclude;
   }
 
+  /**
+   * Number of times that text was tested against the inclusion
+   * pattern. Blank text is not tested.
+   *
+   * @return Test count
+   */
+  public long getTestCount()
+  {
+    return includeMatcher.getTestCount();
+  }
+
   @Override
   public int hashCode()
   {
@@ -173,13 +212,13 @@ public final class RegularExpressionRule
     boolean include = false;
     if (!isBlank(text))
     {
-      if (!patternInclude.matcher(text).matches())
+      if (!includeMatcher.test(text))
       {
         actionMessage = new StringFormat("Excluding <%s> since it does not match /%s/",
                                          text,
                                          patternInclude.pattern());
       }
-      else if (patternExclude.matcher(text).matches())
+      else if (excludeMatcher.test(text))
       {
         actionMessage = new StringFormat("Excluding <%s> since it matches /%s/",
                                          text,
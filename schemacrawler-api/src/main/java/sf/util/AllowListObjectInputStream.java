@@ -0,0 +1,135 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package sf.util;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Object input stream that only reads classes from an allow-list of
+ * packages, and arrays of primitives, so that a file cannot create
+ * arbitrary objects when it is read. Proxy classes are never read.
+ */
+public final class AllowListObjectInputStream
+  extends ObjectInputStream
+{
+
+  /**
+   * Common JDK value and collection classes.
+   */
+  public static final Collection<String> JDK_PACKAGES = Arrays
+    .asList("java.lang", "java.math", "java.sql", "java.time", "java.util");
+
+  private final Collection<String> allowedPackages;
+  private final Collection<String> allowedPackagePrefixes;
+
+  /**
+   * Creates an object input stream that reads classes from the allowed
+   * packages.
+   *
+   * @param in
+   *        Input stream to read from
+   * @param allowedPackages
+   *        Packages of classes that are allowed, not including
+   *        sub-packages
+   * @param allowedPackagePrefixes
+   *        Package name prefixes, such as "schemacrawler.", for
+   *        packages and all sub-packages of classes that are allowed
+   * @throws IOException
+   *         On an exception reading the stream header
+   */
+  public AllowListObjectInputStream(final InputStream in,
+                                    final Collection<String> allowedPackages,
+                                    final Collection<String> allowedPackagePrefixes)
+    throws IOException
+  {
+    super(in);
+    this.allowedPackages = new ArrayList<>(requireNonNull(allowedPackages,
+                                                          "No allowed packages provided"));
+    this.allowedPackagePrefixes = new ArrayList<>(requireNonNull(allowedPackagePrefixes,
+                                                                 "No allowed package prefixes provided"));
+  }
+
+  @Override
+  protected Class<?> resolveClass(final ObjectStreamClass desc)
+    throws IOException, ClassNotFoundException
+  {
+    if (!isAllowed(desc.getName()))
+    {
+      throw new InvalidClassException(desc.getName(), "Class is not allowed");
+    }
+    return super.resolveClass(desc);
+  }
+
+  @Override
+  protected Class<?> resolveProxyClass(final String[] interfaces)
+    throws IOException, ClassNotFoundException
+  {
+    throw new InvalidClassException(Arrays.toString(interfaces),
+                                    "Proxies are not allowed");
+  }
+
+  private boolean isAllowed(final String className)
+  {
+    // Unwrap array types, such as [B, or [Ljava.lang.String;
+    String name = className;
+    while (name.startsWith("["))
+    {
+      name = name.substring(1);
+    }
+    if (name.length() == 1 && !name.equals(className))
+    {
+      // Primitive array
+      return true;
+    }
+    if (name.startsWith("L") && name.endsWith(";"))
+    {
+      name = name.substring(1, name.length() - 1);
+    }
+
+    for (final String allowedPackagePrefix: allowedPackagePrefixes)
+    {
+      if (name.startsWith(allowedPackagePrefix))
+      {
+        return true;
+      }
+    }
+    final int lastDot = name.lastIndexOf('.');
+    return lastDot > 0 && allowedPackages.contains(name.substring(0, lastDot));
+  }
+
+}
@@ -38,8 +38,10 @@ import java.time.Instant;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.function.Supplier;
 
@@ -63,6 +65,11 @@ public final class StopWatch
       return duration;
     }
 
+    public String getTaskName()
+    {
+      return taskName;
+    }
+
     @Override
     public String toString()
     {
@@ -98,6 +105,27 @@ public final class StopWatch
     return id;
   }
 
+  /**
+   * Gets the time taken for each task, in the order that the tasks were
+   * run. Times for tasks with the same name are added together.
+   *
+   * @return Time taken, by task name
+   */
+  public Map<String, Duration> getTaskDurations()
+  {
+    final Map<String, Duration> taskDurations = new LinkedHashMap<>();
+    for (final TaskInfo task: tasks)
+    {
+      taskDurations.merge(task.getTaskName(), task.getDuration(), Duration::plus);
+    }
+    return taskDurations;
+  }
+
+  public Duration getTotalDuration()
+  {
+    return totalDuration;
+  }
+
   /**
    * Return whether the stop watch is currently running.
    *
@@ -0,0 +1,175 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class CatalogFootprintTest
+  extends BaseDatabaseTest
+{
+
+  private static final int NUMBER_OF_TABLES = 1000;
+  private static final int NUMBER_OF_COLUMNS = 50;
+
+  private static Object fieldValue(final Class<?> type,
+                                   final String fieldName,
+                                   final Object object)
+    throws Exception
+  {
+    final Field field = type.getDeclaredField(fieldName);
+    field.setAccessible(true);
+    return field.get(object);
+  }
+
+  @Test
+  public void lazyMaps()
+    throws Exception
+  {
+    final MutableCatalog catalog = createCatalog();
+    final MutableTable table = (MutableTable) catalog.getTables().iterator()
+      .next();
+    final MutableColumn column = (MutableColumn) table.getColumns().get(0);
+
+    // Objects without attributes, and empty lists, share the empty map
+    assertSame(Collections.emptyMap(),
+               fieldValue(AbstractNamedObjectWithAttributes.class,
+                          "attributeMap",
+                          column));
+    assertSame(Collections.emptyMap(),
+               fieldValue(NamedObjectList.class,
+                          "objects",
+                          fieldValue(MutableColumn.class,
+                                     "privileges",
+                                     column)));
+
+    // Maps are created on the first write, and kept after removals
+    column.setAttribute("ATTRIBUTE", "VALUE");
+    final Object attributeMap = fieldValue(AbstractNamedObjectWithAttributes.class,
+                                           "attributeMap",
+                                           column);
+    assertNotSame(Collections.emptyMap(), attributeMap);
+    column.removeAttribute("ATTRIBUTE");
+    assertTrue(column.getAttributes().isEmpty());
+    column.setAttribute("ATTRIBUTE", "VALUE");
+    assertSame(attributeMap,
+               fieldValue(AbstractNamedObjectWithAttributes.class,
+                          "attributeMap",
+                          column));
+  }
+
+  @Test
+  public void sharedColumnNames()
+  {
+    final MutableCatalog catalog = createCatalog();
+
+    Column firstColumn = null;
+    for (final Table table: catalog.getTables())
+    {
+      final Column column = table.getColumns().get(0);
+      if (firstColumn == null)
+      {
+        firstColumn = column;
+      }
+      assertSame(firstColumn.getName(), column.getName());
+      assertTrue(column.getAttributes().isEmpty());
+      assertTrue(column.getPrivileges().isEmpty());
+    }
+  }
+
+  @Test
+  public void sharedCrawledColumnNames()
+    throws Exception
+  {
+    final MutableCatalog catalog = (MutableCatalog) getCatalog(SchemaCrawlerOptionsBuilder
+      .newSchemaCrawlerOptions());
+
+    String idColumnName = null;
+    int idColumns = 0;
+    for (final Table table: catalog.getTables())
+    {
+      for (final Column column: table.getColumns())
+      {
+        if (!column.getName().equals("ID"))
+        {
+          continue;
+        }
+        if (idColumnName == null)
+        {
+          idColumnName = column.getName();
+        }
+        assertSame("Column names were not pooled while crawling",
+                   idColumnName,
+                   column.getName());
+        idColumns++;
+      }
+    }
+    assertTrue("Expected ID columns in more than one table", idColumns > 1);
+
+    // Name pool is released after the crawl
+    final String name = new String("ID");
+    assertSame(name, catalog.internName(name));
+  }
+
+  private MutableCatalog createCatalog()
+  {
+    final MutableCatalog catalog = new MutableCatalog("DATABASE");
+    final Schema schema = catalog.addSchema("CATALOG", "SCHEMA");
+    for (int i = 0; i < NUMBER_OF_TABLES; i++)
+    {
+      // Create new strings for every name, as a JDBC driver would
+      final String tableName = catalog.internName(new String("TABLE_" + i));
+      final MutableTable table = new MutableTable(schema, tableName);
+      for (int j = 0; j < NUMBER_OF_COLUMNS; j++)
+      {
+        final String columnName = catalog
+          .internName(new String("COLUMN_" + j));
+        final MutableColumn column = new MutableColumn(table, columnName);
+        column.setOrdinalPosition(j + 1);
+        table.addColumn(column);
+      }
+      catalog.addTable(table);
+    }
+    return catalog;
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Schema;
+
+public class TableLookupCursorTest
+{
+
+  @Test
+  public void lookup()
+  {
+    final MutableCatalog catalog = new MutableCatalog("DATABASE");
+    final Schema schema = catalog.addSchema("CATALOG", "SCHEMA");
+    final MutableTable table1 = new MutableTable(schema, "TABLE1");
+    final MutableTable table2 = new MutableTable(schema, "TABLE2");
+    catalog.addTable(table1);
+    catalog.addTable(table2);
+
+    final TableLookupCursor tables = new TableLookupCursor(catalog
+      .getAllTables());
+
+    // Ordered rows
+    assertSame(table1, tables.lookup("CATALOG", "SCHEMA", "TABLE1").get());
+    assertSame(table1, tables.lookup("CATALOG", "SCHEMA", "TABLE1").get());
+    assertSame(table2, tables.lookup("CATALOG", "SCHEMA", "TABLE2").get());
+
+    // Rows out of order
+    assertSame(table1, tables.lookup("CATALOG", "SCHEMA", "TABLE1").get());
+
+    // Rows for tables that are not in the catalog
+    assertFalse(tables.lookup("CATALOG", "OTHER", "TABLE1").isPresent());
+    assertFalse(tables.lookup("CATALOG", "OTHER", "TABLE1").isPresent());
+    assertFalse(tables.lookup(null, null, null).isPresent());
+    assertEquals(table2, tables.lookup("CATALOG", "SCHEMA", "TABLE2").get());
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CrawlMetrics;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class CrawlMetricsTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void crawlMetrics()
+    throws Exception
+  {
+    final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder = SchemaRetrievalOptionsBuilder
+      .builder();
+    schemaRetrievalOptionsBuilder.withInformationSchemaViewsBuilder()
+      .withSql(InformationSchemaKey.VIEWS,
+               "SELECT * FROM INFORMATION_SCHEMA.VIEWS");
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+      .toOptions();
+
+    final Catalog catalog = getCatalog(schemaRetrievalOptionsBuilder
+      .toOptions(), schemaCrawlerOptions);
+    final CrawlMetrics crawlMetrics = catalog.getCrawlInfo()
+      .getCrawlMetrics();
+    assertNotNull("No crawl metrics", crawlMetrics);
+
+    assertTrue("No time taken",
+               crawlMetrics.getTotalDuration().compareTo(Duration.ZERO) > 0);
+    assertTrue("Stage not timed",
+               crawlMetrics.getStageDurations()
+                 .containsKey("crawlTables.retrieveColumns"));
+
+    assertTrue("No metadata queries",
+               crawlMetrics.getMetadataQueryCount() > 0);
+    final long viewRows = crawlMetrics.getInformationSchemaRowCounts()
+      .get(InformationSchemaKey.VIEWS);
+    assertTrue("No view rows", viewRows > 0);
+    assertTrue("Metadata rows do not include view rows",
+               crawlMetrics.getMetadataRowCount() > viewRows);
+    assertTrue("No view definitions", crawlMetrics.getDefinitionsLength() > 0);
+
+    assertEquals("Table count does not match",
+                 Integer.valueOf(catalog.getTables().size()),
+                 crawlMetrics.getObjectCounts().get("tables"));
+    assertEquals("Schema count does not match",
+                 Integer.valueOf(catalog.getSchemas().size()),
+                 crawlMetrics.getObjectCounts().get("schemas"));
+  }
+
+}
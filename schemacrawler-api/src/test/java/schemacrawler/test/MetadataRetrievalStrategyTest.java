@@ -0,0 +1,206 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class MetadataRetrievalStrategyTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void hiddenColumnsFromDataDictionary()
+    throws Exception
+  {
+    final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder = SchemaRetrievalOptionsBuilder
+      .builder()
+      .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all);
+    final String tableColumnsSql = "SELECT SYSTEM_COLUMNS.*, "
+                                   + "CASE WHEN COLUMN_NAME = 'PREVIOUSEDITIONID' "
+                                   + "THEN 'YES' ELSE 'NO' END AS IS_HIDDEN "
+                                   + "FROM INFORMATION_SCHEMA.SYSTEM_COLUMNS";
+    schemaRetrievalOptionsBuilder.withInformationSchemaViewsBuilder()
+      .withSql(InformationSchemaKey.TABLE_COLUMNS, tableColumnsSql);
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.standard())
+      .includeTables(new RegularExpressionInclusionRule(".*\\.BOOKS\\.BOOKS"))
+      .toOptions();
+
+    final Catalog catalog = getCatalog(schemaRetrievalOptionsBuilder
+      .toOptions(), schemaCrawlerOptions);
+    final Table table = catalog.getTables().iterator().next();
+
+    final List<String> hiddenColumns = new ArrayList<>();
+    for (final Column column: table.getHiddenColumns())
+    {
+      assertTrue(column.isHidden());
+      hiddenColumns.add(column.getName());
+    }
+    assertEquals(1, hiddenColumns.size());
+    assertEquals("PREVIOUSEDITIONID", hiddenColumns.get(0));
+    for (final Column column: table.getColumns())
+    {
+      assertFalse(column.isHidden());
+      assertFalse(column.hasAttribute("IS_HIDDEN"));
+    }
+  }
+
+  @Test
+  public void keysForAllTables()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+      .toOptions();
+    assertKeysMatch(schemaCrawlerOptions);
+  }
+
+  @Test
+  public void keysForSelectedTables()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+      .includeTables(new RegularExpressionInclusionRule(".*\\.BOOKS\\.BOOKS"))
+      .toOptions();
+    assertKeysMatch(schemaCrawlerOptions);
+  }
+
+  @Test
+  public void tableTypesFromDataDictionary()
+    throws Exception
+  {
+    final SchemaRetrievalOptions metadataOptions = SchemaRetrievalOptionsBuilder
+      .builder()
+      .withTableRetrievalStrategy(MetadataRetrievalStrategy.metadata)
+      .toOptions();
+    final SchemaRetrievalOptionsBuilder dataDictionaryOptionsBuilder = SchemaRetrievalOptionsBuilder
+      .builder()
+      .withTableRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all);
+    final String tablesSql = "SELECT TABLE_CAT, TABLE_SCHEM, TABLE_NAME, "
+                             + "TABLE_TYPE, REMARKS "
+                             + "FROM INFORMATION_SCHEMA.SYSTEM_TABLES";
+    dataDictionaryOptionsBuilder.withInformationSchemaViewsBuilder()
+      .withSql(InformationSchemaKey.TABLES, tablesSql);
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.minimum())
+      .tableTypes("VIEW").toOptions();
+
+    final List<String> expectedTables = describeTables(getCatalog(metadataOptions,
+                                                                  schemaCrawlerOptions));
+    final List<String> actualTables = describeTables(getCatalog(dataDictionaryOptionsBuilder
+      .toOptions(), schemaCrawlerOptions));
+
+    assertFalse("No views found", expectedTables.isEmpty());
+    assertEquals(expectedTables, actualTables);
+  }
+
+  private void assertKeysMatch(final SchemaCrawlerOptions schemaCrawlerOptions)
+    throws Exception
+  {
+    final SchemaRetrievalOptions metadataOptions = SchemaRetrievalOptionsBuilder
+      .builder()
+      .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.metadata)
+      .withPrimaryKeyRetrievalStrategy(MetadataRetrievalStrategy.metadata)
+      .withIndexRetrievalStrategy(MetadataRetrievalStrategy.metadata)
+      .toOptions();
+    final SchemaRetrievalOptions metadataAllOptions = SchemaRetrievalOptionsBuilder
+      .builder()
+      .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.metadata_all)
+      .withPrimaryKeyRetrievalStrategy(MetadataRetrievalStrategy.metadata_all)
+      .withIndexRetrievalStrategy(MetadataRetrievalStrategy.metadata_all)
+      .toOptions();
+
+    final List<String> expectedKeys = describeKeys(getCatalog(metadataOptions,
+                                                              schemaCrawlerOptions));
+    final List<String> actualKeys = describeKeys(getCatalog(metadataAllOptions,
+                                                            schemaCrawlerOptions));
+
+    assertFalse("No keys found", expectedKeys.isEmpty());
+    assertEquals(expectedKeys, actualKeys);
+  }
+
+  private List<String> describeKeys(final Catalog catalog)
+  {
+    final List<String> keys = new ArrayList<>();
+    for (final Table table: catalog.getTables())
+    {
+      keys.add("table " + table.getFullName());
+      if (table.getPrimaryKey() != null)
+      {
+        keys.add("  pk " + table.getPrimaryKey().getFullName() + " "
+                 + table.getPrimaryKey().getColumns());
+      }
+      for (final Index index: table.getIndexes())
+      {
+        keys.add("  index " + index.getFullName() + " " + index.getColumns());
+      }
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        keys.add("  fk " + foreignKey.getFullName() + " "
+                 + foreignKey.getColumnReferences());
+      }
+    }
+    return keys;
+  }
+
+  private List<String> describeTables(final Catalog catalog)
+  {
+    final List<String> tables = new ArrayList<>();
+    for (final Table table: catalog.getTables())
+    {
+      tables.add(table.getFullName() + " " + table.getTableType());
+    }
+    return tables;
+  }
+
+}
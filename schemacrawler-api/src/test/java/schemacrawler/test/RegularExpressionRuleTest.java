@@ -0,0 +1,148 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.RegularExpressionRule;
+
+public class RegularExpressionRuleTest
+{
+
+  private static final String[] patterns = {
+    ".*",
+    "",
+    "PUBLIC.BOOKS.AUTHORS",
+    "PUBLIC\\.BOOKS\\.AUTHORS",
+    "PUBLIC\\.BOOKS\\.AUTHORS|PUBLIC\\.BOOKS\\.BOOKS",
+    "(PUBLIC\\.BOOKS\\.AUTHORS|PUBLIC\\.BOOKS\\.BOOKS)",
+    "(?:PUBLIC\\.BOOKS\\.AUTHORS|PUBLIC\\.BOOKS\\.BOOKS)",
+    "PUBLIC\\.BOOKS\\..*",
+    "PUBLIC\\.BOOKS\\..*|PUBLIC\\.FOR_LINT\\.WRITERS",
+    "PUBLIC\\.BOOKS\\.AUTHOR|PUBLIC\\.BOOKS\\.AUTHORS",
+    "(PUBLIC)|(BOOKS)",
+    "(?i)public\\.books\\.authors",
+    "PUBLIC\\.BOOKS\\.A.*S",
+    "PUBLIC\\.BOOKS\\.[A-Z]+",
+    "PUBLIC\\.BOOKS\\.\\w+",
+    "\\QPUBLIC.BOOKS.AUTHORS\\E",
+    "PUBLIC\\.BOOKS\\.AUTHORS|",
+    "A|B|C|D|E", };
+
+  private static final String[] texts = {
+    "PUBLIC.BOOKS.AUTHORS",
+    "PUBLIC.BOOKS.AUTHOR",
+    "PUBLIC.BOOKS.BOOKS",
+    "PUBLIC.BOOKS.",
+    "PUBLIC.FOR_LINT.WRITERS",
+    "PUBLICXBOOKSXAUTHORS",
+    "public.books.authors",
+    "PUBLIC",
+    "BOOKS",
+    "C",
+    "CC", };
+
+  @Test
+  public void exclusionPatterns()
+  {
+    for (final String pattern: patterns)
+    {
+      final RegularExpressionRule rule = new RegularExpressionRule((String) null,
+                                                                   pattern);
+      for (final String text: texts)
+      {
+        assertEquals(pattern + " / " + text,
+                     !Pattern.matches(pattern, text),
+                     rule.test(text));
+      }
+    }
+  }
+
+  @Test
+  public void inclusionPatterns()
+  {
+    for (final String pattern: patterns)
+    {
+      final RegularExpressionRule rule = new RegularExpressionRule(pattern,
+                                                                   null);
+      for (final String text: texts)
+      {
+        assertEquals(pattern + " / " + text,
+                     Pattern.matches(pattern, text),
+                     rule.test(text));
+      }
+    }
+  }
+
+  @Test
+  public void largeAlternation()
+  {
+    final StringBuilder pattern = new StringBuilder();
+    for (int i = 0; i < 1000; i++)
+    {
+      if (i > 0)
+      {
+        pattern.append("|");
+      }
+      pattern.append("PUBLIC\\.BOOKS\\.TABLE_").append(i);
+    }
+
+    final RegularExpressionRule rule = new RegularExpressionRule(".*",
+                                                                 pattern
+                                                                   .toString());
+    assertFalse(rule.test("PUBLIC.BOOKS.TABLE_999"));
+    assertFalse(rule.test("PUBLIC.BOOKS.TABLE_0"));
+    assertTrue(rule.test("PUBLIC.BOOKS.TABLE_1000"));
+    assertTrue(rule.test("PUBLIC.BOOKS.TABLE_"));
+  }
+
+  @Test
+  public void matchCounts()
+  {
+    final RegularExpressionRule rule = new RegularExpressionRule("PUBLIC\\..*",
+                                                                 "PUBLIC\\.BOOKS\\.AUTHORS");
+    for (final String text: texts)
+    {
+      rule.test(text);
+    }
+    rule.test("");
+
+    assertEquals(texts.length, rule.getTestCount());
+    assertEquals(5, rule.getInclusionMatchCount());
+    assertEquals(1, rule.getExclusionMatchCount());
+  }
+
+}
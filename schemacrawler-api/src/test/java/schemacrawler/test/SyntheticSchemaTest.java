@@ -0,0 +1,136 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.testdb.SyntheticSchemaCreator;
+
+public class SyntheticSchemaTest
+{
+
+  @Test(expected = IllegalArgumentException.class)
+  public void badForeignKeyDensity()
+    throws Exception
+  {
+    try (final Connection connection = DriverManager
+      .getConnection("jdbc:hsqldb:mem:synthetic_bad", "SA", "");)
+    {
+      new SyntheticSchemaCreator(connection).withForeignKeyDensity(1.5);
+    }
+  }
+
+  @Test
+  public void syntheticSchema()
+    throws Exception
+  {
+    try (final Connection connection = DriverManager
+      .getConnection("jdbc:hsqldb:mem:synthetic", "SA", "");)
+    {
+      new SyntheticSchemaCreator(connection).withSchemas(2).withTables(20)
+        .withColumns(5).withForeignKeyDensity(1).withIndexes(2).withViews(3)
+        .withRoutines(2).withTriggers(2).run();
+
+      final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+        .builder()
+        .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum().toOptions())
+        .includeSchemas(new RegularExpressionInclusionRule(".*\\.SYNTHETIC_.*"))
+        .includeAllRoutines().toOptions();
+      final Catalog catalog = new SchemaCrawler(connection,
+                                                SchemaRetrievalOptionsBuilder
+                                                  .newSchemaRetrievalOptions(),
+                                                schemaCrawlerOptions)
+                                                  .crawl();
+
+      assertEquals("Schema count does not match",
+                   2,
+                   catalog.getSchemas().size());
+      for (final Schema schema: catalog.getSchemas())
+      {
+        assertEquals("Table count does not match",
+                     20 + 3,
+                     catalog.getTables(schema).size());
+        assertEquals("Routine count does not match",
+                     2,
+                     catalog.getRoutines(schema).size());
+
+        final Set<ForeignKey> foreignKeys = new HashSet<>();
+        for (final Table table: catalog.getTables(schema))
+        {
+          foreignKeys.addAll(table.getForeignKeys());
+        }
+        assertEquals("Foreign key count does not match",
+                     20 - 1,
+                     foreignKeys.size());
+
+        final Table table = catalog.lookupTable(schema, "TABLE_1").get();
+        assertEquals("Column count does not match",
+                     3 + 5,
+                     table.getColumns().size());
+        assertTrue("Indexes not found", table.getIndexes().size() >= 2);
+        assertEquals("Remarks do not match",
+                     "Synthetic table 1",
+                     table.getRemarks());
+      }
+
+      try (final Statement statement = connection.createStatement();)
+      {
+        // Triggers are only retrieved with the HyperSQL plugin
+        try (final ResultSet results = statement
+          .executeQuery("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TRIGGERS WHERE TRIGGER_SCHEMA LIKE 'SYNTHETIC_%'");)
+        {
+          results.next();
+          assertEquals("Trigger count does not match", 2 * 2, results.getInt(1));
+        }
+        statement.execute("SHUTDOWN");
+      }
+    }
+  }
+
+}
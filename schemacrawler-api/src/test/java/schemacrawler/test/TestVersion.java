@@ -43,12 +43,14 @@ public class TestVersion
 {
   private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
   private final ByteArrayOutputStream errContent = new ByteArrayOutputStream();
+  private final PrintStream originalOut = System.out;
+  private final PrintStream originalErr = System.err;
 
   @After
   public void cleanUpStreams()
   {
-    System.setOut(null);
-    System.setErr(null);
+    System.setOut(originalOut);
+    System.setErr(originalErr);
   }
 
   @Before
@@ -0,0 +1,92 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+
+import static sf.util.Utility.applyApplicationLogLevel;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import schemacrawler.schema.Catalog;
+
+/**
+ * Synthetic database and its crawled catalog, shared by all
+ * benchmarks. The size of the schema is set with the "tables" and
+ * "columns" parameters, for example, <code>-p tables=10000</code>.
+ */
+@State(Scope.Benchmark)
+public class CatalogState
+{
+
+  @Param({ "100", "1000" })
+  public int tables;
+
+  @Param({ "20" })
+  public int columns;
+
+  private Connection connection;
+  private Catalog catalog;
+
+  public Catalog getCatalog()
+  {
+    return catalog;
+  }
+
+  public Connection getConnection()
+  {
+    return connection;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+    throws Exception
+  {
+    // Logging would be included in the timings
+    applyApplicationLogLevel(java.util.logging.Level.OFF);
+
+    connection = SyntheticDatabase.createDatabase(tables, columns);
+    catalog = SyntheticDatabase.crawl(connection);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown()
+    throws SQLException
+  {
+    SyntheticDatabase.shutdown(connection);
+  }
+
+}
@@ -0,0 +1,124 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.testdb.SyntheticSchemaCreator;
+import schemacrawler.utility.SchemaCrawlerUtility;
+
+/**
+ * Creates an in-memory HyperSQL database with a synthetic schema of a
+ * given size. Every table has a primary key, an indexed name column,
+ * and a reference to a parent table, so that the references form a
+ * binary tree. Half of the references are foreign keys, and the rest
+ * are left for weak associations. Every tenth table has a view.
+ */
+public final class SyntheticDatabase
+{
+
+  public static final String SCHEMA = SyntheticSchemaCreator.schemaName(0);
+
+  private static final AtomicInteger databaseNumber = new AtomicInteger();
+
+  /**
+   * Creates a new in-memory database, with a synthetic schema.
+   *
+   * @param numberOfTables
+   *        Number of tables
+   * @param numberOfColumns
+   *        Number of data columns in each table, in addition to the
+   *        key, name and reference columns
+   * @return Connection to the new database
+   * @throws SQLException
+   *         On an exception
+   */
+  public static Connection createDatabase(final int numberOfTables,
+                                          final int numberOfColumns)
+    throws SQLException
+  {
+    final Connection connection = DriverManager
+      .getConnection("jdbc:hsqldb:mem:benchmark"
+                     + databaseNumber.incrementAndGet(), "SA", "");
+    new SyntheticSchemaCreator(connection).withTables(numberOfTables)
+      .withColumns(numberOfColumns).withForeignKeyDensity(0.5).withIndexes(1)
+      .withViews(numberOfTables / 10).withRoutines(0).withTriggers(0).run();
+    return connection;
+  }
+
+  /**
+   * Crawls the synthetic schema with maximum detail.
+   *
+   * @param connection
+   *        Connection to a synthetic database
+   * @return Catalog
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public static Catalog crawl(final Connection connection)
+    throws SchemaCrawlerException
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder()
+      .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum().toOptions())
+      .includeSchemas(new RegularExpressionInclusionRule(".*\\." + SCHEMA))
+      .toOptions();
+    return SchemaCrawlerUtility.getCatalog(connection, schemaCrawlerOptions);
+  }
+
+  public static void shutdown(final Connection connection)
+    throws SQLException
+  {
+    try (final Statement statement = connection.createStatement();)
+    {
+      statement.execute("SHUTDOWN");
+    }
+    finally
+    {
+      connection.close();
+    }
+  }
+
+  private SyntheticDatabase()
+  {
+    // Prevent instantiation
+  }
+
+}
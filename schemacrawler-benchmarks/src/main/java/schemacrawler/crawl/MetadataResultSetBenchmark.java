@@ -0,0 +1,125 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import schemacrawler.benchmarks.CatalogState;
+import schemacrawler.benchmarks.SyntheticDatabase;
+
+/**
+ * Decodes the rows of the table columns metadata, the largest metadata
+ * result-set of a crawl. The raw benchmark reads the same values
+ * directly from the JDBC result-set, as a baseline for the overhead of
+ * the metadata result-set.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MetadataResultSetBenchmark
+{
+
+  private static ResultSet getColumns(final CatalogState state)
+    throws SQLException
+  {
+    final DatabaseMetaData metaData = state.getConnection().getMetaData();
+    return metaData.getColumns(null, SyntheticDatabase.SCHEMA, "%", "%");
+  }
+
+  @Benchmark
+  public int metadataResultSet(final CatalogState state,
+                               final Blackhole blackhole)
+    throws SQLException
+  {
+    int rowCount = 0;
+    try (final MetadataResultSet results = new MetadataResultSet(getColumns(state),
+                                                                 new MutableCrawlMetrics());)
+    {
+      while (results.next())
+      {
+        blackhole.consume(results.getString("TABLE_SCHEM"));
+        blackhole.consume(results.getString("TABLE_NAME"));
+        blackhole.consume(results.getString("COLUMN_NAME"));
+        blackhole.consume(results.getInt("DATA_TYPE", 0));
+        blackhole.consume(results.getString("TYPE_NAME"));
+        blackhole.consume(results.getInt("COLUMN_SIZE", 0));
+        blackhole.consume(results.getInt("DECIMAL_DIGITS", 0));
+        blackhole.consume(results.getInt("ORDINAL_POSITION", 0));
+        blackhole.consume(results.getBoolean("IS_NULLABLE"));
+        blackhole.consume(results.getString("COLUMN_DEF"));
+        blackhole.consume(results.getString("REMARKS"));
+        blackhole.consume(results.getAttributes());
+        rowCount++;
+      }
+    }
+    return rowCount;
+  }
+
+  @Benchmark
+  public int rawResultSet(final CatalogState state, final Blackhole blackhole)
+    throws SQLException
+  {
+    int rowCount = 0;
+    try (final ResultSet results = getColumns(state);)
+    {
+      while (results.next())
+      {
+        blackhole.consume(results.getString("TABLE_SCHEM"));
+        blackhole.consume(results.getString("TABLE_NAME"));
+        blackhole.consume(results.getString("COLUMN_NAME"));
+        blackhole.consume(results.getInt("DATA_TYPE"));
+        blackhole.consume(results.getString("TYPE_NAME"));
+        blackhole.consume(results.getInt("COLUMN_SIZE"));
+        blackhole.consume(results.getInt("DECIMAL_DIGITS"));
+        blackhole.consume(results.getInt("ORDINAL_POSITION"));
+        blackhole.consume(results.getString("IS_NULLABLE"));
+        blackhole.consume(results.getString("COLUMN_DEF"));
+        blackhole.consume(results.getString("REMARKS"));
+        rowCount++;
+      }
+    }
+    return rowCount;
+  }
+
+}
@@ -0,0 +1,117 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.filter;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.benchmarks.CatalogState;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.RegularExpressionRule;
+
+/**
+ * Matches the full names of all tables and columns of the synthetic
+ * catalog against inclusion and exclusion patterns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InclusionRuleFilterBenchmark
+{
+
+  private List<Table> tables;
+  private List<Column> columns;
+  private InclusionRuleFilter<Table> tableFilter;
+  private InclusionRuleFilter<Column> columnFilter;
+
+  @Benchmark
+  public int filterColumns()
+  {
+    int count = 0;
+    for (final Column column: columns)
+    {
+      if (columnFilter.test(column))
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int filterTables()
+  {
+    int count = 0;
+    for (final Table table: tables)
+    {
+      if (tableFilter.test(table))
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp(final CatalogState state)
+  {
+    tables = new ArrayList<>(state.getCatalog().getTables());
+    columns = new ArrayList<>();
+    for (final Table table: tables)
+    {
+      columns.addAll(table.getColumns());
+    }
+
+    tableFilter = new InclusionRuleFilter<>(new RegularExpressionRule(".*\\.TABLE_[0-9]*[05]",
+                                                                      ".*\\.VIEW_.*"),
+                                            true);
+    columnFilter = new InclusionRuleFilter<>(new RegularExpressionRule(".*\\.COLUMN_[0-9]+",
+                                                                       ".*\\.TABLE_[0-9]*1\\..*"),
+                                             true);
+  }
+
+}
@@ -0,0 +1,100 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.integration.serialization;
+
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.benchmarks.CatalogState;
+import schemacrawler.schema.Catalog;
+
+/**
+ * Serializes the synthetic catalog to XML, and loads it back. XStream
+ * needs reflective access to JDK collections on Java 9 and later, and
+ * the options to allow it are ignored on Java 8.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {
+                                   "-XX:+IgnoreUnrecognizedVMOptions",
+                                   "--add-opens=java.base/java.lang=ALL-UNNAMED",
+                                   "--add-opens=java.base/java.lang.reflect=ALL-UNNAMED",
+                                   "--add-opens=java.base/java.text=ALL-UNNAMED",
+                                   "--add-opens=java.base/java.time=ALL-UNNAMED",
+                                   "--add-opens=java.base/java.util=ALL-UNNAMED",
+                                   "--add-opens=java.base/java.util.regex=ALL-UNNAMED",
+                                   "--add-opens=java.desktop/java.awt.font=ALL-UNNAMED" })
+public class XmlSerializedCatalogBenchmark
+{
+
+  private String serializedCatalog;
+
+  @Benchmark
+  public Catalog load()
+    throws Exception
+  {
+    return new XmlSerializedCatalog(new StringReader(serializedCatalog));
+  }
+
+  @Benchmark
+  public int save(final CatalogState state)
+    throws Exception
+  {
+    final StringWriter writer = new StringWriter();
+    new XmlSerializedCatalog(state.getCatalog()).save(writer);
+    return writer.getBuffer().length();
+  }
+
+  @Setup(Level.Trial)
+  public void setUp(final CatalogState state)
+    throws Exception
+  {
+    final StringWriter writer = new StringWriter();
+    new XmlSerializedCatalog(state.getCatalog()).save(writer);
+    serializedCatalog = writer.toString();
+  }
+
+}
@@ -0,0 +1,144 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.iosource;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static sf.util.Utility.applyApplicationLogLevel;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes lines of formatted output to a file, with an autoflush writer
+ * compared to the asynchronous output pipeline, and compresses them on
+ * a single thread compared to parallel block compression.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OutputPipelineBenchmark
+{
+
+  private static final String INTERNAL_PATH = "schemacrawler.data";
+
+  @Param({ "100000" })
+  public int lines;
+
+  private Path outputFile;
+
+  @Benchmark
+  public void asyncOutputWriter()
+    throws IOException
+  {
+    writeLines(new PrintWriter(new AsyncOutputWriter(new FileOutputResource(outputFile)
+      .openNewOutputWriter(UTF_8, false)), false));
+  }
+
+  @Benchmark
+  public void autoflushWriter()
+    throws IOException
+  {
+    writeLines(new PrintWriter(new FileOutputResource(outputFile)
+      .openNewOutputWriter(UTF_8, false), true));
+  }
+
+  @Benchmark
+  public void compressedOutput()
+    throws IOException
+  {
+    final OutputResource outputResource = new CompressedFileOutputResource(outputFile,
+                                                                           INTERNAL_PATH);
+    writeLines(new PrintWriter(outputResource.openNewOutputWriter(UTF_8,
+                                                                  false)));
+  }
+
+  @Benchmark
+  public void parallelCompressedOutput()
+    throws IOException
+  {
+    final OutputResource outputResource = new ParallelCompressedFileOutputResource(outputFile,
+                                                                                   INTERNAL_PATH,
+                                                                                   Deflater.DEFAULT_COMPRESSION);
+    writeLines(new PrintWriter(outputResource.openNewOutputWriter(UTF_8,
+                                                                  false)));
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+    throws IOException
+  {
+    // Logging would be included in the timings
+    applyApplicationLogLevel(java.util.logging.Level.OFF);
+
+    outputFile = Files.createTempFile("schemacrawler", ".dat");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown()
+    throws IOException
+  {
+    Files.deleteIfExists(outputFile);
+  }
+
+  private void writeLines(final PrintWriter out)
+  {
+    for (int i = 0; i < lines; i++)
+    {
+      out.print("<tr><td class='name'>");
+      out.print("COLUMN_" + i);
+      out.print("</td><td>VARCHAR(255)</td><td>not null</td>");
+      out.println("</tr>");
+    }
+    out.flush();
+    out.close();
+  }
+
+}
@@ -0,0 +1,145 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.schema;
+
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.benchmarks.CatalogState;
+import schemacrawler.benchmarks.NullWriter;
+import schemacrawler.tools.integration.graph.GraphOptionsBuilder;
+import schemacrawler.tools.integration.graph.GraphOutputFormat;
+import schemacrawler.tools.options.OutputFormat;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.traversal.SchemaTraversalHandler;
+import schemacrawler.tools.traversal.SchemaTraverser;
+
+/**
+ * Renders the synthetic catalog in text, HTML, JSON and Graphviz DOT
+ * formats, discarding the output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SchemaFormatterBenchmark
+{
+
+  @Param({ "false", "true" })
+  public boolean parallelTraversal;
+
+  @Benchmark
+  public long dot(final CatalogState state)
+    throws Exception
+  {
+    final NullWriter writer = new NullWriter();
+    traverse(state,
+             new SchemaDotFormatter(SchemaTextDetailType.schema,
+                                    GraphOptionsBuilder.newGraphOptions(),
+                                    outputOptions(GraphOutputFormat.scdot,
+                                                  writer),
+                                    "\""));
+    return writer.getCount();
+  }
+
+  @Benchmark
+  public long html(final CatalogState state)
+    throws Exception
+  {
+    final NullWriter writer = new NullWriter();
+    traverse(state,
+             new SchemaTextFormatter(SchemaTextDetailType.schema,
+                                     SchemaTextOptionsBuilder.newSchemaTextOptions(),
+                                     outputOptions(TextOutputFormat.html,
+                                                   writer),
+                                     "\""));
+    return writer.getCount();
+  }
+
+  @Benchmark
+  public long json(final CatalogState state)
+    throws Exception
+  {
+    final NullWriter writer = new NullWriter();
+    traverse(state,
+             new SchemaJsonFormatter(SchemaTextDetailType.schema,
+                                     SchemaTextOptionsBuilder.newSchemaTextOptions(),
+                                     outputOptions(TextOutputFormat.json,
+                                                   writer),
+                                     "\""));
+    return writer.getCount();
+  }
+
+  @Benchmark
+  public long text(final CatalogState state)
+    throws Exception
+  {
+    final NullWriter writer = new NullWriter();
+    traverse(state,
+             new SchemaTextFormatter(SchemaTextDetailType.schema,
+                                     SchemaTextOptionsBuilder.newSchemaTextOptions(),
+                                     outputOptions(TextOutputFormat.text,
+                                                   writer),
+                                     "\""));
+    return writer.getCount();
+  }
+
+  private OutputOptions outputOptions(final OutputFormat outputFormat,
+                                      final NullWriter writer)
+  {
+    return OutputOptionsBuilder.newOutputOptions(outputFormat, writer);
+  }
+
+  private void traverse(final CatalogState state,
+                        final SchemaTraversalHandler formatter)
+    throws Exception
+  {
+    final SchemaTraverser traverser = new SchemaTraverser();
+    traverser.setCatalog(state.getCatalog());
+    traverser.setHandler(formatter);
+    traverser.setParallelTraversal(parallelTraversal);
+    traverser.traverse();
+  }
+
+}
@@ -0,0 +1,126 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.utility.html;
+
+
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.benchmarks.NullWriter;
+import schemacrawler.tools.options.TextOutputFormat;
+import sf.util.Color;
+
+/**
+ * Compares writing HTML table rows by building a row of cells, with
+ * writing them directly with a row writer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HtmlRowWriterBenchmark
+{
+
+  @Param({ "1000" })
+  public int rows;
+
+  @Benchmark
+  public long htmlRowWriter()
+  {
+    final NullWriter writer = new NullWriter();
+    final HtmlRowWriter rowWriter = new HtmlRowWriter(new PrintWriter(writer));
+    for (int i = 0; i < rows; i++)
+    {
+      rowWriter.startRow()
+        .addCell("", true, Alignment.inherit, false, "spacer", Color.white, 1, null)
+        .addCell("COLUMN_" + i,
+                 true,
+                 Alignment.inherit,
+                 false,
+                 "minwidth",
+                 Color.white,
+                 1,
+                 null)
+        .addCell("VARCHAR(50) <not null>",
+                 true,
+                 Alignment.inherit,
+                 false,
+                 "minwidth",
+                 Color.white,
+                 1,
+                 null)
+        .endRow();
+    }
+    return writer.getCount();
+  }
+
+  @Benchmark
+  public long tableRow()
+  {
+    final NullWriter writer = new NullWriter();
+    final PrintWriter out = new PrintWriter(writer);
+    for (int i = 0; i < rows; i++)
+    {
+      final TableRow row = new TableRow(TextOutputFormat.html);
+      row.add(newTableCell("", "spacer"));
+      row.add(newTableCell("COLUMN_" + i, "minwidth"));
+      row.add(newTableCell("VARCHAR(50) <not null>", "minwidth"));
+      out.println(row.toString());
+    }
+    out.flush();
+    return writer.getCount();
+  }
+
+  private TableCell newTableCell(final String text, final String styleClass)
+  {
+    return new TableCell(text,
+                         true,
+                         0,
+                         Alignment.inherit,
+                         false,
+                         styleClass,
+                         Color.white,
+                         1,
+                         TextOutputFormat.html);
+  }
+
+}
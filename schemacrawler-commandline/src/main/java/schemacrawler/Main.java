@@ -40,8 +40,15 @@ import java.util.logging.Level;
 
 import schemacrawler.schemacrawler.Config;
 import schemacrawler.tools.commandline.ApplicationOptionsParser;
+import schemacrawler.tools.commandline.BatchOptions;
+import schemacrawler.tools.commandline.BatchOptionsParser;
 import schemacrawler.tools.commandline.CommandLine;
+import schemacrawler.tools.commandline.DaemonOptions;
+import schemacrawler.tools.commandline.DaemonOptionsParser;
+import schemacrawler.tools.commandline.SchemaCrawlerBatch;
 import schemacrawler.tools.commandline.SchemaCrawlerCommandLine;
+import schemacrawler.tools.commandline.SchemaCrawlerDaemon;
+import schemacrawler.tools.commandline.SchemaCrawlerDaemonClient;
 import schemacrawler.tools.commandline.SchemaCrawlerHelpCommandLine;
 import schemacrawler.tools.options.ApplicationOptions;
 import us.fatehi.commandlineparser.CommandLineUtility;
@@ -69,6 +76,12 @@ public final class Main
 
       applyApplicationLogLevel(applicationOptions.getApplicationLogLevel());
 
+      final DaemonOptionsParser daemonOptionsParser = new DaemonOptionsParser(argsMap);
+      final DaemonOptions daemonOptions = daemonOptionsParser.getOptions();
+
+      final BatchOptionsParser batchOptionsParser = new BatchOptionsParser(argsMap);
+      final BatchOptions batchOptions = batchOptionsParser.getOptions();
+
       logSafeArguments(args);
       logSystemClasspath();
       logSystemProperties();
@@ -85,6 +98,18 @@ public final class Main
         commandLine = new SchemaCrawlerHelpCommandLine(argsMap,
                                                        showVersionOnly);
       }
+      else if (batchOptions.isBatch())
+      {
+        commandLine = new SchemaCrawlerBatch(batchOptions);
+      }
+      else if (daemonOptions.isStartDaemon())
+      {
+        commandLine = new SchemaCrawlerDaemon(daemonOptions.getPort());
+      }
+      else if (daemonOptions.isStopDaemon() || daemonOptions.isUseDaemon())
+      {
+        commandLine = new SchemaCrawlerDaemonClient(daemonOptions, argsMap);
+      }
       else
       {
         commandLine = new SchemaCrawlerCommandLine(argsMap);
@@ -0,0 +1,82 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import java.nio.file.Path;
+
+import schemacrawler.schemacrawler.Options;
+
+/**
+ * Options for running SchemaCrawler on many databases, from a batch
+ * manifest.
+ */
+public final class BatchOptions
+  implements Options
+{
+
+  private Path manifestFile;
+  private int threads = Runtime.getRuntime().availableProcessors();
+  private int connectionsPerDatabase = 1;
+
+  public int getConnectionsPerDatabase()
+  {
+    return connectionsPerDatabase;
+  }
+
+  public Path getManifestFile()
+  {
+    return manifestFile;
+  }
+
+  public int getThreads()
+  {
+    return threads;
+  }
+
+  public boolean isBatch()
+  {
+    return manifestFile != null;
+  }
+
+  public void setConnectionsPerDatabase(final int connectionsPerDatabase)
+  {
+    this.connectionsPerDatabase = connectionsPerDatabase;
+  }
+
+  public void setManifestFile(final Path manifestFile)
+  {
+    this.manifestFile = manifestFile;
+  }
+
+  public void setThreads(final int threads)
+  {
+    this.threads = threads;
+  }
+
+}
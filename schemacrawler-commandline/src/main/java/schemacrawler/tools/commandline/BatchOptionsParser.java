@@ -0,0 +1,99 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import static sf.util.Utility.isBlank;
+
+import java.nio.file.Paths;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerCommandLineException;
+
+/**
+ * Parses the command-line options for running SchemaCrawler in batch
+ * mode.
+ */
+public final class BatchOptionsParser
+  extends BaseOptionsParser<BatchOptions>
+{
+
+  public BatchOptionsParser(final Config config)
+  {
+    super(config);
+    normalizeOptionName("batch");
+    normalizeOptionName("batchthreads");
+    normalizeOptionName("batchconnections");
+  }
+
+  @Override
+  public BatchOptions getOptions()
+  {
+    final BatchOptions options = new BatchOptions();
+
+    if (config.hasValue("batch"))
+    {
+      final String manifestFile = config.getStringValue("batch", null);
+      if (isBlank(manifestFile))
+      {
+        throw new SchemaCrawlerCommandLineException("Please provide a batch manifest file");
+      }
+      options.setManifestFile(Paths.get(manifestFile).toAbsolutePath());
+      consumeOption("batch");
+    }
+
+    if (config.hasValue("batchthreads"))
+    {
+      final int threads = config.getIntegerValue("batchthreads", -1);
+      if (threads <= 0)
+      {
+        throw new SchemaCrawlerCommandLineException(String
+          .format("Please provide a valid number of batch threads, not <%s>",
+                  config.get("batchthreads")));
+      }
+      options.setThreads(threads);
+      consumeOption("batchthreads");
+    }
+
+    if (config.hasValue("batchconnections"))
+    {
+      final int connections = config.getIntegerValue("batchconnections", -1);
+      if (connections <= 0)
+      {
+        throw new SchemaCrawlerCommandLineException(String
+          .format("Please provide a valid number of connections per database, not <%s>",
+                  config.get("batchconnections")));
+      }
+      options.setConnectionsPerDatabase(connections);
+      consumeOption("batchconnections");
+    }
+
+    return options;
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import schemacrawler.schemacrawler.Options;
+
+/**
+ * Options for running commands through a long-running SchemaCrawler
+ * daemon.
+ */
+public final class DaemonOptions
+  implements Options
+{
+
+  public static final int DEFAULT_PORT = 9876;
+
+  private boolean startDaemon;
+  private boolean stopDaemon;
+  private boolean useDaemon;
+  private int port = DEFAULT_PORT;
+
+  public int getPort()
+  {
+    return port;
+  }
+
+  public boolean isStartDaemon()
+  {
+    return startDaemon;
+  }
+
+  public boolean isStopDaemon()
+  {
+    return stopDaemon;
+  }
+
+  public boolean isUseDaemon()
+  {
+    return useDaemon;
+  }
+
+  public void setPort(final int port)
+  {
+    this.port = port;
+  }
+
+  public void setStartDaemon(final boolean startDaemon)
+  {
+    this.startDaemon = startDaemon;
+  }
+
+  public void setStopDaemon(final boolean stopDaemon)
+  {
+    this.stopDaemon = stopDaemon;
+  }
+
+  public void setUseDaemon(final boolean useDaemon)
+  {
+    this.useDaemon = useDaemon;
+  }
+
+}
@@ -0,0 +1,98 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import static sf.util.Utility.isBlank;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerCommandLineException;
+
+/**
+ * Parses the command-line options for the SchemaCrawler daemon.
+ */
+public final class DaemonOptionsParser
+  extends BaseOptionsParser<DaemonOptions>
+{
+
+  public DaemonOptionsParser(final Config config)
+  {
+    super(config);
+    normalizeOptionName("daemon");
+    normalizeOptionName("usedaemon");
+    normalizeOptionName("daemonport");
+  }
+
+  @Override
+  public DaemonOptions getOptions()
+  {
+    final DaemonOptions options = new DaemonOptions();
+
+    if (config.hasValue("daemon"))
+    {
+      final String daemonAction = config.getStringValue("daemon", "start");
+      if (isBlank(daemonAction) || daemonAction.equalsIgnoreCase("start"))
+      {
+        options.setStartDaemon(true);
+      }
+      else if (daemonAction.equalsIgnoreCase("stop"))
+      {
+        options.setStopDaemon(true);
+      }
+      else
+      {
+        throw new SchemaCrawlerCommandLineException(String
+          .format("Please provide a valid daemon action, start or stop, not <%s>",
+                  daemonAction));
+      }
+      consumeOption("daemon");
+    }
+
+    if (config.hasValue("usedaemon"))
+    {
+      options.setUseDaemon(true);
+      consumeOption("usedaemon");
+    }
+
+    if (config.hasValue("daemonport"))
+    {
+      final int port = config.getIntegerValue("daemonport", -1);
+      if (port <= 0 || port > 65535)
+      {
+        throw new SchemaCrawlerCommandLineException(String
+          .format("Please provide a valid daemon port, not <%s>",
+                  config.get("daemonport")));
+      }
+      options.setPort(port);
+      consumeOption("daemonport");
+    }
+
+    return options;
+  }
+
+}
@@ -47,16 +47,42 @@ public final class DatabaseServerTypeParser
   private static final String URL = "url";
   private static final String SERVER = "server";
 
+  private final DatabaseConnectorRegistry registry;
+
   public DatabaseServerTypeParser(final Config config)
+  {
+    this(config, null);
+  }
+
+  /**
+   * Parses the database server type, using an already loaded database
+   * connector registry.
+   *
+   * @param config
+   *        Command-line arguments
+   * @param registry
+   *        Database connector registry, or null to load a new one
+   */
+  DatabaseServerTypeParser(final Config config,
+                           final DatabaseConnectorRegistry registry)
   {
     super(config);
+    this.registry = registry;
   }
 
   @Override
   public DatabaseConnector getOptions()
     throws SchemaCrawlerException
   {
-    final DatabaseConnectorRegistry registry = new DatabaseConnectorRegistry();
+    final DatabaseConnectorRegistry registry;
+    if (this.registry == null)
+    {
+      registry = new DatabaseConnectorRegistry();
+    }
+    else
+    {
+      registry = this.registry;
+    }
 
     final String serverType = config.getStringValue(SERVER, null);
     if (config.hasValue(SERVER)
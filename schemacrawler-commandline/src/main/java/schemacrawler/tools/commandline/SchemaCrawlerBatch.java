@@ -0,0 +1,438 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import static java.util.Objects.requireNonNull;
+import static sf.util.Utility.isBlank;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.ConnectionOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerCommandLineException;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.UserCredentials;
+import schemacrawler.tools.databaseconnector.DatabaseConnectorRegistry;
+import schemacrawler.tools.iosource.FileInputResource;
+import schemacrawler.utility.PropertiesUtility;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Runs SchemaCrawler commands on many databases, concurrently, in one
+ * JVM. Jobs are read from a manifest properties file, which has a
+ * comma-separated list of job names in the "jobs" property. Properties
+ * prefixed with a job name and a dot, such as "sales.url", are
+ * command-line options for that job, and all other properties are
+ * command-line options shared by every job. The database connector
+ * registry is loaded once, and shared by all jobs. Jobs that connect
+ * to the same database wait for each other, so that the database does
+ * not get more than a limited number of connections from the batch.
+ * Each job has to write to an output file. A summary of the jobs, with
+ * timings, is printed at the end.
+ */
+public final class SchemaCrawlerBatch
+  implements CommandLine
+{
+
+  private static final class BatchJobResult
+  {
+
+    private final String jobName;
+    private final long waitMillis;
+    private final long runMillis;
+    private final Exception error;
+
+    BatchJobResult(final String jobName,
+                   final long waitMillis,
+                   final long runMillis,
+                   final Exception error)
+    {
+      this.jobName = jobName;
+      this.waitMillis = waitMillis;
+      this.runMillis = runMillis;
+      this.error = error;
+    }
+
+    boolean isSuccessful()
+    {
+      return error == null;
+    }
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(SchemaCrawlerBatch.class.getName());
+
+  private static final String JOBS = "jobs";
+
+  private static final String[] PATH_OPTIONS = { "outputfile",
+                                                 "o",
+                                                 "configfile",
+                                                 "g" };
+
+  private final BatchOptions batchOptions;
+  private final PrintStream out;
+  private final Map<String, Semaphore> databasePermits;
+
+  public SchemaCrawlerBatch(final BatchOptions batchOptions)
+  {
+    this(batchOptions, System.out);
+  }
+
+  public SchemaCrawlerBatch(final BatchOptions batchOptions,
+                            final PrintStream out)
+  {
+    this.batchOptions = requireNonNull(batchOptions,
+                                       "No batch options provided");
+    requireNonNull(batchOptions.getManifestFile(),
+                   "No batch manifest file provided");
+    this.out = requireNonNull(out, "No output stream provided");
+    databasePermits = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public void execute()
+    throws Exception
+  {
+    final Map<String, Config> jobs = loadManifest();
+
+    // Load database plugins once, for all jobs
+    final DatabaseConnectorRegistry registry = new DatabaseConnectorRegistry();
+
+    final int threads = Math.min(batchOptions.getThreads(), jobs.size());
+    LOGGER.log(Level.INFO,
+               new StringFormat("Running %d batch jobs on %d threads",
+                                jobs.size(),
+                                threads));
+
+    final long startTime = System.nanoTime();
+    final List<BatchJobResult> results = new ArrayList<>();
+    final ExecutorService executor = Executors
+      .newFixedThreadPool(threads, newThreadFactory());
+    try
+    {
+      final List<Future<BatchJobResult>> futures = new ArrayList<>();
+      for (final Map.Entry<String, Config> job: jobs.entrySet())
+      {
+        final String jobName = job.getKey();
+        final Config argsMap = job.getValue();
+        futures.add(executor.submit(() -> runJob(jobName, argsMap, registry)));
+      }
+      for (final Future<BatchJobResult> future: futures)
+      {
+        try
+        {
+          results.add(future.get());
+        }
+        catch (final ExecutionException e)
+        {
+          throw new SchemaCrawlerException("Could not run batch job",
+                                           e.getCause());
+        }
+      }
+    }
+    finally
+    {
+      executor.shutdownNow();
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+    final long elapsedMillis = TimeUnit.NANOSECONDS
+      .toMillis(System.nanoTime() - startTime);
+
+    final int failedJobs = printSummary(results, elapsedMillis);
+    if (failedJobs > 0)
+    {
+      throw new SchemaCrawlerException(String
+        .format("%d of %d batch jobs failed", failedJobs, results.size()));
+    }
+  }
+
+  /**
+   * Gets the permits that limit the number of open connections to a
+   * database, across all jobs.
+   */
+  private Semaphore getDatabasePermits(final ConnectionOptions connectionOptions)
+  {
+    final UserCredentials userCredentials = connectionOptions
+      .getUserCredentials();
+    final String connectionKey = connectionOptions.getConnectionUrl() + "\n"
+                                 + (userCredentials == null? ""
+                                                           : userCredentials
+                                                             .getUser());
+    return databasePermits.computeIfAbsent(connectionKey,
+                                           key -> new Semaphore(batchOptions
+                                             .getConnectionsPerDatabase(),
+                                                                true));
+  }
+
+  /**
+   * Loads jobs from the manifest file, with command-line arguments for
+   * each job, in the order in which the jobs are listed.
+   *
+   * @throws SchemaCrawlerCommandLineException
+   *         If the manifest cannot be read, or has invalid jobs
+   */
+  private Map<String, Config> loadManifest()
+  {
+    final Path manifestFile = batchOptions.getManifestFile();
+    final Config manifest;
+    try
+    {
+      manifest = PropertiesUtility
+        .loadConfig(new FileInputResource(manifestFile));
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerCommandLineException(String
+        .format("Cannot read batch manifest file <%s>", manifestFile));
+    }
+
+    final Map<String, Config> jobs = new LinkedHashMap<>();
+    for (final String jobName: manifest.getStringValue(JOBS, "").split(","))
+    {
+      final String trimmedJobName = jobName.trim();
+      if (trimmedJobName.isEmpty())
+      {
+        continue;
+      }
+      if (trimmedJobName.contains("."))
+      {
+        throw new SchemaCrawlerCommandLineException(String
+          .format("Batch job names cannot contain a dot, <%s>",
+                  trimmedJobName));
+      }
+      if (jobs.containsKey(trimmedJobName))
+      {
+        throw new SchemaCrawlerCommandLineException(String
+          .format("Duplicate batch job <%s>", trimmedJobName));
+      }
+      jobs.put(trimmedJobName, new Config());
+    }
+    if (jobs.isEmpty())
+    {
+      throw new SchemaCrawlerCommandLineException(String
+        .format("No jobs listed in batch manifest file <%s>",
+                manifestFile));
+    }
+    manifest.remove(JOBS);
+
+    // Shared options first, so that they can be overridden for each job
+    final Map<String, Config> jobOptions = new LinkedHashMap<>();
+    for (final String jobName: jobs.keySet())
+    {
+      jobOptions.put(jobName, new Config());
+    }
+    for (final Map.Entry<String, String> option: manifest.entrySet())
+    {
+      final String key = option.getKey();
+      final int dotIndex = key.indexOf('.');
+      final String jobName = dotIndex > 0? key.substring(0, dotIndex): null;
+      if (jobName != null && jobs.containsKey(jobName))
+      {
+        jobOptions.get(jobName).put(key.substring(dotIndex + 1),
+                                    option.getValue());
+      }
+      else
+      {
+        for (final Config argsMap: jobs.values())
+        {
+          argsMap.put(key, option.getValue());
+        }
+      }
+    }
+
+    // Resolve file paths against the manifest directory
+    final Path manifestDirectory = manifestFile.getParent();
+    for (final Map.Entry<String, Config> job: jobs.entrySet())
+    {
+      final Config argsMap = job.getValue();
+      argsMap.putAll(jobOptions.get(job.getKey()));
+      for (final String pathOption: PATH_OPTIONS)
+      {
+        final String value = argsMap.get(pathOption);
+        if (!isBlank(value))
+        {
+          argsMap.put(pathOption,
+                      manifestDirectory.resolve(value).normalize().toString());
+        }
+      }
+      // Output from concurrent jobs cannot go to the console
+      if (!argsMap.hasValue("outputfile") && !argsMap.hasValue("o"))
+      {
+        throw new SchemaCrawlerCommandLineException(String
+          .format("No output file provided for batch job <%s>",
+                  job.getKey()));
+      }
+    }
+
+    return jobs;
+  }
+
+  private ThreadFactory newThreadFactory()
+  {
+    final AtomicInteger threadNumber = new AtomicInteger();
+    return runnable -> {
+      final Thread thread = new Thread(runnable,
+                                       "schemacrawler-batch-"
+                                                 + threadNumber
+                                                   .incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private int printSummary(final List<BatchJobResult> results,
+                           final long elapsedMillis)
+  {
+    int jobNameWidth = "Job".length();
+    int failedJobs = 0;
+    for (final BatchJobResult result: results)
+    {
+      jobNameWidth = Math.max(jobNameWidth, result.jobName.length());
+      if (!result.isSuccessful())
+      {
+        failedJobs++;
+      }
+    }
+
+    final String format = "%-" + jobNameWidth + "s  %-6s  %10s  %10s  %s%n";
+    out.printf("Batch summary: %d jobs, %d succeeded, %d failed, in %d ms%n%n",
+               results.size(),
+               results.size() - failedJobs,
+               failedJobs,
+               elapsedMillis);
+    out.printf(format, "Job", "Status", "Wait (ms)", "Run (ms)", "Error");
+    for (final BatchJobResult result: results)
+    {
+      final String status;
+      final String errorMessage;
+      if (result.isSuccessful())
+      {
+        status = "OK";
+        errorMessage = "";
+      }
+      else
+      {
+        status = "FAILED";
+        errorMessage = String.valueOf(result.error.getMessage());
+      }
+      out.printf(format,
+                 result.jobName,
+                 status,
+                 result.waitMillis,
+                 result.runMillis,
+                 errorMessage);
+    }
+    out.flush();
+
+    return failedJobs;
+  }
+
+  private BatchJobResult runJob(final String jobName,
+                                final Config argsMap,
+                                final DatabaseConnectorRegistry registry)
+  {
+    LOGGER.log(Level.INFO, new StringFormat("Starting batch job <%s>", jobName));
+
+    long waitMillis = 0;
+    final long startTime = System.nanoTime();
+    try
+    {
+      final SchemaCrawlerCommandLine commandLine = new SchemaCrawlerCommandLine(argsMap,
+                                                                                registry);
+      final ConnectionOptions connectionOptions = commandLine
+        .getConnectionOptions();
+
+      // Output files for many jobs are often organized in directories
+      final Path outputDirectory = commandLine.getOutputOptions()
+        .getOutputFile().toAbsolutePath().getParent();
+      if (outputDirectory != null)
+      {
+        Files.createDirectories(outputDirectory);
+      }
+
+      final Semaphore permits = getDatabasePermits(connectionOptions);
+      final long waitStartTime = System.nanoTime();
+      permits.acquire();
+      waitMillis = TimeUnit.NANOSECONDS
+        .toMillis(System.nanoTime() - waitStartTime);
+      try (final Connection connection = connectionOptions.getConnection();)
+      {
+        commandLine.execute(connection, commandLine.getOutputOptions());
+      }
+      finally
+      {
+        permits.release();
+      }
+
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Completed batch job <%s>", jobName));
+      return new BatchJobResult(jobName,
+                                waitMillis,
+                                runMillis(startTime, waitMillis),
+                                null);
+    }
+    catch (final Exception e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Batch job <%s> failed", jobName),
+                 e);
+      return new BatchJobResult(jobName,
+                                waitMillis,
+                                runMillis(startTime, waitMillis),
+                                e);
+    }
+  }
+
+  private long runMillis(final long startTime, final long waitMillis)
+  {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)
+           - waitMillis;
+  }
+
+}
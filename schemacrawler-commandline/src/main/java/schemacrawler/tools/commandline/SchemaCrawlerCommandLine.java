@@ -41,6 +41,7 @@ import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.schemacrawler.UserCredentials;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
+import schemacrawler.tools.databaseconnector.DatabaseConnectorRegistry;
 import schemacrawler.tools.executable.SchemaCrawlerExecutable;
 import schemacrawler.tools.iosource.ClasspathInputResource;
 import schemacrawler.tools.options.OutputOptions;
@@ -69,6 +70,22 @@ public final class SchemaCrawlerCommandLine
 
   public SchemaCrawlerCommandLine(final Config argsMap)
     throws SchemaCrawlerException
+  {
+    this(argsMap, null);
+  }
+
+  /**
+   * Parses the command-line, using an already loaded database connector
+   * registry, so that many command-lines can share one registry.
+   *
+   * @param argsMap
+   *        Command-line arguments
+   * @param registry
+   *        Database connector registry, or null to load a new one
+   */
+  SchemaCrawlerCommandLine(final Config argsMap,
+                           final DatabaseConnectorRegistry registry)
+    throws SchemaCrawlerException
   {
     if (argsMap == null || argsMap.isEmpty())
     {
@@ -77,7 +94,8 @@ public final class SchemaCrawlerCommandLine
 
     // Match the database connector in the best possible way, using the
     // server argument, or the JDBC connection URL
-    final DatabaseServerTypeParser dbServerTypeParser = new DatabaseServerTypeParser(argsMap);
+    final DatabaseServerTypeParser dbServerTypeParser = new DatabaseServerTypeParser(argsMap,
+                                                                                    registry);
     dbConnector = dbServerTypeParser.getOptions();
     LOGGER.log(Level.INFO,
                new StringFormat("Using database plugin <%s>",
@@ -113,27 +131,9 @@ public final class SchemaCrawlerCommandLine
       throw new SchemaCrawlerException("No connection options provided");
     }
 
-    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(command);
-    // Configure
-    executable.setOutputOptions(outputOptions);
-    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
-    executable.setAdditionalConfiguration(config);
     try (final Connection connection = connectionOptions.getConnection();)
     {
-      // Get partially built database specific options, built from the
-      // classpath resources, and then override from config loaded in
-      // from the command-line
-      final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder = dbConnector
-        .getSchemaRetrievalOptionsBuilder(connection);
-      schemaRetrievalOptionsBuilder.fromConfig(config);
-
-      final SchemaRetrievalOptions schemaRetrievalOptions = schemaRetrievalOptionsBuilder
-        .toOptions();
-
-      // Execute the command
-      executable.setConnection(connection);
-      executable.setSchemaRetrievalOptions(schemaRetrievalOptions);
-      executable.execute();
+      execute(connection, outputOptions);
     }
   }
 
@@ -162,6 +162,40 @@ public final class SchemaCrawlerCommandLine
     return schemaCrawlerOptions;
   }
 
+  /**
+   * Executes the command on a connection that is already open, and
+   * leaves the connection open.
+   *
+   * @param connection
+   *        Open database connection
+   * @param outputOptions
+   *        Output options to use instead of those from the command-line
+   */
+  void execute(final Connection connection, final OutputOptions outputOptions)
+    throws Exception
+  {
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(command);
+    // Configure
+    executable.setOutputOptions(outputOptions);
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setAdditionalConfiguration(config);
+
+    // Get partially built database specific options, built from the
+    // classpath resources, and then override from config loaded in
+    // from the command-line
+    final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder = dbConnector
+      .getSchemaRetrievalOptionsBuilder(connection);
+    schemaRetrievalOptionsBuilder.fromConfig(config);
+
+    final SchemaRetrievalOptions schemaRetrievalOptions = schemaRetrievalOptionsBuilder
+      .toOptions();
+
+    // Execute the command
+    executable.setConnection(connection);
+    executable.setSchemaRetrievalOptions(schemaRetrievalOptions);
+    executable.execute();
+  }
+
   /**
    * Loads configuration from a number of sources, in order of priority.
    */
@@ -0,0 +1,476 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static sf.util.Utility.isBlank;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.ConnectionOptions;
+import schemacrawler.schemacrawler.UserCredentials;
+import schemacrawler.tools.databaseconnector.DatabaseConnectorRegistry;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+import us.fatehi.commandlineparser.CommandLineUtility;
+
+/**
+ * Long-running SchemaCrawler process, that runs commands sent by
+ * {@link SchemaCrawlerDaemonClient} on a loopback port. Database
+ * connections are kept open between commands, and crawled catalogs are
+ * cached in memory, so repeated commands on the same database do not
+ * pay for JVM startup, connecting, or crawling. Commands are run one at
+ * a time, in the order that they are received. Only clients that can
+ * read the daemon's token file, which is readable only by the user
+ * that started the daemon, can send commands. The token file is kept in
+ * the directory set by the "schemacrawler.daemon.directory" system
+ * property, or in ".schemacrawler" in the user's home directory.
+ */
+public final class SchemaCrawlerDaemon
+  implements CommandLine
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(SchemaCrawlerDaemon.class.getName());
+
+  static final String STOP_REQUEST = "-daemon=stop";
+
+  private static final String DAEMON_DIRECTORY = "schemacrawler.daemon.directory";
+
+  // Clients send the whole request at once, so that a connection that
+  // does not send a request cannot hold up other clients for long
+  private static final int REQUEST_TIMEOUT_MILLIS = 2000;
+  private static final int MAX_REQUEST_LINE_LENGTH = 8192;
+  private static final int MAX_REQUEST_LINES = 256;
+
+  private static final String CACHE = "schemacrawler.cache";
+  private static final String CACHE_MEMORY_ENTRIES = CACHE
+                                                     + ".memory_entries";
+
+  private static final String[] PATH_OPTIONS = { "outputfile",
+                                                 "o",
+                                                 "configfile",
+                                                 "g" };
+
+  /**
+   * Gets the file with the token that clients need to send commands to
+   * the daemon on a port.
+   */
+  static Path getTokenFile(final int port)
+  {
+    final String daemonDirectory = System.getProperty(DAEMON_DIRECTORY);
+    final Path tokenDirectory;
+    if (isBlank(daemonDirectory))
+    {
+      tokenDirectory = Paths.get(System.getProperty("user.home"),
+                                 ".schemacrawler");
+    }
+    else
+    {
+      tokenDirectory = Paths.get(daemonDirectory);
+    }
+    return tokenDirectory.resolve(String.format("daemon-%d.token", port));
+  }
+
+  /**
+   * Reads a line of a request, which cannot be longer than the maximum
+   * line length.
+   */
+  private static String readLine(final Reader reader)
+    throws IOException
+  {
+    final StringBuilder line = new StringBuilder();
+    int ch;
+    while ((ch = reader.read()) != -1)
+    {
+      if (ch == '\n')
+      {
+        return line.toString();
+      }
+      if (line.length() == MAX_REQUEST_LINE_LENGTH)
+      {
+        throw new IOException("Daemon request line is too long");
+      }
+      line.append((char) ch);
+    }
+    if (line.length() == 0)
+    {
+      return null;
+    }
+    return line.toString();
+  }
+
+  private final int port;
+  private final Map<String, Connection> connections;
+  private DatabaseConnectorRegistry registry;
+  private byte[] token;
+  private boolean stopped;
+
+  public SchemaCrawlerDaemon(final int port)
+  {
+    this.port = port;
+    connections = new HashMap<>();
+  }
+
+  @Override
+  public void execute()
+    throws Exception
+  {
+    try (final ServerSocket serverSocket = new ServerSocket(port,
+                                                            50,
+                                                            InetAddress
+                                                              .getLoopbackAddress());)
+    {
+      // Load database plugins once, for all commands
+      registry = new DatabaseConnectorRegistry();
+      writeTokenFile();
+
+      LOGGER.log(Level.INFO,
+                 new StringFormat("SchemaCrawler daemon listening on port %d",
+                                  port));
+      System.out.printf("SchemaCrawler daemon listening on port %d%n", port);
+
+      while (!stopped)
+      {
+        try (final Socket socket = serverSocket.accept();)
+        {
+          socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+          handleRequest(socket);
+        }
+        catch (final IOException e)
+        {
+          LOGGER.log(Level.WARNING, "Could not handle daemon request", e);
+        }
+      }
+    }
+    finally
+    {
+      if (token != null)
+      {
+        Files.deleteIfExists(getTokenFile(port));
+      }
+      for (final Connection connection: connections.values())
+      {
+        closeQuietly(connection);
+      }
+      connections.clear();
+    }
+  }
+
+  private void closeQuietly(final Connection connection)
+  {
+    try
+    {
+      connection.close();
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.FINE, "Could not close connection", e);
+    }
+  }
+
+  /**
+   * Gets an open connection for the connection options, reusing a
+   * connection from an earlier command if it is still valid. Connections
+   * are only reused for the same URL, user, and password.
+   */
+  private Connection getConnection(final ConnectionOptions connectionOptions)
+    throws SQLException
+  {
+    final UserCredentials userCredentials = connectionOptions
+      .getUserCredentials();
+    final String user = userCredentials.getUser();
+    // Password can be read only once
+    final String password = userCredentials.getPassword();
+    final String connectionKey = digest(connectionOptions.getConnectionUrl(),
+                                        user,
+                                        password);
+
+    final Connection pooledConnection = connections.get(connectionKey);
+    if (pooledConnection != null)
+    {
+      if (isValid(pooledConnection))
+      {
+        return pooledConnection;
+      }
+      connections.remove(connectionKey);
+      closeQuietly(pooledConnection);
+    }
+
+    final Connection connection = connectionOptions.getConnection(user,
+                                                                  password);
+    connections.put(connectionKey, connection);
+    return connection;
+  }
+
+  /**
+   * Digests connection details, so that passwords are not kept in
+   * memory.
+   */
+  private String digest(final String... values)
+  {
+    final MessageDigest messageDigest;
+    try
+    {
+      messageDigest = MessageDigest.getInstance("SHA-256");
+    }
+    catch (final NoSuchAlgorithmException e)
+    {
+      // Every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+    for (final String value: values)
+    {
+      messageDigest.update(String.valueOf(value).getBytes(UTF_8));
+      messageDigest.update((byte) 0);
+    }
+    return toHex(messageDigest.digest());
+  }
+
+  private void handleRequest(final Socket socket)
+    throws IOException
+  {
+    final BufferedReader reader = new BufferedReader(new InputStreamReader(socket
+      .getInputStream(), UTF_8));
+    final Writer writer = new BufferedWriter(new OutputStreamWriter(socket
+      .getOutputStream(), UTF_8));
+
+    // Request is the daemon token, the client's working directory,
+    // followed by the command-line arguments, one per line, and then a
+    // blank line
+    final String requestToken = readLine(reader);
+    final PrintWriter out = new PrintWriter(writer);
+    if (requestToken == null
+        || !MessageDigest.isEqual(token, requestToken.getBytes(UTF_8)))
+    {
+      LOGGER.log(Level.WARNING, "Rejected daemon request with invalid token");
+      out.println("Error: Invalid SchemaCrawler daemon token");
+      out.flush();
+      return;
+    }
+
+    final String workingDirectory = readLine(reader);
+    final List<String> args = new ArrayList<>();
+    String line;
+    while ((line = readLine(reader)) != null && !line.isEmpty())
+    {
+      if (args.size() == MAX_REQUEST_LINES)
+      {
+        throw new IOException("Daemon request has too many arguments");
+      }
+      args.add(line);
+    }
+
+    if (args.size() == 1 && args.get(0).equals(STOP_REQUEST))
+    {
+      stopped = true;
+      out.println("Stopping SchemaCrawler daemon");
+    }
+    else if (isBlank(workingDirectory) || args.isEmpty())
+    {
+      out.println("Error: No command-line arguments provided");
+    }
+    else
+    {
+      try
+      {
+        runCommand(Paths.get(workingDirectory),
+                   args.toArray(new String[args.size()]),
+                   writer);
+      }
+      catch (final Throwable e)
+      {
+        LOGGER.log(Level.WARNING, "Could not run daemon request", e);
+        out.println();
+        out.print("Error: ");
+        out.println(e.getMessage());
+      }
+    }
+    out.flush();
+  }
+
+  private boolean isValid(final Connection connection)
+  {
+    try
+    {
+      return !connection.isClosed() && connection.isValid(5);
+    }
+    catch (final SQLException | AbstractMethodError e)
+    {
+      // Older drivers may not support validation
+      try
+      {
+        return !connection.isClosed();
+      }
+      catch (final SQLException e1)
+      {
+        return false;
+      }
+    }
+  }
+
+  private void runCommand(final Path workingDirectory,
+                          final String[] args,
+                          final Writer writer)
+    throws Exception
+  {
+    final Config argsMap = CommandLineUtility.parseArgs(args);
+
+    // Resolve file paths against the client's working directory
+    for (final String pathOption: PATH_OPTIONS)
+    {
+      final String value = argsMap.get(pathOption);
+      if (!isBlank(value))
+      {
+        argsMap.put(pathOption,
+                    workingDirectory.resolve(value).normalize().toString());
+      }
+    }
+    final boolean isConsoleOutput = !argsMap.hasValue("outputfile")
+                                    && !argsMap.hasValue("o");
+
+    // Keep crawled catalogs in memory, unless configured otherwise
+    if (!argsMap.hasValue(CACHE))
+    {
+      argsMap.put(CACHE, Boolean.TRUE.toString());
+    }
+    if (!argsMap.hasValue(CACHE_MEMORY_ENTRIES))
+    {
+      argsMap.put(CACHE_MEMORY_ENTRIES, "16");
+    }
+
+    final SchemaCrawlerCommandLine commandLine = new SchemaCrawlerCommandLine(argsMap,
+                                                                              registry);
+
+    final OutputOptions outputOptions;
+    if (isConsoleOutput)
+    {
+      // Stream output back to the client
+      outputOptions = OutputOptionsBuilder
+        .builder(commandLine.getOutputOptions()).withOutputWriter(writer)
+        .toOptions();
+    }
+    else
+    {
+      outputOptions = commandLine.getOutputOptions();
+    }
+
+    final Connection connection = getConnection(commandLine
+      .getConnectionOptions());
+    try
+    {
+      commandLine.execute(connection, outputOptions);
+    }
+    catch (final SQLException e)
+    {
+      // Do not reuse a connection that may be broken
+      connections.values().remove(connection);
+      closeQuietly(connection);
+      throw e;
+    }
+  }
+
+  private String toHex(final byte[] bytes)
+  {
+    final StringBuilder hex = new StringBuilder(bytes.length * 2);
+    for (final byte b: bytes)
+    {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
+  }
+
+  /**
+   * Writes a new random token to a file that only the current user can
+   * read.
+   */
+  private void writeTokenFile()
+    throws IOException
+  {
+    final byte[] randomBytes = new byte[32];
+    new SecureRandom().nextBytes(randomBytes);
+    final String tokenString = toHex(randomBytes);
+
+    final Path tokenFile = getTokenFile(port);
+    final Path tokenDirectory = tokenFile.getParent();
+    final boolean isPosix = tokenDirectory.getFileSystem()
+      .supportedFileAttributeViews().contains("posix");
+    if (isPosix)
+    {
+      Files.createDirectories(tokenDirectory,
+                              PosixFilePermissions
+                                .asFileAttribute(PosixFilePermissions
+                                  .fromString("rwx------")));
+    }
+    else
+    {
+      Files.createDirectories(tokenDirectory);
+    }
+
+    // Temporary files are created readable only by the current user
+    final Path tempFile = Files.createTempFile(tokenDirectory,
+                                               "daemon",
+                                               ".tmp");
+    Files.write(tempFile, tokenString.getBytes(UTF_8));
+    Files.move(tempFile,
+               tokenFile,
+               StandardCopyOption.REPLACE_EXISTING,
+               StandardCopyOption.ATOMIC_MOVE);
+    token = tokenString.getBytes(UTF_8);
+  }
+
+}
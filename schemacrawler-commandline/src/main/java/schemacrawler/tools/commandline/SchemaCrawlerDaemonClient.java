@@ -0,0 +1,148 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+
+/**
+ * Sends a command to a running {@link SchemaCrawlerDaemon}, and prints
+ * the output that is streamed back. The command is authenticated with
+ * the token from the daemon's token file.
+ */
+public final class SchemaCrawlerDaemonClient
+  implements CommandLine
+{
+
+  private final DaemonOptions daemonOptions;
+  private final Config argsMap;
+  private final PrintStream out;
+
+  public SchemaCrawlerDaemonClient(final DaemonOptions daemonOptions,
+                                   final Config argsMap)
+  {
+    this(daemonOptions, argsMap, System.out);
+  }
+
+  public SchemaCrawlerDaemonClient(final DaemonOptions daemonOptions,
+                                   final Config argsMap,
+                                   final PrintStream out)
+  {
+    this.daemonOptions = requireNonNull(daemonOptions,
+                                        "No daemon options provided");
+    this.argsMap = requireNonNull(argsMap, "No arguments provided");
+    this.out = requireNonNull(out, "No output stream provided");
+  }
+
+  @Override
+  public void execute()
+    throws Exception
+  {
+    final int port = daemonOptions.getPort();
+    final Path tokenFile = SchemaCrawlerDaemon.getTokenFile(port);
+    if (!Files.isReadable(tokenFile))
+    {
+      throw new SchemaCrawlerException(String
+        .format("SchemaCrawler daemon is not running on port %d", port));
+    }
+    final String token = new String(Files.readAllBytes(tokenFile), UTF_8);
+
+    try (final Socket socket = new Socket(InetAddress.getLoopbackAddress(),
+                                          port);)
+    {
+      final Writer writer = new BufferedWriter(new OutputStreamWriter(socket
+        .getOutputStream(), UTF_8));
+      writer.write(token);
+      writer.write("\n");
+      writer.write(Paths.get(".").toAbsolutePath().normalize().toString());
+      writer.write("\n");
+      if (daemonOptions.isStopDaemon())
+      {
+        writer.write(SchemaCrawlerDaemon.STOP_REQUEST);
+        writer.write("\n");
+      }
+      else
+      {
+        for (final Map.Entry<String, String> arg: argsMap.entrySet())
+        {
+          writer.write("-");
+          writer.write(arg.getKey());
+          if (arg.getValue() != null)
+          {
+            writer.write("=");
+            writer.write(arg.getValue());
+          }
+          writer.write("\n");
+        }
+      }
+      writer.write("\n");
+      writer.flush();
+      socket.shutdownOutput();
+
+      final Reader reader = new InputStreamReader(socket.getInputStream(),
+                                                  UTF_8);
+      final char[] buffer = new char[8192];
+      int read;
+      while ((read = reader.read(buffer)) != -1)
+      {
+        out.print(new String(buffer, 0, read));
+      }
+      out.flush();
+    }
+    catch (final ConnectException e)
+    {
+      throw new SchemaCrawlerException(String
+        .format("SchemaCrawler daemon is not running on port %d", port), e);
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Could not send command to SchemaCrawler daemon",
+                                       e);
+    }
+  }
+
+}
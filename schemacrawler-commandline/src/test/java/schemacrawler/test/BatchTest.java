@@ -0,0 +1,162 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.SchemaCrawlerCommandLineException;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.commandline.BatchOptions;
+import schemacrawler.tools.commandline.SchemaCrawlerBatch;
+
+public class BatchTest
+  extends BaseDatabaseTest
+{
+
+  private Path batchDirectory;
+  private Properties manifest;
+
+  @Test
+  public void batch()
+    throws Exception
+  {
+    manifest.setProperty("jobs", "list, schema");
+    manifest.setProperty("list.command", "list");
+    manifest.setProperty("list.outputfile", "list.txt");
+    manifest.setProperty("schema.command", "schema");
+    manifest.setProperty("schema.outputfile", "output/schema.txt");
+
+    final String summary = runBatch();
+
+    assertTrue("No summary", summary.contains("2 jobs, 2 succeeded, 0 failed"));
+    assertTrue("No list output",
+               new String(Files.readAllBytes(batchDirectory.resolve("list.txt")),
+                          UTF_8).contains("AUTHORS"));
+    assertTrue("No schema output",
+               new String(Files.readAllBytes(batchDirectory
+                 .resolve("output/schema.txt")), UTF_8).contains("AUTHORS"));
+  }
+
+  @Test
+  public void failedJob()
+    throws Exception
+  {
+    manifest.setProperty("jobs", "good, bad");
+    manifest.setProperty("command", "list");
+    manifest.setProperty("good.outputfile", "good.txt");
+    manifest.setProperty("bad.command", "badcommand");
+    manifest.setProperty("bad.outputfile", "bad.txt");
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try
+    {
+      runBatch(output);
+      fail("Failed job was not reported");
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      assertEquals("1 of 2 batch jobs failed", e.getMessage());
+    }
+
+    final String summary = new String(output.toByteArray(), UTF_8);
+    assertTrue("No summary", summary.contains("2 jobs, 1 succeeded, 1 failed"));
+    assertTrue("Failed job not in summary", summary.contains("FAILED"));
+    assertTrue("Good job did not run",
+               Files.exists(batchDirectory.resolve("good.txt")));
+  }
+
+  @Test(expected = SchemaCrawlerCommandLineException.class)
+  public void noOutputFile()
+    throws Exception
+  {
+    manifest.setProperty("jobs", "list");
+    manifest.setProperty("command", "list");
+
+    runBatch();
+  }
+
+  @Before
+  public void setUpManifest()
+    throws Exception
+  {
+    batchDirectory = Files.createTempDirectory("schemacrawler.batch.");
+    batchDirectory.toFile().deleteOnExit();
+
+    manifest = new Properties();
+    manifest.setProperty("url", "jdbc:hsqldb:hsql://localhost/schemacrawler");
+    manifest.setProperty("user", "sa");
+    manifest.setProperty("password", "");
+    manifest.setProperty("noinfo", Boolean.TRUE.toString());
+    manifest.setProperty("schemas", ".*\\.(?!FOR_LINT).*");
+    manifest.setProperty("infolevel", "standard");
+    manifest.setProperty("outputformat", "text");
+  }
+
+  private String runBatch()
+    throws Exception
+  {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    runBatch(output);
+    return new String(output.toByteArray(), UTF_8);
+  }
+
+  private void runBatch(final ByteArrayOutputStream output)
+    throws Exception
+  {
+    final Path manifestFile = batchDirectory.resolve("manifest.properties");
+    try (final Writer writer = Files.newBufferedWriter(manifestFile, UTF_8);)
+    {
+      manifest.store(writer, null);
+    }
+
+    final BatchOptions batchOptions = new BatchOptions();
+    batchOptions.setManifestFile(manifestFile);
+    batchOptions.setThreads(2);
+
+    try (final PrintStream out = new PrintStream(output, true, UTF_8.name());)
+    {
+      new SchemaCrawlerBatch(batchOptions, out).execute();
+    }
+  }
+
+}
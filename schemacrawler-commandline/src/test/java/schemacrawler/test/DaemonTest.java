@@ -0,0 +1,256 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.commandline.DaemonOptions;
+import schemacrawler.tools.commandline.SchemaCrawlerDaemon;
+import schemacrawler.tools.commandline.SchemaCrawlerDaemonClient;
+
+public class DaemonTest
+  extends BaseDatabaseTest
+{
+
+  private DaemonOptions daemonOptions;
+  private Thread daemonThread;
+  private Path cacheDirectory;
+  private Path daemonDirectory;
+
+  @Test
+  public void repeatedCommands()
+    throws Exception
+  {
+    final String firstOutput = runCommand("list");
+    final String secondOutput = runCommand("list");
+
+    assertTrue("No output from daemon", firstOutput.contains("AUTHORS"));
+    assertEquals("Output from cached catalog does not match",
+                 firstOutput,
+                 secondOutput);
+  }
+
+  @Test
+  public void commandError()
+    throws Exception
+  {
+    final String output = runCommand("badcommand");
+
+    assertTrue("No error from daemon", output.contains("Error: "));
+    assertTrue("Daemon stopped after an error",
+               runCommand("list").contains("AUTHORS"));
+  }
+
+  @Test
+  public void idleConnection()
+    throws Exception
+  {
+    // A connection that sends nothing should not hold up other clients
+    try (final Socket socket = new Socket("localhost", daemonOptions.getPort());)
+    {
+      assertTrue("No output from daemon",
+                 runCommand("list").contains("AUTHORS"));
+    }
+  }
+
+  @Test
+  public void invalidToken()
+    throws Exception
+  {
+    final String output = sendRequest("invalid-token\n.\n-command=list\n\n");
+
+    assertTrue("Request with invalid token was not rejected",
+               output.contains("Invalid SchemaCrawler daemon token"));
+    assertFalse("Request with invalid token was run",
+                output.contains("AUTHORS"));
+  }
+
+  @Test
+  public void largeRequest()
+    throws Exception
+  {
+    final StringBuilder request = new StringBuilder();
+    for (int i = 0; i < 100_000; i++)
+    {
+      request.append('x');
+    }
+    request.append("\n.\n-command=list\n\n");
+
+    String output;
+    try
+    {
+      output = sendRequest(request.toString());
+    }
+    catch (final SocketException e)
+    {
+      // The daemon may close the connection before reading the request
+      output = "";
+    }
+    assertFalse("Large request was run", output.contains("AUTHORS"));
+    assertTrue("Daemon stopped after a large request",
+               runCommand("list").contains("AUTHORS"));
+  }
+
+  @Test
+  public void pooledConnectionNeedsPassword()
+    throws Exception
+  {
+    assertTrue("No output from daemon", runCommand("list").contains("AUTHORS"));
+    assertTrue("Pooled connection was used with wrong password",
+               runCommand("list", "wrong-password").contains("Error: "));
+  }
+
+  @Before
+  public void startDaemon()
+    throws Exception
+  {
+    final int port;
+    try (final ServerSocket serverSocket = new ServerSocket(0);)
+    {
+      port = serverSocket.getLocalPort();
+    }
+    daemonOptions = new DaemonOptions();
+    daemonOptions.setPort(port);
+
+    cacheDirectory = Files.createTempDirectory("schemacrawler.cache.");
+    cacheDirectory.toFile().deleteOnExit();
+    // Keep token files out of the user's home directory
+    daemonDirectory = Files.createTempDirectory("schemacrawler.daemon.");
+    daemonDirectory.toFile().deleteOnExit();
+    System.setProperty("schemacrawler.daemon.directory",
+                       daemonDirectory.toString());
+
+    daemonThread = new Thread(() -> {
+      try
+      {
+        new SchemaCrawlerDaemon(port).execute();
+      }
+      catch (final Exception e)
+      {
+        throw new RuntimeException(e);
+      }
+    });
+    daemonThread.setDaemon(true);
+    daemonThread.start();
+
+    // Wait for the daemon to listen, and write its token file
+    final Path tokenFile = daemonDirectory
+      .resolve(String.format("daemon-%d.token", port));
+    for (int i = 0; i < 50 && !Files.exists(tokenFile); i++)
+    {
+      Thread.sleep(100);
+    }
+  }
+
+  @After
+  public void stopDaemon()
+    throws Exception
+  {
+    final DaemonOptions stopOptions = new DaemonOptions();
+    stopOptions.setPort(daemonOptions.getPort());
+    stopOptions.setStopDaemon(true);
+    new SchemaCrawlerDaemonClient(stopOptions,
+                                  new Config(),
+                                  new PrintStream(new ByteArrayOutputStream()))
+                                    .execute();
+    daemonThread.join(10_000L);
+    System.clearProperty("schemacrawler.daemon.directory");
+  }
+
+  private String sendRequest(final String request)
+    throws Exception
+  {
+    try (final Socket socket = new Socket("localhost", daemonOptions.getPort());
+        final Writer writer = new OutputStreamWriter(socket.getOutputStream(),
+                                                     UTF_8);)
+    {
+      writer.write(request);
+      writer.flush();
+      socket.shutdownOutput();
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      final InputStream in = socket.getInputStream();
+      final byte[] buffer = new byte[8192];
+      int read;
+      while ((read = in.read(buffer)) != -1)
+      {
+        bytes.write(buffer, 0, read);
+      }
+      return new String(bytes.toByteArray(), UTF_8);
+    }
+  }
+
+  private String runCommand(final String command)
+    throws Exception
+  {
+    return runCommand(command, "");
+  }
+
+  private String runCommand(final String command, final String password)
+    throws Exception
+  {
+    final Config argsMap = new Config();
+    argsMap.put("url", "jdbc:hsqldb:hsql://localhost/schemacrawler");
+    argsMap.put("user", "sa");
+    argsMap.put("password", password);
+    argsMap.put("noinfo", Boolean.TRUE.toString());
+    argsMap.put("schemas", ".*\\.(?!FOR_LINT).*");
+    argsMap.put("infolevel", "standard");
+    argsMap.put("command", command);
+    argsMap.put("outputformat", "text");
+    argsMap.put("schemacrawler.cache.directory", cacheDirectory.toString());
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (final PrintStream out = new PrintStream(output, true, UTF_8.name());)
+    {
+      new SchemaCrawlerDaemonClient(daemonOptions, argsMap, out).execute();
+    }
+    return new String(output.toByteArray(), UTF_8);
+  }
+
+}
@@ -57,11 +57,19 @@ public final class DB2DatabaseConnector
   }
 
   @Override
-  public SchemaRetrievalOptionsBuilder getSchemaRetrievalOptionsBuilder(Connection connection)
+  public SchemaRetrievalOptionsBuilder getSchemaRetrievalOptionsBuilder(final Connection connection)
   {
     final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder = super.getSchemaRetrievalOptionsBuilder(connection);
     schemaRetrievalOptionsBuilder
-      .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.metadata_all);
+      .withTableRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withPrimaryKeyRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withIndexRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withProcedureRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withProcedureColumnRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withFunctionRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withFunctionColumnRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all);
     return schemaRetrievalOptionsBuilder;
   }
 
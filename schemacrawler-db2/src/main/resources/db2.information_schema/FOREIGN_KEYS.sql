@@ -1,19 +1,40 @@
-SELECT 
-  FK.PKTABLE_CAT,
-  FK.PKTABLE_SCHEM,
-  FK.PKTABLE_NAME,
-  FK.PKCOLUMN_NAME,
-  FK.FKTABLE_CAT,
-  FK.FKTABLE_SCHEM,
-  FK.FKTABLE_NAME,
-  FK.FKCOLUMN_NAME,
-  FK.KEY_SEQ,
-  FK.UPDATE_RULE,
-  FK.DELETE_RULE,
-  FK.FK_NAME,
-  FK.PK_NAME,
-  FK.DEFERRABILITY,
-  FK.UNIQUE_OR_PRIMARY
+SELECT
+  NULLIF(1, 1) AS PKTABLE_CAT,
+  STRIP(FOREIGN_KEYS.REFTABSCHEMA) AS PKTABLE_SCHEM,
+  STRIP(FOREIGN_KEYS.REFTABNAME) AS PKTABLE_NAME,
+  STRIP(PK_COLUMNS.COLNAME) AS PKCOLUMN_NAME,
+  NULLIF(1, 1) AS FKTABLE_CAT,
+  STRIP(FOREIGN_KEYS.TABSCHEMA) AS FKTABLE_SCHEM,
+  STRIP(FOREIGN_KEYS.TABNAME) AS FKTABLE_NAME,
+  STRIP(FK_COLUMNS.COLNAME) AS FKCOLUMN_NAME,
+  FK_COLUMNS.COLSEQ AS KEY_SEQ,
+  CASE FOREIGN_KEYS.UPDATERULE
+    WHEN 'R' THEN 1
+    ELSE 3
+  END AS UPDATE_RULE,
+  CASE FOREIGN_KEYS.DELETERULE
+    WHEN 'C' THEN 0
+    WHEN 'R' THEN 1
+    WHEN 'N' THEN 2
+    ELSE 3
+  END AS DELETE_RULE,
+  STRIP(FOREIGN_KEYS.CONSTNAME) AS FK_NAME,
+  STRIP(FOREIGN_KEYS.REFKEYNAME) AS PK_NAME,
+  7 AS DEFERRABILITY
 FROM
-  SYSIBM.SQLFOREIGNKEYS FK
+  SYSCAT.REFERENCES AS FOREIGN_KEYS
+  INNER JOIN SYSCAT.KEYCOLUSE AS FK_COLUMNS
+    ON FK_COLUMNS.TABSCHEMA = FOREIGN_KEYS.TABSCHEMA
+    AND FK_COLUMNS.TABNAME = FOREIGN_KEYS.TABNAME
+    AND FK_COLUMNS.CONSTNAME = FOREIGN_KEYS.CONSTNAME
+  INNER JOIN SYSCAT.KEYCOLUSE AS PK_COLUMNS
+    ON PK_COLUMNS.TABSCHEMA = FOREIGN_KEYS.REFTABSCHEMA
+    AND PK_COLUMNS.TABNAME = FOREIGN_KEYS.REFTABNAME
+    AND PK_COLUMNS.CONSTNAME = FOREIGN_KEYS.REFKEYNAME
+    AND PK_COLUMNS.COLSEQ = FK_COLUMNS.COLSEQ
+ORDER BY
+  FOREIGN_KEYS.REFTABSCHEMA,
+  FOREIGN_KEYS.REFTABNAME,
+  FOREIGN_KEYS.CONSTNAME,
+  FK_COLUMNS.COLSEQ
 WITH UR
@@ -0,0 +1,16 @@
+SELECT
+  NULLIF(1, 1) AS FUNCTION_CAT,
+  STRIP(ROUTINES.ROUTINESCHEMA) AS FUNCTION_SCHEM,
+  STRIP(ROUTINES.ROUTINENAME) AS FUNCTION_NAME,
+  ROUTINES.REMARKS,
+  CASE ROUTINES.FUNCTIONTYPE WHEN 'T' THEN 2 ELSE 1 END AS FUNCTION_TYPE,
+  STRIP(ROUTINES.SPECIFICNAME) AS SPECIFIC_NAME
+FROM
+  SYSCAT.ROUTINES AS ROUTINES
+WHERE
+  ROUTINES.ROUTINETYPE = 'F'
+ORDER BY
+  ROUTINES.ROUTINESCHEMA,
+  ROUTINES.ROUTINENAME,
+  ROUTINES.SPECIFICNAME
+WITH UR
@@ -0,0 +1,82 @@
+SELECT
+  NULLIF(1, 1) AS FUNCTION_CAT,
+  STRIP(ROUTINES.ROUTINESCHEMA) AS FUNCTION_SCHEM,
+  STRIP(ROUTINES.ROUTINENAME) AS FUNCTION_NAME,
+  COALESCE(STRIP(PARAMETERS.PARMNAME), '') AS COLUMN_NAME,
+  CASE PARAMETERS.ROWTYPE
+    WHEN 'P' THEN 1
+    WHEN 'B' THEN 2
+    WHEN 'O' THEN 3
+    WHEN 'R' THEN
+      CASE ROUTINES.FUNCTIONTYPE WHEN 'T' THEN 5 ELSE 4 END
+    ELSE 0
+  END AS COLUMN_TYPE,
+  CASE
+    WHEN PARAMETERS.TYPESCHEMA <> 'SYSIBM' THEN 2001
+    WHEN PARAMETERS.CODEPAGE = 0 AND PARAMETERS.TYPENAME = 'CHARACTER' THEN -2
+    WHEN PARAMETERS.CODEPAGE = 0 AND PARAMETERS.TYPENAME = 'VARCHAR' THEN -3
+    WHEN PARAMETERS.CODEPAGE = 0 AND PARAMETERS.TYPENAME = 'LONG VARCHAR' THEN -4
+    ELSE
+      CASE PARAMETERS.TYPENAME
+        WHEN 'SMALLINT' THEN 5
+        WHEN 'INTEGER' THEN 4
+        WHEN 'BIGINT' THEN -5
+        WHEN 'DECIMAL' THEN 3
+        WHEN 'REAL' THEN 7
+        WHEN 'DOUBLE' THEN 8
+        WHEN 'CHARACTER' THEN 1
+        WHEN 'VARCHAR' THEN 12
+        WHEN 'LONG VARCHAR' THEN -1
+        WHEN 'GRAPHIC' THEN 1
+        WHEN 'VARGRAPHIC' THEN 12
+        WHEN 'LONG VARGRAPHIC' THEN -1
+        WHEN 'BINARY' THEN -2
+        WHEN 'VARBINARY' THEN -3
+        WHEN 'CLOB' THEN 2005
+        WHEN 'DBCLOB' THEN 2005
+        WHEN 'BLOB' THEN 2004
+        WHEN 'DATE' THEN 91
+        WHEN 'TIME' THEN 92
+        WHEN 'TIMESTAMP' THEN 93
+        WHEN 'XML' THEN 2009
+        WHEN 'BOOLEAN' THEN 16
+        ELSE 1111
+      END
+  END AS DATA_TYPE,
+  CASE
+    WHEN PARAMETERS.CODEPAGE = 0
+      AND PARAMETERS.TYPENAME IN ('CHARACTER', 'VARCHAR', 'LONG VARCHAR')
+      THEN STRIP(PARAMETERS.TYPENAME) || ' FOR BIT DATA'
+    ELSE STRIP(PARAMETERS.TYPENAME)
+  END AS TYPE_NAME,
+  PARAMETERS.LENGTH AS PRECISION,
+  PARAMETERS.LENGTH AS LENGTH,
+  PARAMETERS.SCALE AS SCALE,
+  10 AS RADIX,
+  1 AS NULLABLE,
+  PARAMETERS.REMARKS,
+  NULLIF(1, 1) AS COLUMN_DEF,
+  NULLIF(1, 1) AS SQL_DATA_TYPE,
+  NULLIF(1, 1) AS SQL_DATETIME_SUB,
+  CASE
+    WHEN PARAMETERS.TYPENAME IN ('CHARACTER', 'VARCHAR', 'LONG VARCHAR', 'BINARY', 'VARBINARY')
+      THEN PARAMETERS.LENGTH
+  END AS CHAR_OCTET_LENGTH,
+  PARAMETERS.ORDINAL AS ORDINAL_POSITION,
+  'YES' AS IS_NULLABLE,
+  STRIP(ROUTINES.SPECIFICNAME) AS SPECIFIC_NAME
+FROM
+  SYSCAT.ROUTINEPARMS AS PARAMETERS
+  INNER JOIN SYSCAT.ROUTINES AS ROUTINES
+    ON ROUTINES.ROUTINESCHEMA = PARAMETERS.ROUTINESCHEMA
+    AND ROUTINES.SPECIFICNAME = PARAMETERS.SPECIFICNAME
+WHERE
+  ROUTINES.ROUTINETYPE = 'F'
+  AND PARAMETERS.ROWTYPE <> 'C'
+ORDER BY
+  ROUTINES.ROUTINESCHEMA,
+  ROUTINES.ROUTINENAME,
+  ROUTINES.SPECIFICNAME,
+  PARAMETERS.ROWTYPE,
+  PARAMETERS.ORDINAL
+WITH UR
@@ -0,0 +1,27 @@
+SELECT
+  NULLIF(1, 1) AS TABLE_CAT,
+  STRIP(INDEXES.TABSCHEMA) AS TABLE_SCHEM,
+  STRIP(INDEXES.TABNAME) AS TABLE_NAME,
+  CASE INDEXES.UNIQUERULE WHEN 'D' THEN 1 ELSE 0 END AS NON_UNIQUE,
+  STRIP(INDEXES.INDSCHEMA) AS INDEX_QUALIFIER,
+  STRIP(INDEXES.INDNAME) AS INDEX_NAME,
+  CASE INDEXES.INDEXTYPE WHEN 'CLUS' THEN 1 ELSE 3 END AS TYPE,
+  INDEX_COLUMNS.COLSEQ AS ORDINAL_POSITION,
+  STRIP(INDEX_COLUMNS.COLNAME) AS COLUMN_NAME,
+  INDEX_COLUMNS.COLORDER AS ASC_OR_DESC,
+  INDEXES.FULLKEYCARD AS CARDINALITY,
+  INDEXES.NLEAF AS PAGES,
+  NULLIF(1, 1) AS FILTER_CONDITION
+FROM
+  SYSCAT.INDEXES AS INDEXES
+  INNER JOIN SYSCAT.INDEXCOLUSE AS INDEX_COLUMNS
+    ON INDEX_COLUMNS.INDSCHEMA = INDEXES.INDSCHEMA
+    AND INDEX_COLUMNS.INDNAME = INDEXES.INDNAME
+WHERE
+  INDEX_COLUMNS.COLORDER IN ('A', 'D')
+ORDER BY
+  INDEXES.TABSCHEMA,
+  INDEXES.TABNAME,
+  INDEXES.INDNAME,
+  INDEX_COLUMNS.COLSEQ
+WITH UR
@@ -0,0 +1,21 @@
+SELECT
+  NULLIF(1, 1) AS TABLE_CAT,
+  STRIP(CONSTRAINTS.TABSCHEMA) AS TABLE_SCHEM,
+  STRIP(CONSTRAINTS.TABNAME) AS TABLE_NAME,
+  STRIP(KEY_COLUMNS.COLNAME) AS COLUMN_NAME,
+  KEY_COLUMNS.COLSEQ AS KEY_SEQ,
+  STRIP(CONSTRAINTS.CONSTNAME) AS PK_NAME
+FROM
+  SYSCAT.TABCONST AS CONSTRAINTS
+  INNER JOIN SYSCAT.KEYCOLUSE AS KEY_COLUMNS
+    ON KEY_COLUMNS.TABSCHEMA = CONSTRAINTS.TABSCHEMA
+    AND KEY_COLUMNS.TABNAME = CONSTRAINTS.TABNAME
+    AND KEY_COLUMNS.CONSTNAME = CONSTRAINTS.CONSTNAME
+WHERE
+  CONSTRAINTS.TYPE = 'P'
+ORDER BY
+  CONSTRAINTS.TABSCHEMA,
+  CONSTRAINTS.TABNAME,
+  CONSTRAINTS.CONSTNAME,
+  KEY_COLUMNS.COLSEQ
+WITH UR
@@ -0,0 +1,16 @@
+SELECT
+  NULLIF(1, 1) AS PROCEDURE_CAT,
+  STRIP(ROUTINES.ROUTINESCHEMA) AS PROCEDURE_SCHEM,
+  STRIP(ROUTINES.ROUTINENAME) AS PROCEDURE_NAME,
+  ROUTINES.REMARKS,
+  CASE WHEN ROUTINES.RESULT_SETS > 0 THEN 2 ELSE 1 END AS PROCEDURE_TYPE,
+  STRIP(ROUTINES.SPECIFICNAME) AS SPECIFIC_NAME
+FROM
+  SYSCAT.ROUTINES AS ROUTINES
+WHERE
+  ROUTINES.ROUTINETYPE = 'P'
+ORDER BY
+  ROUTINES.ROUTINESCHEMA,
+  ROUTINES.ROUTINENAME,
+  ROUTINES.SPECIFICNAME
+WITH UR
@@ -0,0 +1,28 @@
+SELECT
+  NULLIF(1, 1) AS TABLE_CAT,
+  STRIP(TABLES.TABSCHEMA) AS TABLE_SCHEM,
+  STRIP(TABLES.TABNAME) AS TABLE_NAME,
+  CASE
+    WHEN TABLES.TYPE = 'T' AND TABLES.TABSCHEMA LIKE 'SYS%' THEN 'SYSTEM TABLE'
+    ELSE
+      CASE TABLES.TYPE
+        WHEN 'T' THEN 'TABLE'
+        WHEN 'U' THEN 'TABLE'
+        WHEN 'V' THEN 'VIEW'
+        WHEN 'W' THEN 'VIEW'
+        WHEN 'A' THEN 'ALIAS'
+        WHEN 'S' THEN 'MATERIALIZED QUERY TABLE'
+        WHEN 'N' THEN 'NICKNAME'
+        WHEN 'H' THEN 'HIERARCHY TABLE'
+        WHEN 'G' THEN 'GLOBAL TEMPORARY TABLE'
+      END
+  END AS TABLE_TYPE,
+  TABLES.REMARKS
+FROM
+  SYSCAT.TABLES AS TABLES
+WHERE
+  TABLES.TYPE IN ('T', 'U', 'V', 'W', 'A', 'S', 'N', 'H', 'G')
+ORDER BY
+  TABLES.TABSCHEMA,
+  TABLES.TABNAME
+WITH UR
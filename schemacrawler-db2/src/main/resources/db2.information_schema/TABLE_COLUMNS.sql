@@ -0,0 +1,71 @@
+SELECT
+  NULLIF(1, 1) AS TABLE_CAT,
+  STRIP(COLUMNS.TABSCHEMA) AS TABLE_SCHEM,
+  STRIP(COLUMNS.TABNAME) AS TABLE_NAME,
+  STRIP(COLUMNS.COLNAME) AS COLUMN_NAME,
+  CASE
+    WHEN COLUMNS.TYPESCHEMA <> 'SYSIBM' THEN 2001
+    WHEN COLUMNS.CODEPAGE = 0 AND COLUMNS.TYPENAME = 'CHARACTER' THEN -2
+    WHEN COLUMNS.CODEPAGE = 0 AND COLUMNS.TYPENAME = 'VARCHAR' THEN -3
+    WHEN COLUMNS.CODEPAGE = 0 AND COLUMNS.TYPENAME = 'LONG VARCHAR' THEN -4
+    ELSE
+      CASE COLUMNS.TYPENAME
+        WHEN 'SMALLINT' THEN 5
+        WHEN 'INTEGER' THEN 4
+        WHEN 'BIGINT' THEN -5
+        WHEN 'DECIMAL' THEN 3
+        WHEN 'REAL' THEN 7
+        WHEN 'DOUBLE' THEN 8
+        WHEN 'CHARACTER' THEN 1
+        WHEN 'VARCHAR' THEN 12
+        WHEN 'LONG VARCHAR' THEN -1
+        WHEN 'GRAPHIC' THEN 1
+        WHEN 'VARGRAPHIC' THEN 12
+        WHEN 'LONG VARGRAPHIC' THEN -1
+        WHEN 'BINARY' THEN -2
+        WHEN 'VARBINARY' THEN -3
+        WHEN 'CLOB' THEN 2005
+        WHEN 'DBCLOB' THEN 2005
+        WHEN 'BLOB' THEN 2004
+        WHEN 'DATE' THEN 91
+        WHEN 'TIME' THEN 92
+        WHEN 'TIMESTAMP' THEN 93
+        WHEN 'XML' THEN 2009
+        WHEN 'BOOLEAN' THEN 16
+        ELSE 1111
+      END
+  END AS DATA_TYPE,
+  CASE
+    WHEN COLUMNS.CODEPAGE = 0
+      AND COLUMNS.TYPENAME IN ('CHARACTER', 'VARCHAR', 'LONG VARCHAR')
+      THEN STRIP(COLUMNS.TYPENAME) || ' FOR BIT DATA'
+    ELSE STRIP(COLUMNS.TYPENAME)
+  END AS TYPE_NAME,
+  COLUMNS.LENGTH AS COLUMN_SIZE,
+  NULLIF(1, 1) AS BUFFER_LENGTH,
+  COLUMNS.SCALE AS DECIMAL_DIGITS,
+  10 AS NUM_PREC_RADIX,
+  CASE COLUMNS.NULLS WHEN 'Y' THEN 1 ELSE 0 END AS NULLABLE,
+  COLUMNS.REMARKS,
+  COLUMNS.DEFAULT AS COLUMN_DEF,
+  NULLIF(1, 1) AS SQL_DATA_TYPE,
+  NULLIF(1, 1) AS SQL_DATETIME_SUB,
+  CASE
+    WHEN COLUMNS.TYPENAME IN ('CHARACTER', 'VARCHAR', 'LONG VARCHAR', 'BINARY', 'VARBINARY')
+      THEN COLUMNS.LENGTH
+  END AS CHAR_OCTET_LENGTH,
+  COLUMNS.COLNO + 1 AS ORDINAL_POSITION,
+  CASE COLUMNS.NULLS WHEN 'Y' THEN 'YES' ELSE 'NO' END AS IS_NULLABLE,
+  CASE COLUMNS.IDENTITY WHEN 'Y' THEN 'YES' ELSE 'NO' END AS IS_AUTOINCREMENT,
+  CASE
+    WHEN COLUMNS.GENERATED <> ' ' AND COLUMNS.IDENTITY = 'N' THEN 'YES'
+    ELSE 'NO'
+  END AS IS_GENERATEDCOLUMN,
+  CASE COLUMNS.HIDDEN WHEN 'I' THEN 'YES' ELSE 'NO' END AS IS_HIDDEN
+FROM
+  SYSCAT.COLUMNS AS COLUMNS
+ORDER BY
+  COLUMNS.TABSCHEMA,
+  COLUMNS.TABNAME,
+  COLUMNS.COLNO
+WITH UR
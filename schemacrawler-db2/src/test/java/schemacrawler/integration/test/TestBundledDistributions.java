@@ -35,6 +35,8 @@ import java.sql.Connection;
 
 import org.junit.Test;
 
+import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.test.utility.BaseSchemaCrawlerTest;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
 import schemacrawler.tools.databaseconnector.DatabaseConnectorRegistry;
@@ -52,12 +54,41 @@ public class TestBundledDistributions
     final DatabaseConnectorRegistry registry = new DatabaseConnectorRegistry();
     final DatabaseConnector databaseSystemIdentifier = registry
       .lookupDatabaseConnector("db2");
-    assertEquals(11,
+    assertEquals(19,
                  databaseSystemIdentifier
                    .getSchemaRetrievalOptionsBuilder(connection).toOptions()
                    .getInformationSchemaViews().size());
   }
 
+  @Test
+  public void testMetadataRetrievalStrategy_db2()
+    throws Exception
+  {
+    final Connection connection = null;
+    final DatabaseConnectorRegistry registry = new DatabaseConnectorRegistry();
+    final SchemaRetrievalOptions schemaRetrievalOptions = registry
+      .lookupDatabaseConnector("db2")
+      .getSchemaRetrievalOptionsBuilder(connection).toOptions();
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getTableRetrievalStrategy());
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getTableColumnRetrievalStrategy());
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getPrimaryKeyRetrievalStrategy());
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getForeignKeyRetrievalStrategy());
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getIndexRetrievalStrategy());
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getProcedureRetrievalStrategy());
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getProcedureColumnRetrievalStrategy());
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getFunctionRetrievalStrategy());
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getFunctionColumnRetrievalStrategy());
+  }
+
   @Test
   public void testPlugin_db2()
     throws Exception
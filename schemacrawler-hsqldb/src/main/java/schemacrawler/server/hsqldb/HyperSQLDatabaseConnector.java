@@ -28,11 +28,14 @@ http://www.gnu.org/licenses/
 package schemacrawler.server.hsqldb;
 
 
+import schemacrawler.crawl.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.DatabaseServerType;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
 import schemacrawler.tools.iosource.ClasspathInputResource;
 
 import java.io.IOException;
+import java.sql.Connection;
 import java.util.regex.Pattern;
 
 public final class HyperSQLDatabaseConnector
@@ -53,4 +56,16 @@ public final class HyperSQLDatabaseConnector
           url -> Pattern.matches("jdbc:hsqldb:.*", url));
   }
 
+  @Override
+  public SchemaRetrievalOptionsBuilder getSchemaRetrievalOptionsBuilder(final Connection connection)
+  {
+    final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder = super.getSchemaRetrievalOptionsBuilder(connection);
+    schemaRetrievalOptionsBuilder
+      .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withPrimaryKeyRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withIndexRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all);
+    return schemaRetrievalOptionsBuilder;
+  }
+
 }
@@ -0,0 +1,16 @@
+SELECT
+  TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  KEY_SEQ,
+  PK_NAME
+FROM
+  INFORMATION_SCHEMA.SYSTEM_PRIMARYKEYS
+WHERE
+  REGEXP_MATCHES(TABLE_CAT || '.' || TABLE_SCHEM, '${schemas}')
+ORDER BY
+  TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME,
+  KEY_SEQ
@@ -35,6 +35,8 @@ import java.sql.Connection;
 
 import org.junit.Test;
 
+import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.test.utility.BaseDatabaseTest;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
 import schemacrawler.tools.databaseconnector.DatabaseConnectorRegistry;
@@ -51,12 +53,31 @@ public class TestBundledDistributions
     final DatabaseConnector databaseSystemIdentifier = registry
       .lookupDatabaseConnector("hsqldb");
     final Connection connection = null;
-    assertEquals(10,
+    assertEquals(14,
                  databaseSystemIdentifier
                    .getSchemaRetrievalOptionsBuilder(connection)
                    .toOptions().getInformationSchemaViews().size());
   }
 
+  @Test
+  public void testMetadataRetrievalStrategy_hsqldb()
+    throws Exception
+  {
+    final Connection connection = null;
+    final DatabaseConnectorRegistry registry = new DatabaseConnectorRegistry();
+    final SchemaRetrievalOptions schemaRetrievalOptions = registry
+      .lookupDatabaseConnector("hsqldb")
+      .getSchemaRetrievalOptionsBuilder(connection).toOptions();
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getTableColumnRetrievalStrategy());
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getPrimaryKeyRetrievalStrategy());
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getForeignKeyRetrievalStrategy());
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getIndexRetrievalStrategy());
+  }
+
   @Test
   public void testPlugin_hsqldb()
     throws Exception
@@ -140,6 +140,7 @@ public final class GraphRenderer
       .getNamedObjectSort(graphOptions.isAlphabeticalSortForTables()));
     traverser.setRoutinesComparator(NamedObjectSort
       .getNamedObjectSort(graphOptions.isAlphabeticalSortForRoutines()));
+    traverser.setParallelTraversal(graphOptions.isParallelRendering());
 
     traverser.traverse();
 
@@ -31,6 +31,7 @@ package schemacrawler.tools.integration.serialization;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.zip.Deflater;
 
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
@@ -53,6 +54,8 @@ public final class SerializationCommand
 
   static final String COMMAND = "serialize";
 
+  private static final String SC_COMPRESSION_LEVEL = "schemacrawler.offline.compression_level";
+
   public SerializationCommand()
   {
     this(COMMAND);
@@ -83,7 +86,8 @@ public final class SerializationCommand
     checkCatalog();
 
     final SerializableCatalog serializableCatalog = new XmlSerializedCatalog(catalog);
-    // Force output to a compressed file
+    // Force output to a compressed file, which is compressed in
+    // parallel, since snapshots of large catalogs can be very large
     outputOptions = forceCompressedFileOutput();
     try (final Writer writer = outputOptions.openNewOutputWriter();)
     {
@@ -94,8 +98,12 @@ public final class SerializationCommand
   private OutputOptions forceCompressedFileOutput()
     throws IOException
   {
+    final int compressionLevel = additionalConfiguration
+      .getIntegerValue(SC_COMPRESSION_LEVEL, Deflater.DEFAULT_COMPRESSION);
     return OutputOptionsBuilder.builder(outputOptions)
-      .withCompressedOutputFile(outputOptions.getOutputFile()).toOptions();
+      .withParallelCompressedOutputFile(outputOptions.getOutputFile(),
+                                        compressionLevel)
+      .toOptions();
   }
 
 }
@@ -89,6 +89,8 @@ public final class XmlSerializedCatalog
       xStream.addPermission(PrimitiveTypePermission.PRIMITIVES);
       xStream.addPermission(ArrayTypePermission.ARRAYS);
       xStream.allowTypeHierarchy(Collection.class);
+      // allow the shared empty map, used for objects without attributes
+      xStream.allowTypes(new Class[] { Collections.emptyMap().getClass() });
       // allow any type from the same package
       xStream.allowTypesByWildcard(new String[] {
                                                   "schemacrawler.**",
@@ -178,7 +180,9 @@ public final class XmlSerializedCatalog
             }
             else
             {
-              return Objects.hashCode(key1) - Objects.hashCode(key2);
+              // Subtracting hash codes can overflow, and break the sort
+              return Integer.compare(Objects.hashCode(key1),
+                                     Objects.hashCode(key2));
             }
           });
 
@@ -32,6 +32,7 @@ package schemacrawler.tools.text.base;
 import static sf.util.IOUtility.readResourceFully;
 import static sf.util.Utility.isBlank;
 
+import java.io.PrintWriter;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -44,6 +45,7 @@ import schemacrawler.tools.integration.graph.GraphOptions;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.text.utility.html.Alignment;
+import schemacrawler.tools.text.utility.html.HtmlRowWriter;
 import schemacrawler.tools.text.utility.html.TableCell;
 import schemacrawler.tools.text.utility.html.TableRow;
 import sf.util.Color;
@@ -57,6 +59,8 @@ public abstract class BaseDotFormatter
   extends BaseFormatter<GraphOptions>
 {
 
+  protected final HtmlRowWriter rowWriter;
+
   protected BaseDotFormatter(final GraphOptions options,
                              final boolean printVerboseDatabaseInfo,
                              final OutputOptions outputOptions,
@@ -67,6 +71,14 @@ public abstract class BaseDotFormatter
           printVerboseDatabaseInfo,
           outputOptions,
           identifierQuoteString);
+    rowWriter = new HtmlRowWriter(out);
+  }
+
+  protected BaseDotFormatter(final BaseDotFormatter formatter,
+                             final PrintWriter out)
+  {
+    super(formatter, out);
+    rowWriter = new HtmlRowWriter(out);
   }
 
   @Override
@@ -33,6 +33,8 @@ import static schemacrawler.tools.analysis.counts.CountsUtility.getRowCountMessa
 import static schemacrawler.tools.analysis.counts.CountsUtility.hasRowCount;
 import static schemacrawler.utility.MetaDataUtility.findForeignKeyCardinality;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -53,11 +55,9 @@ import schemacrawler.tools.analysis.associations.WeakAssociationForeignKey;
 import schemacrawler.tools.analysis.associations.WeakAssociationsUtility;
 import schemacrawler.tools.integration.graph.GraphOptions;
 import schemacrawler.tools.options.OutputOptions;
-import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.text.base.BaseDotFormatter;
 import schemacrawler.tools.text.utility.html.Alignment;
-import schemacrawler.tools.text.utility.html.TableRow;
-import schemacrawler.tools.traversal.SchemaTraversalHandler;
+import schemacrawler.tools.traversal.ParallelSchemaTraversalHandler;
 import schemacrawler.utility.MetaDataUtility.ForeignKeyCardinality;
 import schemacrawler.utility.NamedObjectSort;
 import sf.util.Color;
@@ -69,7 +69,7 @@ import sf.util.Color;
  */
 public final class SchemaDotFormatter
   extends BaseDotFormatter
-  implements SchemaTraversalHandler
+  implements ParallelSchemaTraversalHandler
 {
 
   private final boolean isVerbose;
@@ -103,6 +103,14 @@ public final class SchemaDotFormatter
     isBrief = schemaTextDetailType == SchemaTextDetailType.brief;
   }
 
+  private SchemaDotFormatter(final SchemaDotFormatter formatter,
+                             final PrintWriter out)
+  {
+    super(formatter, out);
+    isVerbose = formatter.isVerbose;
+    isBrief = formatter.isBrief;
+  }
+
   @Override
   public void handle(final ColumnDataType columnDataType)
     throws SchemaCrawlerException
@@ -173,14 +181,9 @@ public final class SchemaDotFormatter
       .append("      <table border=\"1\" cellborder=\"0\" cellspacing=\"0\" color=\"#888888\">")
       .println();
 
-    formattingHelper.append(new TableRow(TextOutputFormat.html)
-      .add(newTableCell(tableName,
-                        Alignment.left,
-                        true,
-                        tableNameBgColor,
-                        colspan))
-      .add(newTableCell(tableType, Alignment.right, false, tableNameBgColor, 1))
-      .toString()).println();
+    rowWriter.startRow()
+      .addCell(tableName, Alignment.left, true, tableNameBgColor, colspan)
+      .addCell(tableType, Alignment.right, false, tableNameBgColor, 1).endRow();
 
     printTableRemarks(table);
 
@@ -216,6 +219,12 @@ public final class SchemaDotFormatter
     // No output required
   }
 
+  @Override
+  public void handleRenderedTable(final String renderedTable)
+  {
+    formattingHelper.append(renderedTable);
+  }
+
   @Override
   public void handleRoutinesEnd()
     throws SchemaCrawlerException
@@ -272,6 +281,16 @@ public final class SchemaDotFormatter
     // No output required
   }
 
+  @Override
+  public String renderTable(final Table table)
+  {
+    final StringWriter renderedTable = new StringWriter(4096);
+    final PrintWriter tableOut = new PrintWriter(renderedTable);
+    new SchemaDotFormatter(this, tableOut).handle(table);
+    tableOut.flush();
+    return renderedTable.toString();
+  }
+
   private String arrowhead(final ForeignKeyCardinality connectivity)
   {
     switch (connectivity)
@@ -295,12 +314,12 @@ public final class SchemaDotFormatter
 
     if (!isNewNode)
     {
-      portIds[0] = String.format("\"%s\":\"%s.start\"",
-                                 nodeId(column.getParent()),
-                                 nodeId(column));
-      portIds[1] = String.format("\"%s\":\"%s.end\"",
-                                 nodeId(column.getParent()),
-                                 nodeId(column));
+      final String tableNodeId = nodeId(column.getParent());
+      final String columnNodeId = nodeId(column);
+      portIds[0] = new StringBuilder(64).append('"').append(tableNodeId)
+        .append("\":\"").append(columnNodeId).append(".start\"").toString();
+      portIds[1] = new StringBuilder(64).append('"').append(tableNodeId)
+        .append("\":\"").append(columnNodeId).append(".end\"").toString();
     }
     else
     {
@@ -367,14 +386,12 @@ public final class SchemaDotFormatter
       associationName = fkName;
     }
 
-    return String
-      .format("  %s:w -> %s:e [label=<%s> style=\"%s\" dir=\"both\" arrowhead=\"%s\" arrowtail=\"%s\"];%n",
-              fkPortIds[0],
-              pkPortIds[1],
-              associationName,
-              style,
-              pkSymbol,
-              fkSymbol);
+    return new StringBuilder(256).append("  ").append(fkPortIds[0])
+      .append(":w -> ").append(pkPortIds[1]).append(":e [label=<")
+      .append(associationName).append("> style=\"").append(style)
+      .append("\" dir=\"both\" arrowhead=\"").append(pkSymbol)
+      .append("\" arrowtail=\"").append(fkSymbol).append("\"];")
+      .append(System.lineSeparator()).toString();
 
   }
 
@@ -425,10 +442,8 @@ public final class SchemaDotFormatter
     {
       columnName = identifiers.quoteFullName(column);
     }
-    final String columnNode = String
-      .format("  %s [label=<%s>];%n", nodeId, columnName);
-
-    formattingHelper.append(columnNode);
+    formattingHelper.append("  ").append(nodeId).append(" [label=<")
+      .append(columnName).append(">];").println();
 
     return nodeId;
   }
@@ -452,19 +467,19 @@ public final class SchemaDotFormatter
       return;
     }
 
-    final TableRow row = new TableRow(TextOutputFormat.html);
+    printTableColumnDetail("auto-incremented");
+  }
+
+  private void printTableColumnDetail(final String detail)
+  {
+    rowWriter.startRow();
     if (options.isShowOrdinalNumbers())
     {
-      row.add(newTableCell("", Alignment.right, false, Color.white, 1));
+      rowWriter.addCell("", Alignment.right, false, Color.white, 1);
     }
-    row.add(newTableCell("", Alignment.left, false, Color.white, 1))
-      .add(newTableCell(" ", Alignment.left, false, Color.white, 1))
-      .add(newTableCell("auto-incremented",
-                        Alignment.left,
-                        false,
-                        Color.white,
-                        1));
-    formattingHelper.append(row.toString()).println();
+    rowWriter.addCell("", Alignment.left, false, Color.white, 1)
+      .addCell(" ", Alignment.left, false, Color.white, 1)
+      .addCell(detail, Alignment.left, false, Color.white, 1).endRow();
   }
 
   private void printTableColumnGenerated(final Column column)
@@ -486,15 +501,7 @@ public final class SchemaDotFormatter
       return;
     }
 
-    final TableRow row = new TableRow(TextOutputFormat.html);
-    if (options.isShowOrdinalNumbers())
-    {
-      row.add(newTableCell("", Alignment.right, false, Color.white, 1));
-    }
-    row.add(newTableCell("", Alignment.left, false, Color.white, 1))
-      .add(newTableCell(" ", Alignment.left, false, Color.white, 1))
-      .add(newTableCell("generated", Alignment.left, false, Color.white, 1));
-    formattingHelper.append(row.toString()).println();
+    printTableColumnDetail("generated");
   }
 
   private void printTableColumnHidden(final Column column)
@@ -516,15 +523,7 @@ public final class SchemaDotFormatter
       return;
     }
 
-    final TableRow row = new TableRow(TextOutputFormat.html);
-    if (options.isShowOrdinalNumbers())
-    {
-      row.add(newTableCell("", Alignment.right, false, Color.white, 1));
-    }
-    row.add(newTableCell("", Alignment.left, false, Color.white, 1))
-      .add(newTableCell(" ", Alignment.left, false, Color.white, 1))
-      .add(newTableCell("hidden", Alignment.left, false, Color.white, 1));
-    formattingHelper.append(row.toString()).println();
+    printTableColumnDetail("hidden");
   }
 
   private void printTableColumnRemarks(final Column column)
@@ -533,16 +532,7 @@ public final class SchemaDotFormatter
     {
       return;
     }
-    final TableRow remarksRow = new TableRow(TextOutputFormat.html);
-    if (options.isShowOrdinalNumbers())
-    {
-      remarksRow.add(newTableCell("", Alignment.right, false, Color.white, 1));
-    }
-    remarksRow.add(newTableCell("", Alignment.left, false, Color.white, 1))
-      .add(newTableCell(" ", Alignment.left, false, Color.white, 1))
-      .add(newTableCell(column
-        .getRemarks(), Alignment.left, false, Color.white, 1));
-    formattingHelper.append(remarksRow.toString()).println();
+    printTableColumnDetail(column.getRemarks());
   }
 
   private void printTableColumns(final List<Column> columns)
@@ -580,33 +570,45 @@ public final class SchemaDotFormatter
       final String columnDetails = columnType + nullable;
       final boolean emphasize = column.isPartOfPrimaryKey();
 
-      final TableRow row = new TableRow(TextOutputFormat.html);
+      final String columnNodeId = nodeId(column);
+      final String columnName = identifiers.quoteName(column.getName());
+
+      rowWriter.startRow();
       if (options.isShowOrdinalNumbers())
       {
         final String ordinalNumberString = String
           .valueOf(column.getOrdinalPosition());
-        row.add(newTableCell(ordinalNumberString,
-                             Alignment.right,
-                             false,
-                             Color.white,
-                             1));
+        rowWriter.addCell(ordinalNumberString,
+                          true,
+                          Alignment.right,
+                          false,
+                          "",
+                          Color.white,
+                          1,
+                          columnNodeId + ".start");
+        rowWriter.addCell(columnName, Alignment.left, emphasize, Color.white, 1);
       }
-      row
-        .add(newTableCell(identifiers.quoteName(column.getName()),
+      else
+      {
+        rowWriter.addCell(columnName,
+                          true,
                           Alignment.left,
                           emphasize,
+                          "",
                           Color.white,
-                          1))
-        .add(newTableCell(" ", Alignment.left, false, Color.white, 1))
-        .add(newTableCell(columnDetails,
-                          Alignment.left,
-                          false,
-                          Color.white,
-                          1));
-
-      row.firstCell().addAttribute("port", nodeId(column) + ".start");
-      row.lastCell().addAttribute("port", nodeId(column) + ".end");
-      formattingHelper.append(row.toString()).println();
+                          1,
+                          columnNodeId + ".start");
+      }
+      rowWriter.addCell(" ", Alignment.left, false, Color.white, 1)
+        .addCell(columnDetails,
+                 true,
+                 Alignment.left,
+                 false,
+                 "",
+                 Color.white,
+                 1,
+                 columnNodeId + ".end")
+        .endRow();
 
       printTableColumnHidden(column);
       printTableColumnAutoIncremented(column);
@@ -621,10 +623,9 @@ public final class SchemaDotFormatter
     {
       return;
     }
-    formattingHelper
-      .append(new TableRow(TextOutputFormat.html).add(newTableCell(table
-        .getRemarks(), Alignment.left, false, Color.white, 3)).toString())
-      .println();
+    rowWriter.startRow()
+      .addCell(table.getRemarks(), Alignment.left, false, Color.white, 3)
+      .endRow();
   }
 
   private void printTableRowCount(final Table table)
@@ -633,13 +634,9 @@ public final class SchemaDotFormatter
     {
       return;
     }
-    formattingHelper.append(new TableRow(TextOutputFormat.html)
-      .add(newTableCell(getRowCountMessage(table),
-                        Alignment.right,
-                        false,
-                        Color.white,
-                        3))
-      .toString()).println();
+    rowWriter.startRow()
+      .addCell(getRowCountMessage(table), Alignment.right, false, Color.white, 3)
+      .endRow();
   }
 
   private void printWeakAssociations(final Table table)
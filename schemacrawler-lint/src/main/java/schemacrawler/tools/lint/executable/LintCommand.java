@@ -121,30 +121,37 @@ public class LintCommand
     final LintTraversalHandler formatter = getSchemaTraversalHandler();
 
     formatter.begin();
-
-    formatter.handleInfoStart();
-    formatter.handle(catalog.getSchemaCrawlerInfo());
-    formatter.handle(catalog.getDatabaseInfo());
-    formatter.handle(catalog.getJdbcDriverInfo());
-    formatter.handleInfoEnd();
-
-    formatter.handleStart();
-    formatter.handle(catalog);
-
-    final List<? extends Table> tablesList = new ArrayList<>(catalog
-      .getTables());
-    Collections
-      .sort(tablesList,
-            NamedObjectSort
-              .getNamedObjectSort(lintOptions.isAlphabeticalSortForTables()));
-    for (final Table table: tablesList)
+    try
     {
-      formatter.handle(table);
+      formatter.handleInfoStart();
+      formatter.handle(catalog.getSchemaCrawlerInfo());
+      formatter.handle(catalog.getDatabaseInfo());
+      formatter.handle(catalog.getJdbcDriverInfo());
+      formatter.handleInfoEnd();
+
+      formatter.handleStart();
+      formatter.handle(catalog);
+
+      final List<? extends Table> tablesList = new ArrayList<>(catalog
+        .getTables());
+      Collections
+        .sort(tablesList,
+              NamedObjectSort
+                .getNamedObjectSort(lintOptions.isAlphabeticalSortForTables()));
+      for (final Table table: tablesList)
+      {
+        formatter.handle(table);
+      }
+
+      formatter.handleEnd();
+
+      formatter.end();
+    }
+    finally
+    {
+      // Release the output if the report fails
+      formatter.close();
     }
-
-    formatter.handleEnd();
-
-    formatter.end();
   }
 
   private LintTraversalHandler getSchemaTraversalHandler()
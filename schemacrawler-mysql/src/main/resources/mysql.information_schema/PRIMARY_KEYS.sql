@@ -0,0 +1,17 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  ORDINAL_POSITION AS KEY_SEQ,
+  CONSTRAINT_NAME AS PK_NAME
+FROM
+  INFORMATION_SCHEMA.KEY_COLUMN_USAGE
+WHERE
+  CONSTRAINT_NAME = 'PRIMARY'
+  AND TABLE_SCHEMA REGEXP '${schemas}'
+ORDER BY
+  TABLE_CAT,
+  TABLE_NAME,
+  PK_NAME,
+  KEY_SEQ
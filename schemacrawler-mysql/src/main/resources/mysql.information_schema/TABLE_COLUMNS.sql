@@ -0,0 +1,79 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  CASE
+    WHEN COLUMN_TYPE = 'bit(1)' THEN -7
+    WHEN COLUMN_TYPE LIKE 'tinyint(1)%' THEN -7
+    ELSE
+      CASE DATA_TYPE
+        WHEN 'bit' THEN -7
+        WHEN 'tinyint' THEN -6
+        WHEN 'smallint' THEN 5
+        WHEN 'mediumint' THEN 4
+        WHEN 'int' THEN 4
+        WHEN 'integer' THEN 4
+        WHEN 'bigint' THEN -5
+        WHEN 'decimal' THEN 3
+        WHEN 'float' THEN 7
+        WHEN 'double' THEN 8
+        WHEN 'date' THEN 91
+        WHEN 'year' THEN 91
+        WHEN 'time' THEN 92
+        WHEN 'datetime' THEN 93
+        WHEN 'timestamp' THEN 93
+        WHEN 'char' THEN 1
+        WHEN 'enum' THEN 1
+        WHEN 'set' THEN 1
+        WHEN 'varchar' THEN 12
+        WHEN 'tinytext' THEN 12
+        WHEN 'text' THEN -1
+        WHEN 'mediumtext' THEN -1
+        WHEN 'longtext' THEN -1
+        WHEN 'json' THEN -1
+        WHEN 'binary' THEN -2
+        WHEN 'geometry' THEN -2
+        WHEN 'varbinary' THEN -3
+        WHEN 'tinyblob' THEN -3
+        WHEN 'blob' THEN -4
+        WHEN 'mediumblob' THEN -4
+        WHEN 'longblob' THEN -4
+        ELSE 1111
+      END
+  END AS DATA_TYPE,
+  CASE
+    WHEN COLUMN_TYPE LIKE '%unsigned%' THEN CONCAT(UPPER(DATA_TYPE), ' UNSIGNED')
+    ELSE UPPER(DATA_TYPE)
+  END AS TYPE_NAME,
+  LEAST(
+    COALESCE(CHARACTER_MAXIMUM_LENGTH, NUMERIC_PRECISION, DATETIME_PRECISION, 0),
+    2147483647)
+  AS COLUMN_SIZE,
+  NULL AS BUFFER_LENGTH,
+  COALESCE(NUMERIC_SCALE, 0) AS DECIMAL_DIGITS,
+  10 AS NUM_PREC_RADIX,
+  CASE IS_NULLABLE WHEN 'YES' THEN 1 ELSE 0 END AS NULLABLE,
+  COLUMN_COMMENT AS REMARKS,
+  COLUMN_DEFAULT AS COLUMN_DEF,
+  NULL AS SQL_DATA_TYPE,
+  NULL AS SQL_DATETIME_SUB,
+  LEAST(CHARACTER_OCTET_LENGTH, 2147483647) AS CHAR_OCTET_LENGTH,
+  ORDINAL_POSITION,
+  IS_NULLABLE,
+  NULL AS SCOPE_CATALOG,
+  NULL AS SCOPE_SCHEMA,
+  NULL AS SCOPE_TABLE,
+  NULL AS SOURCE_DATA_TYPE,
+  CASE WHEN EXTRA LIKE '%auto_increment%' THEN 'YES' ELSE 'NO' END
+    AS IS_AUTOINCREMENT,
+  CASE WHEN EXTRA LIKE '%GENERATED%' THEN 'YES' ELSE 'NO' END
+    AS IS_GENERATEDCOLUMN
+FROM
+  INFORMATION_SCHEMA.COLUMNS
+WHERE
+  TABLE_SCHEMA REGEXP '${schemas}'
+ORDER BY
+  TABLE_CAT,
+  TABLE_NAME,
+  ORDINAL_POSITION
@@ -0,0 +1,70 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.offline.jdbc;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+
+/**
+ * Records the JDBC calls made on a live connection during a crawl, so
+ * that the crawl can be replayed later without the database.
+ */
+public final class JdbcRecorder
+{
+
+  private final JdbcRecording recording;
+
+  public JdbcRecorder()
+  {
+    recording = new JdbcRecording();
+  }
+
+  public JdbcRecording getRecording()
+  {
+    return recording;
+  }
+
+  /**
+   * Wraps a connection, so that the results of calls on it, and on the
+   * database metadata and statements obtained from it, are recorded.
+   * Closing the returned connection closes the underlying connection.
+   *
+   * @param connection
+   *        Live connection to record
+   * @return Recording connection
+   */
+  public Connection record(final Connection connection)
+  {
+    requireNonNull(connection, "No connection provided");
+    return RecordingInvocationHandler
+      .newProxy(recording, Connection.class, connection, null);
+  }
+
+}
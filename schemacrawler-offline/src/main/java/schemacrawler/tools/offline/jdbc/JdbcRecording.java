@@ -0,0 +1,220 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.offline.jdbc;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import sf.util.AllowListObjectInputStream;
+
+/**
+ * Results of the JDBC calls made during a live crawl, including the
+ * rows of every database metadata result set, and every query. A
+ * recording can be saved to a compressed file, and replayed later with
+ * a connection that does not need the database, or its JDBC driver. If
+ * the crawl is replayed with the same options, it will produce the same
+ * catalog, so changes to the crawl can be benchmarked repeatably.
+ */
+public final class JdbcRecording
+  implements Serializable
+{
+
+  private static final long serialVersionUID = 4328557962624216911L;
+
+  /**
+   * Only recording classes, and common JDK value and collection
+   * classes, are read from a recording file.
+   */
+  private static final Collection<String> RECORDING_PACKAGE_PREFIXES = Arrays
+    .asList("schemacrawler.tools.offline.jdbc.");
+
+  /**
+   * Loads a recording from a file that was saved earlier.
+   *
+   * @param recordingFile
+   *        Recording file
+   * @return Recording
+   * @throws IOException
+   *         On an exception reading the recording
+   */
+  public static JdbcRecording load(final Path recordingFile)
+    throws IOException
+  {
+    requireNonNull(recordingFile, "No recording file provided");
+    try (final ObjectInputStream in = new AllowListObjectInputStream(new GZIPInputStream(new BufferedInputStream(Files
+      .newInputStream(recordingFile))),
+                                                                     AllowListObjectInputStream.JDK_PACKAGES,
+                                                                     RECORDING_PACKAGE_PREFIXES);)
+    {
+      return (JdbcRecording) in.readObject();
+    }
+    catch (final ClassNotFoundException | ClassCastException e)
+    {
+      throw new IOException("Not a JDBC recording, " + recordingFile, e);
+    }
+  }
+
+  /**
+   * Key for a recorded call, made up of the JDBC interface, the method
+   * and the arguments.
+   */
+  static String key(final String typeName,
+                    final String methodName,
+                    final Object[] args)
+  {
+    final String arguments;
+    if (args == null)
+    {
+      arguments = "[]";
+    }
+    else
+    {
+      arguments = Arrays.deepToString(args);
+    }
+    return typeName + "." + methodName + arguments;
+  }
+
+  /**
+   * Converts an exception to one that can be saved, and read back
+   * without the JDBC driver on the classpath.
+   */
+  static SQLException recordException(final SQLException e)
+  {
+    if (e instanceof SQLFeatureNotSupportedException)
+    {
+      return new SQLFeatureNotSupportedException(e.getMessage(),
+                                                 e.getSQLState(),
+                                                 e.getErrorCode());
+    }
+    else
+    {
+      return new SQLException(e.getMessage(),
+                              e.getSQLState(),
+                              e.getErrorCode());
+    }
+  }
+
+  private final Map<String, Object> results;
+
+  JdbcRecording()
+  {
+    results = new HashMap<>();
+  }
+
+  /**
+   * Creates a connection that replays the recorded results. Every
+   * database metadata call that returns a result set, and every query,
+   * waits for the given latency before returning, as does every batch
+   * of rows after the first, as set by the fetch size. Other metadata
+   * calls return immediately, as most drivers cache those values.
+   *
+   * @param latencyMillis
+   *        Simulated latency of a round-trip to the database, in
+   *        milliseconds
+   * @return Connection that replays the recording
+   */
+  public Connection newConnection(final long latencyMillis)
+  {
+    if (latencyMillis < 0)
+    {
+      throw new IllegalArgumentException("Latency cannot be negative");
+    }
+    return ReplayInvocationHandler
+      .newProxy(this, Connection.class, null, latencyMillis);
+  }
+
+  /**
+   * Saves the recording to a compressed file.
+   *
+   * @param recordingFile
+   *        Recording file
+   * @throws IOException
+   *         On an exception writing the recording
+   */
+  public synchronized void save(final Path recordingFile)
+    throws IOException
+  {
+    requireNonNull(recordingFile, "No recording file provided");
+    try (final ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(new BufferedOutputStream(Files
+      .newOutputStream(recordingFile))));)
+    {
+      out.writeObject(this);
+    }
+  }
+
+  /**
+   * Number of calls that were recorded.
+   *
+   * @return Number of recorded calls
+   */
+  public synchronized int size()
+  {
+    return results.size();
+  }
+
+  synchronized boolean contains(final String key)
+  {
+    return results.containsKey(key);
+  }
+
+  synchronized Object get(final String key)
+  {
+    return results.get(key);
+  }
+
+  /**
+   * Records the result of a call, unless it has already been recorded.
+   * A crawl makes the same call again only for the same results.
+   */
+  synchronized void put(final String key, final Object result)
+  {
+    if (!results.containsKey(key))
+    {
+      results.put(key, result);
+    }
+  }
+
+}
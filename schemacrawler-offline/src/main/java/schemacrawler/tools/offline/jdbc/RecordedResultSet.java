@@ -0,0 +1,208 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.offline.jdbc;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import sf.util.AllowListObjectInputStream;
+
+/**
+ * Rows and column metadata read from a result set, so that they can be
+ * saved in a recording, and served again by a replayed result set.
+ */
+final class RecordedResultSet
+  implements Serializable
+{
+
+  private static final long serialVersionUID = -4146584713016416223L;
+
+  /**
+   * Reads all the rows from a result set, and closes it.
+   *
+   * @param resultSet
+   *        Result set to read
+   * @return Recorded rows
+   * @throws SQLException
+   *         On an exception reading the result set
+   */
+  static RecordedResultSet record(final ResultSet resultSet)
+    throws SQLException
+  {
+    requireNonNull(resultSet, "No result set provided");
+    try
+    {
+      final ResultSetMetaData metaData = resultSet.getMetaData();
+      final int columnCount = metaData.getColumnCount();
+      final RecordedResultSet recordedResultSet = new RecordedResultSet(columnCount,
+                                                                        resultSet
+                                                                          .getFetchSize());
+      for (int i = 0; i < columnCount; i++)
+      {
+        final int column = i + 1;
+        recordedResultSet.columnLabels[i] = metaData.getColumnLabel(column);
+        recordedResultSet.columnNames[i] = metaData.getColumnName(column);
+        recordedResultSet.columnTypes[i] = metaData.getColumnType(column);
+        recordedResultSet.columnTypeNames[i] = metaData
+          .getColumnTypeName(column);
+        recordedResultSet.columnClassNames[i] = metaData
+          .getColumnClassName(column);
+      }
+
+      while (resultSet.next())
+      {
+        final Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++)
+        {
+          row[i] = recordValue(resultSet.getObject(i + 1));
+        }
+        recordedResultSet.rows.add(row);
+      }
+      return recordedResultSet;
+    }
+    finally
+    {
+      resultSet.close();
+    }
+  }
+
+  /**
+   * Converts a value to one that can be saved, and read back without
+   * the JDBC driver on the classpath.
+   */
+  static Object recordValue(final Object value)
+    throws SQLException
+  {
+    if (value == null)
+    {
+      return null;
+    }
+    else if (value instanceof Clob)
+    {
+      final Clob clob = (Clob) value;
+      return clob.getSubString(1, (int) clob.length());
+    }
+    else if (value instanceof Blob)
+    {
+      final Blob blob = (Blob) value;
+      return blob.getBytes(1, (int) blob.length());
+    }
+    else if (value instanceof Serializable && AllowListObjectInputStream.JDK_PACKAGES
+      .contains(value.getClass().getPackage().getName()))
+    {
+      // Only values that can be read back from a recording file are
+      // kept as they are
+      return value;
+    }
+    else if (value instanceof byte[])
+    {
+      return value;
+    }
+    else
+    {
+      return String.valueOf(value);
+    }
+  }
+
+  private final String[] columnLabels;
+  private final String[] columnNames;
+  private final int[] columnTypes;
+  private final String[] columnTypeNames;
+  private final String[] columnClassNames;
+  private final int fetchSize;
+  private final List<Object[]> rows;
+
+  private RecordedResultSet(final int columnCount, final int fetchSize)
+  {
+    columnLabels = new String[columnCount];
+    columnNames = new String[columnCount];
+    columnTypes = new int[columnCount];
+    columnTypeNames = new String[columnCount];
+    columnClassNames = new String[columnCount];
+    this.fetchSize = fetchSize;
+    rows = new ArrayList<>();
+  }
+
+  String getColumnClassName(final int column)
+  {
+    return columnClassNames[column - 1];
+  }
+
+  int getColumnCount()
+  {
+    return columnLabels.length;
+  }
+
+  String getColumnLabel(final int column)
+  {
+    return columnLabels[column - 1];
+  }
+
+  String getColumnName(final int column)
+  {
+    return columnNames[column - 1];
+  }
+
+  int getColumnType(final int column)
+  {
+    return columnTypes[column - 1];
+  }
+
+  String getColumnTypeName(final int column)
+  {
+    return columnTypeNames[column - 1];
+  }
+
+  /**
+   * Fetch size reported by the driver when the result set was recorded.
+   */
+  int getFetchSize()
+  {
+    return fetchSize;
+  }
+
+  Object[] getRow(final int index)
+  {
+    return rows.get(index);
+  }
+
+  int getRowCount()
+  {
+    return rows.size();
+  }
+
+}
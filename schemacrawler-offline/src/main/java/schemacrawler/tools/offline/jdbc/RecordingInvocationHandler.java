@@ -0,0 +1,293 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.offline.jdbc;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Passes calls on a live connection, its database metadata and its
+ * statements on to the JDBC driver, and records the results. Result
+ * sets are read in full when they are returned, and the recorded rows
+ * are served in their place.
+ */
+final class RecordingInvocationHandler
+  implements InvocationHandler
+{
+
+  static <T> T newProxy(final JdbcRecording recording,
+                        final Class<T> type,
+                        final T target,
+                        final Object parent)
+  {
+    final RecordingInvocationHandler handler = new RecordingInvocationHandler(recording,
+                                                                              type,
+                                                                              target,
+                                                                              parent);
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(),
+                                            new Class<?>[] { type },
+                                            handler));
+  }
+
+  private final JdbcRecording recording;
+  private final Class<?> type;
+  private final Object target;
+  private final Object parent;
+  private ResultSet resultSet;
+  private int updateCount;
+
+  private RecordingInvocationHandler(final JdbcRecording recording,
+                                     final Class<?> type,
+                                     final Object target,
+                                     final Object parent)
+  {
+    this.recording = requireNonNull(recording, "No recording provided");
+    this.type = requireNonNull(type, "No type provided");
+    this.target = requireNonNull(target, "No target provided");
+    this.parent = parent;
+    updateCount = -1;
+  }
+
+  @Override
+  public Object invoke(final Object proxy,
+                       final Method method,
+                       final Object[] args)
+    throws Throwable
+  {
+    final String methodName = method.getName();
+    switch (methodName)
+    {
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "Recording" + type.getSimpleName() + "@" + target.toString();
+      case "unwrap":
+      case "isWrapperFor":
+      case "close":
+      case "isClosed":
+      case "getWarnings":
+      case "clearWarnings":
+        return delegate(method, args);
+      case "getConnection":
+        if (parent != null)
+        {
+          return parent;
+        }
+        break;
+      default:
+        break;
+    }
+
+    if (type == Connection.class)
+    {
+      return invokeConnection(proxy, method, args);
+    }
+    else if (type == Statement.class)
+    {
+      return invokeStatement(proxy, method, args);
+    }
+    else
+    {
+      return record(JdbcRecording.key(type.getSimpleName(), methodName, args),
+                    method,
+                    args);
+    }
+  }
+
+  private Object delegate(final Method method, final Object[] args)
+    throws Throwable
+  {
+    try
+    {
+      return method.invoke(target, args);
+    }
+    catch (final InvocationTargetException e)
+    {
+      throw e.getCause();
+    }
+  }
+
+  private Object invokeConnection(final Object proxy,
+                                  final Method method,
+                                  final Object[] args)
+    throws Throwable
+  {
+    final String methodName = method.getName();
+    final Class<?> returnType = method.getReturnType();
+    if (methodName.equals("getMetaData"))
+    {
+      return newProxy(recording,
+                      DatabaseMetaData.class,
+                      (DatabaseMetaData) delegate(method, args),
+                      proxy);
+    }
+    else if (methodName.equals("createStatement"))
+    {
+      return newProxy(recording,
+                      Statement.class,
+                      (Statement) delegate(method, args),
+                      proxy);
+    }
+    else if (returnType == void.class || Statement.class
+      .isAssignableFrom(returnType))
+    {
+      // Settings, transactions, and prepared statements are not
+      // recorded, since a crawl does not depend on them
+      return delegate(method, args);
+    }
+    else
+    {
+      return record(JdbcRecording
+        .key(Connection.class.getSimpleName(), methodName, args),
+                    method,
+                    args);
+    }
+  }
+
+  private Object invokeStatement(final Object proxy,
+                                 final Method method,
+                                 final Object[] args)
+    throws Throwable
+  {
+    final String methodName = method.getName();
+    switch (methodName)
+    {
+      case "execute":
+      case "executeQuery":
+      case "executeUpdate":
+        final String key = JdbcRecording
+          .key(Statement.class.getSimpleName(),
+               "execute",
+               new Object[] { args[0] });
+        final Object result;
+        try
+        {
+          result = delegate(method, args);
+        }
+        catch (final SQLException e)
+        {
+          recording.put(key, JdbcRecording.recordException(e));
+          throw e;
+        }
+
+        final Statement statement = (Statement) target;
+        final ResultSet liveResultSet;
+        if (result instanceof ResultSet)
+        {
+          liveResultSet = (ResultSet) result;
+        }
+        else if (Boolean.TRUE.equals(result))
+        {
+          liveResultSet = statement.getResultSet();
+        }
+        else
+        {
+          liveResultSet = null;
+        }
+
+        if (liveResultSet != null)
+        {
+          final RecordedResultSet recordedResultSet = RecordedResultSet
+            .record(liveResultSet);
+          recording.put(key, recordedResultSet);
+          resultSet = ReplayResultSet
+            .newResultSet(recordedResultSet, (Statement) proxy, 0);
+          updateCount = -1;
+        }
+        else
+        {
+          resultSet = null;
+          updateCount = statement.getUpdateCount();
+          recording.put(key, updateCount);
+        }
+
+        if (methodName.equals("executeQuery"))
+        {
+          return resultSet;
+        }
+        else
+        {
+          return result;
+        }
+      case "getResultSet":
+        return resultSet;
+      case "getUpdateCount":
+        return updateCount;
+      case "getMoreResults":
+        resultSet = null;
+        updateCount = -1;
+        return false;
+      default:
+        return delegate(method, args);
+    }
+  }
+
+  private Object record(final String key,
+                        final Method method,
+                        final Object[] args)
+    throws Throwable
+  {
+    final Object result;
+    try
+    {
+      result = delegate(method, args);
+    }
+    catch (final SQLException e)
+    {
+      recording.put(key, JdbcRecording.recordException(e));
+      throw e;
+    }
+
+    if (result instanceof ResultSet)
+    {
+      final RecordedResultSet recordedResultSet = RecordedResultSet
+        .record((ResultSet) result);
+      recording.put(key, recordedResultSet);
+      return ReplayResultSet.newResultSet(recordedResultSet, null, 0);
+    }
+    else
+    {
+      final Object recordedResult = RecordedResultSet.recordValue(result);
+      recording.put(key, recordedResult);
+      return result;
+    }
+  }
+
+}
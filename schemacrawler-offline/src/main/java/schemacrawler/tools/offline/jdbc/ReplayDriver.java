@@ -0,0 +1,160 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.offline.jdbc;
+
+
+import static sf.util.Utility.isBlank;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import sf.util.SchemaCrawlerLogger;
+
+/**
+ * Driver for replaying a JDBC recording, with URLs of the form
+ * <code>jdbc:replay:&lt;file&gt;</code>. The simulated latency of a
+ * round-trip to the database can be set in milliseconds, with a
+ * "latency" connection property, or by appending
+ * <code>?latency=&lt;milliseconds&gt;</code> to the URL.
+ */
+public class ReplayDriver
+  implements Driver
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(ReplayDriver.class.getName());
+
+  private static final String JDBC_URL_PREFIX = "jdbc:replay:";
+  private static final String LATENCY = "latency";
+
+  static
+  {
+    try
+    {
+      DriverManager.registerDriver(new ReplayDriver());
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.SEVERE, "Cannot register replay driver", e);
+    }
+  }
+
+  @Override
+  public boolean acceptsURL(final String url)
+    throws SQLException
+  {
+    return !isBlank(url) && url.startsWith(JDBC_URL_PREFIX);
+  }
+
+  @Override
+  public Connection connect(final String url, final Properties info)
+    throws SQLException
+  {
+    if (!acceptsURL(url))
+    {
+      return null;
+    }
+
+    String path = url.substring(JDBC_URL_PREFIX.length());
+    String latency = null;
+    if (info != null)
+    {
+      latency = info.getProperty(LATENCY);
+    }
+    final int queryIndex = path.indexOf("?" + LATENCY + "=");
+    if (queryIndex >= 0)
+    {
+      latency = path.substring(queryIndex + LATENCY.length() + 2);
+      path = path.substring(0, queryIndex);
+    }
+
+    final long latencyMillis;
+    try
+    {
+      latencyMillis = isBlank(latency)? 0: Long.parseLong(latency.trim());
+    }
+    catch (final NumberFormatException e)
+    {
+      throw new SQLException("Invalid latency, " + latency, "HY024", e);
+    }
+
+    try
+    {
+      return JdbcRecording.load(Paths.get(path)).newConnection(latencyMillis);
+    }
+    catch (final IOException e)
+    {
+      throw new SQLException("Cannot load JDBC recording, " + path,
+                             "08001",
+                             e);
+    }
+  }
+
+  @Override
+  public int getMajorVersion()
+  {
+    return 0;
+  }
+
+  @Override
+  public int getMinorVersion()
+  {
+    return 0;
+  }
+
+  @Override
+  public Logger getParentLogger()
+    throws SQLFeatureNotSupportedException
+  {
+    throw new SQLFeatureNotSupportedException("Not supported", "HYC00");
+  }
+
+  @Override
+  public DriverPropertyInfo[] getPropertyInfo(final String url,
+                                              final Properties info)
+    throws SQLException
+  {
+    return new DriverPropertyInfo[0];
+  }
+
+  @Override
+  public boolean jdbcCompliant()
+  {
+    return false;
+  }
+
+}
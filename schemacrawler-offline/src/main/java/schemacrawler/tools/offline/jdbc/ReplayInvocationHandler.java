@@ -0,0 +1,296 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.offline.jdbc;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the connection, database metadata and statements of a replayed
+ * crawl from a recording.
+ */
+final class ReplayInvocationHandler
+  implements InvocationHandler
+{
+
+  static <T> T newProxy(final JdbcRecording recording,
+                        final Class<T> type,
+                        final Object parent,
+                        final long latencyMillis)
+  {
+    final ReplayInvocationHandler handler = new ReplayInvocationHandler(recording,
+                                                                        type,
+                                                                        parent,
+                                                                        latencyMillis);
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(),
+                                            new Class<?>[] { type },
+                                            handler));
+  }
+
+  /**
+   * Simulates a round-trip to the database.
+   */
+  static void roundTrip(final long latencyMillis)
+    throws SQLException
+  {
+    if (latencyMillis <= 0)
+    {
+      return;
+    }
+    try
+    {
+      TimeUnit.MILLISECONDS.sleep(latencyMillis);
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted", "HY008", e);
+    }
+  }
+
+  static Object unwrap(final Object proxy, final Class<?> iface)
+    throws SQLException
+  {
+    if (iface.isInstance(proxy))
+    {
+      return proxy;
+    }
+    throw new SQLException("Not a wrapper for " + iface.getName());
+  }
+
+  private final JdbcRecording recording;
+  private final Class<?> type;
+  private final Object parent;
+  private final long latencyMillis;
+  private boolean closed;
+  private DatabaseMetaData metaData;
+  private ResultSet resultSet;
+  private int updateCount;
+
+  private ReplayInvocationHandler(final JdbcRecording recording,
+                                  final Class<?> type,
+                                  final Object parent,
+                                  final long latencyMillis)
+  {
+    this.recording = requireNonNull(recording, "No recording provided");
+    this.type = requireNonNull(type, "No type provided");
+    this.parent = parent;
+    this.latencyMillis = latencyMillis;
+    updateCount = -1;
+  }
+
+  @Override
+  public Object invoke(final Object proxy,
+                       final Method method,
+                       final Object[] args)
+    throws Throwable
+  {
+    final String methodName = method.getName();
+    switch (methodName)
+    {
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "Replay" + type.getSimpleName() + "@"
+               + System.identityHashCode(proxy);
+      case "unwrap":
+        return unwrap(proxy, (Class<?>) args[0]);
+      case "isWrapperFor":
+        return ((Class<?>) args[0]).isInstance(proxy);
+      case "getConnection":
+        if (parent != null)
+        {
+          return parent;
+        }
+        break;
+      case "close":
+        closed = true;
+        return null;
+      case "isClosed":
+        return closed;
+      case "getWarnings":
+        return null;
+      case "clearWarnings":
+        return null;
+      default:
+        break;
+    }
+
+    if (type == Connection.class)
+    {
+      return invokeConnection(proxy, method, args);
+    }
+    else if (type == Statement.class)
+    {
+      return invokeStatement(proxy, method, args);
+    }
+    else
+    {
+      final String key = JdbcRecording
+        .key(type.getSimpleName(), methodName, args);
+      final Object result = lookup(key, method);
+      if (result instanceof RecordedResultSet)
+      {
+        roundTrip(latencyMillis);
+        return ReplayResultSet
+          .newResultSet((RecordedResultSet) result, null, latencyMillis);
+      }
+      return result;
+    }
+  }
+
+  private Object invokeConnection(final Object proxy,
+                                  final Method method,
+                                  final Object[] args)
+    throws SQLException
+  {
+    final String methodName = method.getName();
+    switch (methodName)
+    {
+      case "getMetaData":
+        if (metaData == null)
+        {
+          metaData = newProxy(recording,
+                              DatabaseMetaData.class,
+                              proxy,
+                              latencyMillis);
+        }
+        return metaData;
+      case "createStatement":
+        return newProxy(recording, Statement.class, proxy, latencyMillis);
+      case "isValid":
+        return !closed;
+      default:
+        final String key = JdbcRecording
+          .key(Connection.class.getSimpleName(), methodName, args);
+        return lookup(key, method);
+    }
+  }
+
+  private Object invokeStatement(final Object proxy,
+                                 final Method method,
+                                 final Object[] args)
+    throws SQLException
+  {
+    final String methodName = method.getName();
+    switch (methodName)
+    {
+      case "execute":
+      case "executeQuery":
+      case "executeUpdate":
+        final String key = JdbcRecording
+          .key(Statement.class.getSimpleName(),
+               "execute",
+               new Object[] { args[0] });
+        final Object result = lookup(key, method);
+        roundTrip(latencyMillis);
+        if (result instanceof RecordedResultSet)
+        {
+          resultSet = ReplayResultSet.newResultSet((RecordedResultSet) result,
+                                                   (Statement) proxy,
+                                                   latencyMillis);
+          updateCount = -1;
+        }
+        else
+        {
+          resultSet = null;
+          updateCount = (Integer) result;
+        }
+
+        if (methodName.equals("execute"))
+        {
+          return resultSet != null;
+        }
+        else if (methodName.equals("executeQuery"))
+        {
+          if (resultSet == null)
+          {
+            throw new SQLException("Query did not return results", "07005");
+          }
+          return resultSet;
+        }
+        else
+        {
+          return updateCount;
+        }
+      case "getResultSet":
+        return resultSet;
+      case "getUpdateCount":
+        return updateCount;
+      case "getMoreResults":
+        resultSet = null;
+        updateCount = -1;
+        return false;
+      default:
+        if (method.getReturnType() == void.class)
+        {
+          // Statement settings, such as fetch size, make no difference
+          return null;
+        }
+        throw new SQLFeatureNotSupportedException("Not supported", "HYC00");
+    }
+  }
+
+  private Object lookup(final String key, final Method method)
+    throws SQLException
+  {
+    if (closed)
+    {
+      throw new SQLException(type.getSimpleName() + " is closed", "08003");
+    }
+    if (!recording.contains(key))
+    {
+      if (method.getReturnType() == void.class)
+      {
+        // Settings on the connection make no difference on replay
+        return null;
+      }
+      throw new SQLException("No recorded result for " + key, "HY000");
+    }
+    final Object result = recording.get(key);
+    if (result instanceof SQLException)
+    {
+      throw JdbcRecording.recordException((SQLException) result);
+    }
+    return result;
+  }
+
+}
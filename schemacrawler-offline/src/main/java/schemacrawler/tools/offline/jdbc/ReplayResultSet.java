@@ -0,0 +1,423 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.offline.jdbc;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * Serves the rows of a recorded result set, with a simulated round-trip
+ * to the database for each batch of rows, as set by the fetch size.
+ */
+final class ReplayResultSet
+  implements InvocationHandler
+{
+
+  static ResultSet newResultSet(final RecordedResultSet recordedResultSet,
+                                final Statement statement,
+                                final long latencyMillis)
+  {
+    final ReplayResultSet handler = new ReplayResultSet(recordedResultSet,
+                                                        statement,
+                                                        latencyMillis);
+    return (ResultSet) Proxy
+      .newProxyInstance(ResultSet.class.getClassLoader(),
+                        new Class<?>[] { ResultSet.class },
+                        handler);
+  }
+
+  private static boolean toBoolean(final Object value)
+  {
+    if (value instanceof Boolean)
+    {
+      return (Boolean) value;
+    }
+    else if (value instanceof Number)
+    {
+      return ((Number) value).intValue() != 0;
+    }
+    else
+    {
+      final String string = String.valueOf(value).trim();
+      return string.equalsIgnoreCase("true") || string.equalsIgnoreCase("yes")
+             || string.equalsIgnoreCase("y") || string.equals("1");
+    }
+  }
+
+  private static Number toNumber(final Object value)
+    throws SQLException
+  {
+    if (value instanceof Number)
+    {
+      return (Number) value;
+    }
+    else if (value instanceof Boolean)
+    {
+      return (Boolean) value? 1: 0;
+    }
+    try
+    {
+      return new BigDecimal(String.valueOf(value).trim());
+    }
+    catch (final NumberFormatException e)
+    {
+      throw new SQLException("Not a number: " + value, "22018", e);
+    }
+  }
+
+  private final RecordedResultSet recordedResultSet;
+  private final Statement statement;
+  private final long latencyMillis;
+  private final ResultSetMetaData metaData;
+  private int row;
+  private int fetchSize;
+  private boolean wasNull;
+  private boolean closed;
+
+  private ReplayResultSet(final RecordedResultSet recordedResultSet,
+                          final Statement statement,
+                          final long latencyMillis)
+  {
+    this.recordedResultSet = requireNonNull(recordedResultSet,
+                                            "No recorded result set provided");
+    this.statement = statement;
+    this.latencyMillis = latencyMillis;
+    metaData = (ResultSetMetaData) Proxy
+      .newProxyInstance(ResultSetMetaData.class.getClassLoader(),
+                        new Class<?>[] { ResultSetMetaData.class },
+                        this::invokeMetaData);
+    row = -1;
+  }
+
+  @Override
+  public Object invoke(final Object proxy,
+                       final Method method,
+                       final Object[] args)
+    throws Throwable
+  {
+    final String methodName = method.getName();
+    switch (methodName)
+    {
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "ReplayResultSet@" + System.identityHashCode(proxy);
+      case "unwrap":
+        return ReplayInvocationHandler.unwrap(proxy, (Class<?>) args[0]);
+      case "isWrapperFor":
+        return ((Class<?>) args[0]).isInstance(proxy);
+      case "close":
+        closed = true;
+        return null;
+      case "isClosed":
+        return closed;
+      case "next":
+        return next();
+      case "wasNull":
+        return wasNull;
+      case "findColumn":
+        return findColumn((String) args[0]);
+      case "getMetaData":
+        return metaData;
+      case "getStatement":
+        return statement;
+      case "getFetchSize":
+        return fetchSize;
+      case "setFetchSize":
+        fetchSize = (Integer) args[0];
+        return null;
+      case "getFetchDirection":
+        return ResultSet.FETCH_FORWARD;
+      case "getType":
+        return ResultSet.TYPE_FORWARD_ONLY;
+      case "getConcurrency":
+        return ResultSet.CONCUR_READ_ONLY;
+      case "getRow":
+        return row < recordedResultSet.getRowCount()? row + 1: 0;
+      case "isBeforeFirst":
+        return row < 0 && recordedResultSet.getRowCount() > 0;
+      case "isAfterLast":
+        return row >= recordedResultSet.getRowCount()
+               && recordedResultSet.getRowCount() > 0;
+      case "isFirst":
+        return row == 0;
+      case "getWarnings":
+        return null;
+      case "clearWarnings":
+      case "setFetchDirection":
+        return null;
+      default:
+        break;
+    }
+
+    if (methodName.startsWith("get") && args != null && args.length == 1)
+    {
+      return getValue(methodName, args[0]);
+    }
+    else if (methodName.equals("getObject") && args != null
+             && args.length == 2 && args[1] instanceof Class)
+    {
+      final Object value = getValue(methodName, args[0]);
+      final Class<?> type = (Class<?>) args[1];
+      if (value == null || type.isInstance(value))
+      {
+        return value;
+      }
+    }
+    throw new SQLFeatureNotSupportedException("Not supported", "HYC00");
+  }
+
+  private int findColumn(final String columnLabel)
+    throws SQLException
+  {
+    final int columnCount = recordedResultSet.getColumnCount();
+    for (int column = 1; column <= columnCount; column++)
+    {
+      if (columnLabel.equalsIgnoreCase(recordedResultSet
+        .getColumnLabel(column)))
+      {
+        return column;
+      }
+    }
+    for (int column = 1; column <= columnCount; column++)
+    {
+      if (columnLabel
+        .equalsIgnoreCase(recordedResultSet.getColumnName(column)))
+      {
+        return column;
+      }
+    }
+    throw new SQLException("Invalid column name: " + columnLabel, "42S22");
+  }
+
+  private Object getValue(final String methodName, final Object columnArg)
+    throws SQLException
+  {
+    if (closed)
+    {
+      throw new SQLException("Result set is closed", "24000");
+    }
+    if (row < 0 || row >= recordedResultSet.getRowCount())
+    {
+      throw new SQLException("No current row", "24000");
+    }
+    final int column;
+    if (columnArg instanceof String)
+    {
+      column = findColumn((String) columnArg);
+    }
+    else
+    {
+      column = (Integer) columnArg;
+    }
+    if (column < 1 || column > recordedResultSet.getColumnCount())
+    {
+      throw new SQLException("Invalid column index: " + column, "07009");
+    }
+
+    final Object value = recordedResultSet.getRow(row)[column - 1];
+    wasNull = value == null;
+
+    switch (methodName)
+    {
+      case "getObject":
+        return value;
+      case "getString":
+      case "getNString":
+        if (value == null)
+        {
+          return null;
+        }
+        else if (value instanceof byte[])
+        {
+          return new String((byte[]) value, UTF_8);
+        }
+        return String.valueOf(value);
+      case "getBoolean":
+        return value != null && toBoolean(value);
+      case "getByte":
+        return value == null? (byte) 0: toNumber(value).byteValue();
+      case "getShort":
+        return value == null? (short) 0: toNumber(value).shortValue();
+      case "getInt":
+        return value == null? 0: toNumber(value).intValue();
+      case "getLong":
+        return value == null? 0L: toNumber(value).longValue();
+      case "getFloat":
+        return value == null? 0F: toNumber(value).floatValue();
+      case "getDouble":
+        return value == null? 0D: toNumber(value).doubleValue();
+      case "getBigDecimal":
+        if (value == null || value instanceof BigDecimal)
+        {
+          return value;
+        }
+        return new BigDecimal(toNumber(value).toString());
+      case "getBytes":
+        if (value == null || value instanceof byte[])
+        {
+          return value;
+        }
+        return String.valueOf(value).getBytes(UTF_8);
+      case "getDate":
+        if (value == null || value instanceof Date)
+        {
+          return value;
+        }
+        else if (value instanceof java.util.Date)
+        {
+          return new Date(((java.util.Date) value).getTime());
+        }
+        return Date.valueOf(String.valueOf(value).trim());
+      case "getTime":
+        if (value == null || value instanceof Time)
+        {
+          return value;
+        }
+        else if (value instanceof java.util.Date)
+        {
+          return new Time(((java.util.Date) value).getTime());
+        }
+        return Time.valueOf(String.valueOf(value).trim());
+      case "getTimestamp":
+        if (value == null || value instanceof Timestamp)
+        {
+          return value;
+        }
+        else if (value instanceof java.util.Date)
+        {
+          return new Timestamp(((java.util.Date) value).getTime());
+        }
+        return Timestamp.valueOf(String.valueOf(value).trim());
+      default:
+        throw new SQLFeatureNotSupportedException("Not supported", "HYC00");
+    }
+  }
+
+  private Object invokeMetaData(final Object proxy,
+                                final Method method,
+                                final Object[] args)
+    throws SQLException
+  {
+    final String methodName = method.getName();
+    switch (methodName)
+    {
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "ReplayResultSetMetaData@" + System.identityHashCode(proxy);
+      case "getColumnCount":
+        return recordedResultSet.getColumnCount();
+      default:
+        break;
+    }
+
+    if (args == null || args.length != 1 || !(args[0] instanceof Integer))
+    {
+      throw new SQLFeatureNotSupportedException("Not supported", "HYC00");
+    }
+    final int column = (Integer) args[0];
+    if (column < 1 || column > recordedResultSet.getColumnCount())
+    {
+      throw new SQLException("Invalid column index: " + column, "07009");
+    }
+    switch (methodName)
+    {
+      case "getColumnLabel":
+        return recordedResultSet.getColumnLabel(column);
+      case "getColumnName":
+        return recordedResultSet.getColumnName(column);
+      case "getColumnType":
+        return recordedResultSet.getColumnType(column);
+      case "getColumnTypeName":
+        return recordedResultSet.getColumnTypeName(column);
+      case "getColumnClassName":
+        return recordedResultSet.getColumnClassName(column);
+      case "isNullable":
+        return ResultSetMetaData.columnNullableUnknown;
+      case "getCatalogName":
+      case "getSchemaName":
+      case "getTableName":
+        return "";
+      default:
+        throw new SQLFeatureNotSupportedException("Not supported", "HYC00");
+    }
+  }
+
+  private boolean next()
+    throws SQLException
+  {
+    if (closed)
+    {
+      throw new SQLException("Result set is closed", "24000");
+    }
+    final int rowCount = recordedResultSet.getRowCount();
+    if (row >= rowCount)
+    {
+      return false;
+    }
+    row = row + 1;
+
+    // The first batch of rows comes back with the query, and every
+    // following batch needs another round-trip
+    final int batchSize;
+    if (fetchSize > 0)
+    {
+      batchSize = fetchSize;
+    }
+    else
+    {
+      batchSize = recordedResultSet.getFetchSize();
+    }
+    if (batchSize > 0 && row > 0 && row < rowCount && row % batchSize == 0)
+    {
+      ReplayInvocationHandler.roundTrip(latencyMillis);
+    }
+
+    return row < rowCount;
+  }
+
+}
@@ -0,0 +1,144 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.integration.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.offline.jdbc.JdbcRecorder;
+import schemacrawler.tools.offline.jdbc.JdbcRecording;
+import schemacrawler.utility.SchemaCrawlerUtility;
+import sf.util.IOUtility;
+
+public class RecordReplayTest
+  extends BaseDatabaseTest
+{
+
+  @Test(expected = InvalidClassException.class)
+  public void loadOtherClasses()
+    throws Exception
+  {
+    final Path recordingFile = IOUtility.createTempFilePath("schemacrawler",
+                                                            "jdbc");
+    try (final ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(Files
+      .newOutputStream(recordingFile)));)
+    {
+      out.writeObject(new File("."));
+    }
+
+    JdbcRecording.load(recordingFile);
+  }
+
+  @Test
+  public void recordAndReplay()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .withMaximumSchemaInfoLevel();
+
+    final JdbcRecorder recorder = new JdbcRecorder();
+    final Catalog recordedCatalog = SchemaCrawlerUtility
+      .getCatalog(recorder.record(getConnection()), schemaCrawlerOptions);
+    assertTrue("No calls recorded", recorder.getRecording().size() > 0);
+
+    final Path recordingFile = IOUtility.createTempFilePath("schemacrawler",
+                                                            "jdbc");
+    recorder.getRecording().save(recordingFile);
+
+    final Catalog replayedCatalog;
+    try (final Connection connection = DriverManager
+      .getConnection("jdbc:replay:" + recordingFile);)
+    {
+      replayedCatalog = SchemaCrawlerUtility.getCatalog(connection,
+                                                        schemaCrawlerOptions);
+    }
+
+    final Schema schema = replayedCatalog.lookupSchema("PUBLIC.BOOKS")
+      .orElse(null);
+    assertNotNull("Could not obtain schema", schema);
+    assertEquals("Unexpected number of tables in the schema",
+                 10,
+                 replayedCatalog.getTables(schema).size());
+    assertEquals("Schemas do not match",
+                 recordedCatalog.getSchemas().size(),
+                 replayedCatalog.getSchemas().size());
+    for (final Table table: recordedCatalog.getTables())
+    {
+      final Table replayedTable = replayedCatalog
+        .lookupTable(table.getSchema(), table.getName()).orElse(null);
+      assertNotNull("Table not replayed, " + table, replayedTable);
+      assertEquals("Columns do not match, " + table,
+                   table.getColumns(),
+                   replayedTable.getColumns());
+      assertEquals("Foreign keys do not match, " + table,
+                   table.getForeignKeys(),
+                   replayedTable.getForeignKeys());
+    }
+  }
+
+  @Test
+  public void replayWithLatency()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .newSchemaCrawlerOptions();
+
+    final JdbcRecorder recorder = new JdbcRecorder();
+    SchemaCrawlerUtility.getCatalog(recorder.record(getConnection()),
+                                    schemaCrawlerOptions);
+    final JdbcRecording recording = recorder.getRecording();
+
+    final long start = System.nanoTime();
+    final Catalog catalog = SchemaCrawlerUtility
+      .getCatalog(recording.newConnection(5), schemaCrawlerOptions);
+    final long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+
+    assertTrue("Could not find any tables", catalog.getTables().size() > 0);
+    assertTrue("Latency was not simulated", elapsedMillis >= 5);
+  }
+
+}
@@ -70,7 +70,8 @@ SELECT
   NULL AS SCOPE_TABLE,
   NULL AS SOURCE_DATA_TYPE,
   IDENTITY_COLUMN AS IS_AUTOINCREMENT,
-  COLUMNS.VIRTUAL_COLUMN AS IS_GENERATEDCOLUMN
+  COLUMNS.VIRTUAL_COLUMN AS IS_GENERATEDCOLUMN,
+  COLUMNS.HIDDEN_COLUMN AS IS_HIDDEN
 FROM 
   ${catalogscope}_TAB_COLS COLUMNS
   LEFT OUTER JOIN ${catalogscope}_COL_COMMENTS REMARKS
@@ -28,13 +28,16 @@ http://www.gnu.org/licenses/
 package schemacrawler.server.postgresql;
 
 
+import java.io.IOException;
+import java.sql.Connection;
+import java.util.regex.Pattern;
+
+import schemacrawler.crawl.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.DatabaseServerType;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
 import schemacrawler.tools.iosource.ClasspathInputResource;
 
-import java.io.IOException;
-import java.util.regex.Pattern;
-
 public final class PostgreSQLDatabaseConnector
   extends DatabaseConnector
 {
@@ -53,4 +56,17 @@ public final class PostgreSQLDatabaseConnector
           url -> Pattern.matches("jdbc:postgresql:.*", url));
   }
 
+  @Override
+  public SchemaRetrievalOptionsBuilder getSchemaRetrievalOptionsBuilder(final Connection connection)
+  {
+    final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder = super.getSchemaRetrievalOptionsBuilder(connection);
+    schemaRetrievalOptionsBuilder
+      .withTableRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withPrimaryKeyRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withIndexRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all);
+    return schemaRetrievalOptionsBuilder;
+  }
+
 }
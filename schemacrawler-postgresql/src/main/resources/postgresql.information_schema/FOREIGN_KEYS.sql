@@ -0,0 +1,74 @@
+SELECT
+  NULL AS PKTABLE_CAT,
+  PK_NAMESPACES.NSPNAME AS PKTABLE_SCHEM,
+  PK_TABLES.RELNAME AS PKTABLE_NAME,
+  PK_COLUMNS.ATTNAME AS PKCOLUMN_NAME,
+  NULL AS FKTABLE_CAT,
+  FK_NAMESPACES.NSPNAME AS FKTABLE_SCHEM,
+  FK_TABLES.RELNAME AS FKTABLE_NAME,
+  FK_COLUMNS.ATTNAME AS FKCOLUMN_NAME,
+  FOREIGN_KEYS.KEY_SEQ,
+  CASE FOREIGN_KEYS.CONFUPDTYPE
+    WHEN 'c' THEN 0
+    WHEN 'r' THEN 1
+    WHEN 'n' THEN 2
+    WHEN 'd' THEN 4
+    ELSE 3
+  END AS UPDATE_RULE,
+  CASE FOREIGN_KEYS.CONFDELTYPE
+    WHEN 'c' THEN 0
+    WHEN 'r' THEN 1
+    WHEN 'n' THEN 2
+    WHEN 'd' THEN 4
+    ELSE 3
+  END AS DELETE_RULE,
+  FOREIGN_KEYS.CONNAME AS FK_NAME,
+  PK_INDEXES.RELNAME AS PK_NAME,
+  CASE
+    WHEN FOREIGN_KEYS.CONDEFERRABLE AND FOREIGN_KEYS.CONDEFERRED THEN 5
+    WHEN FOREIGN_KEYS.CONDEFERRABLE THEN 6
+    ELSE 7
+  END AS DEFERRABILITY
+FROM
+  (
+    SELECT
+      CONSTRAINTS.CONNAME,
+      CONSTRAINTS.CONRELID,
+      CONSTRAINTS.CONFRELID,
+      CONSTRAINTS.CONINDID,
+      CONSTRAINTS.CONKEY,
+      CONSTRAINTS.CONFKEY,
+      CONSTRAINTS.CONFUPDTYPE,
+      CONSTRAINTS.CONFDELTYPE,
+      CONSTRAINTS.CONDEFERRABLE,
+      CONSTRAINTS.CONDEFERRED,
+      GENERATE_SERIES(1, ARRAY_UPPER(CONSTRAINTS.CONKEY, 1)) AS KEY_SEQ
+    FROM
+      PG_CATALOG.PG_CONSTRAINT CONSTRAINTS
+    WHERE
+      CONSTRAINTS.CONTYPE = 'f'
+  ) FOREIGN_KEYS
+  INNER JOIN PG_CATALOG.PG_CLASS FK_TABLES
+    ON FK_TABLES.OID = FOREIGN_KEYS.CONRELID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE FK_NAMESPACES
+    ON FK_NAMESPACES.OID = FK_TABLES.RELNAMESPACE
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE FK_COLUMNS
+    ON FK_COLUMNS.ATTRELID = FOREIGN_KEYS.CONRELID
+    AND FK_COLUMNS.ATTNUM = FOREIGN_KEYS.CONKEY[FOREIGN_KEYS.KEY_SEQ]
+  INNER JOIN PG_CATALOG.PG_CLASS PK_TABLES
+    ON PK_TABLES.OID = FOREIGN_KEYS.CONFRELID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE PK_NAMESPACES
+    ON PK_NAMESPACES.OID = PK_TABLES.RELNAMESPACE
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE PK_COLUMNS
+    ON PK_COLUMNS.ATTRELID = FOREIGN_KEYS.CONFRELID
+    AND PK_COLUMNS.ATTNUM = FOREIGN_KEYS.CONFKEY[FOREIGN_KEYS.KEY_SEQ]
+  LEFT OUTER JOIN PG_CATALOG.PG_CLASS PK_INDEXES
+    ON PK_INDEXES.OID = FOREIGN_KEYS.CONINDID
+WHERE
+  FK_NAMESPACES.NSPNAME ~ '${schemas}'
+  OR PK_NAMESPACES.NSPNAME ~ '${schemas}'
+ORDER BY
+  PKTABLE_SCHEM,
+  PKTABLE_NAME,
+  FK_NAME,
+  KEY_SEQ
@@ -0,0 +1,52 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NAMESPACES.NSPNAME AS TABLE_SCHEM,
+  TABLES.RELNAME AS TABLE_NAME,
+  NOT INDEXES.INDISUNIQUE AS NON_UNIQUE,
+  NULL AS INDEX_QUALIFIER,
+  INDEX_TABLES.RELNAME AS INDEX_NAME,
+  CASE
+    WHEN INDEXES.INDISCLUSTERED THEN 1
+    WHEN ACCESS_METHODS.AMNAME = 'hash' THEN 2
+    ELSE 3
+  END AS TYPE,
+  INDEXES.KEY_INDEX + 1 AS ORDINAL_POSITION,
+  CASE
+    WHEN INDEXES.INDKEY[INDEXES.KEY_INDEX] = 0
+      THEN PG_GET_INDEXDEF(INDEXES.INDEXRELID, INDEXES.KEY_INDEX + 1, TRUE)
+    ELSE COLUMNS.ATTNAME
+  END AS COLUMN_NAME,
+  CASE
+    WHEN INDEXES.INDOPTION[INDEXES.KEY_INDEX] & 1 = 1 THEN 'D'
+    ELSE 'A'
+  END AS ASC_OR_DESC,
+  INDEX_TABLES.RELTUPLES AS CARDINALITY,
+  INDEX_TABLES.RELPAGES AS PAGES,
+  PG_GET_EXPR(INDEXES.INDPRED, INDEXES.INDRELID) AS FILTER_CONDITION
+FROM
+  (
+    SELECT
+      PG_INDEX.*,
+      GENERATE_SERIES(0, PG_INDEX.INDNATTS - 1) AS KEY_INDEX
+    FROM
+      PG_CATALOG.PG_INDEX
+  ) INDEXES
+  INNER JOIN PG_CATALOG.PG_CLASS TABLES
+    ON TABLES.OID = INDEXES.INDRELID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON NAMESPACES.OID = TABLES.RELNAMESPACE
+  INNER JOIN PG_CATALOG.PG_CLASS INDEX_TABLES
+    ON INDEX_TABLES.OID = INDEXES.INDEXRELID
+  INNER JOIN PG_CATALOG.PG_AM ACCESS_METHODS
+    ON ACCESS_METHODS.OID = INDEX_TABLES.RELAM
+  LEFT OUTER JOIN PG_CATALOG.PG_ATTRIBUTE COLUMNS
+    ON COLUMNS.ATTRELID = INDEXES.INDRELID
+    AND COLUMNS.ATTNUM = INDEXES.INDKEY[INDEXES.KEY_INDEX]
+WHERE
+  NAMESPACES.NSPNAME NOT LIKE 'pg\_toast%'
+  AND NAMESPACES.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  INDEX_NAME,
+  ORDINAL_POSITION
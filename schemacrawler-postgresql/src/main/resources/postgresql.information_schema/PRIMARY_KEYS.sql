@@ -0,0 +1,34 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NAMESPACES.NSPNAME AS TABLE_SCHEM,
+  TABLES.RELNAME AS TABLE_NAME,
+  COLUMNS.ATTNAME AS COLUMN_NAME,
+  PRIMARY_KEYS.KEY_SEQ,
+  PRIMARY_KEYS.CONNAME AS PK_NAME
+FROM
+  (
+    SELECT
+      CONSTRAINTS.CONNAME,
+      CONSTRAINTS.CONRELID,
+      CONSTRAINTS.CONKEY,
+      GENERATE_SERIES(1, ARRAY_UPPER(CONSTRAINTS.CONKEY, 1)) AS KEY_SEQ
+    FROM
+      PG_CATALOG.PG_CONSTRAINT CONSTRAINTS
+    WHERE
+      CONSTRAINTS.CONTYPE = 'p'
+  ) PRIMARY_KEYS
+  INNER JOIN PG_CATALOG.PG_CLASS TABLES
+    ON TABLES.OID = PRIMARY_KEYS.CONRELID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON NAMESPACES.OID = TABLES.RELNAMESPACE
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE COLUMNS
+    ON COLUMNS.ATTRELID = PRIMARY_KEYS.CONRELID
+    AND COLUMNS.ATTNUM = PRIMARY_KEYS.CONKEY[PRIMARY_KEYS.KEY_SEQ]
+WHERE
+  NAMESPACES.NSPNAME NOT LIKE 'pg\_toast%'
+  AND NAMESPACES.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  PK_NAME,
+  KEY_SEQ
@@ -0,0 +1,30 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NAMESPACES.NSPNAME AS TABLE_SCHEM,
+  TABLES.RELNAME AS TABLE_NAME,
+  CASE
+    WHEN NAMESPACES.NSPNAME IN ('pg_catalog', 'information_schema') THEN
+      CASE WHEN TABLES.RELKIND = 'v' THEN 'SYSTEM VIEW' ELSE 'SYSTEM TABLE' END
+    WHEN NAMESPACES.NSPNAME LIKE 'pg\_temp\_%' THEN
+      CASE WHEN TABLES.RELKIND = 'v' THEN 'TEMPORARY VIEW' ELSE 'TEMPORARY TABLE' END
+    ELSE
+      CASE TABLES.RELKIND
+        WHEN 'r' THEN 'TABLE'
+        WHEN 'p' THEN 'PARTITIONED TABLE'
+        WHEN 'v' THEN 'VIEW'
+        WHEN 'm' THEN 'MATERIALIZED VIEW'
+        WHEN 'f' THEN 'FOREIGN TABLE'
+      END
+  END AS TABLE_TYPE,
+  OBJ_DESCRIPTION(TABLES.OID, 'pg_class') AS REMARKS
+FROM
+  PG_CATALOG.PG_CLASS TABLES
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON NAMESPACES.OID = TABLES.RELNAMESPACE
+WHERE
+  TABLES.RELKIND IN ('r', 'p', 'v', 'm', 'f')
+  AND NAMESPACES.NSPNAME NOT LIKE 'pg\_toast%'
+  AND NAMESPACES.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME
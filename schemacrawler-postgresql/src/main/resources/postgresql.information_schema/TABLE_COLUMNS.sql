@@ -0,0 +1,111 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NAMESPACES.NSPNAME AS TABLE_SCHEM,
+  TABLES.RELNAME AS TABLE_NAME,
+  COLUMNS.ATTNAME AS COLUMN_NAME,
+  CASE
+    WHEN BASE_TYPES.TYPCATEGORY = 'A' THEN 2003
+    WHEN BASE_TYPES.TYPTYPE = 'c' THEN 2002
+    WHEN BASE_TYPES.TYPTYPE = 'e' THEN 12
+    ELSE
+      CASE BASE_TYPES.TYPNAME
+        WHEN 'int2' THEN 5
+        WHEN 'int4' THEN 4
+        WHEN 'int8' THEN -5
+        WHEN 'oid' THEN -5
+        WHEN 'money' THEN 8
+        WHEN 'numeric' THEN 2
+        WHEN 'float4' THEN 7
+        WHEN 'float8' THEN 8
+        WHEN 'char' THEN 1
+        WHEN 'bpchar' THEN 1
+        WHEN 'varchar' THEN 12
+        WHEN 'text' THEN 12
+        WHEN 'name' THEN 12
+        WHEN 'bytea' THEN -2
+        WHEN 'bool' THEN -7
+        WHEN 'bit' THEN -7
+        WHEN 'date' THEN 91
+        WHEN 'time' THEN 92
+        WHEN 'timetz' THEN 92
+        WHEN 'timestamp' THEN 93
+        WHEN 'timestamptz' THEN 93
+        WHEN 'xml' THEN 2009
+        WHEN 'refcursor' THEN 2012
+        ELSE 1111
+      END
+  END AS DATA_TYPE,
+  CASE
+    WHEN TYPES.TYPNAME = 'int4'
+      AND PG_GET_EXPR(DEFAULTS.ADBIN, DEFAULTS.ADRELID) LIKE 'nextval(%'
+      THEN 'serial'
+    WHEN TYPES.TYPNAME = 'int8'
+      AND PG_GET_EXPR(DEFAULTS.ADBIN, DEFAULTS.ADRELID) LIKE 'nextval(%'
+      THEN 'bigserial'
+    ELSE TYPES.TYPNAME
+  END AS TYPE_NAME,
+  COALESCE(
+    INFORMATION_SCHEMA._PG_CHAR_MAX_LENGTH(BASE_TYPES.OID,
+      INFORMATION_SCHEMA._PG_TRUETYPMOD(COLUMNS.*, TYPES.*)),
+    INFORMATION_SCHEMA._PG_NUMERIC_PRECISION(BASE_TYPES.OID,
+      INFORMATION_SCHEMA._PG_TRUETYPMOD(COLUMNS.*, TYPES.*)),
+    INFORMATION_SCHEMA._PG_DATETIME_PRECISION(BASE_TYPES.OID,
+      INFORMATION_SCHEMA._PG_TRUETYPMOD(COLUMNS.*, TYPES.*)),
+    2147483647)
+  AS COLUMN_SIZE,
+  NULL AS BUFFER_LENGTH,
+  COALESCE(
+    INFORMATION_SCHEMA._PG_NUMERIC_SCALE(BASE_TYPES.OID,
+      INFORMATION_SCHEMA._PG_TRUETYPMOD(COLUMNS.*, TYPES.*)),
+    0)
+  AS DECIMAL_DIGITS,
+  10 AS NUM_PREC_RADIX,
+  CASE
+    WHEN COLUMNS.ATTNOTNULL OR (TYPES.TYPTYPE = 'd' AND TYPES.TYPNOTNULL) THEN 0
+    ELSE 1
+  END AS NULLABLE,
+  COL_DESCRIPTION(TABLES.OID, COLUMNS.ATTNUM) AS REMARKS,
+  PG_GET_EXPR(DEFAULTS.ADBIN, DEFAULTS.ADRELID) AS COLUMN_DEF,
+  NULL AS SQL_DATA_TYPE,
+  NULL AS SQL_DATETIME_SUB,
+  INFORMATION_SCHEMA._PG_CHAR_OCTET_LENGTH(BASE_TYPES.OID,
+    INFORMATION_SCHEMA._PG_TRUETYPMOD(COLUMNS.*, TYPES.*))
+  AS CHAR_OCTET_LENGTH,
+  COLUMNS.ATTNUM AS ORDINAL_POSITION,
+  CASE
+    WHEN COLUMNS.ATTNOTNULL OR (TYPES.TYPTYPE = 'd' AND TYPES.TYPNOTNULL) THEN 'NO'
+    ELSE 'YES'
+  END AS IS_NULLABLE,
+  NULL AS SCOPE_CATALOG,
+  NULL AS SCOPE_SCHEMA,
+  NULL AS SCOPE_TABLE,
+  NULL AS SOURCE_DATA_TYPE,
+  CASE
+    WHEN PG_GET_EXPR(DEFAULTS.ADBIN, DEFAULTS.ADRELID) LIKE 'nextval(%' THEN 'YES'
+    ELSE 'NO'
+  END AS IS_AUTOINCREMENT,
+  'NO' AS IS_GENERATEDCOLUMN
+FROM
+  PG_CATALOG.PG_ATTRIBUTE COLUMNS
+  INNER JOIN PG_CATALOG.PG_CLASS TABLES
+    ON TABLES.OID = COLUMNS.ATTRELID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON NAMESPACES.OID = TABLES.RELNAMESPACE
+  INNER JOIN PG_CATALOG.PG_TYPE TYPES
+    ON TYPES.OID = COLUMNS.ATTTYPID
+  INNER JOIN PG_CATALOG.PG_TYPE BASE_TYPES
+    ON BASE_TYPES.OID =
+      CASE WHEN TYPES.TYPTYPE = 'd' THEN TYPES.TYPBASETYPE ELSE TYPES.OID END
+  LEFT OUTER JOIN PG_CATALOG.PG_ATTRDEF DEFAULTS
+    ON DEFAULTS.ADRELID = COLUMNS.ATTRELID
+    AND DEFAULTS.ADNUM = COLUMNS.ATTNUM
+WHERE
+  COLUMNS.ATTNUM > 0
+  AND NOT COLUMNS.ATTISDROPPED
+  AND TABLES.RELKIND IN ('r', 'p', 'v', 'm', 'f')
+  AND NAMESPACES.NSPNAME NOT LIKE 'pg\_toast%'
+  AND NAMESPACES.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  ORDINAL_POSITION
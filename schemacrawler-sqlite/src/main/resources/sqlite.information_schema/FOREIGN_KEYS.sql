@@ -0,0 +1,113 @@
+WITH RECURSIVE
+  CONSTRAINT_CLAUSES (TABLE_NAME, CLAUSE, REMAINDER) AS
+  (
+    SELECT
+      name,
+      NULL,
+      REPLACE(REPLACE(REPLACE(sql, CHAR(9), ' '), CHAR(10), ' '), CHAR(13), ' ')
+    FROM
+      sqlite_master
+    WHERE
+      type = 'table'
+      AND sql LIKE '%CONSTRAINT%'
+    UNION ALL
+    SELECT
+      TABLE_NAME,
+      LTRIM(SUBSTR(REMAINDER, INSTR(UPPER(REMAINDER), 'CONSTRAINT') + 10)),
+      SUBSTR(REMAINDER, INSTR(UPPER(REMAINDER), 'CONSTRAINT') + 10)
+    FROM
+      CONSTRAINT_CLAUSES
+    WHERE
+      INSTR(UPPER(REMAINDER), 'CONSTRAINT') > 0
+  ),
+  NAMED_CONSTRAINTS (TABLE_NAME, CONSTRAINT_NAME, DEFINITION) AS
+  (
+    SELECT
+      TABLE_NAME,
+      TRIM(SUBSTR(CLAUSE, 1, INSTR(CLAUSE, ' ') - 1), '"`[]'),
+      LTRIM(SUBSTR(CLAUSE, INSTR(CLAUSE, ' ')))
+    FROM
+      CONSTRAINT_CLAUSES
+    WHERE
+      INSTR(CLAUSE, ' ') > 0
+  ),
+  FOREIGN_KEY_CONSTRAINTS (TABLE_NAME, CONSTRAINT_NAME, COLUMN_LIST) AS
+  (
+    SELECT
+      TABLE_NAME,
+      CONSTRAINT_NAME,
+      SUBSTR(DEFINITION, INSTR(DEFINITION, '(') + 1) || ')'
+    FROM
+      NAMED_CONSTRAINTS
+    WHERE
+      UPPER(DEFINITION) LIKE 'FOREIGN %'
+  ),
+  FOREIGN_KEY_NAMES (TABLE_NAME, CONSTRAINT_NAME, FIRST_COLUMN_NAME) AS
+  (
+    SELECT
+      TABLE_NAME,
+      CONSTRAINT_NAME,
+      TRIM(
+        SUBSTR(COLUMN_LIST, 1,
+          MIN(
+            CASE INSTR(COLUMN_LIST, ',')
+              WHEN 0 THEN LENGTH(COLUMN_LIST)
+              ELSE INSTR(COLUMN_LIST, ',')
+            END,
+            INSTR(COLUMN_LIST, ')')) - 1),
+        ' "`[]')
+    FROM
+      FOREIGN_KEY_CONSTRAINTS
+  )
+SELECT
+  NULL AS PKTABLE_CAT,
+  NULL AS PKTABLE_SCHEM,
+  FOREIGN_KEYS."table" AS PKTABLE_NAME,
+  COALESCE(FOREIGN_KEYS."to",
+    (SELECT PK_COLUMNS.name
+     FROM pragma_table_info(FOREIGN_KEYS."table") AS PK_COLUMNS
+     WHERE PK_COLUMNS.pk = FOREIGN_KEYS.seq + 1))
+  AS PKCOLUMN_NAME,
+  NULL AS FKTABLE_CAT,
+  NULL AS FKTABLE_SCHEM,
+  TABLES.name AS FKTABLE_NAME,
+  FOREIGN_KEYS."from" AS FKCOLUMN_NAME,
+  FOREIGN_KEYS.seq + 1 AS KEY_SEQ,
+  CASE FOREIGN_KEYS.on_update
+    WHEN 'CASCADE' THEN 0
+    WHEN 'RESTRICT' THEN 1
+    WHEN 'SET NULL' THEN 2
+    WHEN 'SET DEFAULT' THEN 4
+    ELSE 3
+  END AS UPDATE_RULE,
+  CASE FOREIGN_KEYS.on_delete
+    WHEN 'CASCADE' THEN 0
+    WHEN 'RESTRICT' THEN 1
+    WHEN 'SET NULL' THEN 2
+    WHEN 'SET DEFAULT' THEN 4
+    ELSE 3
+  END AS DELETE_RULE,
+  COALESCE(
+    (SELECT MIN(FOREIGN_KEY_NAMES.CONSTRAINT_NAME)
+     FROM
+       FOREIGN_KEY_NAMES
+       INNER JOIN pragma_foreign_key_list(TABLES.name) AS FIRST_COLUMNS
+     WHERE
+       FOREIGN_KEY_NAMES.TABLE_NAME = TABLES.name
+       AND FIRST_COLUMNS.id = FOREIGN_KEYS.id
+       AND FIRST_COLUMNS.seq = 0
+       AND UPPER(FOREIGN_KEY_NAMES.FIRST_COLUMN_NAME) = UPPER(FIRST_COLUMNS."from")),
+    '')
+  AS FK_NAME,
+  '' AS PK_NAME,
+  5 AS DEFERRABILITY
+FROM
+  sqlite_master AS TABLES
+  INNER JOIN pragma_foreign_key_list(TABLES.name) AS FOREIGN_KEYS
+WHERE
+  TABLES.type = 'table'
+ORDER BY
+  PKTABLE_NAME,
+  FKTABLE_NAME,
+  FOREIGN_KEYS.id,
+  KEY_SEQ
@@ -0,0 +1,49 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLES.name AS TABLE_NAME,
+  COLUMNS.name AS COLUMN_NAME,
+  CASE
+    WHEN UPPER(COLUMNS.type) LIKE '%INT%'
+      OR UPPER(COLUMNS.type) LIKE '%BOOL%' THEN 4
+    WHEN UPPER(COLUMNS.type) LIKE '%CHAR%'
+      OR UPPER(COLUMNS.type) LIKE '%CLOB%'
+      OR UPPER(COLUMNS.type) LIKE '%TEXT%'
+      OR UPPER(COLUMNS.type) LIKE '%BLOB%' THEN 12
+    WHEN UPPER(COLUMNS.type) LIKE '%REAL%'
+      OR UPPER(COLUMNS.type) LIKE '%FLOA%'
+      OR UPPER(COLUMNS.type) LIKE '%DOUB%'
+      OR UPPER(COLUMNS.type) LIKE '%DEC%'
+      OR UPPER(COLUMNS.type) LIKE '%NUM%' THEN 6
+    ELSE 12
+  END AS DATA_TYPE,
+  UPPER(COALESCE(COLUMNS.type, 'TEXT')) AS TYPE_NAME,
+  2000000000 AS COLUMN_SIZE,
+  2000000000 AS BUFFER_LENGTH,
+  10 AS DECIMAL_DIGITS,
+  10 AS NUM_PREC_RADIX,
+  CASE COLUMNS."notnull" WHEN 0 THEN 1 ELSE 0 END AS NULLABLE,
+  NULL AS REMARKS,
+  COLUMNS.dflt_value AS COLUMN_DEF,
+  0 AS SQL_DATA_TYPE,
+  0 AS SQL_DATETIME_SUB,
+  2000000000 AS CHAR_OCTET_LENGTH,
+  COLUMNS.cid + 1 AS ORDINAL_POSITION,
+  CASE COLUMNS."notnull" WHEN 0 THEN 'YES' ELSE 'NO' END AS IS_NULLABLE,
+  NULL AS SCOPE_CATALOG,
+  NULL AS SCOPE_SCHEMA,
+  NULL AS SCOPE_TABLE,
+  NULL AS SOURCE_DATA_TYPE,
+  CASE
+    WHEN COLUMNS.pk = 1 AND LOWER(TABLES.sql) LIKE '%autoincrement%' THEN 'YES'
+    ELSE 'NO'
+  END AS IS_AUTOINCREMENT,
+  '' AS IS_GENERATEDCOLUMN
+FROM
+  sqlite_master AS TABLES
+  INNER JOIN pragma_table_info(TABLES.name) AS COLUMNS
+WHERE
+  TABLES.type IN ('table', 'view')
+ORDER BY
+  TABLES.name,
+  COLUMNS.cid
@@ -0,0 +1,85 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.integration.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.Collection;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.BaseSqliteTest;
+import schemacrawler.utility.SchemaCrawlerUtility;
+
+public class ForeignKeyNamesTest
+  extends BaseSqliteTest
+{
+
+  /**
+   * The xerial driver does not report foreign key names with non-ASCII
+   * characters, so they are parsed from the CONSTRAINT clause.
+   */
+  @Test
+  public void nonAsciiForeignKeyName()
+    throws Exception
+  {
+    final Path sqliteDbFile = createTestDatabase("/foreign_key_names.sql");
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .withMaximumSchemaInfoLevel();
+
+    try (final Connection connection = createDataSource(sqliteDbFile)
+      .getConnection();)
+    {
+      final Catalog catalog = SchemaCrawlerUtility
+        .getCatalog(connection, schemaCrawlerOptions);
+      final Schema schema = catalog.getSchemas().iterator().next();
+      final Optional<? extends Table> table = catalog
+        .lookupTable(schema, "Βιβλία");
+      assertTrue("Table not found", table.isPresent());
+
+      final Collection<ForeignKey> foreignKeys = table.get()
+        .getImportedForeignKeys();
+      assertEquals(1, foreignKeys.size());
+      assertEquals("FK_βιβλία_Publishers",
+                   foreignKeys.iterator().next().getName());
+    }
+  }
+
+}
@@ -0,0 +1,92 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.integration.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseSqliteTest;
+import schemacrawler.testdb.SyntheticSchemaCreator;
+import schemacrawler.utility.SchemaCrawlerUtility;
+import sf.util.IOUtility;
+
+public class SyntheticSchemaTest
+  extends BaseSqliteTest
+{
+
+  @Test
+  public void syntheticSchema()
+    throws Exception
+  {
+    final Path sqliteDbFile = IOUtility.createTempFilePath("sc", ".db")
+      .normalize().toAbsolutePath();
+
+    try (final Connection connection = createDataSource(sqliteDbFile)
+      .getConnection();)
+    {
+      connection.setAutoCommit(false);
+      new SyntheticSchemaCreator(connection).withSchemas(2).withTables(10)
+        .withColumns(5).withViews(2).withTriggers(1).run();
+
+      final Catalog catalog = SchemaCrawlerUtility
+        .getCatalog(connection,
+                    SchemaCrawlerOptionsBuilder.builder()
+                      .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum()
+                        .toOptions())
+                      .toOptions());
+
+      final Schema[] schemas = catalog.getSchemas().toArray(new Schema[0]);
+      assertEquals("Schema count does not match", 1, schemas.length);
+      assertEquals("Table count does not match",
+                   2 * (10 + 2),
+                   catalog.getTables(schemas[0]).size());
+
+      final Table table = catalog
+        .lookupTable(schemas[0], "SYNTHETIC_1_TABLE_3").get();
+      assertEquals("Column count does not match",
+                   3 + 5,
+                   table.getColumns().size());
+      assertEquals("Foreign key count does not match",
+                   1,
+                   table.getImportedForeignKeys().size());
+      assertTrue("Indexes not found", table.getIndexes().size() >= 1);
+    }
+  }
+
+}
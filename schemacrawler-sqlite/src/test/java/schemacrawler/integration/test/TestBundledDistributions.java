@@ -35,6 +35,8 @@ import java.sql.Connection;
 
 import org.junit.Test;
 
+import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.test.utility.BaseSchemaCrawlerTest;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
 import schemacrawler.tools.databaseconnector.DatabaseConnectorRegistry;
@@ -52,12 +54,29 @@ public class TestBundledDistributions
     final DatabaseConnectorRegistry registry = new DatabaseConnectorRegistry();
     final DatabaseConnector databaseSystemIdentifier = registry
       .lookupDatabaseConnector("sqlite");
-    assertEquals(3,
+    assertEquals(6,
                  databaseSystemIdentifier
                    .getSchemaRetrievalOptionsBuilder(connection).toOptions()
                    .getInformationSchemaViews().size());
   }
 
+  @Test
+  public void testMetadataRetrievalStrategy_sqlite()
+    throws Exception
+  {
+    final Connection connection = null;
+    final DatabaseConnectorRegistry registry = new DatabaseConnectorRegistry();
+    final SchemaRetrievalOptions schemaRetrievalOptions = registry
+      .lookupDatabaseConnector("sqlite")
+      .getSchemaRetrievalOptionsBuilder(connection).toOptions();
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getTableColumnRetrievalStrategy());
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getForeignKeyRetrievalStrategy());
+    assertEquals(MetadataRetrievalStrategy.data_dictionary_all,
+                 schemaRetrievalOptions.getIndexRetrievalStrategy());
+  }
+
   @Test
   public void testPlugin_sqlite()
     throws Exception
@@ -0,0 +1,15 @@
+CREATE TABLE Publishers
+(
+  Id INTEGER NOT NULL,
+  Publisher VARCHAR(255),
+  CONSTRAINT PK_Publishers PRIMARY KEY (Id)
+);
+
+CREATE TABLE Βιβλία
+(
+  Μοναδικός INTEGER NOT NULL,
+  Τίτλος VARCHAR(255) NOT NULL,
+  Εκδότης INTEGER NOT NULL,
+  CONSTRAINT PK_βιβλία PRIMARY KEY (Μοναδικός),
+  CONSTRAINT FK_βιβλία_Publishers FOREIGN KEY (Εκδότης) REFERENCES Publishers (Id)
+);
@@ -0,0 +1,39 @@
+SELECT
+  DB_NAME() AS PKTABLE_CAT,
+  OBJECT_SCHEMA_NAME(FOREIGN_KEY_COLUMNS.referenced_object_id) AS PKTABLE_SCHEM,
+  OBJECT_NAME(FOREIGN_KEY_COLUMNS.referenced_object_id) AS PKTABLE_NAME,
+  COL_NAME(FOREIGN_KEY_COLUMNS.referenced_object_id,
+    FOREIGN_KEY_COLUMNS.referenced_column_id) AS PKCOLUMN_NAME,
+  DB_NAME() AS FKTABLE_CAT,
+  OBJECT_SCHEMA_NAME(FOREIGN_KEY_COLUMNS.parent_object_id) AS FKTABLE_SCHEM,
+  OBJECT_NAME(FOREIGN_KEY_COLUMNS.parent_object_id) AS FKTABLE_NAME,
+  COL_NAME(FOREIGN_KEY_COLUMNS.parent_object_id,
+    FOREIGN_KEY_COLUMNS.parent_column_id) AS FKCOLUMN_NAME,
+  FOREIGN_KEY_COLUMNS.constraint_column_id AS KEY_SEQ,
+  CASE FOREIGN_KEYS.update_referential_action
+    WHEN 1 THEN 0
+    WHEN 2 THEN 2
+    WHEN 3 THEN 4
+    ELSE 3
+  END AS UPDATE_RULE,
+  CASE FOREIGN_KEYS.delete_referential_action
+    WHEN 1 THEN 0
+    WHEN 2 THEN 2
+    WHEN 3 THEN 4
+    ELSE 3
+  END AS DELETE_RULE,
+  FOREIGN_KEYS.name AS FK_NAME,
+  PK_INDEXES.name AS PK_NAME,
+  7 AS DEFERRABILITY
+FROM
+  sys.foreign_keys FOREIGN_KEYS
+  INNER JOIN sys.foreign_key_columns FOREIGN_KEY_COLUMNS
+    ON FOREIGN_KEY_COLUMNS.constraint_object_id = FOREIGN_KEYS.object_id
+  LEFT OUTER JOIN sys.indexes PK_INDEXES
+    ON PK_INDEXES.object_id = FOREIGN_KEYS.referenced_object_id
+    AND PK_INDEXES.index_id = FOREIGN_KEYS.key_index_id
+ORDER BY
+  PKTABLE_SCHEM,
+  PKTABLE_NAME,
+  FK_NAME,
+  KEY_SEQ
@@ -0,0 +1,30 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  OBJECT_SCHEMA_NAME(INDEXES.object_id) AS TABLE_SCHEM,
+  OBJECT_NAME(INDEXES.object_id) AS TABLE_NAME,
+  CASE INDEXES.is_unique WHEN 1 THEN 0 ELSE 1 END AS NON_UNIQUE,
+  OBJECT_NAME(INDEXES.object_id) AS INDEX_QUALIFIER,
+  INDEXES.name AS INDEX_NAME,
+  CASE INDEXES.type WHEN 1 THEN 1 ELSE 3 END AS TYPE,
+  INDEX_COLUMNS.key_ordinal AS ORDINAL_POSITION,
+  COL_NAME(INDEX_COLUMNS.object_id, INDEX_COLUMNS.column_id) AS COLUMN_NAME,
+  CASE INDEX_COLUMNS.is_descending_key WHEN 1 THEN 'D' ELSE 'A' END
+    AS ASC_OR_DESC,
+  NULL AS CARDINALITY,
+  NULL AS PAGES,
+  INDEXES.filter_definition AS FILTER_CONDITION
+FROM
+  sys.indexes INDEXES
+  INNER JOIN sys.index_columns INDEX_COLUMNS
+    ON INDEX_COLUMNS.object_id = INDEXES.object_id
+    AND INDEX_COLUMNS.index_id = INDEXES.index_id
+WHERE
+  INDEXES.type > 0
+  AND INDEXES.is_hypothetical = 0
+  AND INDEX_COLUMNS.key_ordinal > 0
+  AND OBJECTPROPERTY(INDEXES.object_id, 'IsUserTable') = 1
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  INDEX_NAME,
+  ORDINAL_POSITION
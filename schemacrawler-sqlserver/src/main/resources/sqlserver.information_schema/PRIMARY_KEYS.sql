@@ -0,0 +1,20 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMA_NAME(PRIMARY_KEYS.schema_id) AS TABLE_SCHEM,
+  OBJECT_NAME(PRIMARY_KEYS.parent_object_id) AS TABLE_NAME,
+  COL_NAME(INDEX_COLUMNS.object_id, INDEX_COLUMNS.column_id) AS COLUMN_NAME,
+  INDEX_COLUMNS.key_ordinal AS KEY_SEQ,
+  PRIMARY_KEYS.name AS PK_NAME
+FROM
+  sys.key_constraints PRIMARY_KEYS
+  INNER JOIN sys.index_columns INDEX_COLUMNS
+    ON INDEX_COLUMNS.object_id = PRIMARY_KEYS.parent_object_id
+    AND INDEX_COLUMNS.index_id = PRIMARY_KEYS.unique_index_id
+WHERE
+  PRIMARY_KEYS.type = 'PK'
+  AND INDEX_COLUMNS.key_ordinal > 0
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  PK_NAME,
+  KEY_SEQ
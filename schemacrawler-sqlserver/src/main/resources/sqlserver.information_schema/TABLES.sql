@@ -0,0 +1,23 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMAS.name AS TABLE_SCHEM,
+  TABLES.name AS TABLE_NAME,
+  CASE TABLES.type
+    WHEN 'U' THEN 'TABLE'
+    WHEN 'V' THEN 'VIEW'
+  END AS TABLE_TYPE,
+  CAST(PROPERTIES.value AS NVARCHAR(4000)) AS REMARKS
+FROM
+  sys.objects TABLES
+  INNER JOIN sys.schemas SCHEMAS
+    ON SCHEMAS.schema_id = TABLES.schema_id
+  LEFT OUTER JOIN sys.extended_properties PROPERTIES
+    ON PROPERTIES.class = 1
+    AND PROPERTIES.major_id = TABLES.object_id
+    AND PROPERTIES.minor_id = 0
+    AND PROPERTIES.name = 'MS_Description'
+WHERE
+  TABLES.type IN ('U', 'V')
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME
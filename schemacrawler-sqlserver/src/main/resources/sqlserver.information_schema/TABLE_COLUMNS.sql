@@ -0,0 +1,93 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMAS.name AS TABLE_SCHEM,
+  TABLES.name AS TABLE_NAME,
+  COLUMNS.name AS COLUMN_NAME,
+  CASE TYPE_NAME(COLUMNS.system_type_id)
+    WHEN 'bigint' THEN -5
+    WHEN 'binary' THEN -2
+    WHEN 'bit' THEN -7
+    WHEN 'char' THEN 1
+    WHEN 'date' THEN 91
+    WHEN 'datetime' THEN 93
+    WHEN 'datetime2' THEN 93
+    WHEN 'datetimeoffset' THEN -155
+    WHEN 'decimal' THEN 3
+    WHEN 'float' THEN 8
+    WHEN 'image' THEN -4
+    WHEN 'int' THEN 4
+    WHEN 'money' THEN 3
+    WHEN 'nchar' THEN -15
+    WHEN 'ntext' THEN -16
+    WHEN 'numeric' THEN 2
+    WHEN 'nvarchar' THEN -9
+    WHEN 'real' THEN 7
+    WHEN 'smalldatetime' THEN 93
+    WHEN 'smallint' THEN 5
+    WHEN 'smallmoney' THEN 3
+    WHEN 'sql_variant' THEN -150
+    WHEN 'sysname' THEN -9
+    WHEN 'text' THEN -1
+    WHEN 'time' THEN 92
+    WHEN 'timestamp' THEN -2
+    WHEN 'tinyint' THEN -6
+    WHEN 'uniqueidentifier' THEN 1
+    WHEN 'varbinary' THEN -3
+    WHEN 'varchar' THEN 12
+    WHEN 'xml' THEN -16
+    ELSE 1111
+  END AS DATA_TYPE,
+  CASE
+    WHEN COLUMNS.is_identity = 1 THEN TYPE_NAME(COLUMNS.user_type_id) + ' identity'
+    ELSE TYPE_NAME(COLUMNS.user_type_id)
+  END AS TYPE_NAME,
+  CASE
+    WHEN COLUMNS.max_length = -1
+      AND TYPE_NAME(COLUMNS.system_type_id) = 'nvarchar' THEN 1073741823
+    WHEN COLUMNS.max_length = -1 THEN 2147483647
+    WHEN TYPE_NAME(COLUMNS.system_type_id) IN ('nchar', 'nvarchar')
+      THEN COLUMNS.max_length / 2
+    WHEN TYPE_NAME(COLUMNS.system_type_id)
+      IN ('char', 'varchar', 'binary', 'varbinary', 'timestamp')
+      THEN COLUMNS.max_length
+    ELSE COLUMNS.precision
+  END AS COLUMN_SIZE,
+  NULL AS BUFFER_LENGTH,
+  COLUMNS.scale AS DECIMAL_DIGITS,
+  10 AS NUM_PREC_RADIX,
+  CASE COLUMNS.is_nullable WHEN 1 THEN 1 ELSE 0 END AS NULLABLE,
+  CAST(PROPERTIES.value AS NVARCHAR(4000)) AS REMARKS,
+  OBJECT_DEFINITION(COLUMNS.default_object_id) AS COLUMN_DEF,
+  NULL AS SQL_DATA_TYPE,
+  NULL AS SQL_DATETIME_SUB,
+  CASE
+    WHEN TYPE_NAME(COLUMNS.system_type_id)
+      IN ('char', 'varchar', 'nchar', 'nvarchar', 'binary', 'varbinary')
+      THEN CASE COLUMNS.max_length WHEN -1 THEN 2147483647 ELSE COLUMNS.max_length END
+  END AS CHAR_OCTET_LENGTH,
+  ROW_NUMBER() OVER (PARTITION BY COLUMNS.object_id ORDER BY COLUMNS.column_id)
+    AS ORDINAL_POSITION,
+  CASE COLUMNS.is_nullable WHEN 1 THEN 'YES' ELSE 'NO' END AS IS_NULLABLE,
+  NULL AS SCOPE_CATALOG,
+  NULL AS SCOPE_SCHEMA,
+  NULL AS SCOPE_TABLE,
+  NULL AS SOURCE_DATA_TYPE,
+  CASE COLUMNS.is_identity WHEN 1 THEN 'YES' ELSE 'NO' END AS IS_AUTOINCREMENT,
+  CASE COLUMNS.is_computed WHEN 1 THEN 'YES' ELSE 'NO' END AS IS_GENERATEDCOLUMN
+FROM
+  sys.columns COLUMNS
+  INNER JOIN sys.objects TABLES
+    ON TABLES.object_id = COLUMNS.object_id
+  INNER JOIN sys.schemas SCHEMAS
+    ON SCHEMAS.schema_id = TABLES.schema_id
+  LEFT OUTER JOIN sys.extended_properties PROPERTIES
+    ON PROPERTIES.class = 1
+    AND PROPERTIES.major_id = COLUMNS.object_id
+    AND PROPERTIES.minor_id = COLUMNS.column_id
+    AND PROPERTIES.name = 'MS_Description'
+WHERE
+  TABLES.type IN ('U', 'V')
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  ORDINAL_POSITION
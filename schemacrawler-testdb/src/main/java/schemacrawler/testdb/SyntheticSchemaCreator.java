@@ -0,0 +1,428 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.testdb;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates a synthetic schema of a given size, for scale testing. There
+ * are a number of schemas, each with a number of tables, and each table
+ * has a primary key, a name column, and a number of data columns. Every
+ * table after the first refers to a parent table, so that the
+ * references form a binary tree. A given fraction of these references
+ * are declared as foreign keys, and the rest are left for weak
+ * associations. Indexes, views, routines, triggers and remarks can be
+ * added as well.
+ * <p>
+ * Schemas are created on HyperSQL, either in-memory or on the test
+ * database server. SQLite does not have schemas, routines or remarks,
+ * so all the tables go into the main database, with the table names
+ * prefixed with the schema name, and routines and remarks are not
+ * created. The generated schema is the same from run to run.
+ */
+public class SyntheticSchemaCreator
+  implements Runnable
+{
+
+  private static final Logger LOGGER = Logger
+    .getLogger(SyntheticSchemaCreator.class.getName());
+
+  private static final String[] COLUMN_TYPES = {
+                                                 "VARCHAR(50)",
+                                                 "INTEGER",
+                                                 "DECIMAL(10, 2)",
+                                                 "TIMESTAMP",
+                                                 "BOOLEAN", };
+
+  /**
+   * Creates a synthetic schema. The arguments are the connection URL,
+   * user, password, and optionally, the number of schemas, tables in
+   * each schema, and data columns in each table.
+   *
+   * @param args
+   *        Command-line arguments
+   */
+  public static void main(final String[] args)
+    throws Exception
+  {
+    final String connectionUrl = args[0];
+    final String user = args[1];
+    final String password = args[2];
+
+    try (final Connection connection = DriverManager
+      .getConnection(connectionUrl, user, password);)
+    {
+      connection.setAutoCommit(false);
+      final SyntheticSchemaCreator schemaCreator = new SyntheticSchemaCreator(connection);
+      if (args.length > 3)
+      {
+        schemaCreator.withSchemas(Integer.parseInt(args[3]));
+      }
+      if (args.length > 4)
+      {
+        schemaCreator.withTables(Integer.parseInt(args[4]));
+      }
+      if (args.length > 5)
+      {
+        schemaCreator.withColumns(Integer.parseInt(args[5]));
+      }
+      schemaCreator.run();
+    }
+  }
+
+  /**
+   * Name of a synthetic schema.
+   *
+   * @param schemaNumber
+   *        Zero-based schema number
+   * @return Schema name
+   */
+  public static String schemaName(final int schemaNumber)
+  {
+    return "SYNTHETIC_" + schemaNumber;
+  }
+
+  private static void checkCount(final int count, final String name)
+  {
+    if (count < 0)
+    {
+      throw new IllegalArgumentException(String
+        .format("Number of %s cannot be negative, %d", name, count));
+    }
+  }
+
+  private final Connection connection;
+  private int schemas;
+  private int tables;
+  private int columns;
+  private double foreignKeyDensity;
+  private int indexes;
+  private int views;
+  private int routines;
+  private int triggers;
+  private boolean remarks;
+
+  public SyntheticSchemaCreator(final Connection connection)
+  {
+    this.connection = requireNonNull(connection,
+                                     "No database connection provided");
+    schemas = 1;
+    tables = 10;
+    columns = 10;
+    foreignKeyDensity = 1;
+    indexes = 1;
+    views = 1;
+    routines = 1;
+    triggers = 1;
+    remarks = true;
+  }
+
+  @Override
+  public void run()
+  {
+    try
+    {
+      final boolean isSqlite = "SQLite"
+        .equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+      for (int schemaNumber = 0; schemaNumber < schemas; schemaNumber++)
+      {
+        LOGGER.log(Level.FINE,
+                   String.format("Creating synthetic schema %s",
+                                 schemaName(schemaNumber)));
+        createSchema(schemaNumber, isSqlite);
+      }
+    }
+    catch (final SQLException e)
+    {
+      throw new RuntimeException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Number of data columns in each table, in addition to the key, name
+   * and reference columns.
+   */
+  public SyntheticSchemaCreator withColumns(final int columns)
+  {
+    checkCount(columns, "columns");
+    this.columns = columns;
+    return this;
+  }
+
+  /**
+   * Fraction of the table references that are declared as foreign keys,
+   * from 0 to 1. References that are not declared can be found as weak
+   * associations.
+   */
+  public SyntheticSchemaCreator withForeignKeyDensity(final double foreignKeyDensity)
+  {
+    if (foreignKeyDensity < 0 || foreignKeyDensity > 1)
+    {
+      throw new IllegalArgumentException(String
+        .format("Foreign key density should be between 0 and 1, %f",
+                foreignKeyDensity));
+    }
+    this.foreignKeyDensity = foreignKeyDensity;
+    return this;
+  }
+
+  /**
+   * Number of indexes on each table, in addition to the primary key.
+   * The first index is on the name column, and the rest are on data
+   * columns.
+   */
+  public SyntheticSchemaCreator withIndexes(final int indexes)
+  {
+    checkCount(indexes, "indexes");
+    this.indexes = indexes;
+    return this;
+  }
+
+  /**
+   * Whether to add remarks to tables and columns.
+   */
+  public SyntheticSchemaCreator withRemarks(final boolean remarks)
+  {
+    this.remarks = remarks;
+    return this;
+  }
+
+  /**
+   * Number of routines in each schema, alternating between functions
+   * and procedures.
+   */
+  public SyntheticSchemaCreator withRoutines(final int routines)
+  {
+    checkCount(routines, "routines");
+    this.routines = routines;
+    return this;
+  }
+
+  public SyntheticSchemaCreator withSchemas(final int schemas)
+  {
+    checkCount(schemas, "schemas");
+    this.schemas = schemas;
+    return this;
+  }
+
+  public SyntheticSchemaCreator withTables(final int tables)
+  {
+    checkCount(tables, "tables");
+    this.tables = tables;
+    return this;
+  }
+
+  /**
+   * Number of triggers in each schema, spread over the tables.
+   */
+  public SyntheticSchemaCreator withTriggers(final int triggers)
+  {
+    checkCount(triggers, "triggers");
+    this.triggers = triggers;
+    return this;
+  }
+
+  /**
+   * Number of views in each schema, spread over the tables.
+   */
+  public SyntheticSchemaCreator withViews(final int views)
+  {
+    checkCount(views, "views");
+    this.views = views;
+    return this;
+  }
+
+  private void createSchema(final int schemaNumber, final boolean isSqlite)
+    throws SQLException
+  {
+    final String schemaName = schemaName(schemaNumber);
+    final String separator = isSqlite? "_": ".";
+    final String prefix = schemaName + separator;
+    // Seed with the schema number, so that the schema is repeatable
+    final Random random = new Random(schemaNumber);
+
+    if (!isSqlite)
+    {
+      execute(String.format("CREATE SCHEMA %s AUTHORIZATION DBA", schemaName));
+    }
+
+    for (int tableNumber = 0; tableNumber < tables; tableNumber++)
+    {
+      final List<String> sql = new ArrayList<>();
+      final String tableName = String.format("%sTABLE_%d", prefix, tableNumber);
+
+      final StringBuilder buffer = new StringBuilder(1024);
+      buffer.append("CREATE TABLE ").append(tableName).append(" (")
+        .append("ID INTEGER NOT NULL PRIMARY KEY, ")
+        .append("NAME VARCHAR(100) NOT NULL");
+      if (tableNumber > 0)
+      {
+        final int parentTableNumber = (tableNumber - 1) / 2;
+        buffer.append(String.format(", TABLE_%d_ID INTEGER", parentTableNumber));
+        if (random.nextDouble() < foreignKeyDensity)
+        {
+          buffer.append(String.format(" REFERENCES %sTABLE_%d (ID)",
+                                      prefix,
+                                      parentTableNumber));
+        }
+      }
+      for (int columnNumber = 0; columnNumber < columns; columnNumber++)
+      {
+        buffer.append(String.format(", COLUMN_%d %s",
+                                    columnNumber,
+                                    COLUMN_TYPES[columnNumber
+                                                 % COLUMN_TYPES.length]));
+      }
+      buffer.append(")");
+      sql.add(buffer.toString());
+
+      for (int indexNumber = 0; indexNumber < indexes
+                                && indexNumber <= columns; indexNumber++)
+      {
+        final String indexColumn = indexNumber == 0? "NAME"
+                                                   : "COLUMN_" + (indexNumber - 1);
+        sql.add(String.format("CREATE INDEX %sIDX_TABLE_%d_%d ON %s (%s)",
+                              prefix,
+                              tableNumber,
+                              indexNumber,
+                              tableName,
+                              indexColumn));
+      }
+
+      if (remarks && !isSqlite)
+      {
+        sql.add(String.format("COMMENT ON TABLE %s IS 'Synthetic table %d'",
+                              tableName,
+                              tableNumber));
+        sql.add(String.format("COMMENT ON COLUMN %s.NAME IS 'Name of row'",
+                              tableName));
+      }
+
+      execute(sql);
+    }
+
+    if (tables == 0)
+    {
+      return;
+    }
+
+    final List<String> sql = new ArrayList<>();
+    for (int viewNumber = 0; viewNumber < views; viewNumber++)
+    {
+      sql.add(String.format("CREATE VIEW %sVIEW_%d AS SELECT * FROM %sTABLE_%d",
+                            prefix,
+                            viewNumber,
+                            prefix,
+                            viewNumber % tables));
+    }
+    for (int triggerNumber = 0; triggerNumber < triggers; triggerNumber++)
+    {
+      final String tableName = String
+        .format("%sTABLE_%d", prefix, triggerNumber % tables);
+      if (isSqlite)
+      {
+        sql.add(String
+          .format("CREATE TRIGGER %sTRIGGER_%d AFTER INSERT ON %s BEGIN DELETE FROM %s WHERE ID < 0; END",
+                  prefix,
+                  triggerNumber,
+                  tableName,
+                  tableName));
+      }
+      else
+      {
+        sql.add(String
+          .format("CREATE TRIGGER %sTRIGGER_%d AFTER INSERT ON %s FOR EACH STATEMENT BEGIN ATOMIC DELETE FROM %s WHERE ID < 0; END",
+                  prefix,
+                  triggerNumber,
+                  tableName,
+                  tableName));
+      }
+    }
+    if (!isSqlite)
+    {
+      for (int routineNumber = 0; routineNumber < routines; routineNumber++)
+      {
+        if (routineNumber % 2 == 0)
+        {
+          sql.add(String
+            .format("CREATE FUNCTION %sFUNCTION_%d(IN P_VALUE INTEGER) RETURNS INTEGER RETURN P_VALUE + %d",
+                    prefix,
+                    routineNumber,
+                    routineNumber));
+        }
+        else
+        {
+          sql.add(String
+            .format("CREATE PROCEDURE %sPROCEDURE_%d(IN P_ID INTEGER) MODIFIES SQL DATA BEGIN ATOMIC DELETE FROM %sTABLE_%d WHERE ID = P_ID; END",
+                    prefix,
+                    routineNumber,
+                    prefix,
+                    routineNumber % tables));
+        }
+      }
+    }
+    execute(sql);
+  }
+
+  private void execute(final List<String> sqlList)
+    throws SQLException
+  {
+    // NOTE: Do not close connection, since we did not open it
+    try (final Statement statement = connection.createStatement();)
+    {
+      for (final String sql: sqlList)
+      {
+        statement.execute(sql);
+      }
+    }
+    if (!connection.getAutoCommit())
+    {
+      connection.commit();
+    }
+  }
+
+  private void execute(final String sql)
+    throws SQLException
+  {
+    final List<String> sqlList = new ArrayList<>();
+    sqlList.add(sql);
+    execute(sqlList);
+  }
+
+}
@@ -0,0 +1,135 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.analysis.metrics;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Writer;
+import java.time.Duration;
+import java.util.Map;
+
+import schemacrawler.schema.CrawlMetrics;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.text.utility.org.json.JSONArray;
+import schemacrawler.tools.text.utility.org.json.JSONException;
+import schemacrawler.tools.text.utility.org.json.JSONObject;
+import sf.util.UtilityMarker;
+
+/**
+ * Exports crawl metrics as JSON, so that crawls can be compared from
+ * run to run. Times are in milliseconds, and stages are listed in the
+ * order that they were run.
+ */
+@UtilityMarker
+public final class CrawlMetricsUtility
+{
+
+  public static JSONObject toJson(final CrawlMetrics crawlMetrics)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(crawlMetrics, "No crawl metrics provided");
+    try
+    {
+      final JSONObject jsonMetrics = new JSONObject();
+
+      jsonMetrics.put("totalMillis",
+                      toMillis(crawlMetrics.getTotalDuration()));
+
+      final JSONArray jsonStages = new JSONArray();
+      for (final Map.Entry<String, Duration> stageDuration: crawlMetrics
+        .getStageDurations().entrySet())
+      {
+        final JSONObject jsonStage = new JSONObject();
+        jsonStage.put("stage", stageDuration.getKey());
+        jsonStage.put("millis", toMillis(stageDuration.getValue()));
+        jsonStages.put(jsonStage);
+      }
+      jsonMetrics.put("stages", jsonStages);
+
+      jsonMetrics.put("metadataQueries",
+                      crawlMetrics.getMetadataQueryCount());
+      jsonMetrics.put("metadataRows", crawlMetrics.getMetadataRowCount());
+
+      final JSONObject jsonInformationSchemaRows = new JSONObject();
+      for (final Map.Entry<InformationSchemaKey, Long> rowCount: crawlMetrics
+        .getInformationSchemaRowCounts().entrySet())
+      {
+        jsonInformationSchemaRows.put(rowCount.getKey().name(),
+                                      rowCount.getValue());
+      }
+      jsonMetrics.put("informationSchemaRows", jsonInformationSchemaRows);
+
+      jsonMetrics.put("definitionsLength",
+                      crawlMetrics.getDefinitionsLength());
+
+      final JSONObject jsonObjectCounts = new JSONObject();
+      for (final Map.Entry<String, Integer> objectCount: crawlMetrics
+        .getObjectCounts().entrySet())
+      {
+        jsonObjectCounts.put(objectCount.getKey(), objectCount.getValue());
+      }
+      jsonMetrics.put("objects", jsonObjectCounts);
+
+      return jsonMetrics;
+    }
+    catch (final JSONException e)
+    {
+      throw new SchemaCrawlerException("Could not convert crawl metrics to JSON",
+                                       e);
+    }
+  }
+
+  public static void writeJson(final CrawlMetrics crawlMetrics,
+                               final Writer writer)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(writer, "No writer provided");
+    final JSONObject jsonMetrics = toJson(crawlMetrics);
+    try
+    {
+      jsonMetrics.write(writer, 2);
+    }
+    catch (final JSONException e)
+    {
+      throw new SchemaCrawlerException("Could not write crawl metrics", e);
+    }
+  }
+
+  private static double toMillis(final Duration duration)
+  {
+    return duration.toNanos() / 1_000_000D;
+  }
+
+  private CrawlMetricsUtility()
+  {
+    // Prevent instantiation
+  }
+
+}
@@ -0,0 +1,635 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.catalogloader;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static sf.util.DatabaseUtility.executeSqlForScalar;
+import static sf.util.Utility.isBlank;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import sf.util.AllowListObjectInputStream;
+import sf.util.ObjectToString;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Loads catalogs from a cache on local disk, and falls back to another
+ * catalog loader to crawl the database when there is no fresh cached
+ * catalog. Cached catalogs are keyed by the connection URL and user,
+ * and the options that the catalog was crawled with. They expire after
+ * a time to live, or when the result of an optional probe query
+ * changes. The cache is limited in size, and the least recently used
+ * catalogs are removed first. Long-running processes can also keep
+ * catalogs in memory. The cache directory and cache files have to be
+ * owned by the current user, and only catalog classes are read from
+ * cache files.
+ */
+public final class CachingCatalogLoader
+  implements CatalogLoader
+{
+
+  /**
+   * Packages of classes that can be read from a cache file, so that a
+   * cache file cannot create arbitrary objects.
+   */
+  private static final Collection<String> CATALOG_PACKAGES = Arrays
+    .asList("java.lang",
+            "java.math",
+            "java.sql",
+            "java.time",
+            "java.util",
+            "java.util.regex");
+  private static final Collection<String> CATALOG_PACKAGE_PREFIXES = Arrays
+    .asList("schemacrawler.", "sf.util.");
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(CachingCatalogLoader.class.getName());
+
+  private static final String CACHE = "schemacrawler.cache";
+  private static final String CACHE_DIRECTORY = CACHE + ".directory";
+  private static final String CACHE_TTL_SECONDS = CACHE + ".ttl_seconds";
+  private static final String CACHE_MAX_SIZE_MB = CACHE + ".max_size_mb";
+  private static final String CACHE_PROBE_QUERY = CACHE + ".probe_query";
+  private static final String CACHE_MEMORY_ENTRIES = CACHE
+                                                     + ".memory_entries";
+
+  private static final String CACHE_FILE_EXTENSION = ".ser.gz";
+
+  /**
+   * Removes identity hash codes, which change from run to run, from an
+   * object dump.
+   */
+  private static String stableToString(final Object object)
+  {
+    return ObjectToString.toString(object).replaceAll("@[0-9a-f]+\\[", "[");
+  }
+
+  /**
+   * Serialized catalogs, shared by all loaders in a long-running
+   * process, in order of use.
+   */
+  private static final Map<String, byte[]> memoryCache = new LinkedHashMap<>(16,
+                                                                             0.75f,
+                                                                             true);
+
+  private final CatalogLoader catalogLoader;
+
+  public CachingCatalogLoader(final CatalogLoader catalogLoader)
+  {
+    this.catalogLoader = requireNonNull(catalogLoader,
+                                        "No catalog loader provided");
+  }
+
+  @Override
+  public Config getAdditionalConfiguration()
+  {
+    return catalogLoader.getAdditionalConfiguration();
+  }
+
+  @Override
+  public Connection getConnection()
+  {
+    return catalogLoader.getConnection();
+  }
+
+  @Override
+  public String getDatabaseSystemIdentifier()
+  {
+    return catalogLoader.getDatabaseSystemIdentifier();
+  }
+
+  @Override
+  public SchemaCrawlerOptions getSchemaCrawlerOptions()
+  {
+    return catalogLoader.getSchemaCrawlerOptions();
+  }
+
+  @Override
+  public SchemaRetrievalOptions getSchemaRetrievalOptions()
+  {
+    return catalogLoader.getSchemaRetrievalOptions();
+  }
+
+  @Override
+  public Catalog loadCatalog()
+    throws Exception
+  {
+    final Connection connection = getConnection();
+    requireNonNull(connection, "No connection provided");
+
+    final Config config = getAdditionalConfiguration();
+    // Use a directory for each user, since cache files are deserialized
+    final String defaultCacheDirectory = Paths
+      .get(System.getProperty("java.io.tmpdir"),
+           "schemacrawler-cache-" + System.getProperty("user.name"))
+      .toString();
+    final Path cacheDirectory = Paths
+      .get(config.getStringValue(CACHE_DIRECTORY, defaultCacheDirectory))
+      .toAbsolutePath().normalize();
+    final long ttlMillis = TimeUnit.SECONDS
+      .toMillis(config.getLongValue(CACHE_TTL_SECONDS, 600));
+    final long maxSizeBytes = config.getLongValue(CACHE_MAX_SIZE_MB, 256)
+                              * 1024L * 1024L;
+    final String probeQuery = config.getStringValue(CACHE_PROBE_QUERY, null);
+
+    final int memoryEntries = config.getIntegerValue(CACHE_MEMORY_ENTRIES,
+                                                     0);
+
+    final String cacheKey = cacheKey(connection);
+    final Path cacheFile = cacheDirectory
+      .resolve(cacheKey + CACHE_FILE_EXTENSION);
+    final String probeResult = probe(connection, probeQuery);
+    final boolean useCacheDirectory = createCacheDirectory(cacheDirectory);
+
+    if (memoryEntries > 0)
+    {
+      final byte[] cachedBytes;
+      synchronized (memoryCache)
+      {
+        cachedBytes = memoryCache.get(cacheKey);
+      }
+      final Catalog cachedCatalog = readCachedCatalog(cachedBytes,
+                                                      ttlMillis,
+                                                      probeResult);
+      if (cachedCatalog != null)
+      {
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Loaded catalog from memory cache <%s>",
+                                    cacheKey));
+        return cachedCatalog;
+      }
+    }
+
+    final byte[] cachedBytes = useCacheDirectory? readCacheFile(cacheFile)
+                                                : null;
+    final Catalog cachedCatalog = readCachedCatalog(cachedBytes,
+                                                    ttlMillis,
+                                                    probeResult);
+    if (cachedCatalog != null)
+    {
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Loaded catalog from cache <%s>",
+                                  cacheFile));
+      // Mark as recently used
+      touch(cacheFile);
+      putInMemory(cacheKey, cachedBytes, memoryEntries);
+      return cachedCatalog;
+    }
+
+    final Catalog catalog = catalogLoader.loadCatalog();
+    if (catalog != null)
+    {
+      final byte[] bytes = serialize(catalog, probeResult);
+      if (useCacheDirectory)
+      {
+        writeCacheFile(cacheFile, bytes);
+        evict(cacheDirectory, ttlMillis, maxSizeBytes);
+      }
+      putInMemory(cacheKey, bytes, memoryEntries);
+    }
+    return catalog;
+  }
+
+  @Override
+  public void setAdditionalConfiguration(final Config additionalConfiguration)
+  {
+    catalogLoader.setAdditionalConfiguration(additionalConfiguration);
+  }
+
+  @Override
+  public void setConnection(final Connection connection)
+  {
+    catalogLoader.setConnection(connection);
+  }
+
+  @Override
+  public void setSchemaCrawlerOptions(final SchemaCrawlerOptions schemaCrawlerOptions)
+  {
+    catalogLoader.setSchemaCrawlerOptions(schemaCrawlerOptions);
+  }
+
+  @Override
+  public void setSchemaRetrievalOptions(final SchemaRetrievalOptions schemaRetrievalOptions)
+  {
+    catalogLoader.setSchemaRetrievalOptions(schemaRetrievalOptions);
+  }
+
+  private String cacheKey(final Connection connection)
+    throws SQLException
+  {
+    final DatabaseMetaData dbMetaData = connection.getMetaData();
+    final StringBuilder buffer = new StringBuilder(4096);
+    buffer.append(dbMetaData.getURL()).append(System.lineSeparator())
+      .append(dbMetaData.getUserName()).append(System.lineSeparator())
+      .append(stableToString(getSchemaCrawlerOptions()))
+      .append(System.lineSeparator())
+      .append(stableToString(getSchemaRetrievalOptions()));
+
+    final MessageDigest messageDigest;
+    try
+    {
+      messageDigest = MessageDigest.getInstance("SHA-256");
+    }
+    catch (final NoSuchAlgorithmException e)
+    {
+      // Every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+    final byte[] digest = messageDigest
+      .digest(buffer.toString().getBytes(UTF_8));
+    final StringBuilder key = new StringBuilder(digest.length * 2);
+    for (final byte b: digest)
+    {
+      key.append(String.format("%02x", b));
+    }
+    return key.toString();
+  }
+
+  /**
+   * Creates the cache directory, readable only by the current user,
+   * and checks that an existing cache directory is owned by the current
+   * user, since other users could otherwise plant cache files.
+   *
+   * @return Whether the cache directory can be used
+   */
+  private boolean createCacheDirectory(final Path cacheDirectory)
+  {
+    try
+    {
+      if (!Files.isDirectory(cacheDirectory))
+      {
+        if (cacheDirectory.getFileSystem().supportedFileAttributeViews()
+          .contains("posix"))
+        {
+          Files.createDirectories(cacheDirectory,
+                                  PosixFilePermissions
+                                    .asFileAttribute(PosixFilePermissions
+                                      .fromString("rwx------")));
+        }
+        else
+        {
+          Files.createDirectories(cacheDirectory);
+        }
+      }
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not create cache directory <%s>",
+                                  cacheDirectory),
+                 e);
+      return false;
+    }
+
+    if (!isOwnedByCurrentUser(cacheDirectory))
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Not using cache directory <%s>, since it is not owned by the current user",
+                                  cacheDirectory));
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Removes expired catalogs, and then the least recently used
+   * catalogs, until the cache is within its size limit.
+   */
+  private void evict(final Path cacheDirectory,
+                     final long ttlMillis,
+                     final long maxSizeBytes)
+  {
+    final List<Path> cacheFiles = new ArrayList<>();
+    try (final DirectoryStream<Path> directoryStream = Files
+      .newDirectoryStream(cacheDirectory, "*" + CACHE_FILE_EXTENSION);)
+    {
+      for (final Path cacheFile: directoryStream)
+      {
+        cacheFiles.add(cacheFile);
+      }
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not list cache directory <%s>",
+                                  cacheDirectory),
+                 e);
+      return;
+    }
+
+    final long now = System.currentTimeMillis();
+    final Map<Path, Long> lastUsed = new HashMap<>();
+    final Map<Path, Long> sizes = new HashMap<>();
+    long totalSize = 0;
+    for (final Path cacheFile: cacheFiles)
+    {
+      try
+      {
+        final long lastUsedMillis = Files.getLastModifiedTime(cacheFile)
+          .toMillis();
+        // A catalog is crawled before it is last used, so a catalog
+        // that has not been used for longer than the time to live has
+        // also expired
+        if (now - lastUsedMillis > ttlMillis)
+        {
+          Files.deleteIfExists(cacheFile);
+          continue;
+        }
+        final long size = Files.size(cacheFile);
+        lastUsed.put(cacheFile, lastUsedMillis);
+        sizes.put(cacheFile, size);
+        totalSize = totalSize + size;
+      }
+      catch (final IOException e)
+      {
+        // Removed by another process
+        continue;
+      }
+    }
+
+    final List<Path> leastRecentlyUsed = new ArrayList<>(lastUsed.keySet());
+    leastRecentlyUsed.sort(Comparator.comparing(lastUsed::get));
+    for (final Path cacheFile: leastRecentlyUsed)
+    {
+      if (totalSize <= maxSizeBytes)
+      {
+        break;
+      }
+      try
+      {
+        Files.deleteIfExists(cacheFile);
+        totalSize = totalSize - sizes.get(cacheFile);
+        LOGGER.log(Level.CONFIG,
+                   new StringFormat("Evicted catalog from cache <%s>",
+                                    cacheFile));
+      }
+      catch (final IOException e)
+      {
+        LOGGER.log(Level.WARNING,
+                   new StringFormat("Could not evict catalog from cache <%s>",
+                                    cacheFile),
+                   e);
+      }
+    }
+  }
+
+  private boolean isOwnedByCurrentUser(final Path path)
+  {
+    try
+    {
+      final UserPrincipal currentUser = path.getFileSystem()
+        .getUserPrincipalLookupService()
+        .lookupPrincipalByName(System.getProperty("user.name"));
+      return currentUser.equals(Files.getOwner(path));
+    }
+    catch (final IOException | UnsupportedOperationException e)
+    {
+      LOGGER.log(Level.CONFIG,
+                 new StringFormat("Could not check owner of <%s>", path),
+                 e);
+      return false;
+    }
+  }
+
+  private String probe(final Connection connection, final String probeQuery)
+    throws Exception
+  {
+    if (isBlank(probeQuery))
+    {
+      return "";
+    }
+    return String.valueOf(executeSqlForScalar(connection, probeQuery));
+  }
+
+  private void putInMemory(final String cacheKey,
+                           final byte[] bytes,
+                           final int memoryEntries)
+  {
+    if (memoryEntries <= 0 || bytes == null)
+    {
+      return;
+    }
+    synchronized (memoryCache)
+    {
+      memoryCache.put(cacheKey, bytes);
+      // Least recently used entries come first
+      final Iterator<String> iterator = memoryCache.keySet().iterator();
+      while (memoryCache.size() > memoryEntries && iterator.hasNext())
+      {
+        iterator.next();
+        iterator.remove();
+      }
+    }
+  }
+
+  private byte[] readCacheFile(final Path cacheFile)
+  {
+    if (!Files.isRegularFile(cacheFile))
+    {
+      return null;
+    }
+    if (!isOwnedByCurrentUser(cacheFile))
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Not reading cached catalog <%s>, since it is not owned by the current user",
+                                  cacheFile));
+      return null;
+    }
+    try (final InputStream in = new GZIPInputStream(new BufferedInputStream(Files
+      .newInputStream(cacheFile)));)
+    {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[8192];
+      int read;
+      while ((read = in.read(buffer)) != -1)
+      {
+        bytes.write(buffer, 0, read);
+      }
+      return bytes.toByteArray();
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not read cached catalog <%s>",
+                                  cacheFile),
+                 e);
+      return null;
+    }
+  }
+
+  /**
+   * Reads a cached catalog, unless it has expired, or is stale. Every
+   * call returns a new copy of the catalog, since commands may add
+   * attributes to the catalog.
+   */
+  private Catalog readCachedCatalog(final byte[] cachedBytes,
+                                    final long ttlMillis,
+                                    final String probeResult)
+  {
+    if (cachedBytes == null)
+    {
+      return null;
+    }
+    try (final ObjectInputStream in = new AllowListObjectInputStream(new ByteArrayInputStream(cachedBytes),
+                                                                     CATALOG_PACKAGES,
+                                                                     CATALOG_PACKAGE_PREFIXES);)
+    {
+      final long crawledAt = in.readLong();
+      if (System.currentTimeMillis() - crawledAt > ttlMillis)
+      {
+        LOGGER.log(Level.CONFIG, "Cached catalog has expired");
+        return null;
+      }
+      final String cachedProbeResult = in.readUTF();
+      if (!Objects.equals(cachedProbeResult, probeResult))
+      {
+        LOGGER.log(Level.CONFIG, "Cached catalog is stale");
+        return null;
+      }
+      return (Catalog) in.readObject();
+    }
+    catch (final IOException | ClassNotFoundException | ClassCastException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not read cached catalog", e);
+      return null;
+    }
+  }
+
+  private byte[] serialize(final Catalog catalog, final String probeResult)
+    throws IOException
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes);)
+    {
+      out.writeLong(System.currentTimeMillis());
+      out.writeUTF(probeResult);
+      out.writeObject(catalog);
+    }
+    return bytes.toByteArray();
+  }
+
+  private void touch(final Path cacheFile)
+  {
+    try
+    {
+      Files.setLastModifiedTime(cacheFile,
+                                FileTime.fromMillis(System
+                                  .currentTimeMillis()));
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.CONFIG,
+                 new StringFormat("Could not mark cached catalog as used <%s>",
+                                  cacheFile),
+                 e);
+    }
+  }
+
+  private void writeCacheFile(final Path cacheFile, final byte[] bytes)
+  {
+    Path tempFile = null;
+    try
+    {
+      final Path cacheDirectory = cacheFile.getParent();
+      tempFile = Files.createTempFile(cacheDirectory, "catalog", ".tmp");
+      try (final OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files
+        .newOutputStream(tempFile)));)
+      {
+        out.write(bytes);
+      }
+      // Other processes may be reading the cache at the same time
+      Files.move(tempFile,
+                 cacheFile,
+                 StandardCopyOption.REPLACE_EXISTING,
+                 StandardCopyOption.ATOMIC_MOVE);
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Saved catalog to cache <%s>", cacheFile));
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not save catalog to cache <%s>",
+                                  cacheFile),
+                 e);
+      if (tempFile != null)
+      {
+        try
+        {
+          Files.deleteIfExists(tempFile);
+        }
+        catch (final IOException e1)
+        {
+          // Ignore
+        }
+      }
+    }
+  }
+
+}
@@ -36,6 +36,11 @@ import static schemacrawler.filter.ReducerFactory.getSynonymReducer;
 import static schemacrawler.filter.ReducerFactory.getTableReducer;
 import static sf.util.Utility.isBlank;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.Connection;
 import java.util.logging.Level;
 
@@ -51,10 +56,13 @@ import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.tools.catalogloader.CachingCatalogLoader;
 import schemacrawler.tools.catalogloader.CatalogLoader;
 import schemacrawler.tools.catalogloader.CatalogLoaderRegistry;
+import schemacrawler.tools.catalogloader.SchemaCrawlerCatalogLoader;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.tracing.JdbcTracer;
 import schemacrawler.utility.SchemaCrawlerUtility;
 import sf.util.ObjectToString;
 import sf.util.SchemaCrawlerLogger;
@@ -76,6 +84,13 @@ public final class SchemaCrawlerExecutable
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(SchemaCrawlerExecutable.class.getName());
 
+  private static final String CACHE = "schemacrawler.cache";
+  private static final String JDBC_TRACE = "schemacrawler.jdbc.trace";
+  private static final String JDBC_TRACE_DIRECTORY = JDBC_TRACE
+                                                     + ".directory";
+  private static final String JDBC_TRACE_SLOW_CALLS = JDBC_TRACE
+                                                      + ".slow_calls";
+
   private final String command;
   private SchemaCrawlerOptions schemaCrawlerOptions;
   private OutputOptions outputOptions;
@@ -117,19 +132,41 @@ public final class SchemaCrawlerExecutable
     scCommand.initialize();
     scCommand.checkAvailibility();
 
-    final Catalog catalog = loadCatalog();
-    // Reduce all once again, since the catalog may have been loaded
-    // from an offline or other source
-    reduceCatalog(catalog);
-
-    scCommand.setCatalog(catalog);
-    scCommand.setConnection(connection);
+    final JdbcTracer jdbcTracer;
+    if (additionalConfiguration.getBooleanValue(JDBC_TRACE, false))
+    {
+      jdbcTracer = new JdbcTracer();
+    }
+    else
+    {
+      jdbcTracer = null;
+    }
 
-    LOGGER.log(Level.INFO,
-               new StringFormat("Executing command <%s> using <%s>",
-                                command,
-                                scCommand.getClass().getName()));
-    scCommand.execute();
+    try
+    {
+      final Catalog catalog = loadCatalog(jdbcTracer);
+      // Reduce all once again, since the catalog may have been loaded
+      // from an offline or other source
+      reduceCatalog(catalog);
+
+      scCommand.setCatalog(catalog);
+      scCommand.setConnection(connection);
+
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Executing command <%s> using <%s>",
+                                  command,
+                                  scCommand.getClass().getName()));
+      scCommand.execute();
+    }
+    finally
+    {
+      // Write the trace even if the crawl failed, since failed crawls
+      // are often the ones that need to be profiled
+      if (jdbcTracer != null)
+      {
+        writeJdbcTrace(jdbcTracer);
+      }
+    }
   }
 
   public final void setAdditionalConfiguration(final Config additionalConfiguration)
@@ -182,19 +219,44 @@ public final class SchemaCrawlerExecutable
     return ObjectToString.toString(this);
   }
 
-  private Catalog loadCatalog()
+  private Catalog loadCatalog(final JdbcTracer jdbcTracer)
     throws Exception
   {
     final CatalogLoaderRegistry catalogLoaderRegistry = new CatalogLoaderRegistry();
-    final CatalogLoader catalogLoader = catalogLoaderRegistry
+    final CatalogLoader registeredCatalogLoader = catalogLoaderRegistry
       .lookupCatalogLoader(schemaRetrievalOptions.getDatabaseServerType()
         .getDatabaseSystemIdentifier());
+    final CatalogLoader catalogLoader;
+    if (additionalConfiguration.getBooleanValue(CACHE, false)
+        && registeredCatalogLoader instanceof SchemaCrawlerCatalogLoader)
+    {
+      // Only catalogs crawled from a live database are cached
+      catalogLoader = new CachingCatalogLoader(registeredCatalogLoader);
+    }
+    else
+    {
+      catalogLoader = registeredCatalogLoader;
+    }
     LOGGER
       .log(Level.CONFIG,
            new StringFormat("Catalog loader: %s", this.getClass().getName()));
 
     catalogLoader.setAdditionalConfiguration(additionalConfiguration);
-    catalogLoader.setConnection(connection);
+    if (jdbcTracer == null)
+    {
+      catalogLoader.setConnection(connection);
+    }
+    else if (registeredCatalogLoader instanceof SchemaCrawlerCatalogLoader)
+    {
+      catalogLoader.setConnection(jdbcTracer.trace(connection));
+    }
+    else
+    {
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Not tracing JDBC calls, since catalog is loaded by <%s>",
+                                  catalogLoader.getClass().getName()));
+      catalogLoader.setConnection(connection);
+    }
     catalogLoader.setSchemaRetrievalOptions(schemaRetrievalOptions);
     catalogLoader.setSchemaCrawlerOptions(schemaCrawlerOptions);
 
@@ -274,4 +336,46 @@ public final class SchemaCrawlerExecutable
                                  getSequenceReducer(schemaCrawlerOptions));
   }
 
+  private void writeJdbcTrace(final JdbcTracer jdbcTracer)
+  {
+    final Path directory = Paths
+      .get(additionalConfiguration.getStringValue(JDBC_TRACE_DIRECTORY, "."))
+      .toAbsolutePath().normalize();
+    final Path reportFile = directory.resolve("jdbc-trace-report.txt");
+    final Path profileFile = directory.resolve("jdbc-trace.folded");
+    try
+    {
+      Files.createDirectories(directory);
+
+      try (final Writer writer = Files.newBufferedWriter(reportFile);)
+      {
+        jdbcTracer.writeSlowCallReport(writer,
+                                       additionalConfiguration
+                                         .getIntegerValue(JDBC_TRACE_SLOW_CALLS,
+                                                          25));
+      }
+
+      try (final Writer writer = Files.newBufferedWriter(profileFile);)
+      {
+        jdbcTracer.writeFoldedProfile(writer);
+      }
+    }
+    catch (final IOException e)
+    {
+      // Do not hide an exception from the crawl or command
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not write JDBC trace to <%s>",
+                                  directory),
+                 e);
+      return;
+    }
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Traced %d JDBC calls, taking %d ms - see <%s> and <%s>",
+                                jdbcTracer.getCalls().size(),
+                                jdbcTracer.getTotalNanos() / 1_000_000L,
+                                reportFile,
+                                profileFile));
+  }
+
 }
@@ -0,0 +1,434 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.iosource;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Writer that hands large buffers of characters to a dedicated writer
+ * thread, so that formatting is not held up by encoding, compression
+ * and system calls on the underlying output. Characters are collected
+ * in a buffer on the calling thread. Full buffers are passed to the
+ * writer thread through a bounded queue, which blocks the caller if
+ * the output cannot keep up. Errors on the writer thread are reported
+ * on the next call to this writer. The writer thread is only started
+ * when the first buffer is full, so output that fits in one buffer is
+ * written on the calling thread, and a writer that is never used does
+ * not leave a thread behind.
+ */
+public final class AsyncOutputWriter
+  extends Writer
+{
+
+  private static final class Message
+  {
+
+    private final char[] buffer;
+    private final int length;
+    private final CountDownLatch flushed;
+
+    Message(final char[] buffer,
+            final int length,
+            final CountDownLatch flushed)
+    {
+      this.buffer = buffer;
+      this.length = length;
+      this.flushed = flushed;
+    }
+
+  }
+
+  private final class WriterThread
+    extends Thread
+  {
+
+    WriterThread()
+    {
+      super("schemacrawler-output-writer");
+      setDaemon(true);
+    }
+
+    @Override
+    public void run()
+    {
+      while (true)
+      {
+        final Message message;
+        try
+        {
+          message = queue.take();
+        }
+        catch (final InterruptedException e)
+        {
+          error = new InterruptedIOException("Output writer was interrupted");
+          return;
+        }
+
+        if (message == CLOSE)
+        {
+          return;
+        }
+
+        try
+        {
+          if (message.buffer != null)
+          {
+            if (error == null)
+            {
+              writer.write(message.buffer, 0, message.length);
+            }
+            freeBuffers.offer(message.buffer);
+          }
+          if (message.flushed != null && error == null)
+          {
+            writer.flush();
+          }
+        }
+        catch (final IOException e)
+        {
+          LOGGER.log(Level.WARNING,
+                     new StringFormat("Could not write output <%s>", writer),
+                     e);
+          error = e;
+        }
+        finally
+        {
+          if (message.flushed != null)
+          {
+            message.flushed.countDown();
+          }
+        }
+      }
+    }
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(AsyncOutputWriter.class.getName());
+
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+  public static final int DEFAULT_QUEUE_CAPACITY = 8;
+
+  private static final Message CLOSE = new Message(null, 0, null);
+
+  private final Writer writer;
+  private final BlockingQueue<Message> queue;
+  private final BlockingQueue<char[]> freeBuffers;
+  private final int bufferSize;
+  private WriterThread writerThread;
+  private volatile IOException error;
+  private char[] buffer;
+  private int position;
+  private boolean isClosed;
+
+  public AsyncOutputWriter(final Writer writer)
+  {
+    this(writer, DEFAULT_BUFFER_SIZE, DEFAULT_QUEUE_CAPACITY);
+  }
+
+  public AsyncOutputWriter(final Writer writer,
+                           final int bufferSize,
+                           final int queueCapacity)
+  {
+    this.writer = requireNonNull(writer, "No writer provided");
+    if (bufferSize <= 0)
+    {
+      throw new IllegalArgumentException("Buffer size must be positive");
+    }
+    if (queueCapacity <= 0)
+    {
+      throw new IllegalArgumentException("Queue capacity must be positive");
+    }
+
+    this.bufferSize = bufferSize;
+    // Room for control messages, in addition to full buffers
+    queue = new ArrayBlockingQueue<>(queueCapacity + 2);
+    freeBuffers = new ArrayBlockingQueue<>(queueCapacity + 1);
+    buffer = new char[bufferSize];
+  }
+
+  /**
+   * Writes out all buffered characters, and closes the underlying
+   * writer. The writer thread is stopped.
+   */
+  @Override
+  public void close()
+    throws IOException
+  {
+    synchronized (lock)
+    {
+      if (isClosed)
+      {
+        return;
+      }
+      try
+      {
+        if (writerThread == null)
+        {
+          writeBuffer();
+        }
+        else
+        {
+          handOff();
+          send(CLOSE);
+          writerThread.join();
+        }
+      }
+      catch (final InterruptedException e)
+      {
+        throw new InterruptedIOException("Interrupted while closing output");
+      }
+      finally
+      {
+        isClosed = true;
+        writer.close();
+      }
+      checkError();
+    }
+  }
+
+  /**
+   * Hands off buffered characters to the writer thread, and waits until
+   * they have been written and the underlying writer has been flushed.
+   */
+  @Override
+  public void flush()
+    throws IOException
+  {
+    synchronized (lock)
+    {
+      ensureOpen();
+      if (writerThread == null)
+      {
+        writeBuffer();
+        try
+        {
+          writer.flush();
+        }
+        catch (final IOException e)
+        {
+          error = e;
+          checkError();
+        }
+        return;
+      }
+      handOff();
+      final CountDownLatch flushed = new CountDownLatch(1);
+      send(new Message(null, 0, flushed));
+      try
+      {
+        flushed.await();
+      }
+      catch (final InterruptedException e)
+      {
+        throw new InterruptedIOException("Interrupted while flushing output");
+      }
+      checkError();
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return writer.toString();
+  }
+
+  @Override
+  public void write(final char[] cbuf, final int off, final int len)
+    throws IOException
+  {
+    synchronized (lock)
+    {
+      ensureOpen();
+      int offset = off;
+      int remaining = len;
+      while (remaining > 0)
+      {
+        final int count = Math.min(remaining, bufferSize - position);
+        System.arraycopy(cbuf, offset, buffer, position, count);
+        position = position + count;
+        offset = offset + count;
+        remaining = remaining - count;
+        if (position == bufferSize)
+        {
+          handOff();
+        }
+      }
+    }
+  }
+
+  @Override
+  public void write(final int c)
+    throws IOException
+  {
+    synchronized (lock)
+    {
+      ensureOpen();
+      buffer[position] = (char) c;
+      position = position + 1;
+      if (position == bufferSize)
+      {
+        handOff();
+      }
+    }
+  }
+
+  @Override
+  public void write(final String str, final int off, final int len)
+    throws IOException
+  {
+    synchronized (lock)
+    {
+      ensureOpen();
+      int offset = off;
+      int remaining = len;
+      while (remaining > 0)
+      {
+        final int count = Math.min(remaining, bufferSize - position);
+        str.getChars(offset, offset + count, buffer, position);
+        position = position + count;
+        offset = offset + count;
+        remaining = remaining - count;
+        if (position == bufferSize)
+        {
+          handOff();
+        }
+      }
+    }
+  }
+
+  private void checkError()
+    throws IOException
+  {
+    if (error != null)
+    {
+      throw new IOException("Could not write output", error);
+    }
+  }
+
+  private void ensureOpen()
+    throws IOException
+  {
+    if (isClosed)
+    {
+      throw new IOException("Output writer is closed");
+    }
+    checkError();
+  }
+
+  /**
+   * Passes the current buffer to the writer thread, and starts a new
+   * buffer, reusing one that has already been written out if possible.
+   */
+  private void handOff()
+    throws IOException
+  {
+    if (position == 0)
+    {
+      return;
+    }
+    send(new Message(buffer, position, null));
+
+    final char[] freeBuffer = freeBuffers.poll();
+    if (freeBuffer == null)
+    {
+      buffer = new char[bufferSize];
+    }
+    else
+    {
+      buffer = freeBuffer;
+    }
+    position = 0;
+  }
+
+  private void send(final Message message)
+    throws IOException
+  {
+    if (writerThread == null)
+    {
+      writerThread = new WriterThread();
+      writerThread.start();
+    }
+    try
+    {
+      while (!queue.offer(message, 100, TimeUnit.MILLISECONDS))
+      {
+        if (!writerThread.isAlive())
+        {
+          checkError();
+          throw new IOException("Output writer thread has stopped");
+        }
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      throw new InterruptedIOException("Interrupted while writing output");
+    }
+  }
+
+  /**
+   * Writes buffered characters on the calling thread, before the writer
+   * thread has been started. Errors are reported in the same way as
+   * errors on the writer thread.
+   */
+  private void writeBuffer()
+    throws IOException
+  {
+    try
+    {
+      if (position > 0 && error == null)
+      {
+        writer.write(buffer, 0, position);
+      }
+      position = 0;
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not write output <%s>", writer),
+                 e);
+      error = e;
+    }
+    checkError();
+  }
+
+}
@@ -0,0 +1,169 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.iosource;
+
+
+import static java.nio.file.Files.newOutputStream;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+import static sf.util.IOUtility.isFileWritable;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.zip.Deflater;
+
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Compressed file output, which deflates blocks of output on a pool of
+ * worker threads. The output is a standard zip file that can be read
+ * with a {@link CompressedFileInputResource}.
+ */
+public final class ParallelCompressedFileOutputResource
+  implements OutputResource
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(ParallelCompressedFileOutputResource.class.getName());
+
+  private final Path outputFile;
+  private final String internalPath;
+  private final int compressionLevel;
+  private final int blockSize;
+  private final int threads;
+
+  public ParallelCompressedFileOutputResource(final Path outputFile,
+                                              final String internalPath,
+                                              final int compressionLevel)
+    throws IOException
+  {
+    this(outputFile,
+         internalPath,
+         compressionLevel,
+         ParallelZipOutputStream.DEFAULT_BLOCK_SIZE,
+         Runtime.getRuntime().availableProcessors());
+  }
+
+  public ParallelCompressedFileOutputResource(final Path outputFile,
+                                              final String internalPath,
+                                              final int compressionLevel,
+                                              final int blockSize,
+                                              final int threads)
+    throws IOException
+  {
+    requireNonNull(outputFile, "No output file provided");
+
+    this.outputFile = outputFile.normalize().toAbsolutePath();
+    if (!isFileWritable(this.outputFile))
+    {
+      throw new IOException("Cannot write output file, " + this.outputFile);
+    }
+
+    this.internalPath = requireNonNull(internalPath,
+                                       "No internal file path provided");
+
+    if (compressionLevel != Deflater.DEFAULT_COMPRESSION
+        && (compressionLevel < Deflater.NO_COMPRESSION
+            || compressionLevel > Deflater.BEST_COMPRESSION))
+    {
+      throw new IllegalArgumentException("Invalid compression level, "
+                                         + compressionLevel);
+    }
+    if (blockSize < ParallelZipOutputStream.DICTIONARY_SIZE)
+    {
+      throw new IllegalArgumentException("Block size should be at least "
+                                         + ParallelZipOutputStream.DICTIONARY_SIZE);
+    }
+    if (threads <= 0)
+    {
+      throw new IllegalArgumentException("Number of threads should be positive");
+    }
+    this.compressionLevel = compressionLevel;
+    this.blockSize = blockSize;
+    this.threads = threads;
+  }
+
+  public int getCompressionLevel()
+  {
+    return compressionLevel;
+  }
+
+  public Path getOutputFile()
+  {
+    return outputFile;
+  }
+
+  @Override
+  public Writer openNewOutputWriter(final Charset charset,
+                                    final boolean appendOutput)
+    throws IOException
+  {
+    if (appendOutput)
+    {
+      throw new IOException("Cannot append to compressed file");
+    }
+    final OpenOption[] openOptions = new OpenOption[] {
+                                                        WRITE,
+                                                        CREATE,
+                                                        TRUNCATE_EXISTING };
+    final OutputStream fileStream = new BufferedOutputStream(newOutputStream(outputFile,
+                                                                             openOptions));
+
+    final OutputStream zipOutputStream = new ParallelZipOutputStream(fileStream,
+                                                                     internalPath,
+                                                                     compressionLevel,
+                                                                     blockSize,
+                                                                     threads);
+
+    final Writer writer = new OutputStreamWriter(zipOutputStream, charset);
+    LOGGER
+      .log(Level.INFO,
+           new StringFormat("Opened output writer to compressed file <%s>, using %d threads",
+                            outputFile,
+                            threads));
+    return new OutputWriter(getDescription(), writer, true);
+  }
+
+  @Override
+  public String toString()
+  {
+    return outputFile.toString();
+  }
+
+}
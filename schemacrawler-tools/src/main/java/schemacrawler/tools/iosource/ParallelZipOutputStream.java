@@ -0,0 +1,442 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.iosource;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a zip file with a single deflated entry, compressing
+ * independent blocks of input on a pool of worker threads. Each block
+ * is primed with the tail of the previous block as a preset
+ * dictionary, and all but the last block end with a sync flush, so
+ * that the concatenated blocks form one standard deflate stream. The
+ * entry sizes and checksum are written in a data descriptor after the
+ * compressed data, so the output can be read with
+ * {@link java.util.zip.ZipInputStream}. Zip64 records are written when
+ * sizes or offsets do not fit in 32 bits.
+ */
+final class ParallelZipOutputStream
+  extends OutputStream
+{
+
+  static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+  static final int DICTIONARY_SIZE = 32 * 1024;
+
+  private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+  private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+  private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+  private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+  private static final int END_OF_CENTRAL_SIGNATURE = 0x06054b50;
+  private static final int ZIP64_END_OF_CENTRAL_SIGNATURE = 0x06064b50;
+  private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+  private static final int ZIP64_EXTRA_ID = 0x0001;
+  private static final int VERSION = 20;
+  private static final int ZIP64_VERSION = 45;
+  // Data descriptor follows data, and entry name is UTF-8
+  private static final int FLAGS = 0x0808;
+  private static final int DEFLATED = 8;
+
+  private static byte[] deflate(final byte[] block,
+                                final int length,
+                                final byte[] dictionary,
+                                final int compressionLevel,
+                                final boolean isLastBlock)
+  {
+    final Deflater deflater = new Deflater(compressionLevel, true);
+    try
+    {
+      if (dictionary != null)
+      {
+        deflater.setDictionary(dictionary);
+      }
+      deflater.setInput(block, 0, length);
+
+      final ByteArrayOutputStream compressed = new ByteArrayOutputStream(length
+                                                                         / 2
+                                                                         + 64);
+      final byte[] buffer = new byte[8192];
+      if (isLastBlock)
+      {
+        deflater.finish();
+        while (!deflater.finished())
+        {
+          final int count = deflater.deflate(buffer);
+          compressed.write(buffer, 0, count);
+        }
+      }
+      else
+      {
+        int count;
+        do
+        {
+          count = deflater.deflate(buffer,
+                                   0,
+                                   buffer.length,
+                                   Deflater.SYNC_FLUSH);
+          compressed.write(buffer, 0, count);
+        } while (count == buffer.length);
+      }
+      return compressed.toByteArray();
+    }
+    finally
+    {
+      deflater.end();
+    }
+  }
+
+  private final OutputStream out;
+  private final byte[] entryName;
+  private final int compressionLevel;
+  private final int blockSize;
+  private final int maxPendingBlocks;
+  private final ExecutorService compressors;
+  private final Queue<Future<byte[]>> pendingBlocks;
+  private final CRC32 crc;
+  private final int dosTime;
+
+  private byte[] block;
+  private int blockLength;
+  private byte[] dictionary;
+  private long uncompressedSize;
+  private long compressedSize;
+  private long headerSize;
+  private boolean isClosed;
+
+  ParallelZipOutputStream(final OutputStream out,
+                          final String entryName,
+                          final int compressionLevel,
+                          final int blockSize,
+                          final int threads)
+    throws IOException
+  {
+    this.out = requireNonNull(out, "No output stream provided");
+    this.entryName = requireNonNull(entryName, "No entry name provided")
+      .getBytes(UTF_8);
+    this.compressionLevel = compressionLevel;
+    this.blockSize = blockSize;
+    maxPendingBlocks = threads * 2;
+
+    final AtomicInteger threadNumber = new AtomicInteger();
+    compressors = Executors.newFixedThreadPool(threads, runnable -> {
+      final Thread thread = new Thread(runnable,
+                                       "schemacrawler-compressor-"
+                                                 + threadNumber
+                                                   .incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    pendingBlocks = new ArrayDeque<>(maxPendingBlocks + 1);
+    crc = new CRC32();
+    dosTime = dosTime(LocalDateTime.now());
+
+    block = new byte[blockSize];
+    writeLocalHeader();
+  }
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    if (isClosed)
+    {
+      return;
+    }
+    isClosed = true;
+
+    try
+    {
+      submitBlock(true);
+      while (!pendingBlocks.isEmpty())
+      {
+        writeCompressedBlock();
+      }
+      writeTrailer();
+    }
+    finally
+    {
+      compressors.shutdownNow();
+      out.close();
+    }
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len)
+    throws IOException
+  {
+    ensureOpen();
+    crc.update(b, off, len);
+    uncompressedSize = uncompressedSize + len;
+
+    int offset = off;
+    int remaining = len;
+    while (remaining > 0)
+    {
+      final int count = Math.min(remaining, blockSize - blockLength);
+      System.arraycopy(b, offset, block, blockLength, count);
+      blockLength = blockLength + count;
+      offset = offset + count;
+      remaining = remaining - count;
+      if (blockLength == blockSize)
+      {
+        submitBlock(false);
+      }
+    }
+  }
+
+  @Override
+  public void write(final int b)
+    throws IOException
+  {
+    write(new byte[] { (byte) b }, 0, 1);
+  }
+
+  private int dosTime(final LocalDateTime time)
+  {
+    return (time.getYear() - 1980) << 25 | time.getMonthValue() << 21
+           | time.getDayOfMonth() << 16 | time.getHour() << 11
+           | time.getMinute() << 5 | time.getSecond() >> 1;
+  }
+
+  private void ensureOpen()
+    throws IOException
+  {
+    if (isClosed)
+    {
+      throw new IOException("Compressed output stream is closed");
+    }
+  }
+
+  private void submitBlock(final boolean isLastBlock)
+    throws IOException
+  {
+    final byte[] currentBlock = block;
+    final int currentLength = blockLength;
+    final byte[] currentDictionary = dictionary;
+    pendingBlocks.add(compressors.submit(() -> deflate(currentBlock,
+                                                       currentLength,
+                                                       currentDictionary,
+                                                       compressionLevel,
+                                                       isLastBlock)));
+
+    if (!isLastBlock)
+    {
+      dictionary = Arrays.copyOfRange(currentBlock,
+                                      currentLength - DICTIONARY_SIZE,
+                                      currentLength);
+      block = new byte[blockSize];
+      blockLength = 0;
+    }
+
+    while (pendingBlocks.size() > maxPendingBlocks)
+    {
+      writeCompressedBlock();
+    }
+  }
+
+  private void writeCompressedBlock()
+    throws IOException
+  {
+    final byte[] compressed;
+    try
+    {
+      compressed = pendingBlocks.remove().get();
+    }
+    catch (final InterruptedException e)
+    {
+      throw new InterruptedIOException("Compression was interrupted");
+    }
+    catch (final ExecutionException e)
+    {
+      throw new IOException("Could not compress output", e.getCause());
+    }
+    out.write(compressed);
+    compressedSize = compressedSize + compressed.length;
+  }
+
+  private void writeInt(final long value)
+    throws IOException
+  {
+    out.write((int) (value & 0xFF));
+    out.write((int) (value >>> 8 & 0xFF));
+    out.write((int) (value >>> 16 & 0xFF));
+    out.write((int) (value >>> 24 & 0xFF));
+  }
+
+  private void writeLocalHeader()
+    throws IOException
+  {
+    writeInt(LOCAL_HEADER_SIGNATURE);
+    writeShort(VERSION);
+    writeShort(FLAGS);
+    writeShort(DEFLATED);
+    writeInt(dosTime);
+    // Checksum and sizes are written in the data descriptor
+    writeInt(0);
+    writeInt(0);
+    writeInt(0);
+    writeShort(entryName.length);
+    writeShort(0);
+    out.write(entryName);
+    headerSize = 30 + entryName.length;
+  }
+
+  private void writeShort(final int value)
+    throws IOException
+  {
+    out.write(value & 0xFF);
+    out.write(value >>> 8 & 0xFF);
+  }
+
+  private void writeLong(final long value)
+    throws IOException
+  {
+    writeInt(value & ZIP64_MAGIC);
+    writeInt(value >>> 32);
+  }
+
+  private void writeTrailer()
+    throws IOException
+  {
+    // Readers expect an 8 byte data descriptor only for sizes that do
+    // not fit in 4 bytes
+    writeInt(DATA_DESCRIPTOR_SIGNATURE);
+    writeInt(crc.getValue());
+    final long dataDescriptorSize;
+    if (compressedSize > ZIP64_MAGIC || uncompressedSize > ZIP64_MAGIC)
+    {
+      writeLong(compressedSize);
+      writeLong(uncompressedSize);
+      dataDescriptorSize = 24;
+    }
+    else
+    {
+      writeInt(compressedSize);
+      writeInt(uncompressedSize);
+      dataDescriptorSize = 16;
+    }
+
+    // Sizes that do not fit, or are equal to the marker value, are
+    // written in the zip64 extra field, in this order
+    final boolean isZip64Size = uncompressedSize >= ZIP64_MAGIC;
+    final boolean isZip64CompressedSize = compressedSize >= ZIP64_MAGIC;
+    final int extraLength = (isZip64Size? 8: 0)
+                            + (isZip64CompressedSize? 8: 0);
+    final boolean isZip64Entry = extraLength > 0;
+
+    final long centralDirectoryOffset = headerSize + compressedSize
+                                        + dataDescriptorSize;
+    writeInt(CENTRAL_HEADER_SIGNATURE);
+    writeShort(isZip64Entry? ZIP64_VERSION: VERSION);
+    writeShort(isZip64Entry? ZIP64_VERSION: VERSION);
+    writeShort(FLAGS);
+    writeShort(DEFLATED);
+    writeInt(dosTime);
+    writeInt(crc.getValue());
+    writeInt(isZip64CompressedSize? ZIP64_MAGIC: compressedSize);
+    writeInt(isZip64Size? ZIP64_MAGIC: uncompressedSize);
+    writeShort(entryName.length);
+    writeShort(isZip64Entry? extraLength + 4: 0);
+    // Comment length, disk number, and attributes
+    writeShort(0);
+    writeShort(0);
+    writeShort(0);
+    writeInt(0);
+    // Offset of local header
+    writeInt(0);
+    out.write(entryName);
+    if (isZip64Entry)
+    {
+      writeShort(ZIP64_EXTRA_ID);
+      writeShort(extraLength);
+      if (isZip64Size)
+      {
+        writeLong(uncompressedSize);
+      }
+      if (isZip64CompressedSize)
+      {
+        writeLong(compressedSize);
+      }
+    }
+
+    final long centralDirectorySize = 46 + entryName.length
+                                      + (isZip64Entry? extraLength + 4: 0);
+    final boolean isZip64Offset = centralDirectoryOffset >= ZIP64_MAGIC;
+    if (isZip64Entry || isZip64Offset)
+    {
+      final long zip64EndOffset = centralDirectoryOffset
+                                  + centralDirectorySize;
+      writeInt(ZIP64_END_OF_CENTRAL_SIGNATURE);
+      // Size of the remaining record
+      writeLong(44);
+      writeShort(ZIP64_VERSION);
+      writeShort(ZIP64_VERSION);
+      writeInt(0);
+      writeInt(0);
+      writeLong(1);
+      writeLong(1);
+      writeLong(centralDirectorySize);
+      writeLong(centralDirectoryOffset);
+
+      writeInt(ZIP64_LOCATOR_SIGNATURE);
+      writeInt(0);
+      writeLong(zip64EndOffset);
+      writeInt(1);
+    }
+
+    writeInt(END_OF_CENTRAL_SIGNATURE);
+    writeShort(0);
+    writeShort(0);
+    writeShort(1);
+    writeShort(1);
+    writeInt(centralDirectorySize);
+    writeInt(isZip64Offset? ZIP64_MAGIC: centralDirectoryOffset);
+    writeShort(0);
+    out.flush();
+  }
+
+}
@@ -45,6 +45,7 @@ import schemacrawler.tools.iosource.CompressedFileOutputResource;
 import schemacrawler.tools.iosource.FileOutputResource;
 import schemacrawler.tools.iosource.InputResource;
 import schemacrawler.tools.iosource.OutputResource;
+import schemacrawler.tools.iosource.ParallelCompressedFileOutputResource;
 import sf.util.ObjectToString;
 
 /**
@@ -108,6 +109,11 @@ public final class OutputOptions
       outputFile = ((CompressedFileOutputResource) outputResource)
         .getOutputFile();
     }
+    else if (outputResource instanceof ParallelCompressedFileOutputResource)
+    {
+      outputFile = ((ParallelCompressedFileOutputResource) outputResource)
+        .getOutputFile();
+    }
     else
     {
       // Create output file path
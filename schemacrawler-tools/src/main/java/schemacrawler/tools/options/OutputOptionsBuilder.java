@@ -22,6 +22,7 @@ import schemacrawler.tools.iosource.FileInputResource;
 import schemacrawler.tools.iosource.FileOutputResource;
 import schemacrawler.tools.iosource.InputResource;
 import schemacrawler.tools.iosource.OutputResource;
+import schemacrawler.tools.iosource.ParallelCompressedFileOutputResource;
 import schemacrawler.tools.iosource.WriterOutputResource;
 
 public final class OutputOptionsBuilder
@@ -417,6 +418,30 @@ public final class OutputOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the name of the output file for compressed output, which is
+   * compressed in blocks on multiple threads. It is important to note
+   * that the output encoding should be available at this point.
+   *
+   * @param outputFile
+   *        Output path.
+   * @param compressionLevel
+   *        Compression level, from 0 to 9, or -1 for the default
+   *        level.
+   * @throws IOException
+   * @return Builder
+   */
+  public OutputOptionsBuilder withParallelCompressedOutputFile(final Path outputFile,
+                                                               final int compressionLevel)
+    throws IOException
+  {
+    requireNonNull(outputFile, "No output file provided");
+    outputResource = new ParallelCompressedFileOutputResource(outputFile,
+                                                              SCHEMACRAWLER_DATA,
+                                                              compressionLevel);
+    return this;
+  }
+
   private InputResource createInputResource(final String inputResourceName)
   {
     InputResource inputResource = null;
@@ -43,6 +43,7 @@ import schemacrawler.schema.Column;
 import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.IndexColumn;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.iosource.AsyncOutputWriter;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.text.utility.DatabaseObjectColorMap;
@@ -63,7 +64,7 @@ public abstract class BaseFormatter<O extends BaseTextOptions>
   protected final DatabaseObjectColorMap colorMap;
   protected final Identifiers identifiers;
   protected final boolean printVerboseDatabaseInfo;
-  private final PrintWriter out;
+  protected final PrintWriter out;
 
   protected BaseFormatter(final O options,
                           final boolean printVerboseDatabaseInfo,
@@ -88,39 +89,63 @@ public abstract class BaseFormatter<O extends BaseTextOptions>
 
     try
     {
-      out = new PrintWriter(outputOptions
-        .openNewOutputWriter(options.isAppendOutput()), true);
+      // Encoding, compression and writes to the output happen on a
+      // separate thread, in large buffers, so there is no autoflush
+      out = new PrintWriter(new AsyncOutputWriter(outputOptions
+        .openNewOutputWriter(options.isAppendOutput())), false);
     }
     catch (final IOException e)
     {
       throw new SchemaCrawlerException("Cannot open output writer", e);
     }
 
-    final TextOutputFormat outputFormat = TextOutputFormat
-      .fromFormat(outputOptions.getOutputFormatValue());
-    switch (outputFormat)
-    {
-      case html:
-        formattingHelper = new HtmlFormattingHelper(out, outputFormat);
-        break;
-      case json:
-        formattingHelper = new JsonFormattingHelper(out, outputFormat);
-        break;
-      case text:
-      default:
-        formattingHelper = new PlainTextFormattingHelper(out, outputFormat);
-        break;
-    }
+    formattingHelper = newFormattingHelper(out, outputOptions);
   }
 
+  /**
+   * Creates a formatter with the same options as another formatter, but
+   * which writes to a different output. This is used to render a
+   * fragment of the output, such as a single table, on its own.
+   *
+   * @param formatter
+   *        Formatter to copy options from
+   * @param out
+   *        Output to write to
+   */
+  protected BaseFormatter(final BaseFormatter<O> formatter,
+                          final PrintWriter out)
+  {
+    requireNonNull(formatter, "No formatter provided");
+    this.out = requireNonNull(out, "No output writer provided");
+
+    options = formatter.options;
+    outputOptions = formatter.outputOptions;
+    colorMap = formatter.colorMap;
+    printVerboseDatabaseInfo = formatter.printVerboseDatabaseInfo;
+    identifiers = formatter.identifiers;
+
+    formattingHelper = newFormattingHelper(out, outputOptions);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Writes out buffered output, and stops the output writer thread.
+   */
   @Override
-  public void end()
-    throws SchemaCrawlerException
+  public void close()
   {
     out.flush();
     out.close();
   }
 
+  @Override
+  public void end()
+    throws SchemaCrawlerException
+  {
+    close();
+  }
+
   protected String columnNullable(final String columnTypeName,
                                   final boolean isNullable)
   {
@@ -167,4 +192,21 @@ public abstract class BaseFormatter<O extends BaseTextOptions>
     }
   }
 
+  private static TextFormattingHelper newFormattingHelper(final PrintWriter out,
+                                                          final OutputOptions outputOptions)
+  {
+    final TextOutputFormat outputFormat = TextOutputFormat
+      .fromFormat(outputOptions.getOutputFormatValue());
+    switch (outputFormat)
+    {
+      case html:
+        return new HtmlFormattingHelper(out, outputFormat);
+      case json:
+        return new JsonFormattingHelper(out, outputFormat);
+      case text:
+      default:
+        return new PlainTextFormattingHelper(out, outputFormat);
+    }
+  }
+
 }
@@ -31,6 +31,7 @@ package schemacrawler.tools.text.base;
 
 import static sf.util.Utility.isBlank;
 
+import java.io.PrintWriter;
 import java.util.Collection;
 
 import schemacrawler.SchemaCrawlerInfo;
@@ -66,6 +67,12 @@ public abstract class BaseTabularFormatter<O extends BaseTextOptions>
           identifierQuoteString);
   }
 
+  protected BaseTabularFormatter(final BaseTabularFormatter<O> formatter,
+                                 final PrintWriter out)
+  {
+    super(formatter, out);
+  }
+
   /**
    * {@inheritDoc}
    */
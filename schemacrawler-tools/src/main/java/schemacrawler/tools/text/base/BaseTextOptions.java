@@ -50,6 +50,7 @@ public abstract class BaseTextOptions
   private final boolean isShowJdbcDriverInfo;
   private final boolean isShowUnqualifiedNames;
   private final boolean isNoSchemaColors;
+  private final boolean isParallelRendering;
   private final IdentifierQuotingStrategy identifierQuotingStrategy;
 
   protected BaseTextOptions(final BaseTextOptionsBuilder<?, ? extends BaseTextOptions> builder)
@@ -68,6 +69,7 @@ public abstract class BaseTextOptions
     isShowJdbcDriverInfo = builder.isShowJdbcDriverInfo;
     isShowUnqualifiedNames = builder.isShowUnqualifiedNames;
     isNoSchemaColors = builder.isNoSchemaColors;
+    isParallelRendering = builder.isParallelRendering;
     identifierQuotingStrategy = builder.identifierQuotingStrategy;
   }
 
@@ -127,6 +129,17 @@ public abstract class BaseTextOptions
     return isNoSchemaCrawlerInfo;
   }
 
+  /**
+   * Whether tables are rendered concurrently, and then written out in
+   * order. The output is the same either way.
+   *
+   * @return Whether tables are rendered concurrently
+   */
+  public boolean isParallelRendering()
+  {
+    return isParallelRendering;
+  }
+
   public boolean isShowDatabaseInfo()
   {
     return isShowDatabaseInfo;
@@ -68,6 +68,9 @@ public abstract class BaseTextOptionsBuilder<B extends BaseTextOptionsBuilder<B,
   private static final String NO_SCHEMA_COLORS = SCHEMACRAWLER_FORMAT_PREFIX
                                                  + "no_schema_colors";
 
+  private static final String PARALLEL_RENDERING = SCHEMACRAWLER_FORMAT_PREFIX
+                                                   + "parallel_rendering";
+
   private static final String IDENTIFIER_QUOTING_STRATEGY = SCHEMACRAWLER_FORMAT_PREFIX
                                                             + "identifier_quoting_strategy";
 
@@ -83,6 +86,7 @@ public abstract class BaseTextOptionsBuilder<B extends BaseTextOptionsBuilder<B,
   protected boolean isShowJdbcDriverInfo;
   protected boolean isShowUnqualifiedNames;
   protected boolean isNoSchemaColors;
+  protected boolean isParallelRendering;
   protected IdentifierQuotingStrategy identifierQuotingStrategy;
 
   protected BaseTextOptionsBuilder()
@@ -130,6 +134,8 @@ public abstract class BaseTextOptionsBuilder<B extends BaseTextOptionsBuilder<B,
 
     isNoSchemaColors = config.getBooleanValue(NO_SCHEMA_COLORS);
 
+    isParallelRendering = config.getBooleanValue(PARALLEL_RENDERING);
+
     identifierQuotingStrategy = config
       .getEnumValue(IDENTIFIER_QUOTING_STRATEGY,
                     IdentifierQuotingStrategy.quote_if_special_characters_and_reserved_words);
@@ -164,6 +170,8 @@ public abstract class BaseTextOptionsBuilder<B extends BaseTextOptionsBuilder<B,
 
     isNoSchemaColors = options.isNoSchemaColors();
 
+    isParallelRendering = options.isParallelRendering();
+
     identifierQuotingStrategy = options.getIdentifierQuotingStrategy();
 
     return (B) this;
@@ -238,6 +246,17 @@ public abstract class BaseTextOptionsBuilder<B extends BaseTextOptionsBuilder<B,
     return (B) this;
   }
 
+  public final B parallelRendering()
+  {
+    return parallelRendering(true);
+  }
+
+  public final B parallelRendering(final boolean value)
+  {
+    isParallelRendering = value;
+    return (B) this;
+  }
+
   public final B showDatabaseInfo()
   {
     return showDatabaseInfo(true);
@@ -363,6 +382,8 @@ public abstract class BaseTextOptionsBuilder<B extends BaseTextOptionsBuilder<B,
 
     config.setBooleanValue(NO_SCHEMA_COLORS, isNoSchemaColors);
 
+    config.setBooleanValue(PARALLEL_RENDERING, isParallelRendering);
+
     config.setEnumValue(IDENTIFIER_QUOTING_STRATEGY, identifierQuotingStrategy);
 
     return config;
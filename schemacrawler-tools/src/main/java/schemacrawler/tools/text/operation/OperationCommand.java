@@ -154,6 +154,11 @@ public final class OperationCommand
                                                      getCommand()),
                                        e);
     }
+    finally
+    {
+      // Release the output if the operation fails
+      handler.close();
+    }
   }
 
   public OperationOptions getOperationOptions()
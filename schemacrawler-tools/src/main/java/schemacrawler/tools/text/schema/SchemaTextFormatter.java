@@ -33,6 +33,8 @@ import static schemacrawler.tools.analysis.counts.CountsUtility.getRowCountMessa
 import static schemacrawler.tools.analysis.counts.CountsUtility.hasRowCount;
 import static sf.util.Utility.isBlank;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -73,7 +75,7 @@ import schemacrawler.tools.analysis.associations.WeakAssociationsUtility;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.base.BaseTabularFormatter;
 import schemacrawler.tools.text.utility.TextFormattingHelper.DocumentHeaderType;
-import schemacrawler.tools.traversal.SchemaTraversalHandler;
+import schemacrawler.tools.traversal.ParallelSchemaTraversalHandler;
 import schemacrawler.utility.MetaDataUtility;
 import schemacrawler.utility.MetaDataUtility.ForeignKeyCardinality;
 import schemacrawler.utility.NamedObjectSort;
@@ -85,7 +87,7 @@ import schemacrawler.utility.NamedObjectSort;
  */
 final class SchemaTextFormatter
   extends BaseTabularFormatter<SchemaTextOptions>
-  implements SchemaTraversalHandler
+  implements ParallelSchemaTraversalHandler
 {
 
   private static final String SPACE = " ";
@@ -131,6 +133,14 @@ final class SchemaTextFormatter
     isBrief = schemaTextDetailType == SchemaTextDetailType.brief;
   }
 
+  private SchemaTextFormatter(final SchemaTextFormatter formatter,
+                              final PrintWriter out)
+  {
+    super(formatter, out);
+    isVerbose = formatter.isVerbose;
+    isBrief = formatter.isBrief;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -366,6 +376,15 @@ final class SchemaTextFormatter
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handleRenderedTable(final String renderedTable)
+  {
+    formattingHelper.append(renderedTable);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -446,6 +465,19 @@ final class SchemaTextFormatter
     formattingHelper.writeHeader(DocumentHeaderType.subTitle, "Tables");
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String renderTable(final Table table)
+  {
+    final StringWriter renderedTable = new StringWriter(4096);
+    final PrintWriter tableOut = new PrintWriter(renderedTable);
+    new SchemaTextFormatter(this, tableOut).handle(table);
+    tableOut.flush();
+    return renderedTable.toString();
+  }
+
   private void printColumnDataType(final ColumnDataType columnDataType)
   {
 
@@ -93,6 +93,7 @@ public final class SchemaTextRenderer
       .getNamedObjectSort(schemaTextOptions.isAlphabeticalSortForTables()));
     traverser.setRoutinesComparator(NamedObjectSort
       .getNamedObjectSort(schemaTextOptions.isAlphabeticalSortForRoutines()));
+    traverser.setParallelTraversal(schemaTextOptions.isParallelRendering());
 
     traverser.traverse();
 
@@ -80,7 +80,6 @@ abstract class BaseTextFormattingHelper
   public TextFormattingHelper append(final String text)
   {
     out.write(text);
-    out.flush();
 
     return this;
   }
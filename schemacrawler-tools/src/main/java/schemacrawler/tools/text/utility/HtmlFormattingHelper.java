@@ -36,6 +36,8 @@ import static sf.util.Utility.isBlank;
 import java.io.PrintWriter;
 
 import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.utility.html.Alignment;
+import schemacrawler.tools.text.utility.html.HtmlRowWriter;
 import sf.util.Color;
 
 /**
@@ -64,10 +66,13 @@ public final class HtmlFormattingHelper
     return htmlHeader;
   }
 
+  private final HtmlRowWriter rowWriter;
+
   public HtmlFormattingHelper(final PrintWriter out,
                               final TextOutputFormat outputFormat)
   {
     super(out, outputFormat);
+    rowWriter = new HtmlRowWriter(out);
   }
 
   @Override
@@ -94,6 +99,89 @@ public final class HtmlFormattingHelper
     return "\u21dd";
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeDescriptionRow(final String description)
+  {
+    rowWriter.startRow()
+      .addCell("", true, Alignment.inherit, false, "spacer", Color.white, 1, null)
+      .addCell(description,
+               true,
+               Alignment.inherit,
+               false,
+               "",
+               Color.white,
+               2,
+               null)
+      .endRow();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeDetailRow(final String text1,
+                             final String text2,
+                             final String text3,
+                             final boolean escapeText,
+                             final boolean emphasize,
+                             final String style)
+  {
+    final String text3Style;
+    if (!isBlank(style))
+    {
+      text3Style = "minwidth " + style;
+    }
+    else
+    {
+      text3Style = "minwidth";
+    }
+
+    rowWriter.startRow();
+    if (isBlank(text1))
+    {
+      rowWriter.addCell("",
+                        true,
+                        Alignment.inherit,
+                        false,
+                        "spacer",
+                        Color.white,
+                        1,
+                        null);
+    }
+    else
+    {
+      rowWriter.addCell(text1,
+                        true,
+                        Alignment.inherit,
+                        false,
+                        "spacer",
+                        Color.white,
+                        1,
+                        null);
+    }
+    rowWriter
+      .addCell(text2,
+               escapeText,
+               Alignment.inherit,
+               emphasize,
+               "minwidth",
+               Color.white,
+               1,
+               null)
+      .addCell(text3,
+               true,
+               Alignment.inherit,
+               false,
+               text3Style,
+               Color.white,
+               1,
+               null)
+      .endRow();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -112,6 +200,17 @@ public final class HtmlFormattingHelper
     out.println(HTML_HEADER);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeEmptyRow()
+  {
+    rowWriter.startRow()
+      .addCell("", true, Alignment.inherit, false, "", Color.white, 3, null)
+      .endRow();
+  }
+
   @Override
   public void writeHeader(final DocumentHeaderType type, final String header)
   {
@@ -125,6 +224,59 @@ public final class HtmlFormattingHelper
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeNameRow(final String name, final String description)
+  {
+    rowWriter.startRow()
+      .addCell(name, true, Alignment.inherit, false, "name", Color.white, 2, null)
+      .addCell(description,
+               true,
+               Alignment.right,
+               false,
+               "description right",
+               Color.white,
+               1,
+               null)
+      .endRow();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeNameValueRow(final String name,
+                                final String value,
+                                final Alignment valueAlignment)
+  {
+    final Alignment alignmentForValue = valueAlignment == null? Alignment.inherit
+                                                              : valueAlignment;
+    final String valueStyle = "property_value"
+                              + (alignmentForValue == Alignment.inherit? ""
+                                                                       : " right");
+
+    rowWriter.startRow()
+      .addCell(name,
+               true,
+               Alignment.inherit,
+               false,
+               "property_name",
+               Color.white,
+               1,
+               null)
+      .addCell(value,
+               true,
+               alignmentForValue,
+               false,
+               valueStyle,
+               Color.white,
+               1,
+               null)
+      .endRow();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -177,4 +329,65 @@ public final class HtmlFormattingHelper
     out.println("<table>");
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeRow(final Object... columnData)
+  {
+    rowWriter.startRow();
+    for (final Object element: columnData)
+    {
+      final String text;
+      final String styleClass;
+      if (element == null)
+      {
+        text = null;
+        styleClass = "data_null";
+      }
+      else if (element instanceof BinaryData)
+      {
+        text = element.toString();
+        styleClass = "data_binary";
+      }
+      else if (element instanceof Number)
+      {
+        text = element.toString();
+        styleClass = "data_number";
+      }
+      else
+      {
+        text = element.toString();
+        styleClass = "";
+      }
+      rowWriter.addCell(text,
+                        true,
+                        Alignment.inherit,
+                        false,
+                        styleClass,
+                        Color.white,
+                        1,
+                        null);
+    }
+    rowWriter.endRow();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeWideRow(final String definition, final String style)
+  {
+    rowWriter.startRow()
+      .addCell(definition,
+               true,
+               Alignment.inherit,
+               false,
+               style,
+               Color.white,
+               3,
+               null)
+      .endRow();
+  }
+
 }
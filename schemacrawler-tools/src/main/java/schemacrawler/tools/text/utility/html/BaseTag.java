@@ -177,7 +177,14 @@ abstract class BaseTag
     {
       buffer.append("<b><i>");
     }
-    buffer.append(escapeText? escapeForXMLElement(text): text);
+    if (escapeText)
+    {
+      escapeForXMLElement(buffer, text);
+    }
+    else
+    {
+      buffer.append(text);
+    }
     if (emphasizeText)
     {
       buffer.append("</i></b>");
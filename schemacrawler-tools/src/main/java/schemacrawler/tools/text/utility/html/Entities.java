@@ -84,26 +84,45 @@ public final class Entities
   public static String escapeForXMLElement(final String text)
   {
     final StringBuilder buffer = new StringBuilder(text.length() * 2);
-    for (int i = 0; i < text.length(); ++i)
+    escapeForXMLElement(buffer, text);
+    return buffer.toString();
+  }
+
+  /**
+   * XML escapes the characters in some text, and appends them to the
+   * buffer, without creating intermediate strings.
+   *
+   * @param buffer
+   *        Buffer to append to.
+   * @param text
+   *        Text to escape.
+   */
+  public static void escapeForXMLElement(final StringBuilder buffer,
+                                         final String text)
+  {
+    final int length = text.length();
+    int start = 0;
+    for (int i = 0; i < length; ++i)
     {
-      final char ch = text.charAt(i);
-      switch (ch)
+      final String entity;
+      switch (text.charAt(i))
       {
         case 62:
-          buffer.append("&gt;");
+          entity = "&gt;";
           break;
         case 38:
-          buffer.append("&amp;");
+          entity = "&amp;";
           break;
         case 60:
-          buffer.append("&lt;");
+          entity = "&lt;";
           break;
         default:
-          buffer.append(ch);
-          break;
+          continue;
       }
+      buffer.append(text, start, i).append(entity);
+      start = i + 1;
     }
-    return buffer.toString();
+    buffer.append(text, start, length);
   }
 
 }
@@ -0,0 +1,201 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.utility.html;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.tools.text.utility.html.Entities.escapeForXMLElement;
+import static sf.util.Utility.isBlank;
+
+import java.io.PrintWriter;
+
+import sf.util.Color;
+
+/**
+ * Writes HTML table rows directly to the output, without creating
+ * intermediate row and cell objects. The markup produced is the same as
+ * that of {@link TableRow} with {@link TableCell}s, in HTML output
+ * format. Internal buffers are reused from row to row, so an instance is
+ * not thread-safe.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class HtmlRowWriter
+{
+
+  private static final String NEWLINE = System.lineSeparator();
+
+  private final PrintWriter out;
+  private final StringBuilder buffer;
+  private char[] chars;
+
+  public HtmlRowWriter(final PrintWriter out)
+  {
+    this.out = requireNonNull(out, "No output writer provided");
+    buffer = new StringBuilder(1024);
+    chars = new char[1024];
+  }
+
+  /**
+   * Adds a table cell to the current row.
+   *
+   * @param text
+   *        Cell text, or null
+   * @param escapeText
+   *        Whether to escape the text for HTML
+   * @param align
+   *        Alignment, used only if there is no style class
+   * @param emphasizeText
+   *        Whether to make the text bold and italic
+   * @param styleClass
+   *        CSS style class, or blank
+   * @param bgColor
+   *        Background color, or null
+   * @param colSpan
+   *        Number of columns to span
+   * @param port
+   *        Graphviz port name, or blank
+   * @return Self, for chaining
+   */
+  public HtmlRowWriter addCell(final String text,
+                               final boolean escapeText,
+                               final Alignment align,
+                               final boolean emphasizeText,
+                               final String styleClass,
+                               final Color bgColor,
+                               final int colSpan,
+                               final String port)
+  {
+    buffer.append("\t\t<td");
+    if (colSpan > 1)
+    {
+      buffer.append(" colspan='").append(colSpan).append("'");
+    }
+    if (!isBlank(port))
+    {
+      buffer.append(" port='").append(port).append("'");
+    }
+    if (bgColor != null && !bgColor.equals(Color.white))
+    {
+      buffer.append(" bgcolor='").append(bgColor).append("'");
+    }
+    if (!isBlank(styleClass))
+    {
+      buffer.append(" class='").append(styleClass).append("'");
+    }
+    else if (align != null && align != Alignment.inherit)
+    {
+      buffer.append(" align='").append(align).append("'");
+    }
+    buffer.append(">");
+    if (emphasizeText)
+    {
+      buffer.append("<b><i>");
+    }
+    final String cellText = text == null? "NULL": text;
+    if (escapeText)
+    {
+      escapeForXMLElement(buffer, cellText);
+    }
+    else
+    {
+      buffer.append(cellText);
+    }
+    if (emphasizeText)
+    {
+      buffer.append("</i></b>");
+    }
+    buffer.append("</td>").append(NEWLINE);
+
+    return this;
+  }
+
+  /**
+   * Adds a table cell with escaped text, and no style class, to the
+   * current row.
+   *
+   * @param text
+   *        Cell text, or null
+   * @param align
+   *        Alignment
+   * @param emphasizeText
+   *        Whether to make the text bold and italic
+   * @param bgColor
+   *        Background color, or null
+   * @param colSpan
+   *        Number of columns to span
+   * @return Self, for chaining
+   */
+  public HtmlRowWriter addCell(final String text,
+                               final Alignment align,
+                               final boolean emphasizeText,
+                               final Color bgColor,
+                               final int colSpan)
+  {
+    return addCell(text,
+                   true,
+                   align,
+                   emphasizeText,
+                   "",
+                   bgColor,
+                   colSpan,
+                   null);
+  }
+
+  /**
+   * Ends the current row, and writes it to the output, followed by a
+   * line separator.
+   */
+  public void endRow()
+  {
+    buffer.append("\t</tr>").append(NEWLINE);
+
+    final int length = buffer.length();
+    if (chars.length < length)
+    {
+      chars = new char[Math.max(length, chars.length * 2)];
+    }
+    buffer.getChars(0, length, chars, 0);
+    out.write(chars, 0, length);
+
+    buffer.setLength(0);
+  }
+
+  /**
+   * Starts a new row, discarding any row that was not ended.
+   *
+   * @return Self, for chaining
+   */
+  public HtmlRowWriter startRow()
+  {
+    buffer.setLength(0);
+    buffer.append("\t<tr>").append(NEWLINE);
+    return this;
+  }
+
+}
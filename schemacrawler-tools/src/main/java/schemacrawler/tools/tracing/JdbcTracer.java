@@ -0,0 +1,307 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.tracing;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traces the JDBC calls made on a connection, to profile metadata
+ * round-trips made during a crawl. Calls on the database metadata, and
+ * statement executions are timed, along with the rows read from their
+ * result sets. The traced calls can be written out as a report of the
+ * slowest calls, or as a folded stack profile that can be rendered as a
+ * flame graph.
+ */
+public final class JdbcTracer
+{
+
+  private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS
+    .toNanos(1);
+  private static final long NANOS_PER_MICRO = TimeUnit.MICROSECONDS
+    .toNanos(1);
+
+  private static String formatArgument(final Object argument)
+  {
+    if (argument == null)
+    {
+      return "null";
+    }
+    else if (argument instanceof Object[])
+    {
+      return Arrays.toString((Object[]) argument);
+    }
+    else if (argument instanceof int[])
+    {
+      return Arrays.toString((int[]) argument);
+    }
+    else if (argument instanceof String)
+    {
+      return "\"" + ((String) argument).trim().replaceAll("\\s+", " ")
+             + "\"";
+    }
+    else
+    {
+      return String.valueOf(argument);
+    }
+  }
+
+  private static String formatArguments(final Object[] arguments)
+  {
+    if (arguments == null)
+    {
+      return "";
+    }
+    final StringJoiner joiner = new StringJoiner(", ");
+    for (final Object argument: arguments)
+    {
+      joiner.add(formatArgument(argument));
+    }
+    return joiner.toString();
+  }
+
+  private static String millis(final long nanos)
+  {
+    return String.format("%.3f", nanos / (double) NANOS_PER_MILLI);
+  }
+
+  private static String stack()
+  {
+    final StackTraceElement[] stackTrace = Thread.currentThread()
+      .getStackTrace();
+    final StringJoiner stack = new StringJoiner(";");
+    // Outermost frame first
+    for (int i = stackTrace.length - 1; i >= 0; i--)
+    {
+      final String className = stackTrace[i].getClassName();
+      if ((className.startsWith("schemacrawler.")
+           || className.startsWith("sf."))
+          && !className.startsWith(JdbcTracer.class.getPackage().getName()))
+      {
+        final String simpleClassName = className
+          .substring(className.lastIndexOf('.') + 1);
+        stack.add(simpleClassName + "." + stackTrace[i].getMethodName());
+      }
+    }
+    return stack.toString();
+  }
+
+  private final List<TracedCall> calls;
+
+  public JdbcTracer()
+  {
+    calls = Collections.synchronizedList(new ArrayList<>());
+  }
+
+  /**
+   * Gets a copy of the calls traced so far, in the order that they
+   * were made.
+   *
+   * @return Traced calls
+   */
+  public List<TracedCall> getCalls()
+  {
+    synchronized (calls)
+    {
+      return new ArrayList<>(calls);
+    }
+  }
+
+  /**
+   * Gets the total time taken for all calls traced so far, in
+   * nanoseconds.
+   *
+   * @return Total time taken
+   */
+  public long getTotalNanos()
+  {
+    long totalNanos = 0;
+    for (final TracedCall call: getCalls())
+    {
+      totalNanos = totalNanos + call.getTotalNanos();
+    }
+    return totalNanos;
+  }
+
+  /**
+   * Wraps a connection, so that calls on it, and on the database
+   * metadata, statements and result sets obtained from it are traced.
+   * Closing the returned connection closes the underlying connection.
+   *
+   * @param connection
+   *        Connection to trace
+   * @return Traced connection
+   */
+  public Connection trace(final Connection connection)
+  {
+    requireNonNull(connection, "No connection provided");
+    return TracingInvocationHandler
+      .newProxy(this, Connection.class, connection, null, null);
+  }
+
+  /**
+   * Writes the traced calls in the folded stack format used by flame
+   * graph tools, with one line for each distinct stack, and the total
+   * time for that stack in microseconds.
+   *
+   * @param writer
+   *        Writer to write to
+   * @throws IOException
+   *         On an exception writing the profile
+   */
+  public void writeFoldedProfile(final Writer writer)
+    throws IOException
+  {
+    requireNonNull(writer, "No writer provided");
+
+    final Map<String, Long> folded = new TreeMap<>();
+    for (final TracedCall call: getCalls())
+    {
+      final String stack;
+      if (call.getStack().isEmpty())
+      {
+        stack = call.getMethod();
+      }
+      else
+      {
+        stack = call.getStack() + ";" + call.getMethod();
+      }
+      folded.merge(stack, call.getTotalNanos(), Long::sum);
+    }
+
+    final PrintWriter out = new PrintWriter(writer);
+    for (final Map.Entry<String, Long> entry: folded.entrySet())
+    {
+      out.printf("%s %d%n",
+                 entry.getKey().replace(' ', '_'),
+                 entry.getValue() / NANOS_PER_MICRO);
+    }
+    out.flush();
+    if (out.checkError())
+    {
+      throw new IOException("Could not write folded profile");
+    }
+  }
+
+  /**
+   * Writes a report of the traced calls, with a summary by method, and
+   * the slowest individual calls with their arguments.
+   *
+   * @param writer
+   *        Writer to write to
+   * @param limit
+   *        Maximum number of individual calls to report
+   * @throws IOException
+   *         On an exception writing the report
+   */
+  public void writeSlowCallReport(final Writer writer, final int limit)
+    throws IOException
+  {
+    requireNonNull(writer, "No writer provided");
+
+    final List<TracedCall> tracedCalls = getCalls();
+
+    final Map<String, long[]> summary = new HashMap<>();
+    long totalNanos = 0;
+    long totalRows = 0;
+    for (final TracedCall call: tracedCalls)
+    {
+      final long[] methodSummary = summary
+        .computeIfAbsent(call.getMethod(), key -> new long[3]);
+      methodSummary[0] = methodSummary[0] + 1;
+      methodSummary[1] = methodSummary[1] + call.getTotalNanos();
+      methodSummary[2] = methodSummary[2] + call.getRowCount();
+      totalNanos = totalNanos + call.getTotalNanos();
+      totalRows = totalRows + call.getRowCount();
+    }
+    final List<Map.Entry<String, long[]>> methods = new ArrayList<>(summary
+      .entrySet());
+    methods.sort(Comparator
+      .comparing((final Map.Entry<String, long[]> entry) -> entry
+        .getValue()[1])
+      .reversed().thenComparing(Map.Entry::getKey));
+
+    final PrintWriter out = new PrintWriter(writer);
+    out.printf("JDBC calls: %d, total time: %s ms, rows: %d%n",
+               tracedCalls.size(),
+               millis(totalNanos),
+               totalRows);
+    out.println();
+    out.printf("%10s %12s %10s  %s%n", "calls", "total ms", "rows", "method");
+    for (final Map.Entry<String, long[]> entry: methods)
+    {
+      final long[] methodSummary = entry.getValue();
+      out.printf("%10d %12s %10d  %s%n",
+                 methodSummary[0],
+                 millis(methodSummary[1]),
+                 methodSummary[2],
+                 entry.getKey());
+    }
+
+    final List<TracedCall> slowCalls = new ArrayList<>(tracedCalls);
+    slowCalls.sort(Comparator.comparingLong(TracedCall::getTotalNanos)
+      .reversed());
+    final int slowCallsCount = Math.min(Math.max(limit, 0), slowCalls.size());
+    out.println();
+    out.printf("Slowest %d calls:%n", slowCallsCount);
+    for (final TracedCall call: slowCalls.subList(0, slowCallsCount))
+    {
+      out.println(call);
+    }
+    out.flush();
+    if (out.checkError())
+    {
+      throw new IOException("Could not write slow call report");
+    }
+  }
+
+  TracedCall newCall(final String method, final Object[] arguments)
+  {
+    final TracedCall call = new TracedCall(method,
+                                           formatArguments(arguments),
+                                           stack());
+    calls.add(call);
+    return call;
+  }
+
+}
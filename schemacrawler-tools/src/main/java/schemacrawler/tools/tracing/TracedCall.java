@@ -0,0 +1,181 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.tracing;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single traced JDBC call, such as a database metadata call or a
+ * query, with the rows read from its result set.
+ */
+public final class TracedCall
+{
+
+  private final String method;
+  private final String arguments;
+  private final String stack;
+  private long executeNanos;
+  private long fetchNanos;
+  private long rowCount;
+  private int fetchSize;
+
+  TracedCall(final String method, final String arguments, final String stack)
+  {
+    this.method = requireNonNull(method, "No method provided");
+    this.arguments = requireNonNull(arguments, "No arguments provided");
+    this.stack = requireNonNull(stack, "No stack provided");
+  }
+
+  /**
+   * Gets the arguments of the call, formatted for display.
+   *
+   * @return Call arguments
+   */
+  public String getArguments()
+  {
+    return arguments;
+  }
+
+  /**
+   * Gets the time taken to make the call, in nanoseconds.
+   *
+   * @return Time taken to make the call
+   */
+  public long getExecuteNanos()
+  {
+    return executeNanos;
+  }
+
+  /**
+   * Gets the estimated number of round-trips made to fetch the rows,
+   * based on the fetch size. Returns 0 if the driver did not report a
+   * fetch size.
+   *
+   * @return Estimated number of fetches
+   */
+  public long getFetchCount()
+  {
+    if (fetchSize <= 0)
+    {
+      return 0;
+    }
+    return rowCount / fetchSize + 1;
+  }
+
+  /**
+   * Gets the time taken to read rows from the result set of the call,
+   * in nanoseconds.
+   *
+   * @return Time taken to read rows
+   */
+  public long getFetchNanos()
+  {
+    return fetchNanos;
+  }
+
+  /**
+   * Gets the interface and name of the method that was called, for
+   * example, DatabaseMetaData.getColumns.
+   *
+   * @return Method name
+   */
+  public String getMethod()
+  {
+    return method;
+  }
+
+  /**
+   * Gets the number of rows read from the result set of the call.
+   *
+   * @return Number of rows read
+   */
+  public long getRowCount()
+  {
+    return rowCount;
+  }
+
+  /**
+   * Gets the SchemaCrawler methods that led to the call, outermost
+   * first, separated by semicolons.
+   *
+   * @return Call stack
+   */
+  public String getStack()
+  {
+    return stack;
+  }
+
+  /**
+   * Gets the total time taken for the call, including reading rows, in
+   * nanoseconds.
+   *
+   * @return Total time taken
+   */
+  public long getTotalNanos()
+  {
+    return executeNanos + fetchNanos;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString()
+  {
+    return String.format("%10.3f ms %10d rows %8d fetches  %s(%s)",
+                         getTotalNanos() / (double) TimeUnit.MILLISECONDS
+                           .toNanos(1),
+                         rowCount,
+                         getFetchCount(),
+                         method,
+                         arguments);
+  }
+
+  synchronized void addFetch(final long nanos, final boolean hasRow)
+  {
+    fetchNanos = fetchNanos + nanos;
+    if (hasRow)
+    {
+      rowCount = rowCount + 1;
+    }
+  }
+
+  void setExecuteNanos(final long executeNanos)
+  {
+    this.executeNanos = executeNanos;
+  }
+
+  void setFetchSize(final int fetchSize)
+  {
+    this.fetchSize = fetchSize;
+  }
+
+}
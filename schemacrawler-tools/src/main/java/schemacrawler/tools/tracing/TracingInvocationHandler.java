@@ -0,0 +1,247 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.tracing;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Intercepts calls on JDBC objects, times the calls that make
+ * round-trips to the database, and wraps the JDBC objects that are
+ * returned, so that calls on them can be traced too.
+ */
+final class TracingInvocationHandler
+  implements InvocationHandler
+{
+
+  static <T> T newProxy(final JdbcTracer tracer,
+                        final Class<T> type,
+                        final T target,
+                        final Object parent,
+                        final TracedCall call)
+  {
+    final TracingInvocationHandler handler = new TracingInvocationHandler(tracer,
+                                                                          type,
+                                                                          target,
+                                                                          parent,
+                                                                          call);
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(),
+                                            new Class<?>[] { type },
+                                            handler));
+  }
+
+  private static Class<?> proxyType(final Object value)
+  {
+    // Most specific type first
+    if (value instanceof ResultSet)
+    {
+      return ResultSet.class;
+    }
+    else if (value instanceof CallableStatement)
+    {
+      return CallableStatement.class;
+    }
+    else if (value instanceof PreparedStatement)
+    {
+      return PreparedStatement.class;
+    }
+    else if (value instanceof Statement)
+    {
+      return Statement.class;
+    }
+    else if (value instanceof DatabaseMetaData)
+    {
+      return DatabaseMetaData.class;
+    }
+    else
+    {
+      return null;
+    }
+  }
+
+  private final JdbcTracer tracer;
+  private final Class<?> type;
+  private final Object target;
+  private final Object parent;
+  private TracedCall call;
+
+  private TracingInvocationHandler(final JdbcTracer tracer,
+                                   final Class<?> type,
+                                   final Object target,
+                                   final Object parent,
+                                   final TracedCall call)
+  {
+    this.tracer = requireNonNull(tracer, "No tracer provided");
+    this.type = requireNonNull(type, "No type provided");
+    this.target = requireNonNull(target, "No target provided");
+    this.parent = parent;
+    this.call = call;
+  }
+
+  @Override
+  public Object invoke(final Object proxy,
+                       final Method method,
+                       final Object[] args)
+    throws Throwable
+  {
+    final String methodName = method.getName();
+    switch (methodName)
+    {
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return type.getSimpleName() + "@" + target.toString();
+      case "getConnection":
+      case "getStatement":
+        if (parent != null && method.getReturnType().isInstance(parent))
+        {
+          return parent;
+        }
+        break;
+      case "next":
+        if (type == ResultSet.class && call != null)
+        {
+          return next(method, args);
+        }
+        break;
+      default:
+        break;
+    }
+
+    if (isTraced(method))
+    {
+      final TracedCall tracedCall = tracer
+        .newCall(type.getSimpleName() + "." + methodName, args);
+      final long start = System.nanoTime();
+      try
+      {
+        final Object value = delegate(method, args);
+        return wrap(proxy, value, tracedCall);
+      }
+      finally
+      {
+        tracedCall.setExecuteNanos(System.nanoTime() - start);
+        if (type != DatabaseMetaData.class)
+        {
+          // Rows from a statement's result set are attributed to the
+          // most recent execution
+          call = tracedCall;
+        }
+      }
+    }
+    else
+    {
+      final Object value = delegate(method, args);
+      return wrap(proxy, value, call);
+    }
+  }
+
+  private Object delegate(final Method method, final Object[] args)
+    throws Throwable
+  {
+    try
+    {
+      return method.invoke(target, args);
+    }
+    catch (final InvocationTargetException e)
+    {
+      throw e.getCause();
+    }
+  }
+
+  private boolean isTraced(final Method method)
+  {
+    final String methodName = method.getName();
+    if (type == DatabaseMetaData.class)
+    {
+      return !methodName.equals("unwrap")
+             && !methodName.equals("isWrapperFor");
+    }
+    else if (Statement.class.isAssignableFrom(type))
+    {
+      return methodName.startsWith("execute");
+    }
+    else
+    {
+      return false;
+    }
+  }
+
+  private Object next(final Method method, final Object[] args)
+    throws Throwable
+  {
+    final long start = System.nanoTime();
+    final Object hasRow = delegate(method, args);
+    final long nanos = System.nanoTime() - start;
+    if (call.getRowCount() == 0)
+    {
+      call.setFetchSize(((ResultSet) target).getFetchSize());
+    }
+    call.addFetch(nanos, Boolean.TRUE.equals(hasRow));
+    return hasRow;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object wrap(final Object proxy,
+                      final Object value,
+                      final TracedCall tracedCall)
+  {
+    if (value == null)
+    {
+      return null;
+    }
+    else if (value == target)
+    {
+      return proxy;
+    }
+    final Class<?> valueType = proxyType(value);
+    if (valueType == null)
+    {
+      return value;
+    }
+    if (valueType == ResultSet.class && tracedCall == null)
+    {
+      // Result set is not from a traced call, such as getGeneratedKeys
+      return value;
+    }
+    return newProxy(tracer, (Class<Object>) valueType, value, proxy, tracedCall);
+  }
+
+}
@@ -0,0 +1,72 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.traversal;
+
+
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+
+/**
+ * A schema traversal handler that can render each table on its own,
+ * into a fragment of output. Tables can then be rendered concurrently,
+ * and the fragments written to the output in traversal order.
+ *
+ * @author Sualeh Fatehi
+ */
+public interface ParallelSchemaTraversalHandler
+  extends SchemaTraversalHandler
+{
+
+  /**
+   * Writes a rendered table to the output. Called from the traversal
+   * thread, in traversal order.
+   *
+   * @param renderedTable
+   *        Table fragment, from {@link #renderTable(Table)}
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  void handleRenderedTable(final String renderedTable)
+    throws SchemaCrawlerException;
+
+  /**
+   * Renders a table into a fragment of output, without writing to the
+   * output. The fragment is the same as the output of
+   * {@link #handle(Table)}. This method may be called concurrently from
+   * multiple threads.
+   *
+   * @param table
+   *        Table to render
+   * @return Rendered table fragment
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  String renderTable(final Table table)
+    throws SchemaCrawlerException;
+
+}
@@ -30,11 +30,18 @@ package schemacrawler.tools.traversal;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.ColumnDataType;
@@ -53,6 +60,7 @@ public class SchemaTraverser
   private SchemaTraversalHandler handler;
   private Comparator<NamedObject> tablesComparator;
   private Comparator<NamedObject> routinesComparator;
+  private boolean parallelTraversal;
 
   public SchemaTraverser()
   {
@@ -80,6 +88,17 @@ public class SchemaTraverser
     return tablesComparator;
   }
 
+  /**
+   * Whether tables are rendered concurrently. This only takes effect if
+   * the handler is a {@link ParallelSchemaTraversalHandler}.
+   *
+   * @return Whether tables are rendered concurrently
+   */
+  public boolean isParallelTraversal()
+  {
+    return parallelTraversal;
+  }
+
   public void setCatalog(final Catalog catalog)
   {
     this.catalog = requireNonNull(catalog, "No catalog provided");
@@ -90,6 +109,11 @@ public class SchemaTraverser
     this.handler = requireNonNull(handler, "No handler provided");
   }
 
+  public void setParallelTraversal(final boolean parallelTraversal)
+  {
+    this.parallelTraversal = parallelTraversal;
+  }
+
   public void setRoutinesComparator(final Comparator<NamedObject> routinesComparator)
   {
     this.routinesComparator = requireNonNull(routinesComparator,
@@ -114,77 +138,166 @@ public class SchemaTraverser
     final Collection<Sequence> sequences = catalog.getSequences();
 
     handler.begin();
-
-    handler.handleHeaderStart();
-    handler.handle(catalog.getCrawlInfo());
-    handler.handleHeaderEnd();
-
-    if (!tables.isEmpty())
+    try
     {
+      handler.handleHeaderStart();
+      handler.handle(catalog.getCrawlInfo());
+      handler.handleHeaderEnd();
 
-      handler.handleTablesStart();
-
-      final List<? extends Table> tablesList = new ArrayList<>(tables);
-      Collections.sort(tablesList, tablesComparator);
-      for (final Table table: tablesList)
+      if (!tables.isEmpty())
       {
-        handler.handle(table);
+
+        handler.handleTablesStart();
+
+        final List<? extends Table> tablesList = new ArrayList<>(tables);
+        Collections.sort(tablesList, tablesComparator);
+        if (parallelTraversal
+            && handler instanceof ParallelSchemaTraversalHandler
+            && tablesList.size() > 1)
+        {
+          handleTablesInParallel((ParallelSchemaTraversalHandler) handler,
+                                 tablesList);
+        }
+        else
+        {
+          for (final Table table: tablesList)
+          {
+            handler.handle(table);
+          }
+        }
+
+        handler.handleTablesEnd();
       }
 
-      handler.handleTablesEnd();
-    }
+      if (!routines.isEmpty())
+      {
+        handler.handleRoutinesStart();
 
-    if (!routines.isEmpty())
-    {
-      handler.handleRoutinesStart();
+        final List<? extends Routine> routinesList = new ArrayList<>(routines);
+        Collections.sort(routinesList, routinesComparator);
+        for (final Routine routine: routinesList)
+        {
+          handler.handle(routine);
+        }
+
+        handler.handleRoutinesEnd();
+      }
 
-      final List<? extends Routine> routinesList = new ArrayList<>(routines);
-      Collections.sort(routinesList, routinesComparator);
-      for (final Routine routine: routinesList)
+      if (!sequences.isEmpty())
       {
-        handler.handle(routine);
+        handler.handleSequencesStart();
+        for (final Sequence sequence: sequences)
+        {
+          handler.handle(sequence);
+        }
+        handler.handleSequencesEnd();
       }
 
-      handler.handleRoutinesEnd();
-    }
+      if (!synonyms.isEmpty())
+      {
+        handler.handleSynonymsStart();
+        for (final Synonym synonym: synonyms)
+        {
+          handler.handle(synonym);
+        }
+        handler.handleSynonymsEnd();
+      }
 
-    if (!sequences.isEmpty())
-    {
-      handler.handleSequencesStart();
-      for (final Sequence sequence: sequences)
+      if (!columnDataTypes.isEmpty())
       {
-        handler.handle(sequence);
+        handler.handleColumnDataTypesStart();
+        for (final ColumnDataType columnDataType: columnDataTypes)
+        {
+          handler.handle(columnDataType);
+        }
+        handler.handleColumnDataTypesEnd();
       }
-      handler.handleSequencesEnd();
+
+      handler.handleInfoStart();
+      handler.handle(catalog.getSchemaCrawlerInfo());
+      handler.handle(catalog.getDatabaseInfo());
+      handler.handle(catalog.getJdbcDriverInfo());
+      handler.handleInfoEnd();
+
+      handler.end();
+    }
+    finally
+    {
+      // Release the output if traversal fails
+      handler.close();
     }
+  }
 
-    if (!synonyms.isEmpty())
+  private String getRenderedTable(final Future<String> renderedTable)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      return renderedTable.get();
+    }
+    catch (final InterruptedException e)
     {
-      handler.handleSynonymsStart();
-      for (final Synonym synonym: synonyms)
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while rendering tables",
+                                       e);
+    }
+    catch (final ExecutionException e)
+    {
+      // Rethrow the exception from the worker as it is, so that failures
+      // look the same as in serial traversal
+      final Throwable cause = e.getCause();
+      if (cause instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) cause;
+      }
+      else if (cause instanceof RuntimeException)
+      {
+        throw (RuntimeException) cause;
+      }
+      else if (cause instanceof Error)
+      {
+        throw (Error) cause;
+      }
+      else
       {
-        handler.handle(synonym);
+        throw new SchemaCrawlerException("Could not render table", cause);
       }
-      handler.handleSynonymsEnd();
     }
+  }
 
-    if (!columnDataTypes.isEmpty())
+  /**
+   * Renders tables concurrently, and writes them to the output in the
+   * original order. The number of rendered tables held in memory is
+   * bounded, so that rendering does not run too far ahead of writing.
+   */
+  private void handleTablesInParallel(final ParallelSchemaTraversalHandler parallelHandler,
+                                      final List<? extends Table> tablesList)
+    throws SchemaCrawlerException
+  {
+    final int parallelism = Runtime.getRuntime().availableProcessors();
+    final int maxPendingTables = parallelism * 16;
+
+    final ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+    try
     {
-      handler.handleColumnDataTypesStart();
-      for (final ColumnDataType columnDataType: columnDataTypes)
+      final Deque<Future<String>> pendingTables = new ArrayDeque<>(maxPendingTables);
+      final Iterator<? extends Table> tablesIterator = tablesList.iterator();
+      while (tablesIterator.hasNext() || !pendingTables.isEmpty())
       {
-        handler.handle(columnDataType);
+        while (tablesIterator.hasNext()
+               && pendingTables.size() < maxPendingTables)
+        {
+          final Table table = tablesIterator.next();
+          pendingTables.add(pool.submit(() -> parallelHandler.renderTable(table)));
+        }
+        parallelHandler
+          .handleRenderedTable(getRenderedTable(pendingTables.remove()));
       }
-      handler.handleColumnDataTypesEnd();
     }
-
-    handler.handleInfoStart();
-    handler.handle(catalog.getSchemaCrawlerInfo());
-    handler.handle(catalog.getDatabaseInfo());
-    handler.handle(catalog.getJdbcDriverInfo());
-    handler.handleInfoEnd();
-
-    handler.end();
+    finally
+    {
+      pool.shutdownNow();
+    }
   }
 
 }
@@ -40,6 +40,16 @@ public interface TraversalHandler
   void begin()
     throws SchemaCrawlerException;
 
+  /**
+   * Releases the output, when traversal fails before {@link #end()}, so
+   * that output written so far is not lost. Handlers that have ended
+   * are already closed, and closing them again has no effect.
+   */
+  default void close()
+  {
+    // No resources by default
+  }
+
   void end()
     throws SchemaCrawlerException;
 
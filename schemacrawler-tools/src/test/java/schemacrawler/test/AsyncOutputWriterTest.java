@@ -0,0 +1,140 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import org.junit.Test;
+
+import schemacrawler.tools.iosource.AsyncOutputWriter;
+
+public class AsyncOutputWriterTest
+{
+
+  @Test
+  public void flush()
+    throws Exception
+  {
+    final StringWriter stringWriter = new StringWriter();
+    final AsyncOutputWriter writer = new AsyncOutputWriter(stringWriter);
+
+    writer.write("abc");
+    writer.flush();
+    assertEquals("abc", stringWriter.toString());
+
+    writer.close();
+  }
+
+  @Test
+  public void sameOutput()
+    throws Exception
+  {
+    final StringWriter expected = new StringWriter();
+    writeLines(new PrintWriter(expected), 1000);
+
+    // Use a small buffer and queue, so that buffers are handed off and
+    // reused many times
+    final StringWriter actual = new StringWriter();
+    writeLines(new PrintWriter(new AsyncOutputWriter(actual, 7, 2)), 1000);
+
+    assertEquals(expected.toString(), actual.toString());
+  }
+
+  @Test
+  public void writeError()
+    throws Exception
+  {
+    final Writer writer = new AsyncOutputWriter(new Writer()
+    {
+
+      @Override
+      public void close()
+      {
+        // No-op
+      }
+
+      @Override
+      public void flush()
+      {
+        // No-op
+      }
+
+      @Override
+      public void write(final char[] cbuf, final int off, final int len)
+        throws IOException
+      {
+        throw new IOException("Disk full");
+      }
+    });
+
+    writer.write("abc");
+    try
+    {
+      writer.flush();
+      fail("Write error was not reported");
+    }
+    catch (final IOException e)
+    {
+      assertEquals("Disk full", e.getCause().getMessage());
+    }
+    finally
+    {
+      try
+      {
+        writer.close();
+      }
+      catch (final IOException e)
+      {
+        // Expected, since the error is reported again
+      }
+    }
+  }
+
+  private void writeLines(final PrintWriter out, final int numberOfLines)
+  {
+    for (int i = 0; i < numberOfLines; i++)
+    {
+      out.print("<tr><td class='name'>");
+      out.print("COLUMN_" + i);
+      out.print("</td><td>VARCHAR(255)</td><td>éè not null</td>");
+      out.write('\t');
+      out.println("</tr>");
+    }
+    out.flush();
+    out.close();
+  }
+
+}
@@ -0,0 +1,239 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.io.ObjectOutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.catalogloader.CachingCatalogLoader;
+import schemacrawler.tools.catalogloader.SchemaCrawlerCatalogLoader;
+
+public class CachingCatalogLoaderTest
+  extends BaseDatabaseTest
+{
+
+  private static final class CountingCatalogLoader
+    extends SchemaCrawlerCatalogLoader
+  {
+
+    private int crawls;
+
+    @Override
+    public Catalog loadCatalog()
+      throws Exception
+    {
+      crawls++;
+      return super.loadCatalog();
+    }
+
+  }
+
+  private Path cacheDirectory;
+
+  @Test
+  public void cacheHit()
+    throws Exception
+  {
+    final CountingCatalogLoader countingCatalogLoader = new CountingCatalogLoader();
+    final Config config = newCacheConfig();
+
+    final Catalog catalog = loadCatalog(countingCatalogLoader,
+                                        config,
+                                        SchemaCrawlerOptionsBuilder
+                                          .withMaximumSchemaInfoLevel());
+    final Catalog cachedCatalog = loadCatalog(countingCatalogLoader,
+                                              config,
+                                              SchemaCrawlerOptionsBuilder
+                                                .withMaximumSchemaInfoLevel());
+
+    assertEquals("Catalog was crawled again", 1, countingCatalogLoader.crawls);
+    assertNotNull("Catalog was not cached", cachedCatalog);
+    assertEquals("Cached catalog does not match", catalog, cachedCatalog);
+    assertEquals("Cached tables do not match",
+                 catalog.getTables().size(),
+                 cachedCatalog.getTables().size());
+  }
+
+  @Test
+  public void cacheMissForDifferentOptions()
+    throws Exception
+  {
+    final CountingCatalogLoader countingCatalogLoader = new CountingCatalogLoader();
+    final Config config = newCacheConfig();
+
+    loadCatalog(countingCatalogLoader,
+                config,
+                SchemaCrawlerOptionsBuilder.withMaximumSchemaInfoLevel());
+    loadCatalog(countingCatalogLoader,
+                config,
+                SchemaCrawlerOptionsBuilder.builder()
+                  .withSchemaInfoLevel(SchemaInfoLevelBuilder.minimum())
+                  .toOptions());
+
+    assertEquals("Catalog was not crawled again",
+                 2,
+                 countingCatalogLoader.crawls);
+  }
+
+  @Test
+  public void cacheMissForChangedProbe()
+    throws Exception
+  {
+    final CountingCatalogLoader countingCatalogLoader = new CountingCatalogLoader();
+    final Config config = newCacheConfig();
+
+    config.put("schemacrawler.cache.probe_query",
+               "SELECT 1 FROM INFORMATION_SCHEMA.SYSTEM_USERS LIMIT 1");
+    loadCatalog(countingCatalogLoader,
+                config,
+                SchemaCrawlerOptionsBuilder.withMaximumSchemaInfoLevel());
+    loadCatalog(countingCatalogLoader,
+                config,
+                SchemaCrawlerOptionsBuilder.withMaximumSchemaInfoLevel());
+    assertEquals("Catalog was crawled again", 1, countingCatalogLoader.crawls);
+
+    config.put("schemacrawler.cache.probe_query",
+               "SELECT 2 FROM INFORMATION_SCHEMA.SYSTEM_USERS LIMIT 1");
+    loadCatalog(countingCatalogLoader,
+                config,
+                SchemaCrawlerOptionsBuilder.withMaximumSchemaInfoLevel());
+    assertEquals("Catalog was not crawled again",
+                 2,
+                 countingCatalogLoader.crawls);
+  }
+
+  @Test
+  public void cacheExpiry()
+    throws Exception
+  {
+    final CountingCatalogLoader countingCatalogLoader = new CountingCatalogLoader();
+    final Config config = newCacheConfig();
+    config.put("schemacrawler.cache.ttl_seconds", "0");
+
+    loadCatalog(countingCatalogLoader,
+                config,
+                SchemaCrawlerOptionsBuilder.withMaximumSchemaInfoLevel());
+    Thread.sleep(10);
+    loadCatalog(countingCatalogLoader,
+                config,
+                SchemaCrawlerOptionsBuilder.withMaximumSchemaInfoLevel());
+
+    assertEquals("Catalog was not crawled again",
+                 2,
+                 countingCatalogLoader.crawls);
+  }
+
+  @Test
+  public void tamperedCacheFile()
+    throws Exception
+  {
+    final CountingCatalogLoader countingCatalogLoader = new CountingCatalogLoader();
+    final Config config = newCacheConfig();
+
+    loadCatalog(countingCatalogLoader,
+                config,
+                SchemaCrawlerOptionsBuilder.withMaximumSchemaInfoLevel());
+
+    // Replace the cached catalog with an object that is not a catalog
+    try (final DirectoryStream<Path> cacheFiles = Files
+      .newDirectoryStream(cacheDirectory, "*.ser.gz");)
+    {
+      for (final Path cacheFile: cacheFiles)
+      {
+        try (final ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(Files
+          .newOutputStream(cacheFile)));)
+        {
+          out.writeLong(System.currentTimeMillis());
+          out.writeUTF("");
+          out.writeObject(new File("planted"));
+        }
+      }
+    }
+
+    final Catalog catalog = loadCatalog(countingCatalogLoader,
+                                        config,
+                                        SchemaCrawlerOptionsBuilder
+                                          .withMaximumSchemaInfoLevel());
+
+    assertNotNull("Catalog was not crawled", catalog);
+    assertEquals("Tampered cache file was read",
+                 2,
+                 countingCatalogLoader.crawls);
+  }
+
+  @Before
+  public void createCacheDirectory()
+    throws Exception
+  {
+    cacheDirectory = Files.createTempDirectory("schemacrawler.cache.");
+    cacheDirectory.toFile().deleteOnExit();
+  }
+
+  private Catalog loadCatalog(final SchemaCrawlerCatalogLoader catalogLoader,
+                              final Config config,
+                              final SchemaCrawlerOptions schemaCrawlerOptions)
+    throws Exception
+  {
+    final Connection connection = getConnection();
+    final CachingCatalogLoader cachingCatalogLoader = new CachingCatalogLoader(catalogLoader);
+    cachingCatalogLoader.setAdditionalConfiguration(config);
+    cachingCatalogLoader.setConnection(connection);
+    cachingCatalogLoader.setSchemaRetrievalOptions(SchemaRetrievalOptionsBuilder
+      .newSchemaRetrievalOptions());
+    cachingCatalogLoader.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    return cachingCatalogLoader.loadCatalog();
+  }
+
+  private Config newCacheConfig()
+  {
+    final Config config = new Config();
+    config.put("schemacrawler.cache", "true");
+    config.put("schemacrawler.cache.directory", cacheDirectory.toString());
+    return config;
+  }
+
+}
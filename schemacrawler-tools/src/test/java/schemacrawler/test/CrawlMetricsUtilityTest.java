@@ -0,0 +1,93 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CrawlMetrics;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.analysis.metrics.CrawlMetricsUtility;
+
+public class CrawlMetricsUtilityTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void crawlMetricsJson()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.standard())
+      .toOptions();
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    final CrawlMetrics crawlMetrics = catalog.getCrawlInfo()
+      .getCrawlMetrics();
+
+    final StringWriter writer = new StringWriter();
+    CrawlMetricsUtility.writeJson(crawlMetrics, writer);
+
+    final JsonObject jsonMetrics = new JsonParser().parse(writer.toString())
+      .getAsJsonObject();
+    assertEquals("Metadata query count does not match",
+                 crawlMetrics.getMetadataQueryCount(),
+                 jsonMetrics.get("metadataQueries").getAsLong());
+    assertEquals("Metadata row count does not match",
+                 crawlMetrics.getMetadataRowCount(),
+                 jsonMetrics.get("metadataRows").getAsLong());
+    assertEquals("Table count does not match",
+                 catalog.getTables().size(),
+                 jsonMetrics.getAsJsonObject("objects").get("tables")
+                   .getAsInt());
+    assertTrue("No time taken",
+               jsonMetrics.get("totalMillis").getAsDouble() > 0);
+
+    final JsonArray jsonStages = jsonMetrics.getAsJsonArray("stages");
+    assertEquals("Stage count does not match",
+                 crawlMetrics.getStageDurations().size(),
+                 jsonStages.size());
+    assertEquals("First stage does not match",
+                 crawlMetrics.getStageDurations().keySet().iterator().next(),
+                 jsonStages.get(0).getAsJsonObject().get("stage")
+                   .getAsString());
+  }
+
+}
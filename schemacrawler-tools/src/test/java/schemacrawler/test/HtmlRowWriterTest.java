@@ -0,0 +1,139 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.utility.html.Alignment;
+import schemacrawler.tools.text.utility.html.HtmlRowWriter;
+import schemacrawler.tools.text.utility.html.TableCell;
+import schemacrawler.tools.text.utility.html.TableRow;
+import sf.util.Color;
+
+public class HtmlRowWriterTest
+{
+
+  @Test
+  public void emptyRow()
+  {
+    final TableRow row = new TableRow(TextOutputFormat.html);
+
+    final StringWriter writer = new StringWriter();
+    final HtmlRowWriter rowWriter = new HtmlRowWriter(new PrintWriter(writer));
+    rowWriter.startRow().endRow();
+
+    assertEquals(row.toString() + System.lineSeparator(), writer.toString());
+  }
+
+  @Test
+  public void sameAsTableRow()
+  {
+    final Color bgColor = Color.fromRGB(0xF2, 0xE6, 0xFF);
+
+    final TableRow row = new TableRow(TextOutputFormat.html);
+    row.add(newTableCell("<name> & \"value\"",
+                         true,
+                         Alignment.left,
+                         true,
+                         "",
+                         bgColor,
+                         2));
+    row.add(newTableCell(null,
+                         true,
+                         Alignment.inherit,
+                         false,
+                         "data_null",
+                         Color.white,
+                         1));
+    row.add(newTableCell("<b>raw</b>",
+                         false,
+                         Alignment.right,
+                         false,
+                         "",
+                         null,
+                         3));
+    row.lastCell().addAttribute("port", "column_1234.end");
+
+    final StringWriter writer = new StringWriter();
+    final HtmlRowWriter rowWriter = new HtmlRowWriter(new PrintWriter(writer));
+    // Write twice, to check that buffers are reset between rows
+    for (int i = 0; i < 2; i++)
+    {
+      rowWriter.startRow()
+        .addCell("<name> & \"value\"", Alignment.left, true, bgColor, 2)
+        .addCell(null,
+                 true,
+                 Alignment.inherit,
+                 false,
+                 "data_null",
+                 Color.white,
+                 1,
+                 null)
+        .addCell("<b>raw</b>",
+                 false,
+                 Alignment.right,
+                 false,
+                 "",
+                 null,
+                 3,
+                 "column_1234.end")
+        .endRow();
+    }
+
+    final String expectedRow = row.toString() + System.lineSeparator();
+    assertEquals(expectedRow + expectedRow, writer.toString());
+  }
+
+  private TableCell newTableCell(final String text,
+                                 final boolean escapeText,
+                                 final Alignment align,
+                                 final boolean emphasizeText,
+                                 final String styleClass,
+                                 final Color bgColor,
+                                 final int colSpan)
+  {
+    return new TableCell(text,
+                         escapeText,
+                         0,
+                         align,
+                         emphasizeText,
+                         styleClass,
+                         bgColor,
+                         colSpan,
+                         TextOutputFormat.html);
+  }
+
+}
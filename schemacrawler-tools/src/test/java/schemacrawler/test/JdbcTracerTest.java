@@ -0,0 +1,101 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.util.List;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.tracing.JdbcTracer;
+import schemacrawler.tools.tracing.TracedCall;
+import schemacrawler.utility.SchemaCrawlerUtility;
+
+public class JdbcTracerTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void traceCrawl()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.standard())
+      .toOptions();
+
+    final JdbcTracer jdbcTracer = new JdbcTracer();
+    final Connection connection = jdbcTracer.trace(getConnection());
+    final Catalog catalog = SchemaCrawlerUtility
+      .getCatalog(connection, schemaCrawlerOptions);
+    assertFalse("No tables crawled", catalog.getTables().isEmpty());
+
+    final List<TracedCall> calls = jdbcTracer.getCalls();
+    assertFalse("No calls traced", calls.isEmpty());
+
+    long columnRows = 0;
+    for (final TracedCall call: calls)
+    {
+      if (call.getMethod().equals("DatabaseMetaData.getColumns"))
+      {
+        columnRows = columnRows + call.getRowCount();
+      }
+    }
+    assertTrue("No column rows traced", columnRows > 0);
+
+    final StringWriter report = new StringWriter();
+    jdbcTracer.writeSlowCallReport(report, 5);
+    assertTrue("Report has no summary",
+               report.toString()
+                 .startsWith(String.format("JDBC calls: %d,", calls.size())));
+    assertTrue("Report has no slow calls",
+               report.toString().contains("Slowest 5 calls:"));
+
+    final StringWriter profile = new StringWriter();
+    jdbcTracer.writeFoldedProfile(profile);
+    final String[] lines = profile.toString().split("\\R");
+    assertFalse("No profile written", lines[0].isEmpty());
+    for (final String line: lines)
+    {
+      assertEquals("Not a folded stack line: " + line,
+                   2,
+                   line.split(" ").length);
+    }
+  }
+
+}
@@ -0,0 +1,206 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.iosource.AsyncOutputWriter;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.schema.SchemaTextDetailType;
+import schemacrawler.tools.text.schema.SchemaTextRenderer;
+import schemacrawler.utility.Identifiers;
+
+public class OutputWriterThreadTest
+  extends BaseDatabaseTest
+{
+
+  private static final String WRITER_THREAD_NAME = "schemacrawler-output-writer";
+
+  private static Set<Thread> writerThreads()
+  {
+    final Set<Thread> writerThreads = new HashSet<>();
+    for (final Thread thread: Thread.getAllStackTraces().keySet())
+    {
+      if (WRITER_THREAD_NAME.equals(thread.getName()) && thread.isAlive())
+      {
+        writerThreads.add(thread);
+      }
+    }
+    return writerThreads;
+  }
+
+  @Test
+  public void failedTraversal()
+    throws Exception
+  {
+    final Set<Thread> threadsBefore = writerThreads();
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .newSchemaCrawlerOptions();
+    final Catalog catalog = failingCatalog(getCatalog(schemaCrawlerOptions));
+
+    final StringWriter writer = new StringWriter();
+    final SchemaTextRenderer command = new SchemaTextRenderer(SchemaTextDetailType.details
+      .name());
+    command.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    command.setOutputOptions(OutputOptionsBuilder
+      .newOutputOptions(TextOutputFormat.text, writer));
+    command.setIdentifiers(Identifiers.STANDARD);
+    command.setCatalog(catalog);
+    command.setConnection(getConnection());
+    command.initialize();
+    try
+    {
+      command.execute();
+      fail("Traversal should have failed on routines");
+    }
+    catch (final RuntimeException e)
+    {
+      assertEquals("Routine failed", e.getMessage());
+    }
+
+    // Tables alone are enough output to start the writer thread
+    assertTrue(writer.toString().length() > AsyncOutputWriter.DEFAULT_BUFFER_SIZE);
+
+    final Set<Thread> threadsAfter = writerThreads();
+    threadsAfter.removeAll(threadsBefore);
+    assertEquals(Collections.emptySet(), threadsAfter);
+  }
+
+  @Test
+  public void failureBeforeTraversal()
+    throws Exception
+  {
+    final Set<Thread> threadsBefore = writerThreads();
+
+    final Catalog catalog = (Catalog) Proxy
+      .newProxyInstance(getClass().getClassLoader(),
+                        new Class<?>[] { Catalog.class },
+                        (proxy, method, args) -> {
+                          throw new RuntimeException("Catalog failed");
+                        });
+
+    final SchemaTextRenderer command = new SchemaTextRenderer(SchemaTextDetailType.details
+      .name());
+    command.setOutputOptions(OutputOptionsBuilder
+      .newOutputOptions(TextOutputFormat.text, new StringWriter()));
+    command.setIdentifiers(Identifiers.STANDARD);
+    command.setCatalog(catalog);
+    command.setConnection(getConnection());
+    command.initialize();
+    try
+    {
+      command.execute();
+      fail("Traversal should have failed on the catalog");
+    }
+    catch (final RuntimeException e)
+    {
+      assertEquals("Catalog failed", e.getMessage());
+    }
+
+    final Set<Thread> threadsAfter = writerThreads();
+    threadsAfter.removeAll(threadsBefore);
+    assertEquals(Collections.emptySet(), threadsAfter);
+  }
+
+  /**
+   * Wraps a catalog so that tables are repeated enough to fill the
+   * output buffer, and rendering the routines fails.
+   */
+  private Catalog failingCatalog(final Catalog catalog)
+  {
+    final Routine failingRoutine = (Routine) Proxy
+      .newProxyInstance(getClass().getClassLoader(),
+                        new Class<?>[] { Routine.class },
+                        (proxy, method, args) -> {
+                          throw new RuntimeException("Routine failed");
+                        });
+
+    final List<Table> tables = new ArrayList<>();
+    for (int i = 0; i < 20; i++)
+    {
+      tables.addAll(catalog.getTables());
+    }
+
+    return (Catalog) Proxy
+      .newProxyInstance(getClass().getClassLoader(),
+                        new Class<?>[] { Catalog.class },
+                        (proxy, method, args) -> {
+                          final String methodName = method.getName();
+                          if ("getTables".equals(methodName)
+                              && method.getParameterCount() == 0)
+                          {
+                            return tables;
+                          }
+                          if ("getRoutines".equals(methodName)
+                              && method.getParameterCount() == 0)
+                          {
+                            return Collections.singletonList(failingRoutine);
+                          }
+                          return invoke(catalog, method, args);
+                        });
+  }
+
+  private Object invoke(final Catalog catalog,
+                        final Method method,
+                        final Object[] args)
+    throws Throwable
+  {
+    try
+    {
+      return method.invoke(catalog, args);
+    }
+    catch (final InvocationTargetException e)
+    {
+      throw e.getCause();
+    }
+  }
+
+}
@@ -0,0 +1,291 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.junit.Test;
+
+import schemacrawler.tools.iosource.CompressedFileInputResource;
+import schemacrawler.tools.iosource.CompressedFileOutputResource;
+import schemacrawler.tools.iosource.OutputResource;
+import schemacrawler.tools.iosource.ParallelCompressedFileOutputResource;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+public class ParallelCompressedFileOutputResourceTest
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(ParallelCompressedFileOutputResourceTest.class.getName());
+
+  private static final String INTERNAL_PATH = "schemacrawler.data";
+
+  @Test
+  public void compressionLevel()
+    throws Exception
+  {
+    final String text = lines(20_000);
+
+    final Path fastPath = Files.createTempFile("schemacrawler", ".zip");
+    final Path bestPath = Files.createTempFile("schemacrawler", ".zip");
+    write(new ParallelCompressedFileOutputResource(fastPath, INTERNAL_PATH, 1),
+          text);
+    write(new ParallelCompressedFileOutputResource(bestPath, INTERNAL_PATH, 9),
+          text);
+
+    assertEquals(text, read(fastPath));
+    assertEquals(text, read(bestPath));
+    assertTrue(Files.size(bestPath) <= Files.size(fastPath));
+
+    Files.delete(fastPath);
+    Files.delete(bestPath);
+  }
+
+  @Test
+  public void emptyOutput()
+    throws Exception
+  {
+    final Path path = Files.createTempFile("schemacrawler", ".zip");
+    write(new ParallelCompressedFileOutputResource(path, INTERNAL_PATH, -1),
+          "");
+
+    assertEquals("", read(path));
+    Files.delete(path);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidCompressionLevel()
+    throws Exception
+  {
+    final Path path = Files.createTempFile("schemacrawler", ".zip");
+    try
+    {
+      new ParallelCompressedFileOutputResource(path, INTERNAL_PATH, 10);
+    }
+    finally
+    {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void largeOutput()
+    throws Exception
+  {
+    // Repeated characters compress well, so the entry is larger than
+    // 4 GB without much work, or a large file
+    final char[] chunk = new char[1024 * 1024];
+    Arrays.fill(chunk, 'a');
+    final int numberOfChunks = 4097;
+    final long size = (long) chunk.length * numberOfChunks;
+    assertTrue(size > 0xFFFFFFFFL);
+
+    final Path path = Files.createTempFile("schemacrawler", ".zip");
+    try (final Writer writer = new ParallelCompressedFileOutputResource(path,
+                                                                        INTERNAL_PATH,
+                                                                        1)
+      .openNewOutputWriter(UTF_8, false);)
+    {
+      for (int i = 0; i < numberOfChunks; i++)
+      {
+        writer.write(chunk);
+      }
+    }
+
+    // Check the zip64 central directory
+    try (final ZipFile zipFile = new ZipFile(path.toFile());)
+    {
+      assertEquals(1, zipFile.size());
+      final ZipEntry entry = zipFile.getEntry(INTERNAL_PATH);
+      assertEquals(size, entry.getSize());
+      assertEquals(Files.size(path)
+                   - (30 + 24 + 46 + 12 + 56 + 20 + 22
+                      + 2 * INTERNAL_PATH.length()),
+                   entry.getCompressedSize());
+    }
+
+    // Check the zip64 data descriptor, which is verified against the
+    // inflated data
+    try (final ZipInputStream zipInputStream = new ZipInputStream(Files
+      .newInputStream(path));)
+    {
+      final ZipEntry entry = zipInputStream.getNextEntry();
+      assertEquals(INTERNAL_PATH, entry.getName());
+      assertEquals(size, count(zipInputStream));
+      assertEquals(null, zipInputStream.getNextEntry());
+    }
+    Files.delete(path);
+  }
+
+  @Test
+  public void roundTrip()
+    throws Exception
+  {
+    final String text = lines(50_000);
+    final byte[] bytes = text.getBytes(UTF_8);
+
+    // Use the smallest block size, so that output is compressed in many
+    // blocks on several threads
+    final Path path = Files.createTempFile("schemacrawler", ".zip");
+    write(new ParallelCompressedFileOutputResource(path,
+                                                   INTERNAL_PATH,
+                                                   -1,
+                                                   32 * 1024,
+                                                   4),
+          text);
+
+    assertEquals(text, read(path));
+
+    // Check the central directory as well
+    try (final ZipFile zipFile = new ZipFile(path.toFile());)
+    {
+      assertEquals(1, zipFile.size());
+      final ZipEntry entry = zipFile.getEntry(INTERNAL_PATH);
+      final CRC32 crc = new CRC32();
+      crc.update(bytes);
+      assertEquals(bytes.length, entry.getSize());
+      assertEquals(crc.getValue(), entry.getCrc());
+      assertEquals(Files.size(path)
+                   - (30 + 16 + 46 + 22 + 2 * INTERNAL_PATH.length()),
+                   entry.getCompressedSize());
+    }
+    Files.delete(path);
+  }
+
+  @Test
+  public void throughput()
+    throws Exception
+  {
+    final String text = lines(200_000);
+
+    final Path serialPath = Files.createTempFile("schemacrawler", ".zip");
+    final Path parallelPath = Files.createTempFile("schemacrawler", ".zip");
+
+    final long serialStart = System.nanoTime();
+    write(new CompressedFileOutputResource(serialPath, INTERNAL_PATH), text);
+    final long serialTime = System.nanoTime() - serialStart;
+
+    final long parallelStart = System.nanoTime();
+    write(new ParallelCompressedFileOutputResource(parallelPath,
+                                                   INTERNAL_PATH,
+                                                   -1),
+          text);
+    final long parallelTime = System.nanoTime() - parallelStart;
+
+    LOGGER
+      .log(Level.INFO,
+           new StringFormat("Compressed %d characters - serial %d ms, %d bytes; parallel %d ms, %d bytes",
+                            text.length(),
+                            serialTime / 1_000_000,
+                            Files.size(serialPath),
+                            parallelTime / 1_000_000,
+                            Files.size(parallelPath)));
+
+    assertEquals(text, read(parallelPath));
+    Files.delete(serialPath);
+    Files.delete(parallelPath);
+  }
+
+  private long count(final InputStream in)
+    throws Exception
+  {
+    final byte[] buffer = new byte[64 * 1024];
+    long count = 0;
+    int read;
+    while ((read = in.read(buffer)) != -1)
+    {
+      count = count + read;
+    }
+    return count;
+  }
+
+  private String lines(final int numberOfLines)
+  {
+    final Random random = new Random(numberOfLines);
+    final StringWriter stringWriter = new StringWriter();
+    final PrintWriter out = new PrintWriter(stringWriter);
+    for (int i = 0; i < numberOfLines; i++)
+    {
+      out.printf("<column name='COLUMN_%d' type='VARCHAR(%d)' remarks='éè'/>%n",
+                 i,
+                 random.nextInt(4000));
+    }
+    out.flush();
+    return stringWriter.toString();
+  }
+
+  private String read(final Path path)
+    throws Exception
+  {
+    final StringWriter text = new StringWriter();
+    try (final Reader reader = new CompressedFileInputResource(path,
+                                                               INTERNAL_PATH)
+      .openNewInputReader(UTF_8);)
+    {
+      final char[] buffer = new char[8192];
+      int count;
+      while ((count = reader.read(buffer)) != -1)
+      {
+        text.write(buffer, 0, count);
+      }
+    }
+    return text.toString();
+  }
+
+  private void write(final OutputResource outputResource,
+                     final String text)
+    throws Exception
+  {
+    try (final PrintWriter out = new PrintWriter(outputResource
+      .openNewOutputWriter(UTF_8, false));)
+    {
+      out.print(text);
+    }
+  }
+
+}
@@ -0,0 +1,109 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.schema.SchemaTextDetailType;
+import schemacrawler.tools.text.schema.SchemaTextOptionsBuilder;
+
+public class ParallelTraversalTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void parallelHtmlOutput()
+    throws Exception
+  {
+    assertSameOutput(TextOutputFormat.html);
+  }
+
+  @Test
+  public void parallelTextOutput()
+    throws Exception
+  {
+    assertSameOutput(TextOutputFormat.text);
+  }
+
+  private void assertSameOutput(final TextOutputFormat outputFormat)
+    throws Exception
+  {
+    final String serialOutput = render(outputFormat, false);
+    final String parallelOutput = render(outputFormat, true);
+
+    assertTrue("No tables rendered", serialOutput.contains("PUBLIC.BOOKS"));
+    assertEquals(serialOutput, parallelOutput);
+  }
+
+  private String render(final TextOutputFormat outputFormat,
+                        final boolean parallelRendering)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder()
+      .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"))
+      .toOptions();
+
+    final SchemaTextOptionsBuilder textOptionsBuilder = SchemaTextOptionsBuilder
+      .builder();
+    textOptionsBuilder.noInfo();
+    textOptionsBuilder.parallelRendering(parallelRendering);
+    final Config config = textOptionsBuilder.toConfig();
+
+    final StringWriter writer = new StringWriter();
+    final OutputOptions outputOptions = OutputOptionsBuilder
+      .newOutputOptions(outputFormat, writer);
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(SchemaTextDetailType.details
+      .name());
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setAdditionalConfiguration(config);
+    executable.setOutputOptions(outputOptions);
+    executable.setConnection(getConnection());
+    executable.execute();
+
+    return writer.toString();
+  }
+
+}